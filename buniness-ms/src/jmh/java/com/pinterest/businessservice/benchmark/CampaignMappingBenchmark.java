@@ -0,0 +1,87 @@
+package com.pinterest.businessservice.benchmark;
+
+import com.pinterest.businessservice.dto.CampaignDto;
+import com.pinterest.businessservice.model.Campaign;
+import com.pinterest.businessservice.model.Campaign.CampaignObjective;
+import com.pinterest.businessservice.model.Campaign.CampaignStatus;
+import com.pinterest.businessservice.repository.BusinessProfileRepository;
+import com.pinterest.businessservice.repository.CampaignRepository;
+import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.businessservice.service.impl.CampaignServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Campaign listing cost without the database: {@code convertToDto} and {@code calculateMetrics} for
+ * every campaign of a business profile, with the repositories replaced by in-memory stubs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CampaignMappingBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int campaignCount;
+
+    private CampaignServiceImpl campaignService;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Campaign> campaigns = new ArrayList<>();
+        for (int i = 0; i < campaignCount; i++) {
+            campaigns.add(Campaign.builder()
+                    .id((long) i)
+                    .businessProfileId(1L)
+                    .name("Campaign " + i)
+                    .description("Seasonal campaign " + i)
+                    .objective(CampaignObjective.TRAFFIC)
+                    .status(CampaignStatus.ACTIVE)
+                    .budget(new BigDecimal("5000.00"))
+                    .dailyBudget(new BigDecimal("150.00"))
+                    .startDate(now.minusDays(10))
+                    .endDate(now.plusDays(20))
+                    .impressions(120_000L + i)
+                    .clicks(3_400L + i)
+                    .conversions(210L)
+                    .amountSpent(new BigDecimal("1834.27"))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        CampaignRepository campaignRepository = StubRepositories.stub(CampaignRepository.class,
+                Map.of("findByBusinessProfileId", args -> campaigns));
+        BusinessProfileRepository businessProfileRepository = StubRepositories.stub(BusinessProfileRepository.class,
+                Map.of("existsById", args -> true));
+        SponsoredPinRepository sponsoredPinRepository = StubRepositories.stub(SponsoredPinRepository.class,
+                Map.of("sumByCampaignIds", args -> List.of()));
+        // Listing touches none of the ad event, stats, serving, pacing, lifecycle or search collaborators
+        campaignService = new CampaignServiceImpl(campaignRepository, businessProfileRepository, sponsoredPinRepository,
+                null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public List<CampaignDto> convertAndCalculateMetrics() {
+        return campaignService.getCampaignsByBusinessProfileId(1L);
+    }
+}
@@ -3,9 +3,12 @@ package com.pinterest.businessservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// Also scans the shared configuration compiled in from service-support
+@SpringBootApplication(scanBasePackages = {"com.pinterest.businessservice", "com.pinterest.servicesupport.config"})
 @EnableDiscoveryClient
+@EnableScheduling
 public class BusinessServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,443 @@
+package com.pinterest.businessservice.config;
+
+import com.pinterest.businessservice.model.AdEventType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of ad events, so counts buffered in memory survive a crash. Entries are written to
+ * memory-mapped segment files at memory speed; the pages belong to the OS, so a JVM crash loses nothing.
+ * A caller that acknowledges events calls {@link #awaitDurable} after appending them and returns once an
+ * fsync that started after its appends has finished; every caller waiting at the same time shares that
+ * fsync (group commit). Entries nobody waits for are forced within one sync interval.
+ * <p>
+ * Appends do not lock each other out: each one reserves its sequence number from a counter and writes
+ * its entry at the slot of that sequence in its segment, so only rolling to the next segment is
+ * serialized. A segment is named after its first sequence and holds a fixed number of slots.
+ * <p>
+ * Whoever applies the events stores the highest applied sequence with the applied counts. On startup it
+ * calls {@link #continueAfter} with it, so new sequences never fall below what is already applied even
+ * if the segments were lost, replays the entries after it and then calls {@link #markApplied}, which
+ * deletes the segments that hold nothing newer. Each entry carries a CRC, so a torn or missing write is
+ * detected and skipped on open.
+ */
+@Slf4j
+public class AdEventJournal implements Closeable {
+
+    // seq, id, timestamp, target, type, reserved, crc
+    static final int ENTRY_BYTES = 32;
+
+    private static final int CHECKSUMMED_BYTES = 28;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private static final String ID_FILE = "journal.id";
+
+    private final Path directory;
+
+    private final int segmentBytes;
+
+    private final int entriesPerSegment;
+
+    private final String journalId;
+
+    // Oldest first, the last one is the one being appended to
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+
+    // The highest sequence handed out; its entry may still be being written
+    private final AtomicLong lastSequence = new AtomicLong();
+
+    private final long syncIntervalMillis;
+
+    private final Thread syncer;
+
+    private final Object syncMonitor = new Object();
+
+    private volatile Segment current;
+
+    // Guarded by syncMonitor; syncs are numbered in the order they start
+    private long syncsRequested;
+
+    private long syncsStarted;
+
+    private long syncsCompleted;
+
+    private long lastSuccessfulSync;
+
+    private boolean closed;
+
+    public AdEventJournal(Path directory, int segmentBytes, long syncIntervalMillis) throws IOException {
+        if (segmentBytes < ENTRY_BYTES || segmentBytes % ENTRY_BYTES != 0) {
+            throw new IllegalArgumentException("Segment size must be a multiple of " + ENTRY_BYTES + " bytes");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentBytes = segmentBytes;
+        this.entriesPerSegment = segmentBytes / ENTRY_BYTES;
+        this.syncIntervalMillis = syncIntervalMillis;
+        this.journalId = readOrCreateId();
+        open();
+
+        this.syncer = new Thread(this::runSyncer, "ad-event-journal-sync");
+        syncer.setDaemon(true);
+        syncer.start();
+    }
+
+    // Identifies this journal where the applied sequence is stored, stable for as long as the directory is
+    public String getJournalId() {
+        return journalId;
+    }
+
+    public long append(boolean sponsoredPin, long id, AdEventType type, long timestampMillis) {
+        long sequence = lastSequence.incrementAndGet();
+        Segment segment = segmentFor(sequence);
+        int start = (int) (sequence - segment.firstSequence) * ENTRY_BYTES;
+        MappedByteBuffer buffer = segment.buffer;
+        buffer.putLong(start, sequence)
+                .putLong(start + 8, id)
+                .putLong(start + 16, timestampMillis)
+                .put(start + 24, (byte) (sponsoredPin ? 0 : 1))
+                .put(start + 25, (byte) type.ordinal())
+                .putShort(start + 26, (short) 0);
+        buffer.putInt(start + CHECKSUMMED_BYTES, checksum(buffer, start));
+        segment.dirty = true;
+        return sequence;
+    }
+
+    // The highest sequence handed out; every entry up to it is written once no append is in progress
+    public long lastSequence() {
+        return lastSequence.get();
+    }
+
+    /**
+     * Blocks until the entries the calling thread has appended are on disk. Callers waiting at the same
+     * time share one fsync, which starts as soon as the first of them asks instead of on the next interval.
+     *
+     * @throws UncheckedIOException if that fsync failed, the thread was interrupted or the journal closed
+     */
+    public void awaitDurable() {
+        synchronized (syncMonitor) {
+            long sync = syncsStarted + 1;
+            if (syncsRequested < sync) {
+                syncsRequested = sync;
+                syncMonitor.notifyAll();
+            }
+            while (syncsCompleted < sync) {
+                if (closed) {
+                    throw new UncheckedIOException(new IOException("Ad event journal " + journalId + " is closed"));
+                }
+                try {
+                    syncMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new UncheckedIOException(new InterruptedIOException("Interrupted waiting for the ad event journal to sync"));
+                }
+            }
+            if (lastSuccessfulSync < sync) {
+                throw new UncheckedIOException(new IOException("Could not sync ad event journal " + journalId));
+            }
+        }
+    }
+
+    /**
+     * Makes the next sequence follow the given one if the journal is behind it, which happens when its
+     * segments were lost but the sequence applied from it is still stored. Called on startup, before
+     * anything is appended.
+     */
+    public synchronized void continueAfter(long sequence) {
+        long last = lastSequence.get();
+        if (sequence <= last) {
+            return;
+        }
+        try {
+            Segment tail = current;
+            if (last < tail.firstSequence) {
+                segments.remove(tail);
+                tail.close();
+                Files.deleteIfExists(tail.path);
+            } else {
+                tail.lastSequence = last;
+            }
+            lastSequence.set(sequence);
+            newSegment(sequence + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not continue the ad event journal after " + sequence, e);
+        }
+        log.info("Ad event journal {} continues after applied sequence {}, its entries ended at {}",
+                journalId, sequence, last);
+    }
+
+    // Hands every entry after the given sequence to the consumer, oldest first
+    public synchronized void replay(long afterSequence, EntryConsumer consumer) {
+        for (Segment segment : segments) {
+            if (lastSequenceOf(segment) <= afterSequence) {
+                continue;
+            }
+            ByteBuffer entries = read(segment.path);
+            int slots = Math.min(entries.capacity() / ENTRY_BYTES, entriesPerSegment);
+            for (int slot = 0; slot < slots; slot++) {
+                int start = slot * ENTRY_BYTES;
+                long sequence = entries.getLong(start);
+                if (sequence <= afterSequence || !isIntact(entries, start, segment.firstSequence + slot)) {
+                    continue;
+                }
+                consumer.accept(sequence, entries.get(start + 24) == 0, entries.getLong(start + 8),
+                        AdEventType.values()[entries.get(start + 25)], entries.getLong(start + 16));
+            }
+        }
+    }
+
+    // Deletes the segments whose entries are all applied; the segment being appended to is kept
+    public synchronized void markApplied(long appliedSequence) {
+        while (segments.size() > 1 && segments.get(0).lastSequence <= appliedSequence) {
+            Segment segment = segments.remove(0);
+            try {
+                segment.close();
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                log.warn("Could not delete applied journal segment {}: {}", segment.path, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (syncMonitor) {
+            closed = true;
+            syncMonitor.notifyAll();
+        }
+        try {
+            syncer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        boolean forced = forceDirtySegments();
+        synchronized (syncMonitor) {
+            syncsCompleted = ++syncsStarted;
+            if (forced) {
+                lastSuccessfulSync = syncsCompleted;
+            }
+            syncMonitor.notifyAll();
+        }
+        synchronized (this) {
+            for (Segment segment : segments) {
+                segment.close();
+            }
+        }
+    }
+
+    // Forces the segments written since the last sync whenever a caller waits, or every sync interval otherwise
+    private void runSyncer() {
+        while (true) {
+            long sync;
+            synchronized (syncMonitor) {
+                if (syncsRequested <= syncsCompleted && !closed) {
+                    try {
+                        syncMonitor.wait(syncIntervalMillis);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (closed) {
+                    return;
+                }
+                sync = ++syncsStarted;
+            }
+            boolean forced = forceDirtySegments();
+            synchronized (syncMonitor) {
+                syncsCompleted = sync;
+                if (forced) {
+                    lastSuccessfulSync = sync;
+                }
+                syncMonitor.notifyAll();
+            }
+        }
+    }
+
+    private boolean forceDirtySegments() {
+        try {
+            for (Segment segment : segments) {
+                if (segment.dirty) {
+                    segment.dirty = false;
+                    segment.buffer.force();
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Could not sync ad event journal {}", journalId, e);
+            return false;
+        }
+    }
+
+    // Helper method to find the segment holding a reserved sequence, rolling to a new one when it is past the last
+    private Segment segmentFor(long sequence) {
+        Segment segment = current;
+        if (sequence >= segment.firstSequence + entriesPerSegment) {
+            segment = roll(sequence);
+        }
+        if (sequence >= segment.firstSequence) {
+            return segment;
+        }
+        // Reserved before another append rolled past it
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            if (segments.get(i).firstSequence <= sequence) {
+                return segments.get(i);
+            }
+        }
+        throw new IllegalStateException("No journal segment holds sequence " + sequence);
+    }
+
+    // Helper method to start the segments up to the one holding the sequence; the full ones stay mapped for late writers
+    private synchronized Segment roll(long sequence) {
+        try {
+            while (sequence >= current.firstSequence + entriesPerSegment) {
+                Segment full = current;
+                full.lastSequence = full.firstSequence + entriesPerSegment - 1;
+                newSegment(full.lastSequence + 1);
+            }
+            return current;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not roll the ad event journal", e);
+        }
+    }
+
+    // Helper method to load the existing segments and continue after the last intact entry
+    private void open() throws IOException {
+        List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX)).sorted().toList();
+        }
+        long last = 0;
+        for (Path path : paths) {
+            String name = path.getFileName().toString();
+            Segment segment = new Segment(path,
+                    Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+            // An empty segment still says which sequences were handed out before it
+            last = Math.max(last, segment.firstSequence - 1);
+            ByteBuffer entries = read(path);
+            int slots = Math.min(entries.capacity() / ENTRY_BYTES, entriesPerSegment);
+            segment.lastSequence = segment.firstSequence - 1;
+            for (int slot = 0; slot < slots; slot++) {
+                if (isIntact(entries, slot * ENTRY_BYTES, segment.firstSequence + slot)) {
+                    segment.lastSequence = segment.firstSequence + slot;
+                }
+            }
+            if (segment.lastSequence >= segment.firstSequence) {
+                last = Math.max(last, segment.lastSequence);
+                segments.add(segment);
+            } else {
+                Files.delete(path);
+            }
+        }
+        lastSequence.set(last);
+
+        Segment tail = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (tail != null && tail.lastSequence == last && last + 1 < tail.firstSequence + entriesPerSegment) {
+            map(tail, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            current = tail;
+        } else {
+            newSegment(last + 1);
+        }
+        log.info("Opened ad event journal {} in {}: {} segments, last sequence {}",
+                journalId, directory, segments.size(), last);
+    }
+
+    private void newSegment(long firstSequence) throws IOException {
+        Segment segment = new Segment(directory.resolve(String.format("%s%020d%s",
+                SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX)), firstSequence);
+        segment.lastSequence = firstSequence - 1;
+        map(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segments.add(segment);
+        current = segment;
+    }
+
+    // Segments left from an earlier run are only read, so they are mapped only when appended to
+    private void map(Segment segment, StandardOpenOption... options) throws IOException {
+        segment.channel = FileChannel.open(segment.path, options);
+        segment.buffer = segment.channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+    }
+
+    private long lastSequenceOf(Segment segment) {
+        return segment == current ? lastSequence.get() : segment.lastSequence;
+    }
+
+    private String readOrCreateId() throws IOException {
+        Path idFile = directory.resolve(ID_FILE);
+        if (Files.exists(idFile)) {
+            return Files.readString(idFile, StandardCharsets.UTF_8).trim();
+        }
+        String id = UUID.randomUUID().toString();
+        Files.writeString(idFile, id, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW);
+        return id;
+    }
+
+    private static ByteBuffer read(Path path) {
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            return file.map(FileChannel.MapMode.READ_ONLY, 0, file.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read journal segment " + path, e);
+        }
+    }
+
+    // An entry is intact when it carries the sequence of its slot and its checksum matches
+    private static boolean isIntact(ByteBuffer entries, int start, long expectedSequence) {
+        return entries.getLong(start) == expectedSequence
+                && entries.getInt(start + CHECKSUMMED_BYTES) == checksum(entries, start);
+    }
+
+    private static int checksum(ByteBuffer entries, int start) {
+        CRC32 crc = new CRC32();
+        crc.update(entries.duplicate().position(start).limit(start + CHECKSUMMED_BYTES));
+        return (int) crc.getValue();
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long sequence, boolean sponsoredPin, long id, AdEventType type, long timestampMillis);
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+
+        private final long firstSequence;
+
+        private FileChannel channel;
+
+        private MappedByteBuffer buffer;
+
+        // The last sequence it holds once the next segment started; the current one tracks lastSequence instead
+        private volatile long lastSequence;
+
+        private volatile boolean dirty;
+
+        private Segment(Path path, long firstSequence) {
+            this.path = path;
+            this.firstSequence = firstSequence;
+        }
+
+        private void close() throws IOException {
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.pinterest.businessservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Journals ad events to local disk before they are counted in memory, see {@link AdEventJournal}. On by
+ * default; each instance needs its own directory, on a volume that outlives the process.
+ */
+@Configuration
+@ConditionalOnProperty(name = "ad-events.journal.enabled", havingValue = "true", matchIfMissing = true)
+public class AdEventJournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public AdEventJournal adEventJournal(
+            @Value("${ad-events.journal.dir:data/ad-event-journal}") String directory,
+            @Value("${ad-events.journal.segment-size-bytes:67108864}") int segmentBytes,
+            @Value("${ad-events.journal.sync-interval-ms:10}") long syncIntervalMillis) throws IOException {
+        return new AdEventJournal(Path.of(directory), segmentBytes, syncIntervalMillis);
+    }
+}
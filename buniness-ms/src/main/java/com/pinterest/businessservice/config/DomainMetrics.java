@@ -0,0 +1,87 @@
+package com.pinterest.businessservice.config;
+
+import com.pinterest.businessservice.model.Campaign;
+import com.pinterest.businessservice.model.SponsoredPin;
+import com.pinterest.businessservice.repository.CampaignRepository;
+import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Gauges over the service's data. Each is a database count, so the value is cached for the refresh
+ * interval and a scrape only queries once that has passed.
+ */
+@Slf4j
+public class DomainMetrics implements MeterBinder {
+
+    public static final String ACTIVE_SPONSORED_PINS_METRIC = "sponsored.pins.active";
+
+    public static final String ACTIVE_CAMPAIGNS_METRIC = "campaigns.active";
+
+    private final SponsoredPinRepository sponsoredPinRepository;
+
+    private final CampaignRepository campaignRepository;
+
+    private final long refreshMillis;
+
+    public DomainMetrics(SponsoredPinRepository sponsoredPinRepository, CampaignRepository campaignRepository,
+                         long refreshMillis) {
+        this.sponsoredPinRepository = sponsoredPinRepository;
+        this.campaignRepository = campaignRepository;
+        this.refreshMillis = refreshMillis;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        countGauge(ACTIVE_SPONSORED_PINS_METRIC,
+                () -> sponsoredPinRepository.countByStatus(SponsoredPin.SponsoredStatus.ACTIVE))
+                .description("Sponsored pins in the ACTIVE status")
+                .register(registry);
+        countGauge(ACTIVE_CAMPAIGNS_METRIC, () -> campaignRepository.countByStatus(Campaign.CampaignStatus.ACTIVE))
+                .description("Campaigns in the ACTIVE status")
+                .register(registry);
+    }
+
+    // Helper method to build a gauge over a database count
+    private Gauge.Builder<CachedCount> countGauge(String name, LongSupplier count) {
+        return Gauge.builder(name, new CachedCount(name, count, refreshMillis), CachedCount::value)
+                .strongReference(true);
+    }
+
+    private static final class CachedCount {
+
+        private final String name;
+
+        private final LongSupplier count;
+
+        private final long refreshMillis;
+
+        private double value = Double.NaN;
+
+        private long refreshedAt;
+
+        private CachedCount(String name, LongSupplier count, long refreshMillis) {
+            this.name = name;
+            this.count = count;
+            this.refreshMillis = refreshMillis;
+        }
+
+        // Keeps the last value when the count fails, NaN until one succeeds
+        private synchronized double value() {
+            long now = System.currentTimeMillis();
+            if (Double.isNaN(value) || now - refreshedAt >= refreshMillis) {
+                try {
+                    value = count.getAsLong();
+                } catch (RuntimeException e) {
+                    log.warn("Could not refresh gauge {}: {}", name, e.getMessage());
+                }
+                refreshedAt = now;
+            }
+            return value;
+        }
+    }
+}
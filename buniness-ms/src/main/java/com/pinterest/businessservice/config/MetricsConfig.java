@@ -0,0 +1,38 @@
+package com.pinterest.businessservice.config;
+
+import com.pinterest.businessservice.repository.CampaignRepository;
+import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.servicesupport.config.HibernateCacheMetrics;
+import com.pinterest.servicesupport.config.ServiceMetricsAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics beyond what Spring Boot binds on its own (HTTP, JVM, Hikari pools, thread pool executors):
+ * service method timers, second-level cache regions and gauges over the service's data. All of it is
+ * scraped from {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServiceMetricsAspect serviceMetricsAspect(MeterRegistry meterRegistry) {
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernateCacheMetrics hibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateCacheMetrics(entityManagerFactory);
+    }
+
+    @Bean
+    public DomainMetrics domainMetrics(
+            SponsoredPinRepository sponsoredPinRepository,
+            CampaignRepository campaignRepository,
+            @Value("${metrics.gauges.refresh-ms:30000}") long refreshMillis) {
+        return new DomainMetrics(sponsoredPinRepository, campaignRepository, refreshMillis);
+    }
+}
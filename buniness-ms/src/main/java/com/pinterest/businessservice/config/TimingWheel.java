@@ -0,0 +1,124 @@
+package com.pinterest.businessservice.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel: holds items until their deadline and hands them out once it has passed, at
+ * a cost per item that does not depend on how many are waiting. Level 0 has one slot per tick; each level
+ * above has slots as wide as a whole turn of the level below, so a few levels of 64 slots cover months at
+ * one-second ticks. When a higher slot comes up its items move down to the level that fits their remaining
+ * time, and items beyond the top level's reach wait in its slots for as many turns as they need.
+ * <p>
+ * Deadlines are resolved to the tick, items whose deadline has already passed come out on the next
+ * {@link #advance}. Not thread-safe on its own, callers synchronize.
+ */
+public class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+
+    private static final int SLOTS = 1 << SLOT_BITS;
+
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+
+    private final int levels;
+
+    // [level][slot], created on first use
+    private final List<Timer<T>>[][] slots;
+
+    private final List<T> due = new ArrayList<>();
+
+    private long currentTick;
+
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int levels, long startMillis) {
+        if (tickMillis < 1 || levels < 1 || levels * SLOT_BITS >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("Invalid timing wheel: tick " + tickMillis + " ms, " + levels + " levels");
+        }
+        this.tickMillis = tickMillis;
+        this.levels = levels;
+        this.slots = new List[levels][SLOTS];
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    public void add(T item, long deadlineMillis) {
+        place(new Timer<>(item, Math.floorDiv(deadlineMillis, tickMillis)));
+        size++;
+    }
+
+    // Items waiting, including those due on the next advance
+    public int size() {
+        return size;
+    }
+
+    // Moves the wheel up to the given time and returns every item whose deadline has passed, earliest tick first
+    public List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<T> expired = new ArrayList<>(due);
+        due.clear();
+        while (currentTick < targetTick) {
+            if (size == expired.size()) {
+                // Nothing left in the slots, no need to walk the ticks in between
+                currentTick = targetTick;
+                break;
+            }
+            currentTick++;
+            // Higher levels first, so their items can land in the slot of this very tick
+            for (int level = levels - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level);
+                }
+            }
+            List<Timer<T>> timers = takeSlot(0, (int) (currentTick & SLOT_MASK));
+            for (Timer<T> timer : timers) {
+                expired.add(timer.item);
+            }
+            expired.addAll(due);
+            due.clear();
+        }
+        size -= expired.size();
+        return expired;
+    }
+
+    // Helper method to move the items of the level's current slot to the levels that fit their remaining time
+    private void cascade(int level) {
+        for (Timer<T> timer : takeSlot(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK))) {
+            place(timer);
+        }
+    }
+
+    private void place(Timer<T> timer) {
+        long ticksLeft = timer.deadlineTick - currentTick;
+        if (ticksLeft <= 0) {
+            due.add(timer.item);
+            return;
+        }
+        int level = 0;
+        while (level < levels - 1 && ticksLeft >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) ((timer.deadlineTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        List<Timer<T>> timers = slots[level][slot];
+        if (timers == null) {
+            timers = new ArrayList<>();
+            slots[level][slot] = timers;
+        }
+        timers.add(timer);
+    }
+
+    private List<Timer<T>> takeSlot(int level, int slot) {
+        List<Timer<T>> timers = slots[level][slot];
+        if (timers == null) {
+            return List.of();
+        }
+        slots[level][slot] = null;
+        return timers;
+    }
+
+    private record Timer<T>(T item, long deadlineTick) {
+    }
+}
@@ -1,7 +1,8 @@
 package com.pinterest.businessservice.controller;
 
 import com.pinterest.businessservice.dto.BusinessProfileDto;
-import com.pinterest.businessservice.model.ApiResponse;
+import com.pinterest.businessservice.dto.KeysetPageDto;
+import com.pinterest.businessservice.dto.ApiResponse;
 import com.pinterest.businessservice.model.BusinessProfile.BusinessCategory;
 import com.pinterest.businessservice.model.BusinessProfile.VerificationStatus;
 import com.pinterest.businessservice.service.BusinessProfileService;
@@ -14,7 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import javax.validation.Valid;
+import jakarta.validation.Valid;
 import java.util.List;
 
 @RestController
@@ -80,6 +81,16 @@ public class BusinessProfileController {
         return ResponseEntity.ok(ApiResponse.success("Business profiles by category retrieved successfully", profilesByCategory));
     }
 
+    @GetMapping("/category/{category}/keyset")
+    public ResponseEntity<ApiResponse<KeysetPageDto<BusinessProfileDto>>> getBusinessProfilesByCategoryAfter(
+            @PathVariable BusinessCategory category,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        KeysetPageDto<BusinessProfileDto> profilesByCategory = businessProfileService.getBusinessProfilesByCategory(category, afterId, size);
+        return ResponseEntity.ok(ApiResponse.success("Business profiles by category retrieved successfully", profilesByCategory));
+    }
+
     @GetMapping("/verification/{status}")
     public ResponseEntity<ApiResponse<Page<BusinessProfileDto>>> getBusinessProfilesByVerificationStatus(
             @PathVariable VerificationStatus status,
@@ -91,6 +102,16 @@ public class BusinessProfileController {
         return ResponseEntity.ok(ApiResponse.success("Business profiles by verification status retrieved successfully", profilesByStatus));
     }
 
+    @GetMapping("/verification/{status}/keyset")
+    public ResponseEntity<ApiResponse<KeysetPageDto<BusinessProfileDto>>> getBusinessProfilesByVerificationStatusAfter(
+            @PathVariable VerificationStatus status,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        KeysetPageDto<BusinessProfileDto> profilesByStatus = businessProfileService.getBusinessProfilesByVerificationStatus(status, afterId, size);
+        return ResponseEntity.ok(ApiResponse.success("Business profiles by verification status retrieved successfully", profilesByStatus));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<Page<BusinessProfileDto>>> searchBusinessProfiles(
             @RequestParam String keyword,
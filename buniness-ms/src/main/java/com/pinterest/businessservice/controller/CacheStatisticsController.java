@@ -0,0 +1,30 @@
+package com.pinterest.businessservice.controller;
+
+import com.pinterest.businessservice.dto.ApiResponse;
+import com.pinterest.businessservice.dto.CacheStatisticsDto;
+import com.pinterest.businessservice.service.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cache/statistics")
+@RequiredArgsConstructor
+public class CacheStatisticsController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<CacheStatisticsDto>> getStatistics() {
+        return ResponseEntity.ok(ApiResponse.success(cacheStatisticsService.getStatistics()));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<Void>> resetStatistics() {
+        cacheStatisticsService.resetStatistics();
+        return ResponseEntity.ok(ApiResponse.success("Cache statistics reset successfully", null));
+    }
+}
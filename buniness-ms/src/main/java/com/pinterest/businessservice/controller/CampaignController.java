@@ -1,9 +1,12 @@
 package com.pinterest.businessservice.controller;
 
+import com.pinterest.businessservice.dto.AdStatsBucketDto;
 import com.pinterest.businessservice.dto.CampaignDto;
-import com.pinterest.businessservice.model.ApiResponse;
+import com.pinterest.businessservice.model.AdStatsGranularity;
+import com.pinterest.businessservice.dto.ApiResponse;
 import com.pinterest.businessservice.model.Campaign.CampaignObjective;
 import com.pinterest.businessservice.model.Campaign.CampaignStatus;
+import com.pinterest.businessservice.service.AdStatsService;
 import com.pinterest.businessservice.service.CampaignService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -15,7 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import javax.validation.Valid;
+import jakarta.validation.Valid;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -26,6 +29,7 @@ import java.util.List;
 public class CampaignController {
 
     private final CampaignService campaignService;
+    private final AdStatsService adStatsService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<CampaignDto>> createCampaign(@Valid @RequestBody CampaignDto campaignDto) {
@@ -35,8 +39,13 @@ public class CampaignController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<CampaignDto>> getCampaignById(@PathVariable Long id) {
-        CampaignDto campaign = campaignService.getCampaignById(id);
+    public ResponseEntity<ApiResponse<CampaignDto>> getCampaignById(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int pinsPage,
+            @RequestParam(defaultValue = "20") int pinsSize) {
+        
+        Pageable sponsoredPinsPageable = PageRequest.of(pinsPage, pinsSize, Sort.by("createdAt").descending());
+        CampaignDto campaign = campaignService.getCampaignById(id, sponsoredPinsPageable);
         return ResponseEntity.ok(ApiResponse.success("Campaign retrieved successfully", campaign));
     }
 
@@ -123,6 +132,17 @@ public class CampaignController {
         return ResponseEntity.ok(ApiResponse.success("Campaigns retrieved successfully", campaigns));
     }
 
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<ApiResponse<List<AdStatsBucketDto>>> getCampaignStats(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "DAY") AdStatsGranularity granularity) {
+        
+        List<AdStatsBucketDto> stats = adStatsService.getCampaignStats(id, startDate, endDate, granularity);
+        return ResponseEntity.ok(ApiResponse.success("Campaign stats retrieved successfully", stats));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<Page<CampaignDto>>> searchCampaigns(
             @RequestParam String keyword,
@@ -171,12 +191,12 @@ public class CampaignController {
     }
 
     @PatchMapping("/{id}/amount-spent")
-    public ResponseEntity<ApiResponse<CampaignDto>> updateAmountSpent(
+    public ResponseEntity<ApiResponse<Void>> updateAmountSpent(
             @PathVariable Long id,
             @RequestParam BigDecimal amount) {
         
-        CampaignDto updatedCampaign = campaignService.updateAmountSpent(id, amount);
-        return ResponseEntity.ok(ApiResponse.success("Amount spent updated successfully", updatedCampaign));
+        campaignService.updateAmountSpent(id, amount);
+        return ResponseEntity.ok(ApiResponse.success("Amount spent updated successfully", null));
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,28 @@
+package com.pinterest.businessservice.controller;
+
+import com.pinterest.businessservice.dto.SearchResultDto;
+import com.pinterest.businessservice.dto.ApiResponse;
+import com.pinterest.businessservice.model.SearchEntityType;
+import com.pinterest.businessservice.service.SearchIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/business")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchIndexService searchIndexService;
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<SearchResultDto>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) SearchEntityType type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        SearchResultDto result = searchIndexService.search(q, type, page, size);
+        return ResponseEntity.ok(ApiResponse.success("Search results retrieved successfully", result));
+    }
+}
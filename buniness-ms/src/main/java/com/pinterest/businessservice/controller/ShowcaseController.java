@@ -1,7 +1,7 @@
 package com.pinterest.businessservice.controller;
 
 import com.pinterest.businessservice.dto.ShowcaseDto;
-import com.pinterest.businessservice.model.ApiResponse;
+import com.pinterest.businessservice.dto.ApiResponse;
 import com.pinterest.businessservice.service.ShowcaseService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -12,7 +12,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import javax.validation.Valid;
+import jakarta.validation.Valid;
 import java.util.List;
 
 @RestController
@@ -1,8 +1,17 @@
 package com.pinterest.businessservice.controller;
 
+import com.pinterest.businessservice.dto.AdEventBatchResultDto;
+import com.pinterest.businessservice.dto.AdEventDto;
+import com.pinterest.businessservice.dto.AdStatsBucketDto;
+import com.pinterest.businessservice.dto.ServedAdDto;
 import com.pinterest.businessservice.dto.SponsoredPinDto;
-import com.pinterest.businessservice.model.ApiResponse;
+import com.pinterest.businessservice.exception.EventQueueFullException;
+import com.pinterest.businessservice.model.AdStatsGranularity;
+import com.pinterest.businessservice.dto.ApiResponse;
 import com.pinterest.businessservice.model.SponsoredPin.SponsoredStatus;
+import com.pinterest.businessservice.service.AdEventIngestionService;
+import com.pinterest.businessservice.service.AdServingService;
+import com.pinterest.businessservice.service.AdStatsService;
 import com.pinterest.businessservice.service.SponsoredPinService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -10,11 +19,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import javax.validation.Valid;
+import jakarta.validation.Valid;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -24,6 +34,9 @@ import java.util.List;
 public class SponsoredPinController {
 
     private final SponsoredPinService sponsoredPinService;
+    private final AdEventIngestionService adEventIngestionService;
+    private final AdStatsService adStatsService;
+    private final AdServingService adServingService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<SponsoredPinDto>> createSponsoredPin(@Valid @RequestBody SponsoredPinDto sponsoredPinDto) {
@@ -98,6 +111,14 @@ public class SponsoredPinController {
         return ResponseEntity.ok(ApiResponse.success("Active sponsored pins retrieved successfully", activePins));
     }
 
+    @GetMapping("/serve")
+    public ResponseEntity<ApiResponse<List<ServedAdDto>>> serveSponsoredPins(
+            @RequestParam(defaultValue = "1") int slots) {
+        
+        List<ServedAdDto> ads = adServingService.serve(slots);
+        return ResponseEntity.ok(ApiResponse.success("Sponsored pins served successfully", ads));
+    }
+
     @GetMapping("/active/paged")
     public ResponseEntity<ApiResponse<Page<SponsoredPinDto>>> getPagedActiveSponsoredPins(
             @RequestParam(defaultValue = "0") int page,
@@ -117,6 +138,17 @@ public class SponsoredPinController {
         return ResponseEntity.ok(ApiResponse.success("Sponsored pins retrieved successfully", sponsoredPins));
     }
 
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<ApiResponse<List<AdStatsBucketDto>>> getSponsoredPinStats(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "DAY") AdStatsGranularity granularity) {
+        
+        List<AdStatsBucketDto> stats = adStatsService.getSponsoredPinStats(id, startDate, endDate, granularity);
+        return ResponseEntity.ok(ApiResponse.success("Sponsored pin stats retrieved successfully", stats));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<Page<SponsoredPinDto>>> searchSponsoredPins(
             @RequestParam String keyword,
@@ -146,6 +178,14 @@ public class SponsoredPinController {
         return ResponseEntity.ok(ApiResponse.success("Status updated successfully", updatedPin));
     }
 
+    // Counted asynchronously: 202 once the batch is queued, 503 with Retry-After while the queue is full
+    @PostMapping("/events:batch")
+    public ResponseEntity<ApiResponse<AdEventBatchResultDto>> recordEventBatch(@RequestBody List<AdEventDto> events) {
+        AdEventBatchResultDto result = adEventIngestionService.submitBatch(events);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Events accepted for processing", result));
+    }
+
     @PostMapping("/{id}/impression")
     public ResponseEntity<ApiResponse<Void>> recordImpression(@PathVariable Long id) {
         sponsoredPinService.recordImpression(id);
@@ -169,4 +209,11 @@ public class SponsoredPinController {
         sponsoredPinService.deleteSponsoredPin(id);
         return ResponseEntity.ok(ApiResponse.success("Sponsored pin deleted successfully", null));
     }
+
+    @ExceptionHandler(EventQueueFullException.class)
+    public ResponseEntity<ApiResponse<Void>> handleEventQueueFull(EventQueueFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error(ex.getMessage()));
+    }
 }
\ No newline at end of file
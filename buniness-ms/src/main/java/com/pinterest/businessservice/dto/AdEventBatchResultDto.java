@@ -0,0 +1,18 @@
+package com.pinterest.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdEventBatchResultDto {
+    
+    private int received;
+    private int accepted;
+    // Events for unknown or inactive sponsored pins, or of a type sponsored pins do not count
+    private int rejected;
+}
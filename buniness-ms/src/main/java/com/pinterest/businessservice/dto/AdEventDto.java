@@ -0,0 +1,23 @@
+package com.pinterest.businessservice.dto;
+
+import com.pinterest.businessservice.model.AdEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdEventDto {
+    
+    // IMPRESSION, CLICK or SAVE
+    private AdEventType type;
+    private Long sponsoredPinId;
+    private Long viewerId;
+    // When the client saw the event, the time it was received when absent
+    private LocalDateTime timestamp;
+}
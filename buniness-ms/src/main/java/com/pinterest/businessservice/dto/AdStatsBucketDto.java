@@ -0,0 +1,24 @@
+package com.pinterest.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdStatsBucketDto {
+    
+    // Start of the hour, day or week
+    private LocalDateTime bucketStart;
+    private long impressions;
+    private long clicks;
+    private long saves;
+    private long conversions;
+    private BigDecimal spend;
+}
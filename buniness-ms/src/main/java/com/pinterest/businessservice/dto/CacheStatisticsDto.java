@@ -0,0 +1,56 @@
+package com.pinterest.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatisticsDto {
+
+    private boolean statisticsEnabled;
+
+    // JDBC statements prepared since startup or the last reset, the number the cache should bring down
+    private long prepareStatementCount;
+
+    private long queryExecutionCount;
+
+    private long secondLevelCacheHitCount;
+
+    private long secondLevelCacheMissCount;
+
+    private long secondLevelCachePutCount;
+
+    private long queryCacheHitCount;
+
+    private long queryCacheMissCount;
+
+    @Builder.Default
+    private List<CacheRegionStatisticsDto> regions = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CacheRegionStatisticsDto {
+
+        private String region;
+
+        private long hitCount;
+
+        private long missCount;
+
+        private long putCount;
+
+        private double hitRatio;
+
+        // Entries held on the heap, bounded by the region's size in ehcache.xml; -1 when not reported
+        private long elementCountInMemory;
+    }
+}
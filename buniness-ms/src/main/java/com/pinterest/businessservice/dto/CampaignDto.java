@@ -38,6 +38,8 @@ public class CampaignDto {
     private String businessName;
     private String businessLogoUrl;
     private int sponsoredPinsCount;
+    private long sponsoredPinsImpressions;
+    private long sponsoredPinsClicks;
     private List<SponsoredPinDto> sponsoredPins;
     private double clickThroughRate; // CTR = clicks / impressions
     private double costPerClick; // CPC = amount spent / clicks
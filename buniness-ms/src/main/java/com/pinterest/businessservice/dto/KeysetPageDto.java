@@ -0,0 +1,20 @@
+package com.pinterest.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeysetPageDto<T> {
+    
+    private List<T> content;
+    private int size;
+    // Pass as afterId for the next page; null on the last page
+    private Long nextAfterId;
+}
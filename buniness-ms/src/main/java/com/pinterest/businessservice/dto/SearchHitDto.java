@@ -0,0 +1,23 @@
+package com.pinterest.businessservice.dto;
+
+import com.pinterest.businessservice.model.SearchEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchHitDto {
+    
+    private SearchEntityType type;
+    private Long id;
+    private Long businessProfileId;
+    // Business name, showcase or sponsored pin title, or campaign name
+    private String title;
+    private String description;
+    // Higher is better; substring matches in the title rank first, then in the description, then fuzzy matches
+    private double score;
+}
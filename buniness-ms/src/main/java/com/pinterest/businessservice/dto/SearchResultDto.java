@@ -0,0 +1,26 @@
+package com.pinterest.businessservice.dto;
+
+import com.pinterest.businessservice.model.SearchEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResultDto {
+    
+    private String query;
+    private int page;
+    private int size;
+    // Matches of the requested type, or of all types when none was requested
+    private long totalHits;
+    private List<SearchHitDto> hits;
+    // Matches per type, whatever type was requested
+    private Map<SearchEntityType, Long> facets;
+}
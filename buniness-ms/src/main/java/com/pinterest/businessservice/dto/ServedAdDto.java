@@ -0,0 +1,28 @@
+package com.pinterest.businessservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ServedAdDto {
+    
+    // 1 for the top slot
+    private int slot;
+    private Long sponsoredPinId;
+    private Long pinId;
+    private Long campaignId;
+    private Long businessProfileId;
+    private String title;
+    private String targetUrl;
+    private BigDecimal bidAmount;
+    private double estimatedClickThroughRate;
+    // Price per click under generalized second price: what it takes to stay ahead of the next ad, at most the bid
+    private BigDecimal clearingPrice;
+}
@@ -21,7 +21,8 @@ public class ShowcaseDto {
     private String coverImageUrl;
     private String theme;
     private boolean featured;
-    private boolean active;
+    @Builder.Default
+    private boolean active = true;
     private Integer displayOrder;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
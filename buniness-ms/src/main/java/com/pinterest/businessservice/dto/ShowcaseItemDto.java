@@ -19,7 +19,8 @@ public class ShowcaseItemDto {
     private String description;
     private Integer displayOrder;
     private boolean featured;
-    private boolean active;
+    @Builder.Default
+    private boolean active = true;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
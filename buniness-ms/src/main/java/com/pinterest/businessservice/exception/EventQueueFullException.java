@@ -0,0 +1,13 @@
+package com.pinterest.businessservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// The ingestion queue has no room left; the client should retry the batch later
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class EventQueueFullException extends RuntimeException {
+    
+    public EventQueueFullException(String message) {
+        super(message);
+    }
+}
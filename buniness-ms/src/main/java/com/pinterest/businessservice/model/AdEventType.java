@@ -0,0 +1,9 @@
+package com.pinterest.businessservice.model;
+
+// Engagement events counted on sponsored pins and campaigns
+public enum AdEventType {
+    IMPRESSION,
+    CLICK,
+    SAVE,
+    CONVERSION
+}
@@ -0,0 +1,7 @@
+package com.pinterest.businessservice.model;
+
+// What the rows of the ad stats rollup tables count for
+public enum AdStatsEntityType {
+    CAMPAIGN,
+    SPONSORED_PIN
+}
@@ -0,0 +1,8 @@
+package com.pinterest.businessservice.model;
+
+// Bucket size of an ad stats range query; weeks start on Monday
+public enum AdStatsGranularity {
+    HOUR,
+    DAY,
+    WEEK
+}
@@ -0,0 +1,9 @@
+package com.pinterest.businessservice.model;
+
+// What a business search hit points at
+public enum SearchEntityType {
+    BUSINESS_PROFILE,
+    SHOWCASE,
+    CAMPAIGN,
+    SPONSORED_PIN
+}
@@ -1,16 +1,24 @@
 package com.pinterest.businessservice.repository;
 
 import com.pinterest.businessservice.model.BusinessProfile;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface BusinessProfileRepository extends JpaRepository<BusinessProfile, Long> {
     
+    // Looked up on most reads; the result is kept in the query cache and the profile in its entity region
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<BusinessProfile> findByUserId(Long userId);
     
     List<BusinessProfile> findByActive(boolean active);
@@ -23,4 +31,28 @@ public interface BusinessProfileRepository extends JpaRepository<BusinessProfile
     
     @Query("SELECT b FROM BusinessProfile b WHERE b.category = :category AND b.active = true")
     List<BusinessProfile> findByCategory(BusinessProfile.BusinessCategory category);
+    
+    Page<BusinessProfile> findByActive(boolean active, Pageable pageable);
+    
+    // Pageable variants, a page is read with LIMIT and OFFSET and counted from the index
+    @Query("SELECT b FROM BusinessProfile b WHERE b.verificationStatus = :status")
+    Page<BusinessProfile> findByVerificationStatus(BusinessProfile.VerificationStatus status, Pageable pageable);
+    
+    @Query("SELECT b FROM BusinessProfile b WHERE LOWER(b.businessName) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<BusinessProfile> searchByBusinessName(String keyword, Pageable pageable);
+    
+    @Query("SELECT b FROM BusinessProfile b WHERE b.category = :category AND b.active = true")
+    Page<BusinessProfile> findByCategory(BusinessProfile.BusinessCategory category, Pageable pageable);
+    
+    // Keyset variants, the page after the last id seen; pass the page size as the limit, no count is run
+    @Query("SELECT b FROM BusinessProfile b WHERE b.verificationStatus = :status AND b.id > :afterId ORDER BY b.id")
+    List<BusinessProfile> findByVerificationStatusAfter(BusinessProfile.VerificationStatus status, Long afterId, Pageable limit);
+    
+    @Query("SELECT b FROM BusinessProfile b WHERE b.category = :category AND b.active = true AND b.id > :afterId ORDER BY b.id")
+    List<BusinessProfile> findByCategoryAfter(BusinessProfile.BusinessCategory category, Long afterId, Pageable limit);
+    
+    // Search index rebuild, keyset paged; a profile is its own business profile
+    @Query("SELECT b.id AS id, b.id AS businessProfileId, b.businessName AS title, b.description AS description "
+            + "FROM BusinessProfile b WHERE b.id > :afterId ORDER BY b.id")
+    List<SearchDocumentRow> findSearchDocumentsAfter(Long afterId, Pageable limit);
 }
\ No newline at end of file
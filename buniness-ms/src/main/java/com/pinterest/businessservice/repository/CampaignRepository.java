@@ -1,11 +1,16 @@
 package com.pinterest.businessservice.repository;
 
 import com.pinterest.businessservice.model.Campaign;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,19 +18,65 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
     
     List<Campaign> findByBusinessProfileId(Long businessProfileId);
     
+    Page<Campaign> findByBusinessProfileId(Long businessProfileId, Pageable pageable);
+    
     List<Campaign> findByStatus(Campaign.CampaignStatus status);
     
+    Page<Campaign> findByStatus(Campaign.CampaignStatus status, Pageable pageable);
+    
+    long countByStatus(Campaign.CampaignStatus status);
+    
     List<Campaign> findByObjective(Campaign.CampaignObjective objective);
     
+    Page<Campaign> findByObjective(Campaign.CampaignObjective objective, Pageable pageable);
+    
+    List<Campaign> findByStartDateLessThanEqualAndEndDateGreaterThanEqual(LocalDateTime endDate, LocalDateTime startDate);
+    
+    Page<Campaign> findByNameContainingOrDescriptionContaining(String name, String description, Pageable pageable);
+    
     @Query("SELECT c FROM Campaign c WHERE c.businessProfileId = :businessProfileId AND c.status = :status")
     List<Campaign> findByBusinessProfileIdAndStatus(Long businessProfileId, Campaign.CampaignStatus status);
     
     @Query("SELECT c FROM Campaign c WHERE c.status = 'ACTIVE' AND c.startDate <= :now AND (c.endDate IS NULL OR c.endDate >= :now)")
     List<Campaign> findActiveCampaigns(LocalDateTime now);
     
+    @Query("SELECT c FROM Campaign c WHERE c.status = 'ACTIVE' AND c.startDate <= :now AND (c.endDate IS NULL OR c.endDate >= :now)")
+    Page<Campaign> findActiveCampaigns(LocalDateTime now, Pageable pageable);
+    
+    @Query("SELECT c.id FROM Campaign c WHERE c.status = 'ACTIVE' AND c.startDate <= :now AND (c.endDate IS NULL OR c.endDate >= :now)")
+    List<Long> findActiveCampaignIds(LocalDateTime now);
+    
+    @Query("SELECT c FROM Campaign c WHERE c.status = 'SCHEDULED' AND c.startDate > :now")
+    List<Campaign> findScheduledCampaigns(LocalDateTime now);
+    
     @Query("SELECT c FROM Campaign c WHERE c.status = 'SCHEDULED' AND c.startDate <= :now")
     List<Campaign> findCampaignsToActivate(LocalDateTime now);
     
     @Query("SELECT c FROM Campaign c WHERE c.status = 'ACTIVE' AND c.endDate <= :now")
     List<Campaign> findCampaignsToComplete(LocalDateTime now);
+    
+    // Add spend in one statement, so concurrent spend updates cannot overwrite each other
+    @Modifying
+    @Query("UPDATE Campaign c SET c.amountSpent = COALESCE(c.amountSpent, 0) + :amount, c.updatedAt = :now WHERE c.id = :id")
+    int addAmountSpent(Long id, BigDecimal amount, LocalDateTime now);
+    
+    // Move the given campaigns that are still in one status to another, in one statement
+    @Modifying
+    @Query("UPDATE Campaign c SET c.status = :to, c.updatedAt = :now WHERE c.id IN :ids AND c.status = :from")
+    int updateStatuses(Collection<Long> ids, Campaign.CampaignStatus from, Campaign.CampaignStatus to, LocalDateTime now);
+    
+    // Same, for the ones whose start date has passed; ids whose start date has since moved are left alone
+    @Modifying
+    @Query("UPDATE Campaign c SET c.status = :to, c.updatedAt = :now WHERE c.id IN :ids AND c.status = :from AND c.startDate <= :now")
+    int updateStatusesOfStarted(Collection<Long> ids, Campaign.CampaignStatus from, Campaign.CampaignStatus to, LocalDateTime now);
+    
+    // Same, for the ones whose end date has passed
+    @Modifying
+    @Query("UPDATE Campaign c SET c.status = :to, c.updatedAt = :now WHERE c.id IN :ids AND c.status = :from AND c.endDate <= :now")
+    int updateStatusesOfEnded(Collection<Long> ids, Campaign.CampaignStatus from, Campaign.CampaignStatus to, LocalDateTime now);
+    
+    // Search index rebuild, keyset paged
+    @Query("SELECT c.id AS id, c.businessProfileId AS businessProfileId, c.name AS title, c.description AS description "
+            + "FROM Campaign c WHERE c.id > :afterId ORDER BY c.id")
+    List<SearchDocumentRow> findSearchDocumentsAfter(Long afterId, Pageable limit);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.pinterest.businessservice.repository;
+
+/**
+ * The columns the search index needs from a business profile, showcase, campaign or sponsored pin, read
+ * as a projection so a rebuild neither manages the entities nor puts them in the second-level cache.
+ */
+public interface SearchDocumentRow {
+
+    Long getId();
+
+    Long getBusinessProfileId();
+
+    String getTitle();
+
+    String getDescription();
+}
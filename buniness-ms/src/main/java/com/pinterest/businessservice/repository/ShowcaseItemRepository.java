@@ -1,17 +1,35 @@
 package com.pinterest.businessservice.repository;
 
 import com.pinterest.businessservice.model.ShowcaseItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ShowcaseItemRepository extends JpaRepository<ShowcaseItem, Long> {
     
     List<ShowcaseItem> findByShowcaseId(Long showcaseId);
     
+    Page<ShowcaseItem> findByShowcaseId(Long showcaseId, Pageable pageable);
+    
+    List<ShowcaseItem> findByShowcaseIdOrderByDisplayOrderAsc(Long showcaseId);
+    
+    List<ShowcaseItem> findByShowcaseIdAndActiveOrderByDisplayOrderAsc(Long showcaseId, boolean active);
+    
+    List<ShowcaseItem> findByShowcaseIdAndFeaturedTrueAndActiveTrueOrderByDisplayOrderAsc(Long showcaseId);
+    
+    Optional<ShowcaseItem> findByShowcaseIdAndPinId(Long showcaseId, Long pinId);
+    
+    boolean existsByShowcaseIdAndPinId(Long showcaseId, Long pinId);
+    
+    @Query("SELECT MAX(si.displayOrder) FROM ShowcaseItem si WHERE si.showcaseId = :showcaseId")
+    Integer findMaxDisplayOrderByShowcaseId(Long showcaseId);
+    
     List<ShowcaseItem> findByShowcaseIdAndActive(Long showcaseId, boolean active);
     
     List<ShowcaseItem> findByPinId(Long pinId);
@@ -1,6 +1,8 @@
 package com.pinterest.businessservice.repository;
 
 import com.pinterest.businessservice.model.Showcase;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -12,6 +14,17 @@ public interface ShowcaseRepository extends JpaRepository<Showcase, Long> {
     
     List<Showcase> findByBusinessProfileId(Long businessProfileId);
     
+    Page<Showcase> findByBusinessProfileId(Long businessProfileId, Pageable pageable);
+    
+    List<Showcase> findByBusinessProfileIdOrderByDisplayOrderAsc(Long businessProfileId);
+    
+    List<Showcase> findByBusinessProfileIdAndFeaturedTrueAndActiveTrueOrderByDisplayOrderAsc(Long businessProfileId);
+    
+    Page<Showcase> findByTitleContainingOrDescriptionContaining(String title, String description, Pageable pageable);
+    
+    @Query("SELECT MAX(s.displayOrder) FROM Showcase s WHERE s.businessProfileId = :businessProfileId")
+    Integer findMaxDisplayOrderByBusinessProfileId(Long businessProfileId);
+    
     List<Showcase> findByBusinessProfileIdAndActive(Long businessProfileId, boolean active);
     
     List<Showcase> findByBusinessProfileIdAndFeatured(Long businessProfileId, boolean featured);
@@ -24,4 +37,12 @@ public interface ShowcaseRepository extends JpaRepository<Showcase, Long> {
     
     @Query("SELECT s FROM Showcase s WHERE s.theme = :theme AND s.active = true")
     List<Showcase> findByTheme(String theme);
+    
+    @Query("SELECT s FROM Showcase s WHERE s.theme = :theme AND s.active = true")
+    Page<Showcase> findByTheme(String theme, Pageable pageable);
+    
+    // Search index rebuild, keyset paged
+    @Query("SELECT s.id AS id, s.businessProfileId AS businessProfileId, s.title AS title, s.description AS description "
+            + "FROM Showcase s WHERE s.id > :afterId ORDER BY s.id")
+    List<SearchDocumentRow> findSearchDocumentsAfter(Long afterId, Pageable limit);
 }
\ No newline at end of file
@@ -1,11 +1,17 @@
 package com.pinterest.businessservice.repository;
 
+import com.pinterest.businessservice.model.Campaign;
 import com.pinterest.businessservice.model.SponsoredPin;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,18 +19,78 @@ public interface SponsoredPinRepository extends JpaRepository<SponsoredPin, Long
     
     List<SponsoredPin> findByBusinessProfileId(Long businessProfileId);
     
+    Page<SponsoredPin> findByBusinessProfileId(Long businessProfileId, Pageable pageable);
+    
     List<SponsoredPin> findByPinId(Long pinId);
     
     List<SponsoredPin> findByCampaignId(Long campaignId);
     
+    Page<SponsoredPin> findByCampaignId(Long campaignId, Pageable pageable);
+    
+    // One page without the count query, for callers that already know the total
+    Slice<SponsoredPin> findSliceByCampaignId(Long campaignId, Pageable pageable);
+    
     List<SponsoredPin> findByStatus(SponsoredPin.SponsoredStatus status);
     
+    Page<SponsoredPin> findByStatus(SponsoredPin.SponsoredStatus status, Pageable pageable);
+    
+    List<SponsoredPin> findByStartDateLessThanEqualAndEndDateGreaterThanEqual(LocalDateTime endDate, LocalDateTime startDate);
+    
+    Page<SponsoredPin> findByTitleContainingOrDescriptionContaining(String title, String description, Pageable pageable);
+    
+    long countByStatus(SponsoredPin.SponsoredStatus status);
+    
     @Query("SELECT sp FROM SponsoredPin sp WHERE sp.status = 'ACTIVE' AND sp.startDate <= :now AND (sp.endDate IS NULL OR sp.endDate >= :now)")
     List<SponsoredPin> findActiveSponsoredPins(LocalDateTime now);
     
+    @Query("SELECT sp FROM SponsoredPin sp WHERE sp.status = 'ACTIVE' AND sp.startDate <= :now AND (sp.endDate IS NULL OR sp.endDate >= :now)")
+    Page<SponsoredPin> findActiveSponsoredPins(LocalDateTime now, Pageable pageable);
+    
+    @Query("SELECT sp.id FROM SponsoredPin sp WHERE sp.status = 'ACTIVE' AND sp.startDate <= :now AND (sp.endDate IS NULL OR sp.endDate >= :now)")
+    List<Long> findActiveSponsoredPinIds(LocalDateTime now);
+    
+    // Active pins with a bid that have not ended, in an active campaign with budget left; includes pins starting later
+    @Query("SELECT sp FROM SponsoredPin sp WHERE sp.status = 'ACTIVE' AND (sp.endDate IS NULL OR sp.endDate >= :now) "
+            + "AND sp.bidAmount > 0 AND EXISTS (SELECT c.id FROM Campaign c WHERE c.id = sp.campaignId AND c.status = 'ACTIVE' "
+            + "AND (c.budget IS NULL OR COALESCE(c.amountSpent, 0) < c.budget))")
+    List<SponsoredPin> findServableSponsoredPins(LocalDateTime now);
+    
     @Query("SELECT sp FROM SponsoredPin sp WHERE sp.businessProfileId = :businessProfileId AND sp.status = :status")
     List<SponsoredPin> findByBusinessProfileIdAndStatus(Long businessProfileId, SponsoredPin.SponsoredStatus status);
     
     @Query("SELECT sp FROM SponsoredPin sp WHERE sp.campaignId = :campaignId AND sp.status = :status")
     List<SponsoredPin> findByCampaignIdAndStatus(Long campaignId, SponsoredPin.SponsoredStatus status);
+    
+    // Sponsored pin count and summed impressions and clicks per campaign, for a whole page of campaigns in one statement
+    @Query("SELECT sp.campaignId AS campaignId, COUNT(sp) AS sponsoredPins, SUM(sp.impressions) AS impressions, "
+            + "SUM(sp.clicks) AS clicks FROM SponsoredPin sp WHERE sp.campaignId IN :campaignIds GROUP BY sp.campaignId")
+    List<CampaignSponsoredPinTotals> sumByCampaignIds(Collection<Long> campaignIds);
+    
+    // Move the given sponsored pins still in one status to another once their end date has passed, in one statement
+    @Modifying
+    @Query("UPDATE SponsoredPin sp SET sp.status = :to, sp.updatedAt = :now WHERE sp.id IN :ids AND sp.status = :from AND sp.endDate <= :now")
+    int updateStatusesOfEnded(Collection<Long> ids, SponsoredPin.SponsoredStatus from, SponsoredPin.SponsoredStatus to, LocalDateTime now);
+    
+    // Move the sponsored pins still in one status to another, for the given campaigns that are in the campaign status
+    @Modifying
+    @Query("UPDATE SponsoredPin sp SET sp.status = :to, sp.updatedAt = :now WHERE sp.status = :from AND sp.campaignId IN "
+            + "(SELECT c.id FROM Campaign c WHERE c.id IN :campaignIds AND c.status = :campaignStatus)")
+    int updateStatusesByCampaigns(Collection<Long> campaignIds, Campaign.CampaignStatus campaignStatus,
+                                  SponsoredPin.SponsoredStatus from, SponsoredPin.SponsoredStatus to, LocalDateTime now);
+    
+    // Search index rebuild, keyset paged
+    @Query("SELECT sp.id AS id, sp.businessProfileId AS businessProfileId, sp.title AS title, sp.description AS description "
+            + "FROM SponsoredPin sp WHERE sp.id > :afterId ORDER BY sp.id")
+    List<SearchDocumentRow> findSearchDocumentsAfter(Long afterId, Pageable limit);
+    
+    interface CampaignSponsoredPinTotals {
+        
+        Long getCampaignId();
+        
+        long getSponsoredPins();
+        
+        Long getImpressions();
+        
+        Long getClicks();
+    }
 }
\ No newline at end of file
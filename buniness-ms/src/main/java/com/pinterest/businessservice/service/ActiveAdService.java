@@ -0,0 +1,13 @@
+package com.pinterest.businessservice.service;
+
+public interface ActiveAdService {
+
+    // Whether the sponsored pin was active at the last refresh of the cached active ids
+    boolean isSponsoredPinActive(Long sponsoredPinId);
+
+    // Whether the campaign was active at the last refresh of the cached active ids
+    boolean isCampaignActive(Long campaignId);
+
+    // Reload the active sponsored pin and campaign ids from the database
+    void refresh();
+}
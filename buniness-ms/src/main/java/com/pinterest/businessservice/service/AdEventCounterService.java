@@ -0,0 +1,24 @@
+package com.pinterest.businessservice.service;
+
+import com.pinterest.businessservice.model.AdEventType;
+
+import java.time.LocalDateTime;
+
+public interface AdEventCounterService {
+
+    // Count an event on a sponsored pin; impressions and clicks also count for its campaign. Written on the next flush;
+    // waits for the journal fsync only with ad-events.journal.sync-on-record
+    void recordSponsoredPinEvent(Long sponsoredPinId, AdEventType type);
+
+    // Same, for an event that happened at the given time; it lands in the hourly stats of that hour
+    void recordSponsoredPinEvent(Long sponsoredPinId, AdEventType type, LocalDateTime occurredAt);
+
+    // Count an event on a campaign. Written on the next flush; waits for the fsync like the sponsored pin variant
+    void recordCampaignEvent(Long campaignId, AdEventType type);
+
+    // Same, for an event that happened at the given time
+    void recordCampaignEvent(Long campaignId, AdEventType type, LocalDateTime occurredAt);
+
+    // Write all buffered counts to the database
+    void flush();
+}
@@ -0,0 +1,12 @@
+package com.pinterest.businessservice.service;
+
+import com.pinterest.businessservice.dto.AdEventBatchResultDto;
+import com.pinterest.businessservice.dto.AdEventDto;
+
+import java.util.List;
+
+public interface AdEventIngestionService {
+
+    // Validate a batch of sponsored pin events and queue the valid ones for counting
+    AdEventBatchResultDto submitBatch(List<AdEventDto> events);
+}
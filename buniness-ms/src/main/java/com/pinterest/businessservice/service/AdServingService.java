@@ -0,0 +1,17 @@
+package com.pinterest.businessservice.service;
+
+import com.pinterest.businessservice.dto.ServedAdDto;
+
+import java.util.List;
+
+public interface AdServingService {
+
+    // The best sponsored pins for the given number of slots, best first, with their clearing prices
+    List<ServedAdDto> serve(int slots);
+
+    // Rebuild the serving index once the current transaction commits, after a change to sponsored pins or campaigns
+    void requestRefresh();
+
+    // Rebuild the serving index now
+    void refresh();
+}
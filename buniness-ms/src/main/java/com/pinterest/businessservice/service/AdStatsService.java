@@ -0,0 +1,26 @@
+package com.pinterest.businessservice.service;
+
+import com.pinterest.businessservice.dto.AdStatsBucketDto;
+import com.pinterest.businessservice.model.AdStatsGranularity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AdStatsService {
+
+    // Event counts and spend of a campaign per hour, day or week between the two dates, both inclusive
+    List<AdStatsBucketDto> getCampaignStats(Long campaignId, LocalDate startDate, LocalDate endDate,
+                                            AdStatsGranularity granularity);
+
+    // Event counts of a sponsored pin per hour, day or week between the two dates, both inclusive
+    List<AdStatsBucketDto> getSponsoredPinStats(Long sponsoredPinId, LocalDate startDate, LocalDate endDate,
+                                                AdStatsGranularity granularity);
+
+    // Add spend to the stats of a campaign, in the hour it was spent
+    void recordSpend(Long campaignId, BigDecimal amount, LocalDateTime spentAt);
+
+    // Fold the hourly rows older than the hourly retention into daily rows
+    void compactHourlyStats();
+}
@@ -0,0 +1,21 @@
+package com.pinterest.businessservice.service;
+
+import java.math.BigDecimal;
+
+public interface BudgetPacingService {
+
+    // Whether to serve the campaign's ads for this request; never for exhausted campaigns, sometimes when ahead of pace
+    boolean shouldServe(Long campaignId);
+
+    // Share of requests the campaign is served for right now, 1 for campaigns that are not paced
+    double getServingProbability(Long campaignId);
+
+    // Count spend booked for the campaign, once the surrounding transaction commits
+    void recordSpend(Long campaignId, BigDecimal amount);
+
+    // Reload budgets and spend soon, once the surrounding transaction commits
+    void requestReload();
+
+    // Reload budgets and today's spend of the active campaigns from the database
+    void reload();
+}
@@ -1,6 +1,7 @@
 package com.pinterest.businessservice.service;
 
 import com.pinterest.businessservice.dto.BusinessProfileDto;
+import com.pinterest.businessservice.dto.KeysetPageDto;
 import com.pinterest.businessservice.model.BusinessProfile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,6 +28,15 @@ public interface BusinessProfileService {
     
     Page<BusinessProfileDto> getBusinessProfilesByCategory(BusinessProfile.BusinessCategory category, Pageable pageable);
     
+    Page<BusinessProfileDto> getBusinessProfilesByVerificationStatus(BusinessProfile.VerificationStatus status, Pageable pageable);
+    
+    Page<BusinessProfileDto> getBusinessProfilesByActive(boolean active, Pageable pageable);
+    
+    // Keyset pages: the profiles after the given id in id order, for listings too deep to page by offset
+    KeysetPageDto<BusinessProfileDto> getBusinessProfilesByVerificationStatus(BusinessProfile.VerificationStatus status, Long afterId, int size);
+    
+    KeysetPageDto<BusinessProfileDto> getBusinessProfilesByCategory(BusinessProfile.BusinessCategory category, Long afterId, int size);
+    
     BusinessProfileDto updateVerificationStatus(Long id, BusinessProfile.VerificationStatus status);
     
     BusinessProfileDto toggleActiveStatus(Long id);
@@ -0,0 +1,15 @@
+package com.pinterest.businessservice.service;
+
+import java.time.LocalDateTime;
+
+public interface CampaignLifecycleService {
+
+    // Schedule the campaign to start at its start date and complete at its end date
+    void scheduleCampaign(Long campaignId, LocalDateTime startDate, LocalDateTime endDate);
+
+    // Schedule the sponsored pin to complete at its end date
+    void scheduleSponsoredPin(Long sponsoredPinId, LocalDateTime endDate);
+
+    // Apply the status changes whose dates have passed
+    void advance();
+}
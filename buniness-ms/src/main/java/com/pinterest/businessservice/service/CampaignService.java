@@ -16,6 +16,8 @@ public interface CampaignService {
     
     CampaignDto getCampaignById(Long id);
     
+    CampaignDto getCampaignById(Long id, Pageable sponsoredPinsPageable);
+    
     List<CampaignDto> getCampaignsByBusinessProfileId(Long businessProfileId);
     
     Page<CampaignDto> getCampaignsByBusinessProfileId(Long businessProfileId, Pageable pageable);
@@ -0,0 +1,19 @@
+package com.pinterest.businessservice.service;
+
+import com.pinterest.businessservice.dto.SearchResultDto;
+import com.pinterest.businessservice.model.SearchEntityType;
+
+public interface SearchIndexService {
+
+    // Business profiles, showcases, campaigns and sponsored pins matching the query, best first, optionally of one type
+    SearchResultDto search(String query, SearchEntityType type, int page, int size);
+
+    // Add or replace an entity's text in the index, once the surrounding transaction commits
+    void index(SearchEntityType type, Long id, Long businessProfileId, String title, String description);
+
+    // Drop an entity from the index, once the surrounding transaction commits
+    void remove(SearchEntityType type, Long id);
+
+    // Rebuild the index from the database
+    void rebuild();
+}
@@ -0,0 +1,76 @@
+package com.pinterest.businessservice.service.impl;
+
+import com.pinterest.businessservice.repository.CampaignRepository;
+import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.businessservice.service.ActiveAdService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * The ids of the active sponsored pins and campaigns, loaded at startup and refreshed in the background,
+ * so ad events can be checked without database work. Both the batch endpoint and the single-event
+ * endpoints use it, so they accept the same ids. A sponsored pin or campaign is accepted once the next
+ * refresh sees it active, up to {@code ad-events.active-pins-refresh-ms} after it goes live.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveAdServiceImpl implements ActiveAdService {
+
+    private final SponsoredPinRepository sponsoredPinRepository;
+    private final CampaignRepository campaignRepository;
+
+    private volatile Set<Long> activeSponsoredPinIds;
+
+    private volatile Set<Long> activeCampaignIds;
+
+    // Loads the active ids before the first event arrives instead of on the request thread
+    @PostConstruct
+    public void load() {
+        refresh();
+    }
+
+    @Override
+    public boolean isSponsoredPinActive(Long sponsoredPinId) {
+        return sponsoredPinId != null && activeSponsoredPinIds().contains(sponsoredPinId);
+    }
+
+    @Override
+    public boolean isCampaignActive(Long campaignId) {
+        return campaignId != null && activeCampaignIds().contains(campaignId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${ad-events.active-pins-refresh-ms:30000}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            activeSponsoredPinIds = Set.copyOf(sponsoredPinRepository.findActiveSponsoredPinIds(now));
+            activeCampaignIds = Set.copyOf(campaignRepository.findActiveCampaignIds(now));
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh active sponsored pins and campaigns, keeping the previous sets: {}", e.getMessage());
+        }
+    }
+
+    // Helper method to get the active sponsored pin ids, retrying the load only if it failed at startup
+    private Set<Long> activeSponsoredPinIds() {
+        if (activeSponsoredPinIds == null) {
+            refresh();
+        }
+        return activeSponsoredPinIds == null ? Set.of() : activeSponsoredPinIds;
+    }
+
+    // Helper method to get the active campaign ids, retrying the load only if it failed at startup
+    private Set<Long> activeCampaignIds() {
+        if (activeCampaignIds == null) {
+            refresh();
+        }
+        return activeCampaignIds == null ? Set.of() : activeCampaignIds;
+    }
+}
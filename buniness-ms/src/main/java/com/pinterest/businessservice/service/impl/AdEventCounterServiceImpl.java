@@ -0,0 +1,404 @@
+package com.pinterest.businessservice.service.impl;
+
+import com.pinterest.businessservice.config.AdEventJournal;
+import com.pinterest.businessservice.model.AdEventType;
+import com.pinterest.businessservice.model.AdStatsEntityType;
+import com.pinterest.businessservice.service.AdEventCounterService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Counts ad events in memory and writes them in batches, so recording an impression or click costs no
+ * database work on the request path and concurrent events cannot overwrite each other's increments.
+ * <p>
+ * Deltas are kept per sponsored pin and per campaign in lock-striped maps, so concurrent requests for
+ * different ids rarely contend. Every flush swaps the maps out and applies them with batched
+ * {@code SET impressions = impressions + ?} statements in id order, so concurrent flushes from several
+ * instances take row locks in the same order. Sponsored pin impressions and clicks are added to their
+ * campaign on the way, with one lookup per flush instead of one per event. If a flush fails its deltas
+ * are put back and retried on the next one; the last flush runs on shutdown.
+ * <p>
+ * Deltas are kept per hour the events happened in as well, and the same flush adds them to the hourly
+ * rows of {@code ad_stats_hourly} that {@link AdStatsServiceImpl} reads and compacts.
+ * <p>
+ * With the {@link AdEventJournal} enabled every event is appended to it before it is counted, and each
+ * flush stores the last journaled sequence it covers in the same transaction as the increments. On
+ * startup the entries after that watermark, which were counted but never written, are counted again.
+ * Events are acknowledged once appended to the mapped segment, which survives a crash of the JVM; the
+ * journal's syncer forces them to disk within {@code ad-events.journal.sync-interval-ms}, which bounds
+ * what a crash of the host can lose. With {@code ad-events.journal.sync-on-record} the single events
+ * recorded on a request thread also wait for the fsync covering them.
+ */
+@Service
+@Slf4j
+public class AdEventCounterServiceImpl implements AdEventCounterService {
+
+    public static final String DROPPED_METRIC = "ad.events.dropped";
+
+    // Power of two, so a stripe is picked by masking the id
+    private static final int STRIPES = 64;
+
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private static final String UPDATE_SPONSORED_PIN = "UPDATE sponsored_pins SET "
+            + "impressions = COALESCE(impressions, 0) + ?, clicks = COALESCE(clicks, 0) + ?, "
+            + "saves = COALESCE(saves, 0) + ?, updated_at = ? WHERE id = ?";
+
+    private static final String UPDATE_CAMPAIGN = "UPDATE campaigns SET "
+            + "impressions = COALESCE(impressions, 0) + ?, clicks = COALESCE(clicks, 0) + ?, "
+            + "conversions = COALESCE(conversions, 0) + ?, updated_at = ? WHERE id = ?";
+
+    // Inserts the hour or adds to it in one statement, so instances flushing the same new hour do not collide
+    private static final String UPSERT_HOURLY = "INSERT INTO ad_stats_hourly "
+            + "(entity_type, entity_id, bucket_start, impressions, clicks, saves, conversions, spend) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, 0) "
+            + "ON DUPLICATE KEY UPDATE impressions = impressions + VALUES(impressions), "
+            + "clicks = clicks + VALUES(clicks), saves = saves + VALUES(saves), "
+            + "conversions = conversions + VALUES(conversions)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter droppedEvents;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    private final AdEventJournal journal;
+
+    private final boolean syncOnRecord;
+
+    // Shared by appending and counting, exclusive while a flush drains, so a drain holds every journaled event.
+    // Appends under the shared lock do not wait for each other, the journal reserves a slot per entry
+    private final ReadWriteLock journalLock = new ReentrantReadWriteLock();
+
+    public AdEventCounterServiceImpl(NamedParameterJdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Nullable AdEventJournal journal,
+                                     @Value("${ad-events.journal.sync-on-record:false}") boolean syncOnRecord) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.journal = journal;
+        this.syncOnRecord = syncOnRecord;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.droppedEvents = Counter.builder(DROPPED_METRIC)
+                .description("Ad events counted for sponsored pins or campaigns that no longer exist")
+                .register(meterRegistry);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public void recordSponsoredPinEvent(Long sponsoredPinId, AdEventType type) {
+        recordSponsoredPinEvent(sponsoredPinId, type, LocalDateTime.now());
+        awaitJournaledIfRequired();
+    }
+
+    @Override
+    public void recordSponsoredPinEvent(Long sponsoredPinId, AdEventType type, LocalDateTime occurredAt) {
+        if (type == AdEventType.CONVERSION) {
+            throw new IllegalArgumentException("Conversions are counted per campaign, not per sponsored pin");
+        }
+        count(true, sponsoredPinId, type, occurredAt);
+    }
+
+    @Override
+    public void recordCampaignEvent(Long campaignId, AdEventType type) {
+        recordCampaignEvent(campaignId, type, LocalDateTime.now());
+        awaitJournaledIfRequired();
+    }
+
+    @Override
+    public void recordCampaignEvent(Long campaignId, AdEventType type, LocalDateTime occurredAt) {
+        if (type == AdEventType.SAVE) {
+            throw new IllegalArgumentException("Saves are counted per sponsored pin, not per campaign");
+        }
+        count(false, campaignId, type, occurredAt);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${ad-events.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<Bucket, long[]> sponsoredPins = new TreeMap<>();
+        Map<Bucket, long[]> campaigns = new TreeMap<>();
+        long journaledSequence = 0;
+        Lock lock = journalLock.writeLock();
+        lock.lock();
+        try {
+            for (Stripe stripe : stripes) {
+                stripe.drainTo(sponsoredPins, campaigns);
+            }
+            if (journal != null) {
+                journaledSequence = journal.lastSequence();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (sponsoredPins.isEmpty() && campaigns.isEmpty()) {
+            return;
+        }
+
+        long appliedSequence = journaledSequence;
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                write(sponsoredPins, campaigns);
+                if (journal != null) {
+                    jdbcTemplate.update("UPDATE ad_event_journal_watermarks SET applied_sequence = :sequence, "
+                                    + "updated_at = :now WHERE journal_id = :journalId",
+                            Map.of("sequence", appliedSequence, "now", Timestamp.valueOf(LocalDateTime.now()),
+                                    "journalId", journal.getJournalId()));
+                }
+            });
+            if (journal != null) {
+                journal.markApplied(appliedSequence);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush ad event counts for {} sponsored pins and {} campaigns, will retry: {}",
+                    sponsoredPins.size(), campaigns.size(), e.getMessage());
+            sponsoredPins.forEach((bucket, counts) -> stripeOf(bucket.id()).addAll(true, bucket, counts));
+            campaigns.forEach((bucket, counts) -> stripeOf(bucket.id()).addAll(false, bucket, counts));
+        }
+    }
+
+    // Count the journaled events the last run did not get to write; they are written by the next flush
+    @PostConstruct
+    public void replayJournal() {
+        if (journal == null) {
+            return;
+        }
+        Map<String, Object> params = Map.of("journalId", journal.getJournalId(),
+                "now", Timestamp.valueOf(LocalDateTime.now()));
+        List<Long> watermark = jdbcTemplate.queryForList(
+                "SELECT applied_sequence FROM ad_event_journal_watermarks WHERE journal_id = :journalId",
+                params, Long.class);
+        if (watermark.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO ad_event_journal_watermarks (journal_id, applied_sequence, updated_at) "
+                    + "VALUES (:journalId, 0, :now)", params);
+        }
+        long appliedSequence = watermark.isEmpty() ? 0 : watermark.get(0);
+        // A journal that lost its segments must not hand out sequences the watermark already covers
+        journal.continueAfter(appliedSequence);
+
+        long[] replayed = new long[1];
+        journal.replay(appliedSequence, (sequence, sponsoredPin, id, type, timestampMillis) -> {
+            LocalDateTime occurredAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), ZoneId.systemDefault());
+            stripeOf(id).add(sponsoredPin, new Bucket(id, occurredAt.truncatedTo(ChronoUnit.HOURS)), type, 1);
+            replayed[0]++;
+        });
+        journal.markApplied(appliedSequence);
+        if (replayed[0] > 0) {
+            log.info("Replayed {} ad events journaled after sequence {}", replayed[0], appliedSequence);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // Helper method to wait for the fsync of a single event, only when the setting asks for it
+    private void awaitJournaledIfRequired() {
+        if (syncOnRecord && journal != null) {
+            journal.awaitDurable();
+        }
+    }
+
+    // Helper method to count one event, journaled first when the journal is enabled
+    private void count(boolean sponsoredPin, Long id, AdEventType type, LocalDateTime occurredAt) {
+        Bucket bucket = new Bucket(id, occurredAt.truncatedTo(ChronoUnit.HOURS));
+        if (journal == null) {
+            stripeOf(id).add(sponsoredPin, bucket, type, 1);
+            return;
+        }
+        Lock lock = journalLock.readLock();
+        lock.lock();
+        try {
+            journal.append(sponsoredPin, id, type, occurredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            stripeOf(id).add(sponsoredPin, bucket, type, 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Apply one flush worth of deltas, campaigns last since sponsored pin events roll up into them
+    private void write(Map<Bucket, long[]> sponsoredPins, Map<Bucket, long[]> campaignDeltas) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<Bucket, long[]> campaigns = new TreeMap<>(campaignDeltas);
+
+        Map<Long, Long> campaignIds = findCampaignIds(sponsoredPins);
+        sponsoredPins.forEach((bucket, counts) -> {
+            Long campaignId = campaignIds.get(bucket.id());
+            if (campaignId != null) {
+                long[] campaignCounts = campaigns.computeIfAbsent(new Bucket(campaignId, bucket.hour()),
+                        key -> new long[AdEventType.values().length]);
+                campaignCounts[AdEventType.IMPRESSION.ordinal()] += counts[AdEventType.IMPRESSION.ordinal()];
+                campaignCounts[AdEventType.CLICK.ordinal()] += counts[AdEventType.CLICK.ordinal()];
+            }
+        });
+
+        Set<Long> missingSponsoredPins = batchUpdate(UPDATE_SPONSORED_PIN, totals(sponsoredPins), AdEventType.SAVE, now);
+        Set<Long> missingCampaigns = batchUpdate(UPDATE_CAMPAIGN, totals(campaigns), AdEventType.CONVERSION, now);
+        addToHourlyStats(AdStatsEntityType.SPONSORED_PIN, sponsoredPins, missingSponsoredPins);
+        addToHourlyStats(AdStatsEntityType.CAMPAIGN, campaigns, missingCampaigns);
+    }
+
+    // Helper method to find the campaign of each sponsored pin in the flush, pins without one are left out
+    private Map<Long, Long> findCampaignIds(Map<Bucket, long[]> sponsoredPins) {
+        List<Long> ids = sponsoredPins.keySet().stream().map(Bucket::id).distinct().toList();
+        Map<Long, Long> campaignIds = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ids.size()));
+            jdbcTemplate.query(
+                    "SELECT id, campaign_id FROM sponsored_pins WHERE id IN (:ids) AND campaign_id IS NOT NULL",
+                    Map.of("ids", chunk),
+                    rs -> {
+                        campaignIds.put(rs.getLong("id"), rs.getLong("campaign_id"));
+                    });
+        }
+        return campaignIds;
+    }
+
+    // Helper method to run one batched increment per id; the third column is saves or conversions.
+    // Returns the ids whose row is gone
+    private Set<Long> batchUpdate(String sql, Map<Long, long[]> deltas, AdEventType thirdColumn, Timestamp now) {
+        Set<Long> missing = new HashSet<>();
+        if (deltas.isEmpty()) {
+            return missing;
+        }
+        List<Long> ids = new ArrayList<>(deltas.keySet());
+        List<Object[]> batchArgs = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            long[] counts = deltas.get(id);
+            batchArgs.add(new Object[]{
+                    counts[AdEventType.IMPRESSION.ordinal()],
+                    counts[AdEventType.CLICK.ordinal()],
+                    counts[thirdColumn.ordinal()],
+                    now,
+                    id});
+        }
+
+        int[] updated = jdbcTemplate.getJdbcTemplate().batchUpdate(sql, batchArgs);
+        for (int i = 0; i < updated.length; i++) {
+            // Zero rows means the row was deleted since the events were counted; negative is "no info"
+            if (updated[i] == 0) {
+                long events = 0;
+                for (long count : deltas.get(ids.get(i))) {
+                    events += count;
+                }
+                missing.add(ids.get(i));
+                droppedEvents.increment(events);
+                log.debug("Dropped {} ad events for missing row {} ({})", events, ids.get(i), sql);
+            }
+        }
+        return missing;
+    }
+
+    // Helper method to add the deltas to their hourly stats rows, inserting the rows an hour does not have yet
+    private void addToHourlyStats(AdStatsEntityType entityType, Map<Bucket, long[]> deltas, Set<Long> missing) {
+        List<Object[]> upserts = new ArrayList<>(deltas.size());
+        deltas.forEach((bucket, counts) -> {
+            if (!missing.contains(bucket.id())) {
+                upserts.add(new Object[]{
+                        entityType.name(), bucket.id(), Timestamp.valueOf(bucket.hour()),
+                        counts[AdEventType.IMPRESSION.ordinal()],
+                        counts[AdEventType.CLICK.ordinal()],
+                        counts[AdEventType.SAVE.ordinal()],
+                        counts[AdEventType.CONVERSION.ordinal()]});
+            }
+        });
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.getJdbcTemplate().batchUpdate(UPSERT_HOURLY, upserts);
+        }
+    }
+
+    // Helper method to add up the hourly deltas of each id, in id order
+    private static Map<Long, long[]> totals(Map<Bucket, long[]> deltas) {
+        Map<Long, long[]> totals = new TreeMap<>();
+        deltas.forEach((bucket, counts) -> {
+            long[] total = totals.computeIfAbsent(bucket.id(), id -> new long[counts.length]);
+            for (int i = 0; i < counts.length; i++) {
+                total[i] += counts[i];
+            }
+        });
+        return totals;
+    }
+
+    private Stripe stripeOf(Long id) {
+        long hash = id ^ (id >>> 32);
+        return stripes[(int) (hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    // The id an event counts for and the hour it happened in; ordered by id first, the order rows are locked in
+    private record Bucket(Long id, LocalDateTime hour) implements Comparable<Bucket> {
+
+        private static final Comparator<Bucket> ORDER = Comparator.comparing(Bucket::id).thenComparing(Bucket::hour);
+
+        @Override
+        public int compareTo(Bucket other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private static final class Stripe {
+
+        private Map<Bucket, long[]> sponsoredPins = new HashMap<>();
+
+        private Map<Bucket, long[]> campaigns = new HashMap<>();
+
+        private synchronized void add(boolean sponsoredPin, Bucket bucket, AdEventType type, long count) {
+            countsOf(sponsoredPin, bucket)[type.ordinal()] += count;
+        }
+
+        private synchronized void addAll(boolean sponsoredPin, Bucket bucket, long[] counts) {
+            long[] current = countsOf(sponsoredPin, bucket);
+            for (int i = 0; i < counts.length; i++) {
+                current[i] += counts[i];
+            }
+        }
+
+        // Hands the deltas over and starts empty maps; ids never span stripes, so merging is a plain put
+        private synchronized void drainTo(Map<Bucket, long[]> sponsoredPinDeltas, Map<Bucket, long[]> campaignDeltas) {
+            if (!sponsoredPins.isEmpty()) {
+                sponsoredPinDeltas.putAll(sponsoredPins);
+                sponsoredPins = new HashMap<>();
+            }
+            if (!campaigns.isEmpty()) {
+                campaignDeltas.putAll(campaigns);
+                campaigns = new HashMap<>();
+            }
+        }
+
+        private long[] countsOf(boolean sponsoredPin, Bucket bucket) {
+            return (sponsoredPin ? sponsoredPins : campaigns)
+                    .computeIfAbsent(bucket, key -> new long[AdEventType.values().length]);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.pinterest.businessservice.service.impl;
+
+import com.pinterest.businessservice.dto.AdEventBatchResultDto;
+import com.pinterest.businessservice.dto.AdEventDto;
+import com.pinterest.businessservice.exception.BadRequestException;
+import com.pinterest.businessservice.exception.EventQueueFullException;
+import com.pinterest.businessservice.model.AdEventType;
+import com.pinterest.businessservice.service.ActiveAdService;
+import com.pinterest.businessservice.service.AdEventCounterService;
+import com.pinterest.businessservice.service.AdEventIngestionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accepts ad events in batches and counts them off the request thread. A batch is checked against the
+ * cached active sponsored pin ids of the {@link ActiveAdService}, so validation needs no database work;
+ * the valid events go on a bounded queue that one worker drains into the
+ * {@link AdEventCounterService}, which journals them. When the queue is full the whole batch is refused
+ * and the client is told to retry, rather than the service buffering without limit. A 202 means the
+ * batch is queued: batches still on the queue when the instance dies are lost, like the unflushed
+ * counters were before the journal.
+ */
+@Service
+@Slf4j
+public class AdEventIngestionServiceImpl implements AdEventIngestionService, SmartLifecycle {
+
+    public static final String QUEUE_METRIC = "ad.events.queue.size";
+
+    public static final String REJECTED_METRIC = "ad.events.rejected";
+
+    private static final Set<AdEventType> SPONSORED_PIN_EVENTS =
+            Set.of(AdEventType.IMPRESSION, AdEventType.CLICK, AdEventType.SAVE);
+
+    private final ActiveAdService activeAdService;
+
+    private final AdEventCounterService adEventCounterService;
+
+    private final BlockingQueue<List<AdEventDto>> queue;
+
+    private final int maxBatchSize;
+
+    private final Counter rejectedInvalid;
+
+    private final Counter rejectedQueueFull;
+
+    private volatile boolean running;
+
+    private Thread worker;
+
+    public AdEventIngestionServiceImpl(
+            ActiveAdService activeAdService,
+            AdEventCounterService adEventCounterService,
+            MeterRegistry meterRegistry,
+            @Value("${ad-events.queue-capacity:1000}") int queueCapacity,
+            @Value("${ad-events.max-batch-size:500}") int maxBatchSize) {
+        this.activeAdService = activeAdService;
+        this.adEventCounterService = adEventCounterService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.rejectedInvalid = Counter.builder(REJECTED_METRIC)
+                .description("Ad events refused at ingestion")
+                .tag("reason", "invalid")
+                .register(meterRegistry);
+        this.rejectedQueueFull = Counter.builder(REJECTED_METRIC)
+                .description("Ad events refused at ingestion")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        Gauge.builder(QUEUE_METRIC, queue, Collection::size)
+                .description("Batches of ad events waiting to be counted")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AdEventBatchResultDto submitBatch(List<AdEventDto> events) {
+        if (events == null || events.isEmpty()) {
+            throw new BadRequestException("A batch needs at least one event");
+        }
+        if (events.size() > maxBatchSize) {
+            throw new BadRequestException("A batch holds at most " + maxBatchSize + " events, got " + events.size());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<AdEventDto> accepted = new ArrayList<>(events.size());
+        for (AdEventDto event : events) {
+            if (event == null || !SPONSORED_PIN_EVENTS.contains(event.getType())
+                    || !activeAdService.isSponsoredPinActive(event.getSponsoredPinId())) {
+                continue;
+            }
+            // Events are bucketed by the hour they happened in, a clock ahead of ours must not create future hours
+            if (event.getTimestamp() == null || event.getTimestamp().isAfter(now)) {
+                event.setTimestamp(now);
+            }
+            accepted.add(event);
+        }
+
+        int rejected = events.size() - accepted.size();
+        rejectedInvalid.increment(rejected);
+        if (!accepted.isEmpty() && !queue.offer(accepted)) {
+            rejectedQueueFull.increment(accepted.size());
+            throw new EventQueueFullException("Too many ad events queued, retry the batch later");
+        }
+
+        return AdEventBatchResultDto.builder()
+                .received(events.size())
+                .accepted(accepted.size())
+                .rejected(rejected)
+                .build();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainQueue, "ad-event-ingest");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // Counts what is left on the queue before the counters take their last flush
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<AdEventDto> batch;
+        while ((batch = queue.poll()) != null) {
+            count(batch);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainQueue() {
+        while (running) {
+            try {
+                List<AdEventDto> batch = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (batch != null) {
+                    count(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to count a batch of ad events", e);
+            }
+        }
+    }
+
+    private void count(List<AdEventDto> batch) {
+        for (AdEventDto event : batch) {
+            adEventCounterService.recordSponsoredPinEvent(event.getSponsoredPinId(), event.getType(), event.getTimestamp());
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.pinterest.businessservice.service.impl;
+
+import com.pinterest.businessservice.dto.ServedAdDto;
+import com.pinterest.businessservice.exception.BadRequestException;
+import com.pinterest.businessservice.model.SponsoredPin;
+import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.businessservice.service.AdServingService;
+import com.pinterest.businessservice.service.BudgetPacingService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Serves sponsored pins from an in-memory index instead of querying for every request. The index is an
+ * immutable snapshot of every servable pin: active, not ended, with a bid, in an active campaign with
+ * budget left. It is sorted by bid times estimated click-through rate, so serving N slots walks the top
+ * of one array, skipping pins outside their date window and pins whose campaign budget pacing holds back
+ * for this request. Requests read whatever snapshot the volatile
+ * field holds, without locks; rebuilds replace it in one write.
+ * <p>
+ * Writes to sponsored pins and campaigns ask for a rebuild once they commit, and the snapshot is rebuilt
+ * every max age regardless, which picks up new counts for the click-through estimates and spend.
+ * <p>
+ * Prices follow the generalized second price auction: an ad pays per click what it would have needed to
+ * bid to keep its slot, the next ad's score divided by its own click-through rate, and never more than its bid.
+ */
+@Service
+@Slf4j
+public class AdServingServiceImpl implements AdServingService {
+
+    public static final String INDEX_SIZE_METRIC = "ad.serving.index.size";
+
+    private final SponsoredPinRepository sponsoredPinRepository;
+
+    private final BudgetPacingService budgetPacingService;
+
+    // Read-only, also when the scheduled check calls refresh() directly and no proxy applies an annotation
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final int maxSlots;
+
+    private final double ctrPrior;
+
+    private final double ctrPriorWeight;
+
+    private final BigDecimal reservePrice;
+
+    private final long maxAgeMillis;
+
+    private volatile Snapshot snapshot = new Snapshot(new Candidate[0], 0);
+
+    // Starts stale so the first scheduled check builds the index
+    private volatile boolean stale = true;
+
+    public AdServingServiceImpl(SponsoredPinRepository sponsoredPinRepository,
+                                BudgetPacingService budgetPacingService,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${ad-serving.max-slots:20}") int maxSlots,
+                                @Value("${ad-serving.ctr-prior:0.01}") double ctrPrior,
+                                @Value("${ad-serving.ctr-prior-weight:100}") double ctrPriorWeight,
+                                @Value("${ad-serving.reserve-price:0.01}") BigDecimal reservePrice,
+                                @Value("${ad-serving.max-age-ms:5000}") long maxAgeMillis) {
+        this.sponsoredPinRepository = sponsoredPinRepository;
+        this.budgetPacingService = budgetPacingService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxSlots = maxSlots;
+        this.ctrPrior = ctrPrior;
+        this.ctrPriorWeight = ctrPriorWeight;
+        this.reservePrice = reservePrice;
+        this.maxAgeMillis = maxAgeMillis;
+        Gauge.builder(INDEX_SIZE_METRIC, this, service -> service.snapshot.candidates.length)
+                .description("Sponsored pins in the ad serving index")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<ServedAdDto> serve(int slots) {
+        if (slots < 1 || slots > maxSlots) {
+            throw new BadRequestException("Slots must be between 1 and " + maxSlots);
+        }
+        Candidate[] candidates = snapshot.candidates;
+        LocalDateTime now = LocalDateTime.now();
+
+        // One more than the slots, the first ad left out sets the price of the last one served
+        List<Candidate> ranked = new ArrayList<>(slots + 1);
+        for (int i = 0; i < candidates.length && ranked.size() <= slots; i++) {
+            if (candidates[i].isLive(now) && budgetPacingService.shouldServe(candidates[i].campaignId)) {
+                ranked.add(candidates[i]);
+            }
+        }
+
+        List<ServedAdDto> served = new ArrayList<>(Math.min(slots, ranked.size()));
+        for (int i = 0; i < ranked.size() && i < slots; i++) {
+            Candidate candidate = ranked.get(i);
+            Candidate next = i + 1 < ranked.size() ? ranked.get(i + 1) : null;
+            served.add(ServedAdDto.builder()
+                    .slot(i + 1)
+                    .sponsoredPinId(candidate.sponsoredPinId)
+                    .pinId(candidate.pinId)
+                    .campaignId(candidate.campaignId)
+                    .businessProfileId(candidate.businessProfileId)
+                    .title(candidate.title)
+                    .targetUrl(candidate.targetUrl)
+                    .bidAmount(candidate.bid)
+                    .estimatedClickThroughRate(candidate.ctr)
+                    .clearingPrice(clearingPrice(candidate, next))
+                    .build());
+        }
+        return served;
+    }
+
+    @Override
+    public void requestRefresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stale = true;
+                }
+            });
+        } else {
+            stale = true;
+        }
+    }
+
+    @Override
+    public void refresh() {
+        stale = false;
+        long builtAt = System.currentTimeMillis();
+        Candidate[] candidates = readOnlyTransaction.execute(tx ->
+                sponsoredPinRepository.findServableSponsoredPins(LocalDateTime.now()).stream()
+                        .map(this::toCandidate)
+                        .sorted(Comparator.comparingDouble((Candidate candidate) -> candidate.score).reversed())
+                        .toArray(Candidate[]::new));
+        snapshot = new Snapshot(candidates, builtAt);
+        log.debug("Rebuilt the ad serving index with {} sponsored pins", candidates.length);
+    }
+
+    @Scheduled(fixedDelayString = "${ad-serving.refresh-check-ms:250}")
+    public void refreshIfStale() {
+        if (stale || System.currentTimeMillis() - snapshot.builtAt >= maxAgeMillis) {
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                // Keep serving the last snapshot and try again on the next check
+                stale = true;
+                log.warn("Failed to rebuild the ad serving index: {}", e.getMessage());
+            }
+        }
+    }
+
+    // Helper method to work out the price per click that keeps the candidate ahead of the next one
+    private BigDecimal clearingPrice(Candidate candidate, Candidate next) {
+        BigDecimal price = next == null
+                ? reservePrice
+                : BigDecimal.valueOf(next.score / candidate.ctr).setScale(2, RoundingMode.UP).max(reservePrice);
+        return price.min(candidate.bid);
+    }
+
+    private Candidate toCandidate(SponsoredPin sponsoredPin) {
+        long impressions = sponsoredPin.getImpressions() != null ? sponsoredPin.getImpressions() : 0;
+        long clicks = sponsoredPin.getClicks() != null ? sponsoredPin.getClicks() : 0;
+        // Smoothed towards the prior, so a new pin with no history is neither buried nor favoured
+        double ctr = (clicks + ctrPrior * ctrPriorWeight) / (impressions + ctrPriorWeight);
+        return new Candidate(sponsoredPin, ctr);
+    }
+
+    private record Snapshot(Candidate[] candidates, long builtAt) {
+    }
+
+    private static final class Candidate {
+
+        private final Long sponsoredPinId;
+        private final Long pinId;
+        private final Long campaignId;
+        private final Long businessProfileId;
+        private final String title;
+        private final String targetUrl;
+        private final BigDecimal bid;
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+        private final double ctr;
+        private final double score;
+
+        private Candidate(SponsoredPin sponsoredPin, double ctr) {
+            this.sponsoredPinId = sponsoredPin.getId();
+            this.pinId = sponsoredPin.getPinId();
+            this.campaignId = sponsoredPin.getCampaignId();
+            this.businessProfileId = sponsoredPin.getBusinessProfileId();
+            this.title = sponsoredPin.getTitle();
+            this.targetUrl = sponsoredPin.getTargetUrl();
+            this.bid = sponsoredPin.getBidAmount();
+            this.startDate = sponsoredPin.getStartDate();
+            this.endDate = sponsoredPin.getEndDate();
+            this.ctr = ctr;
+            this.score = bid.doubleValue() * ctr;
+        }
+
+        private boolean isLive(LocalDateTime now) {
+            return (startDate == null || !startDate.isAfter(now)) && (endDate == null || !endDate.isBefore(now));
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.pinterest.businessservice.service.impl;
+
+import com.pinterest.businessservice.dto.AdStatsBucketDto;
+import com.pinterest.businessservice.exception.BadRequestException;
+import com.pinterest.businessservice.exception.ResourceNotFoundException;
+import com.pinterest.businessservice.model.AdStatsEntityType;
+import com.pinterest.businessservice.model.AdStatsGranularity;
+import com.pinterest.businessservice.repository.CampaignRepository;
+import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.businessservice.service.AdStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads the hourly and daily ad stats rollups and keeps them compact. The ad event flush adds counts to
+ * {@code ad_stats_hourly}; hours older than the hourly retention are folded into {@code ad_stats_daily},
+ * so a range query reads at most one row per hour or day whatever the traffic was. Day and week buckets
+ * are added up here from both tables; hour buckets exist for the retained hours only.
+ */
+@Service
+@Slf4j
+public class AdStatsServiceImpl implements AdStatsService {
+
+    private static final int MAX_HOURLY_RANGE_DAYS = 31;
+
+    private static final int MAX_RANGE_DAYS = 2 * 366;
+
+    private static final String COUNT_COLUMNS = "impressions, clicks, saves, conversions, spend";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final CampaignRepository campaignRepository;
+
+    private final SponsoredPinRepository sponsoredPinRepository;
+
+    private final int hourlyRetentionDays;
+
+    public AdStatsServiceImpl(NamedParameterJdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              CampaignRepository campaignRepository,
+                              SponsoredPinRepository sponsoredPinRepository,
+                              @Value("${ad-stats.hourly-retention-days:7}") int hourlyRetentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.campaignRepository = campaignRepository;
+        this.sponsoredPinRepository = sponsoredPinRepository;
+        this.hourlyRetentionDays = hourlyRetentionDays;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AdStatsBucketDto> getCampaignStats(Long campaignId, LocalDate startDate, LocalDate endDate,
+                                                   AdStatsGranularity granularity) {
+        if (!campaignRepository.existsById(campaignId)) {
+            throw new ResourceNotFoundException("Campaign not found with id: " + campaignId);
+        }
+        return stats(AdStatsEntityType.CAMPAIGN, campaignId, startDate, endDate, granularity);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AdStatsBucketDto> getSponsoredPinStats(Long sponsoredPinId, LocalDate startDate, LocalDate endDate,
+                                                       AdStatsGranularity granularity) {
+        if (!sponsoredPinRepository.existsById(sponsoredPinId)) {
+            throw new ResourceNotFoundException("Sponsored pin not found with id: " + sponsoredPinId);
+        }
+        return stats(AdStatsEntityType.SPONSORED_PIN, sponsoredPinId, startDate, endDate, granularity);
+    }
+
+    @Override
+    @Transactional
+    public void recordSpend(Long campaignId, BigDecimal amount, LocalDateTime spentAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("entityType", AdStatsEntityType.CAMPAIGN.name())
+                .addValue("entityId", campaignId)
+                .addValue("bucketStart", Timestamp.valueOf(spentAt.truncatedTo(ChronoUnit.HOURS)))
+                .addValue("amount", amount);
+        // One statement, so two instances adding spend to a new hour cannot both try to insert its row
+        jdbcTemplate.update("INSERT INTO ad_stats_hourly (entity_type, entity_id, bucket_start, spend) "
+                + "VALUES (:entityType, :entityId, :bucketStart, :amount) "
+                + "ON DUPLICATE KEY UPDATE spend = spend + VALUES(spend)", params);
+    }
+
+    @Override
+    @Scheduled(cron = "${ad-stats.compaction-cron:0 15 * * * *}")
+    public void compactHourlyStats() {
+        LocalDateTime cutoff = LocalDate.now().minusDays(hourlyRetentionDays).atStartOfDay();
+        int days = 0;
+        while (Boolean.TRUE.equals(transactionTemplate.execute(tx -> compactOldestDay(cutoff)))) {
+            days++;
+        }
+        if (days > 0) {
+            log.info("Compacted hourly ad stats of {} days before {} into daily rows", days, cutoff.toLocalDate());
+        }
+    }
+
+    // Helper method to read both rollup tables for a range and add them up into buckets of the granularity
+    private List<AdStatsBucketDto> stats(AdStatsEntityType entityType, Long entityId, LocalDate startDate,
+                                         LocalDate endDate, AdStatsGranularity granularity) {
+        if (endDate.isBefore(startDate)) {
+            throw new BadRequestException("The end date must not be before the start date");
+        }
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        int maxDays = granularity == AdStatsGranularity.HOUR ? MAX_HOURLY_RANGE_DAYS : MAX_RANGE_DAYS;
+        if (days > maxDays) {
+            throw new BadRequestException("At most " + maxDays + " days of " + granularity + " stats per request");
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("entityType", entityType.name())
+                .addValue("entityId", entityId)
+                .addValue("from", Timestamp.valueOf(startDate.atStartOfDay()))
+                .addValue("to", Timestamp.valueOf(endDate.plusDays(1).atStartOfDay()))
+                .addValue("startDate", Date.valueOf(startDate))
+                .addValue("endDate", Date.valueOf(endDate));
+        Map<LocalDateTime, AdStatsBucketDto> buckets = new TreeMap<>();
+
+        jdbcTemplate.query("SELECT bucket_start, " + COUNT_COLUMNS + " FROM ad_stats_hourly "
+                        + "WHERE entity_type = :entityType AND entity_id = :entityId "
+                        + "AND bucket_start >= :from AND bucket_start < :to",
+                params,
+                rs -> {
+                    add(buckets, bucketStart(rs.getTimestamp("bucket_start").toLocalDateTime(), granularity), rs);
+                });
+        if (granularity != AdStatsGranularity.HOUR) {
+            jdbcTemplate.query("SELECT bucket_date, " + COUNT_COLUMNS + " FROM ad_stats_daily "
+                            + "WHERE entity_type = :entityType AND entity_id = :entityId "
+                            + "AND bucket_date BETWEEN :startDate AND :endDate",
+                    params,
+                    rs -> {
+                        add(buckets, bucketStart(rs.getDate("bucket_date").toLocalDate().atStartOfDay(), granularity), rs);
+                    });
+        }
+        return new ArrayList<>(buckets.values());
+    }
+
+    // Helper method to fold the hourly rows of the oldest day before the cutoff into daily rows, false when none are left.
+    // The rows are locked first, so an instance compacting at the same time waits and then finds them gone
+    private boolean compactOldestDay(LocalDateTime cutoff) {
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(bucket_start) FROM ad_stats_hourly WHERE bucket_start < :cutoff",
+                Map.of("cutoff", Timestamp.valueOf(cutoff)), Timestamp.class);
+        if (oldest == null) {
+            return false;
+        }
+        LocalDate day = oldest.toLocalDateTime().toLocalDate();
+        MapSqlParameterSource range = new MapSqlParameterSource()
+                .addValue("from", Timestamp.valueOf(day.atStartOfDay()))
+                .addValue("to", Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+
+        jdbcTemplate.queryForList("SELECT entity_id FROM ad_stats_hourly "
+                + "WHERE bucket_start >= :from AND bucket_start < :to FOR UPDATE", range, Long.class);
+        List<Object[]> rows = jdbcTemplate.query("SELECT SUM(impressions), SUM(clicks), SUM(saves), "
+                        + "SUM(conversions), SUM(spend), entity_type, entity_id FROM ad_stats_hourly "
+                        + "WHERE bucket_start >= :from AND bucket_start < :to GROUP BY entity_type, entity_id",
+                range,
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4),
+                        rs.getBigDecimal(5), rs.getString(6), rs.getLong(7), Date.valueOf(day)});
+
+        int[] updated = jdbcTemplate.getJdbcTemplate().batchUpdate("UPDATE ad_stats_daily SET "
+                + "impressions = impressions + ?, clicks = clicks + ?, saves = saves + ?, "
+                + "conversions = conversions + ?, spend = spend + ? "
+                + "WHERE entity_type = ? AND entity_id = ? AND bucket_date = ?", rows);
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                inserts.add(rows.get(i));
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.getJdbcTemplate().batchUpdate("INSERT INTO ad_stats_daily "
+                    + "(impressions, clicks, saves, conversions, spend, entity_type, entity_id, bucket_date) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", inserts);
+        }
+        jdbcTemplate.update("DELETE FROM ad_stats_hourly WHERE bucket_start >= :from AND bucket_start < :to", range);
+        return true;
+    }
+
+    private static LocalDateTime bucketStart(LocalDateTime time, AdStatsGranularity granularity) {
+        return switch (granularity) {
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.toLocalDate().atStartOfDay();
+            case WEEK -> time.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+        };
+    }
+
+    private static void add(Map<LocalDateTime, AdStatsBucketDto> buckets, LocalDateTime bucketStart, ResultSet rs)
+            throws SQLException {
+        AdStatsBucketDto bucket = buckets.computeIfAbsent(bucketStart, start -> AdStatsBucketDto.builder()
+                .bucketStart(start)
+                .spend(BigDecimal.ZERO)
+                .build());
+        bucket.setImpressions(bucket.getImpressions() + rs.getLong("impressions"));
+        bucket.setClicks(bucket.getClicks() + rs.getLong("clicks"));
+        bucket.setSaves(bucket.getSaves() + rs.getLong("saves"));
+        bucket.setConversions(bucket.getConversions() + rs.getLong("conversions"));
+        bucket.setSpend(bucket.getSpend().add(rs.getBigDecimal("spend")));
+    }
+}
@@ -0,0 +1,274 @@
+package com.pinterest.businessservice.service.impl;
+
+import com.pinterest.businessservice.model.AdStatsEntityType;
+import com.pinterest.businessservice.model.Campaign;
+import com.pinterest.businessservice.repository.CampaignRepository;
+import com.pinterest.businessservice.service.BudgetPacingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Paces campaign spend over the day and stops it at the budget, without touching the database per request.
+ * Every active campaign has a pacer with its spend today and in total, in cents, in atomic counters that
+ * booked spend adds to. Reloads seed them from the campaigns and today's hourly spend rollups, every reload
+ * interval, after campaign changes and when the day changes, which also reconciles spend booked elsewhere.
+ * <p>
+ * The daily limit is the campaign's daily budget or, without one, what is left of the budget spread evenly
+ * over the days to its end date. The target spend grows linearly over the day up to the daily limit; while a
+ * campaign is at or under target it is always served, once ahead it is served for a share of requests that
+ * falls to 0 as it nears the limit. The share is recomputed every tick, so serving reads one volatile field.
+ * Crossing a limit drops the share to 0 at once, and campaigns that spent their whole budget are paused.
+ */
+@Service
+@Slf4j
+public class BudgetPacingServiceImpl implements BudgetPacingService {
+
+    private static final long UNLIMITED = Long.MAX_VALUE;
+
+    private static final double SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private static final String TODAYS_SPEND = "SELECT entity_id, SUM(spend) FROM ad_stats_hourly "
+            + "WHERE entity_type = :entityType AND bucket_start >= :from GROUP BY entity_id";
+
+    private final CampaignRepository campaignRepository;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final long reloadIntervalMillis;
+
+    private volatile Map<Long, Pacer> pacers = Map.of();
+
+    private volatile LocalDate day;
+
+    private volatile long loadedAt;
+
+    // Starts stale so the first tick loads the pacers
+    private volatile boolean stale = true;
+
+    public BudgetPacingServiceImpl(CampaignRepository campaignRepository,
+                                   NamedParameterJdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${pacing.reload-ms:60000}") long reloadIntervalMillis) {
+        this.campaignRepository = campaignRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reloadIntervalMillis = reloadIntervalMillis;
+    }
+
+    @Override
+    public boolean shouldServe(Long campaignId) {
+        double probability = getServingProbability(campaignId);
+        return probability >= 1 || (probability > 0 && ThreadLocalRandom.current().nextDouble() < probability);
+    }
+
+    @Override
+    public double getServingProbability(Long campaignId) {
+        Pacer pacer = pacers.get(campaignId);
+        return pacer != null ? pacer.servingProbability : 1;
+    }
+
+    @Override
+    public void recordSpend(Long campaignId, BigDecimal amount) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addSpend(campaignId, amount);
+                }
+            });
+        } else {
+            addSpend(campaignId, amount);
+        }
+    }
+
+    @Override
+    public void requestReload() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stale = true;
+                }
+            });
+        } else {
+            stale = true;
+        }
+    }
+
+    @Override
+    public void reload() {
+        reload(LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${pacing.tick-ms:1000}")
+    public void tick() {
+        LocalDateTime now = LocalDateTime.now();
+        if (stale || !now.toLocalDate().equals(day) || System.currentTimeMillis() - loadedAt >= reloadIntervalMillis) {
+            try {
+                reload(now);
+            } catch (RuntimeException e) {
+                // Keep pacing with the loaded budgets and try again on the next tick
+                stale = true;
+                log.warn("Failed to reload campaign budgets for pacing: {}", e.getMessage());
+            }
+        }
+        updateServingProbabilities(now);
+        pauseExhaustedCampaigns(now);
+    }
+
+    // Loads a pacer per active campaign, with the spend booked today taken from the hourly rollups
+    public void reload(LocalDateTime now) {
+        stale = false;
+        long loadStartedAt = System.currentTimeMillis();
+        LocalDate today = now.toLocalDate();
+        Map<Long, Long> spentToday = new HashMap<>();
+        jdbcTemplate.query(TODAYS_SPEND,
+                new MapSqlParameterSource()
+                        .addValue("entityType", AdStatsEntityType.CAMPAIGN.name())
+                        .addValue("from", Timestamp.valueOf(today.atStartOfDay())),
+                rs -> {
+                    spentToday.put(rs.getLong(1), toCents(rs.getBigDecimal(2)));
+                });
+
+        Map<Long, Pacer> loaded = new ConcurrentHashMap<>();
+        for (Campaign campaign : campaignRepository.findByStatus(Campaign.CampaignStatus.ACTIVE)) {
+            loaded.put(campaign.getId(), toPacer(campaign, spentToday.getOrDefault(campaign.getId(), 0L), today));
+        }
+        pacers = loaded;
+        day = today;
+        loadedAt = loadStartedAt;
+        updateServingProbabilities(now);
+        log.debug("Loaded budget pacing for {} active campaigns", loaded.size());
+    }
+
+    // Recomputes the share of requests each campaign is served for from where its spend is against the target curve
+    public void updateServingProbabilities(LocalDateTime now) {
+        double dayElapsed = now.toLocalTime().toSecondOfDay() / SECONDS_PER_DAY;
+        for (Pacer pacer : pacers.values()) {
+            pacer.servingProbability = pacer.servingProbability(dayElapsed);
+        }
+    }
+
+    // Helper method to pause the campaigns that spent their whole budget, in one statement
+    private void pauseExhaustedCampaigns(LocalDateTime now) {
+        List<Long> exhausted = new ArrayList<>();
+        pacers.forEach((campaignId, pacer) -> {
+            if (!pacer.paused && pacer.isBudgetExhausted()) {
+                exhausted.add(campaignId);
+            }
+        });
+        if (exhausted.isEmpty()) {
+            return;
+        }
+        try {
+            Integer paused = transactionTemplate.execute(tx -> campaignRepository.updateStatuses(
+                    exhausted, Campaign.CampaignStatus.ACTIVE, Campaign.CampaignStatus.PAUSED, now));
+            exhausted.forEach(campaignId -> pacers.get(campaignId).paused = true);
+            log.info("Paused {} campaigns that spent their budget", paused);
+        } catch (RuntimeException e) {
+            // Their serving probability is already 0, the next tick tries again
+            log.warn("Failed to pause campaigns that spent their budget: {}", e.getMessage());
+        }
+    }
+
+    // Helper method to add booked spend to the campaign's pacer and stop serving it at once when it crosses a limit
+    private void addSpend(Long campaignId, BigDecimal amount) {
+        Pacer pacer = pacers.get(campaignId);
+        if (pacer == null) {
+            // Not active when last loaded, the next reload picks its spend up from the database
+            return;
+        }
+        long cents = toCents(amount);
+        pacer.spentTotal.addAndGet(cents);
+        pacer.spentToday.addAndGet(cents);
+        if (pacer.isBudgetExhausted() || pacer.isDailyLimitReached()) {
+            pacer.servingProbability = 0;
+        }
+    }
+
+    private static Pacer toPacer(Campaign campaign, long spentToday, LocalDate today) {
+        long spentTotal = toCents(campaign.getAmountSpent());
+        long budget = campaign.getBudget() != null ? toCents(campaign.getBudget()) : UNLIMITED;
+        long dailyLimit;
+        if (campaign.getDailyBudget() != null) {
+            dailyLimit = toCents(campaign.getDailyBudget());
+        } else if (budget != UNLIMITED && campaign.getEndDate() != null) {
+            // What was left at the start of today, spread over today and the days to the end date
+            long daysLeft = Math.max(1, ChronoUnit.DAYS.between(today, campaign.getEndDate().toLocalDate()) + 1);
+            long leftAtStartOfDay = Math.max(0, budget - (spentTotal - spentToday));
+            dailyLimit = leftAtStartOfDay / daysLeft;
+        } else {
+            dailyLimit = UNLIMITED;
+        }
+        return new Pacer(budget, dailyLimit, spentTotal, spentToday);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount != null ? amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact() : 0;
+    }
+
+    private static final class Pacer {
+
+        private final long budget;
+        private final long dailyLimit;
+        private final AtomicLong spentTotal;
+        private final AtomicLong spentToday;
+        private volatile double servingProbability = 1;
+        private volatile boolean paused;
+
+        private Pacer(long budget, long dailyLimit, long spentTotal, long spentToday) {
+            this.budget = budget;
+            this.dailyLimit = dailyLimit;
+            this.spentTotal = new AtomicLong(spentTotal);
+            this.spentToday = new AtomicLong(spentToday);
+        }
+
+        private boolean isBudgetExhausted() {
+            return budget != UNLIMITED && spentTotal.get() >= budget;
+        }
+
+        private boolean isDailyLimitReached() {
+            return dailyLimit != UNLIMITED && spentToday.get() >= dailyLimit;
+        }
+
+        private double servingProbability(double dayElapsed) {
+            if (isBudgetExhausted() || isDailyLimitReached()) {
+                return 0;
+            }
+            if (dailyLimit == UNLIMITED) {
+                return 1;
+            }
+            double target = dailyLimit * dayElapsed;
+            double spent = spentToday.get();
+            if (spent <= target) {
+                return 1;
+            }
+            // Ahead of pace: serve less the closer the spend is to the daily limit
+            return Math.max(0, Math.min(1, (dailyLimit - spent) / (dailyLimit - target)));
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package com.pinterest.businessservice.service.impl;
 
 import com.pinterest.businessservice.dto.BusinessProfileDto;
+import com.pinterest.businessservice.dto.KeysetPageDto;
+import com.pinterest.businessservice.exception.BadRequestException;
 import com.pinterest.businessservice.exception.ResourceNotFoundException;
 import com.pinterest.businessservice.model.BusinessProfile;
+import com.pinterest.businessservice.model.SearchEntityType;
 import com.pinterest.businessservice.repository.BusinessProfileRepository;
 import com.pinterest.businessservice.service.BusinessProfileService;
+import com.pinterest.businessservice.service.SearchIndexService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -18,7 +24,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BusinessProfileServiceImpl implements BusinessProfileService {
 
+    private static final int MAX_KEYSET_PAGE_SIZE = 100;
+
     private final BusinessProfileRepository businessProfileRepository;
+    private final SearchIndexService searchIndexService;
 
     @Override
     public BusinessProfileDto createBusinessProfile(BusinessProfileDto businessProfileDto) {
@@ -33,6 +42,7 @@ public class BusinessProfileServiceImpl implements BusinessProfileService {
         
         // Save entity
         BusinessProfile savedBusinessProfile = businessProfileRepository.save(businessProfile);
+        indexForSearch(savedBusinessProfile);
         
         // Convert entity to DTO and return
         return mapToDto(savedBusinessProfile);
@@ -74,6 +84,7 @@ public class BusinessProfileServiceImpl implements BusinessProfileService {
         
         // Save updated entity
         BusinessProfile updatedBusinessProfile = businessProfileRepository.save(businessProfile);
+        indexForSearch(updatedBusinessProfile);
         
         // Convert entity to DTO and return
         return mapToDto(updatedBusinessProfile);
@@ -87,6 +98,7 @@ public class BusinessProfileServiceImpl implements BusinessProfileService {
         
         // Delete business profile
         businessProfileRepository.delete(businessProfile);
+        searchIndexService.remove(SearchEntityType.BUSINESS_PROFILE, id);
     }
 
     @Override
@@ -101,44 +113,43 @@ public class BusinessProfileServiceImpl implements BusinessProfileService {
 
     @Override
     public Page<BusinessProfileDto> getVerifiedBusinessProfiles(Pageable pageable) {
-        List<BusinessProfile> verifiedProfiles = businessProfileRepository.findByVerificationStatus(BusinessProfile.VerificationStatus.VERIFIED);
-        List<BusinessProfileDto> businessProfileDtos = verifiedProfiles.stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
-        
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), businessProfileDtos.size());
-        List<BusinessProfileDto> pageContent = businessProfileDtos.subList(start, end);
-        
-        return new PageImpl<>(pageContent, pageable, businessProfileDtos.size());
+        return getBusinessProfilesByVerificationStatus(BusinessProfile.VerificationStatus.VERIFIED, pageable);
+    }
+
+    @Override
+    public Page<BusinessProfileDto> getBusinessProfilesByVerificationStatus(BusinessProfile.VerificationStatus status, Pageable pageable) {
+        return businessProfileRepository.findByVerificationStatus(status, orderedById(pageable)).map(this::mapToDto);
+    }
+
+    @Override
+    public Page<BusinessProfileDto> getBusinessProfilesByActive(boolean active, Pageable pageable) {
+        return businessProfileRepository.findByActive(active, orderedById(pageable)).map(this::mapToDto);
     }
 
     @Override
     public Page<BusinessProfileDto> searchBusinessProfiles(String keyword, Pageable pageable) {
-        List<BusinessProfile> searchResults = businessProfileRepository.searchByBusinessName(keyword);
-        List<BusinessProfileDto> businessProfileDtos = searchResults.stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
-        
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), businessProfileDtos.size());
-        List<BusinessProfileDto> pageContent = businessProfileDtos.subList(start, end);
-        
-        return new PageImpl<>(pageContent, pageable, businessProfileDtos.size());
+        return businessProfileRepository.searchByBusinessName(keyword, orderedById(pageable)).map(this::mapToDto);
     }
 
     @Override
     public Page<BusinessProfileDto> getBusinessProfilesByCategory(BusinessProfile.BusinessCategory category, Pageable pageable) {
-        List<BusinessProfile> categoryProfiles = businessProfileRepository.findByCategory(category);
-        List<BusinessProfileDto> businessProfileDtos = categoryProfiles.stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
-        
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), businessProfileDtos.size());
-        List<BusinessProfileDto> pageContent = businessProfileDtos.subList(start, end);
-        
-        return new PageImpl<>(pageContent, pageable, businessProfileDtos.size());
+        return businessProfileRepository.findByCategory(category, orderedById(pageable)).map(this::mapToDto);
+    }
+
+    @Override
+    public KeysetPageDto<BusinessProfileDto> getBusinessProfilesByVerificationStatus(BusinessProfile.VerificationStatus status,
+                                                                                    Long afterId, int size) {
+        validateKeysetSize(size);
+        return toKeysetPage(businessProfileRepository.findByVerificationStatusAfter(
+                status, afterId != null ? afterId : 0L, PageRequest.of(0, size + 1)), size);
+    }
+
+    @Override
+    public KeysetPageDto<BusinessProfileDto> getBusinessProfilesByCategory(BusinessProfile.BusinessCategory category,
+                                                                          Long afterId, int size) {
+        validateKeysetSize(size);
+        return toKeysetPage(businessProfileRepository.findByCategoryAfter(
+                category, afterId != null ? afterId : 0L, PageRequest.of(0, size + 1)), size);
     }
 
     @Override
@@ -173,6 +184,38 @@ public class BusinessProfileServiceImpl implements BusinessProfileService {
         return mapToDto(updatedBusinessProfile);
     }
     
+    // Helper method to page in id order unless the caller sorted, so pages are stable and follow the (..., id) indexes
+    private static Pageable orderedById(Pageable pageable) {
+        return pageable.isPaged() && pageable.getSort().isUnsorted()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("id"))
+                : pageable;
+    }
+
+    private static void validateKeysetSize(int size) {
+        if (size < 1 || size > MAX_KEYSET_PAGE_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_KEYSET_PAGE_SIZE);
+        }
+    }
+
+    // Helper method to build a keyset page from one row more than the size, which only tells whether there is a next page
+    private KeysetPageDto<BusinessProfileDto> toKeysetPage(List<BusinessProfile> businessProfiles, int size) {
+        boolean hasNext = businessProfiles.size() > size;
+        List<BusinessProfileDto> content = businessProfiles.stream()
+                .limit(size)
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+        return KeysetPageDto.<BusinessProfileDto>builder()
+                .content(content)
+                .size(size)
+                .nextAfterId(hasNext ? content.get(content.size() - 1).getId() : null)
+                .build();
+    }
+    
+    private void indexForSearch(BusinessProfile businessProfile) {
+        searchIndexService.index(SearchEntityType.BUSINESS_PROFILE, businessProfile.getId(), businessProfile.getId(),
+                businessProfile.getBusinessName(), businessProfile.getDescription());
+    }
+
     // Helper method to convert Entity to DTO
     private BusinessProfileDto mapToDto(BusinessProfile businessProfile) {
         return BusinessProfileDto.builder()
@@ -0,0 +1,195 @@
+package com.pinterest.businessservice.service.impl;
+
+import com.pinterest.businessservice.config.TimingWheel;
+import com.pinterest.businessservice.model.Campaign;
+import com.pinterest.businessservice.model.Campaign.CampaignStatus;
+import com.pinterest.businessservice.model.SponsoredPin;
+import com.pinterest.businessservice.model.SponsoredPin.SponsoredStatus;
+import com.pinterest.businessservice.repository.CampaignRepository;
+import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.businessservice.service.AdServingService;
+import com.pinterest.businessservice.service.BudgetPacingService;
+import com.pinterest.businessservice.service.CampaignLifecycleService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * Moves campaigns and sponsored pins through their lifecycle when their dates come: scheduled campaigns
+ * start at their start date, active campaigns and their active pins complete at the campaign's end date,
+ * and active pins complete at their own end date.
+ * <p>
+ * The start and end dates are held in a {@link TimingWheel}, loaded once from the scheduled and active
+ * rows and kept up to date as campaigns and pins are written, so nothing polls the tables. Every tick hands
+ * out the dates that have passed, and each kind of change is applied to all of them in one UPDATE, which
+ * checks the status and date again: a date that has since moved or a status changed by hand leaves the
+ * row alone. Changes are then announced to ad serving and budget pacing.
+ */
+@Service
+@Slf4j
+public class CampaignLifecycleServiceImpl implements CampaignLifecycleService {
+
+    private static final int WHEEL_LEVELS = 4;
+
+    // Keeps the id lists of one UPDATE well under the bind parameter limits
+    private static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    private final CampaignRepository campaignRepository;
+
+    private final SponsoredPinRepository sponsoredPinRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AdServingService adServingService;
+
+    private final BudgetPacingService budgetPacingService;
+
+    private final TimingWheel<Boundary> wheel;
+
+    // Starts unloaded so the first tick loads the dates
+    private volatile boolean loaded;
+
+    public CampaignLifecycleServiceImpl(CampaignRepository campaignRepository,
+                                        SponsoredPinRepository sponsoredPinRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        AdServingService adServingService,
+                                        BudgetPacingService budgetPacingService,
+                                        @Value("${campaign-lifecycle.tick-ms:1000}") long tickMillis) {
+        this.campaignRepository = campaignRepository;
+        this.sponsoredPinRepository = sponsoredPinRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.adServingService = adServingService;
+        this.budgetPacingService = budgetPacingService;
+        this.wheel = new TimingWheel<>(tickMillis, WHEEL_LEVELS, System.currentTimeMillis());
+    }
+
+    @Override
+    public void scheduleCampaign(Long campaignId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate != null) {
+            add(new Boundary(Transition.START_CAMPAIGN, campaignId), startDate);
+        }
+        if (endDate != null) {
+            add(new Boundary(Transition.COMPLETE_CAMPAIGN, campaignId), endDate);
+        }
+    }
+
+    @Override
+    public void scheduleSponsoredPin(Long sponsoredPinId, LocalDateTime endDate) {
+        if (endDate != null) {
+            add(new Boundary(Transition.COMPLETE_SPONSORED_PIN, sponsoredPinId), endDate);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${campaign-lifecycle.tick-ms:1000}")
+    public void advance() {
+        if (!loaded) {
+            try {
+                load();
+            } catch (RuntimeException e) {
+                log.warn("Failed to load campaign and sponsored pin dates: {}", e.getMessage());
+                return;
+            }
+        }
+        List<Boundary> passed;
+        synchronized (wheel) {
+            passed = wheel.advance(System.currentTimeMillis());
+        }
+        if (passed.isEmpty()) {
+            return;
+        }
+
+        Map<Transition, Set<Long>> ids = new EnumMap<>(Transition.class);
+        for (Boundary boundary : passed) {
+            ids.computeIfAbsent(boundary.transition, transition -> new LinkedHashSet<>()).add(boundary.id);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(tx -> apply(ids, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            // Due again on the next tick
+            LocalDateTime now = LocalDateTime.now();
+            passed.forEach(boundary -> add(boundary, now));
+            log.warn("Failed to apply {} campaign and sponsored pin status changes: {}", passed.size(), e.getMessage());
+        }
+    }
+
+    // Helper method to run one UPDATE per kind of change for everything that came due together
+    private void apply(Map<Transition, Set<Long>> ids, LocalDateTime now) {
+        Set<Long> starting = ids.getOrDefault(Transition.START_CAMPAIGN, Set.of());
+        Set<Long> completing = ids.getOrDefault(Transition.COMPLETE_CAMPAIGN, Set.of());
+        Set<Long> completingPins = ids.getOrDefault(Transition.COMPLETE_SPONSORED_PIN, Set.of());
+
+        int started = inChunks(starting, chunk -> campaignRepository.updateStatusesOfStarted(
+                chunk, CampaignStatus.SCHEDULED, CampaignStatus.ACTIVE, now));
+        int completed = inChunks(completing, chunk -> campaignRepository.updateStatusesOfEnded(
+                chunk, CampaignStatus.ACTIVE, CampaignStatus.COMPLETED, now));
+        int completedPins = inChunks(completing, chunk -> sponsoredPinRepository.updateStatusesByCampaigns(
+                chunk, CampaignStatus.COMPLETED, SponsoredStatus.ACTIVE, SponsoredStatus.COMPLETED, now));
+        completedPins += inChunks(completingPins, chunk -> sponsoredPinRepository.updateStatusesOfEnded(
+                chunk, SponsoredStatus.ACTIVE, SponsoredStatus.COMPLETED, now));
+
+        if (started + completed + completedPins > 0) {
+            adServingService.requestRefresh();
+            budgetPacingService.requestReload();
+            log.info("Started {} campaigns, completed {} campaigns and {} sponsored pins", started, completed, completedPins);
+        }
+    }
+
+    // Helper method to load the dates of every scheduled or active campaign and active sponsored pin
+    private void load() {
+        int count = 0;
+        for (Campaign campaign : campaignRepository.findByStatus(CampaignStatus.SCHEDULED)) {
+            scheduleCampaign(campaign.getId(), campaign.getStartDate(), campaign.getEndDate());
+            count++;
+        }
+        for (Campaign campaign : campaignRepository.findByStatus(CampaignStatus.ACTIVE)) {
+            scheduleCampaign(campaign.getId(), null, campaign.getEndDate());
+            count++;
+        }
+        for (SponsoredPin sponsoredPin : sponsoredPinRepository.findByStatus(SponsoredStatus.ACTIVE)) {
+            scheduleSponsoredPin(sponsoredPin.getId(), sponsoredPin.getEndDate());
+            count++;
+        }
+        loaded = true;
+        log.info("Loaded the lifecycle dates of {} campaigns and sponsored pins", count);
+    }
+
+    private void add(Boundary boundary, LocalDateTime at) {
+        long atMillis = at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        synchronized (wheel) {
+            wheel.add(boundary, atMillis);
+        }
+    }
+
+    private static int inChunks(Collection<Long> ids, ToIntFunction<List<Long>> update) {
+        List<Long> all = new ArrayList<>(ids);
+        int updated = 0;
+        for (int from = 0; from < all.size(); from += MAX_IDS_PER_STATEMENT) {
+            updated += update.applyAsInt(all.subList(from, Math.min(all.size(), from + MAX_IDS_PER_STATEMENT)));
+        }
+        return updated;
+    }
+
+    private enum Transition {
+        START_CAMPAIGN,
+        COMPLETE_CAMPAIGN,
+        COMPLETE_SPONSORED_PIN
+    }
+
+    private record Boundary(Transition transition, Long id) {
+    }
+}
@@ -3,18 +3,30 @@ package com.pinterest.businessservice.service.impl;
 import com.pinterest.businessservice.dto.CampaignDto;
 import com.pinterest.businessservice.dto.SponsoredPinDto;
 import com.pinterest.businessservice.exception.ResourceNotFoundException;
+import com.pinterest.businessservice.model.AdEventType;
 import com.pinterest.businessservice.model.BusinessProfile;
 import com.pinterest.businessservice.model.Campaign;
 import com.pinterest.businessservice.model.Campaign.CampaignObjective;
 import com.pinterest.businessservice.model.Campaign.CampaignStatus;
+import com.pinterest.businessservice.model.SearchEntityType;
 import com.pinterest.businessservice.model.SponsoredPin;
 import com.pinterest.businessservice.repository.BusinessProfileRepository;
 import com.pinterest.businessservice.repository.CampaignRepository;
 import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.businessservice.service.ActiveAdService;
+import com.pinterest.businessservice.service.AdEventCounterService;
+import com.pinterest.businessservice.service.AdServingService;
+import com.pinterest.businessservice.service.AdStatsService;
+import com.pinterest.businessservice.service.BudgetPacingService;
+import com.pinterest.businessservice.service.CampaignLifecycleService;
 import com.pinterest.businessservice.service.CampaignService;
+import com.pinterest.businessservice.service.SearchIndexService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,16 +34,28 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CampaignServiceImpl implements CampaignService {
 
+    private static final int DEFAULT_SPONSORED_PINS_PAGE_SIZE = 20;
+
     private final CampaignRepository campaignRepository;
     private final BusinessProfileRepository businessProfileRepository;
     private final SponsoredPinRepository sponsoredPinRepository;
+    private final AdEventCounterService adEventCounterService;
+    private final ActiveAdService activeAdService;
+    private final AdStatsService adStatsService;
+    private final AdServingService adServingService;
+    private final BudgetPacingService budgetPacingService;
+    private final CampaignLifecycleService campaignLifecycleService;
+    private final SearchIndexService searchIndexService;
 
     @Override
     @Transactional
@@ -71,6 +95,9 @@ public class CampaignServiceImpl implements CampaignService {
         
         // Save campaign
         Campaign savedCampaign = campaignRepository.save(campaign);
+        campaignLifecycleService.scheduleCampaign(savedCampaign.getId(), savedCampaign.getStartDate(), savedCampaign.getEndDate());
+        searchIndexService.index(SearchEntityType.CAMPAIGN, savedCampaign.getId(), savedCampaign.getBusinessProfileId(),
+                savedCampaign.getName(), savedCampaign.getDescription());
         
         // Convert back to DTO with additional info
         CampaignDto resultDto = convertToDto(savedCampaign);
@@ -84,11 +111,19 @@ public class CampaignServiceImpl implements CampaignService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CampaignDto getCampaignById(Long id) {
+        return getCampaignById(id, PageRequest.of(0, DEFAULT_SPONSORED_PINS_PAGE_SIZE));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CampaignDto getCampaignById(Long id, Pageable sponsoredPinsPageable) {
         Campaign campaign = campaignRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Campaign not found with id: " + id));
         
         CampaignDto campaignDto = convertToDto(campaign);
+        addSponsoredPinTotals(List.of(campaignDto));
         
         // Get business profile info
         BusinessProfile businessProfile = businessProfileRepository.findById(campaign.getBusinessProfileId())
@@ -96,9 +131,8 @@ public class CampaignServiceImpl implements CampaignService {
         campaignDto.setBusinessName(businessProfile.getBusinessName());
         campaignDto.setBusinessLogoUrl(businessProfile.getLogoUrl());
         
-        // Get sponsored pins
-        List<SponsoredPin> sponsoredPins = sponsoredPinRepository.findByCampaignId(id);
-        campaignDto.setSponsoredPinsCount((long) sponsoredPins.size());
+        // Get one page of sponsored pins, the totals above cover all of them and so stand in for a count query
+        Slice<SponsoredPin> sponsoredPins = sponsoredPinRepository.findSliceByCampaignId(id, sponsoredPinsPageable);
         
         // Convert sponsored pins to DTOs
         List<SponsoredPinDto> sponsoredPinDtos = sponsoredPins.stream()
@@ -113,6 +147,7 @@ public class CampaignServiceImpl implements CampaignService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CampaignDto> getCampaignsByBusinessProfileId(Long businessProfileId) {
         // Verify business profile exists
         if (!businessProfileRepository.existsById(businessProfileId)) {
@@ -120,13 +155,11 @@ public class CampaignServiceImpl implements CampaignService {
         }
         
         List<Campaign> campaigns = campaignRepository.findByBusinessProfileId(businessProfileId);
-        return campaigns.stream()
-                .map(this::convertToDto)
-                .peek(this::calculateMetrics)
-                .collect(Collectors.toList());
+        return convertToDtos(campaigns);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<CampaignDto> getCampaignsByBusinessProfileId(Long businessProfileId, Pageable pageable) {
         // Verify business profile exists
         if (!businessProfileRepository.existsById(businessProfileId)) {
@@ -134,11 +167,7 @@ public class CampaignServiceImpl implements CampaignService {
         }
         
         Page<Campaign> campaignsPage = campaignRepository.findByBusinessProfileId(businessProfileId, pageable);
-        return campaignsPage.map(campaign -> {
-            CampaignDto dto = convertToDto(campaign);
-            calculateMetrics(dto);
-            return dto;
-        });
+        return convertToDtos(campaignsPage);
     }
 
     @Override
@@ -182,6 +211,11 @@ public class CampaignServiceImpl implements CampaignService {
         campaign.setUpdatedAt(LocalDateTime.now());
         
         Campaign updatedCampaign = campaignRepository.save(campaign);
+        adServingService.requestRefresh();
+        budgetPacingService.requestReload();
+        campaignLifecycleService.scheduleCampaign(updatedCampaign.getId(), updatedCampaign.getStartDate(), updatedCampaign.getEndDate());
+        searchIndexService.index(SearchEntityType.CAMPAIGN, updatedCampaign.getId(), updatedCampaign.getBusinessProfileId(),
+                updatedCampaign.getName(), updatedCampaign.getDescription());
         return getCampaignById(updatedCampaign.getId()); // Return full DTO with additional info
     }
 
@@ -201,47 +235,36 @@ public class CampaignServiceImpl implements CampaignService {
         
         // Delete campaign
         campaignRepository.deleteById(id);
+        adServingService.requestRefresh();
+        searchIndexService.remove(SearchEntityType.CAMPAIGN, id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<CampaignDto> getCampaignsByStatus(CampaignStatus status, Pageable pageable) {
         Page<Campaign> campaignsPage = campaignRepository.findByStatus(status, pageable);
-        return campaignsPage.map(campaign -> {
-            CampaignDto dto = convertToDto(campaign);
-            calculateMetrics(dto);
-            return dto;
-        });
+        return convertToDtos(campaignsPage);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<CampaignDto> getCampaignsByObjective(CampaignObjective objective, Pageable pageable) {
         Page<Campaign> campaignsPage = campaignRepository.findByObjective(objective, pageable);
-        return campaignsPage.map(campaign -> {
-            CampaignDto dto = convertToDto(campaign);
-            calculateMetrics(dto);
-            return dto;
-        });
+        return convertToDtos(campaignsPage);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CampaignDto> getActiveCampaigns() {
-        LocalDate today = LocalDate.now();
-        List<Campaign> activeCampaigns = campaignRepository.findActiveCampaigns(today);
-        return activeCampaigns.stream()
-                .map(this::convertToDto)
-                .peek(this::calculateMetrics)
-                .collect(Collectors.toList());
+        List<Campaign> activeCampaigns = campaignRepository.findActiveCampaigns(LocalDateTime.now());
+        return convertToDtos(activeCampaigns);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<CampaignDto> getActiveCampaigns(Pageable pageable) {
-        LocalDate today = LocalDate.now();
-        Page<Campaign> activeCampaignsPage = campaignRepository.findActiveCampaigns(today, pageable);
-        return activeCampaignsPage.map(campaign -> {
-            CampaignDto dto = convertToDto(campaign);
-            calculateMetrics(dto);
-            return dto;
-        });
+        Page<Campaign> activeCampaignsPage = campaignRepository.findActiveCampaigns(LocalDateTime.now(), pageable);
+        return convertToDtos(activeCampaignsPage);
     }
 
     @Override
@@ -254,94 +277,72 @@ public class CampaignServiceImpl implements CampaignService {
         campaign.setUpdatedAt(LocalDateTime.now());
         
         Campaign updatedCampaign = campaignRepository.save(campaign);
-        return convertToDto(updatedCampaign);
+        adServingService.requestRefresh();
+        budgetPacingService.requestReload();
+        campaignLifecycleService.scheduleCampaign(updatedCampaign.getId(), updatedCampaign.getStartDate(), updatedCampaign.getEndDate());
+        CampaignDto campaignDto = convertToDto(updatedCampaign);
+        addSponsoredPinTotals(List.of(campaignDto));
+        return campaignDto;
     }
 
     @Override
-    @Transactional
     public void recordImpression(Long id) {
-        Campaign campaign = campaignRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Campaign not found with id: " + id));
-        
-        campaign.setImpressions(campaign.getImpressions() + 1);
-        campaign.setUpdatedAt(LocalDateTime.now());
-        
-        campaignRepository.save(campaign);
+        requireActiveCampaign(id);
+        adEventCounterService.recordCampaignEvent(id, AdEventType.IMPRESSION);
     }
 
     @Override
-    @Transactional
     public void recordClick(Long id) {
-        Campaign campaign = campaignRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Campaign not found with id: " + id));
-        
-        campaign.setClicks(campaign.getClicks() + 1);
-        campaign.setUpdatedAt(LocalDateTime.now());
-        
-        campaignRepository.save(campaign);
+        requireActiveCampaign(id);
+        adEventCounterService.recordCampaignEvent(id, AdEventType.CLICK);
     }
 
     @Override
-    @Transactional
     public void recordConversion(Long id) {
-        Campaign campaign = campaignRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Campaign not found with id: " + id));
-        
-        campaign.setConversions(campaign.getConversions() + 1);
-        campaign.setUpdatedAt(LocalDateTime.now());
-        
-        campaignRepository.save(campaign);
+        requireActiveCampaign(id);
+        adEventCounterService.recordCampaignEvent(id, AdEventType.CONVERSION);
     }
 
     @Override
     @Transactional
     public void updateAmountSpent(Long id, BigDecimal amount) {
-        Campaign campaign = campaignRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Campaign not found with id: " + id));
-        
-        campaign.setAmountSpent(campaign.getAmountSpent().add(amount));
-        campaign.setUpdatedAt(LocalDateTime.now());
-        
-        campaignRepository.save(campaign);
+        // Added in the database, so concurrent spend updates cannot overwrite each other
+        LocalDateTime now = LocalDateTime.now();
+        if (campaignRepository.addAmountSpent(id, amount, now) == 0) {
+            throw new ResourceNotFoundException("Campaign not found with id: " + id);
+        }
+        adStatsService.recordSpend(id, amount, now);
+        // Pacing stops serving the campaign as soon as this crosses its daily limit or budget
+        budgetPacingService.recordSpend(id, amount);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CampaignDto> getCampaignsByDateRange(LocalDate startDate, LocalDate endDate) {
-        List<Campaign> campaigns = campaignRepository.findByStartDateLessThanEqualAndEndDateGreaterThanEqual(endDate, startDate);
-        return campaigns.stream()
-                .map(this::convertToDto)
-                .peek(this::calculateMetrics)
-                .collect(Collectors.toList());
+        List<Campaign> campaigns = campaignRepository.findByStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                endDate.atTime(LocalTime.MAX), startDate.atStartOfDay());
+        return convertToDtos(campaigns);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<CampaignDto> searchCampaigns(String keyword, Pageable pageable) {
         Page<Campaign> campaignsPage = campaignRepository.findByNameContainingOrDescriptionContaining(keyword, keyword, pageable);
-        return campaignsPage.map(campaign -> {
-            CampaignDto dto = convertToDto(campaign);
-            calculateMetrics(dto);
-            return dto;
-        });
+        return convertToDtos(campaignsPage);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CampaignDto> getScheduledCampaigns() {
-        LocalDate today = LocalDate.now();
-        List<Campaign> scheduledCampaigns = campaignRepository.findScheduledCampaigns(today);
-        return scheduledCampaigns.stream()
-                .map(this::convertToDto)
-                .peek(this::calculateMetrics)
-                .collect(Collectors.toList());
+        List<Campaign> scheduledCampaigns = campaignRepository.findScheduledCampaigns(LocalDateTime.now());
+        return convertToDtos(scheduledCampaigns);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CampaignDto> getCampaignsToComplete() {
-        LocalDate today = LocalDate.now();
-        List<Campaign> campaignsToComplete = campaignRepository.findCampaignsToComplete(today);
-        return campaignsToComplete.stream()
-                .map(this::convertToDto)
-                .peek(this::calculateMetrics)
-                .collect(Collectors.toList());
+        List<Campaign> campaignsToComplete = campaignRepository.findCampaignsToComplete(LocalDateTime.now());
+        return convertToDtos(campaignsToComplete);
     }
 
     // Helper methods for entity-DTO conversion
@@ -386,14 +387,38 @@ public class CampaignServiceImpl implements CampaignService {
         dto.setAmountSpent(entity.getAmountSpent());
         dto.setCreatedAt(entity.getCreatedAt());
         dto.setUpdatedAt(entity.getUpdatedAt());
-        
-        // Count sponsored pins
-        Long sponsoredPinsCount = sponsoredPinRepository.countByCampaignId(entity.getId());
-        dto.setSponsoredPinsCount(sponsoredPinsCount);
-        
         return dto;
     }
 
+    // Helper method to convert campaigns for a listing, with the sponsored pin totals of all of them read in one query
+    private List<CampaignDto> convertToDtos(List<Campaign> campaigns) {
+        List<CampaignDto> dtos = campaigns.stream()
+                .map(this::convertToDto)
+                .peek(this::calculateMetrics)
+                .collect(Collectors.toList());
+        addSponsoredPinTotals(dtos);
+        return dtos;
+    }
+
+    private Page<CampaignDto> convertToDtos(Page<Campaign> campaigns) {
+        return new PageImpl<>(convertToDtos(campaigns.getContent()), campaigns.getPageable(), campaigns.getTotalElements());
+    }
+
+    // Helper method to fill in the sponsored pin count and summed impressions and clicks of each campaign
+    private void addSponsoredPinTotals(List<CampaignDto> dtos) {
+        if (dtos.isEmpty()) {
+            return;
+        }
+        Map<Long, CampaignDto> dtosById = dtos.stream()
+                .collect(Collectors.toMap(CampaignDto::getId, Function.identity(), (first, second) -> first));
+        for (SponsoredPinRepository.CampaignSponsoredPinTotals totals : sponsoredPinRepository.sumByCampaignIds(dtosById.keySet())) {
+            CampaignDto dto = dtosById.get(totals.getCampaignId());
+            dto.setSponsoredPinsCount(Math.toIntExact(totals.getSponsoredPins()));
+            dto.setSponsoredPinsImpressions(totals.getImpressions() != null ? totals.getImpressions() : 0);
+            dto.setSponsoredPinsClicks(totals.getClicks() != null ? totals.getClicks() : 0);
+        }
+    }
+
     private SponsoredPinDto convertSponsoredPinToDto(SponsoredPin entity) {
         SponsoredPinDto dto = new SponsoredPinDto();
         dto.setId(entity.getId());
@@ -417,16 +442,16 @@ public class CampaignServiceImpl implements CampaignService {
         // Calculate metrics
         if (entity.getImpressions() != null && entity.getImpressions() > 0 && entity.getClicks() != null) {
             double ctr = (double) entity.getClicks() / entity.getImpressions() * 100;
-            dto.setClickThroughRate(BigDecimal.valueOf(ctr).setScale(2, RoundingMode.HALF_UP));
+            dto.setClickThroughRate(BigDecimal.valueOf(ctr).setScale(2, RoundingMode.HALF_UP).doubleValue());
         } else {
-            dto.setClickThroughRate(BigDecimal.ZERO.setScale(2));
+            dto.setClickThroughRate(0);
         }
         
         if (entity.getClicks() != null && entity.getClicks() > 0 && entity.getBidAmount() != null) {
             BigDecimal cpc = entity.getBidAmount();
-            dto.setCostPerClick(cpc.setScale(2, RoundingMode.HALF_UP));
+            dto.setCostPerClick(cpc.setScale(2, RoundingMode.HALF_UP).doubleValue());
         } else {
-            dto.setCostPerClick(BigDecimal.ZERO.setScale(2));
+            dto.setCostPerClick(0);
         }
         
         return dto;
@@ -436,30 +461,38 @@ public class CampaignServiceImpl implements CampaignService {
         // Calculate Click-Through Rate (CTR)
         if (dto.getImpressions() != null && dto.getImpressions() > 0 && dto.getClicks() != null) {
             double ctr = (double) dto.getClicks() / dto.getImpressions() * 100;
-            dto.setClickThroughRate(BigDecimal.valueOf(ctr).setScale(2, RoundingMode.HALF_UP));
+            dto.setClickThroughRate(BigDecimal.valueOf(ctr).setScale(2, RoundingMode.HALF_UP).doubleValue());
         } else {
-            dto.setClickThroughRate(BigDecimal.ZERO.setScale(2));
+            dto.setClickThroughRate(0);
         }
         
         // Calculate Cost Per Click (CPC)
         if (dto.getClicks() != null && dto.getClicks() > 0 && dto.getAmountSpent() != null) {
             BigDecimal cpc = dto.getAmountSpent().divide(BigDecimal.valueOf(dto.getClicks()), 2, RoundingMode.HALF_UP);
-            dto.setCostPerClick(cpc);
+            dto.setCostPerClick(cpc.doubleValue());
         } else {
-            dto.setCostPerClick(BigDecimal.ZERO.setScale(2));
+            dto.setCostPerClick(0);
         }
         
         // Calculate Conversion Rate
         if (dto.getClicks() != null && dto.getClicks() > 0 && dto.getConversions() != null) {
             double convRate = (double) dto.getConversions() / dto.getClicks() * 100;
-            dto.setConversionRate(BigDecimal.valueOf(convRate).setScale(2, RoundingMode.HALF_UP));
+            dto.setConversionRate(BigDecimal.valueOf(convRate).setScale(2, RoundingMode.HALF_UP).doubleValue());
         } else {
-            dto.setConversionRate(BigDecimal.ZERO.setScale(2));
+            dto.setConversionRate(0);
         }
         
         // Calculate Return on Ad Spend (ROAS)
         // Note: This would typically require revenue data from conversions, which we don't have
         // For now, we'll set a placeholder value
-        dto.setReturnOnAdSpend(BigDecimal.ZERO.setScale(2));
+        dto.setReturnOnAdSpend(0);
+    }
+
+    // Helper method to refuse events for ids outside the cached active campaign ids, as the batch endpoint
+    // does for sponsored pins, so a bogus id is a 404 instead of counts and stats rows for no campaign
+    private void requireActiveCampaign(Long id) {
+        if (!activeAdService.isCampaignActive(id)) {
+            throw new ResourceNotFoundException("Active campaign not found with id: " + id);
+        }
     }
 }
\ No newline at end of file
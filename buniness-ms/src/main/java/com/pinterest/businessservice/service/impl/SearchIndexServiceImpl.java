@@ -0,0 +1,452 @@
+package com.pinterest.businessservice.service.impl;
+
+import com.pinterest.businessservice.dto.SearchHitDto;
+import com.pinterest.businessservice.dto.SearchResultDto;
+import com.pinterest.businessservice.exception.BadRequestException;
+import com.pinterest.businessservice.model.SearchEntityType;
+import com.pinterest.businessservice.repository.BusinessProfileRepository;
+import com.pinterest.businessservice.repository.CampaignRepository;
+import com.pinterest.businessservice.repository.SearchDocumentRow;
+import com.pinterest.businessservice.repository.ShowcaseRepository;
+import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.businessservice.service.SearchIndexService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+
+/**
+ * One search index over business names, showcases, campaigns and sponsored pins, so a single query finds
+ * all of them instead of a LIKE scan per table. Text is normalized (lower case, accents and punctuation
+ * removed) and broken into trigrams the way PostgreSQL's pg_trgm does it: every word padded with two
+ * spaces in front and one behind, so word starts and ends carry extra weight. The index maps each trigram
+ * to the entities containing it.
+ * <p>
+ * A query needs a word of at least three letters or digits. It matches an entity that contains it as a
+ * substring, found through the trigrams inside that word, or that shares at least the minimum similarity
+ * of its trigrams, which tolerates typos and word order. Shorter queries are refused: their trigrams are
+ * only the padded word starts, which miss substrings inside words and hit most of the index.
+ * <p>
+ * Candidates are found by walking the query's trigram postings from the rarest, so a common trigram such
+ * as a word ending only adds to the counts of documents already in reach of the minimum similarity, instead
+ * of making every document containing it a candidate.
+ * <p>
+ * Matches rank by the share of the query's trigrams found, plus a bonus for a substring match in the
+ * title and a smaller one in the description, with the Jaccard similarity of the whole text breaking
+ * ties in favour of closer matches.
+ * <p>
+ * Services hand their entities to the index once their writes commit; the whole index is rebuilt from the
+ * database on start and every rebuild interval, replaying the writes that commit while it loads. A rebuild
+ * reads projections of the indexed columns in id order, one short read-only transaction per page.
+ */
+@Service
+@Slf4j
+public class SearchIndexServiceImpl implements SearchIndexService {
+
+    public static final String DOCUMENTS_METRIC = "search.index.documents";
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Longer descriptions are indexed up to here, which keeps the trigram sets of one entity bounded
+    private static final int MAX_TEXT_LENGTH = 1000;
+
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private static final int MIN_QUERY_WORD_LENGTH = 3;
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private static final double TITLE_SUBSTRING_BONUS = 1.0;
+
+    private static final double TEXT_SUBSTRING_BONUS = 0.5;
+
+    private final BusinessProfileRepository businessProfileRepository;
+
+    private final ShowcaseRepository showcaseRepository;
+
+    private final CampaignRepository campaignRepository;
+
+    private final SponsoredPinRepository sponsoredPinRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final double minSimilarity;
+
+    private final int maxSize;
+
+    private final Object lock = new Object();
+
+    private volatile Index index = new Index();
+
+    // Writes applied while a rebuild loads, replayed onto the new index before it replaces the old one
+    private List<Change> changesDuringRebuild;
+
+    public SearchIndexServiceImpl(BusinessProfileRepository businessProfileRepository,
+                                  ShowcaseRepository showcaseRepository,
+                                  CampaignRepository campaignRepository,
+                                  SponsoredPinRepository sponsoredPinRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${search.min-similarity:0.5}") double minSimilarity,
+                                  @Value("${search.max-size:100}") int maxSize) {
+        this.businessProfileRepository = businessProfileRepository;
+        this.showcaseRepository = showcaseRepository;
+        this.campaignRepository = campaignRepository;
+        this.sponsoredPinRepository = sponsoredPinRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.minSimilarity = minSimilarity;
+        this.maxSize = maxSize;
+        Gauge.builder(DOCUMENTS_METRIC, this, service -> service.index.docs.size())
+                .description("Business profiles, showcases, campaigns and sponsored pins in the search index")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SearchResultDto search(String query, SearchEntityType type, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (page < 0) {
+            throw new BadRequestException("Page must not be negative");
+        }
+        if (size < 1 || size > maxSize) {
+            throw new BadRequestException("Size must be between 1 and " + maxSize);
+        }
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            throw new BadRequestException("Search query must contain letters or digits");
+        }
+        if (longestWord(normalized) < MIN_QUERY_WORD_LENGTH) {
+            throw new BadRequestException("Search query needs a word of at least " + MIN_QUERY_WORD_LENGTH
+                    + " letters or digits");
+        }
+        Set<String> queryTrigrams = trigrams(normalized);
+
+        Index current = index;
+        List<Set<DocKey>> postings = new ArrayList<>();
+        for (String trigram : queryTrigrams) {
+            postings.add(current.postings.getOrDefault(trigram, Set.of()));
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<DocKey> candidates = new HashSet<>(countTrigramHits(postings).keySet());
+        candidates.addAll(substringCandidates(current, normalized));
+
+        Map<SearchEntityType, Long> facets = new EnumMap<>(SearchEntityType.class);
+        for (SearchEntityType entityType : SearchEntityType.values()) {
+            facets.put(entityType, 0L);
+        }
+        List<SearchHitDto> matches = new ArrayList<>();
+        for (DocKey key : candidates) {
+            Doc doc = current.docs.get(key);
+            if (doc == null) {
+                continue;
+            }
+            Double score = score(doc, normalized, queryTrigrams);
+            if (score == null) {
+                continue;
+            }
+            facets.merge(key.type, 1L, Long::sum);
+            if (type == null || type == key.type) {
+                matches.add(doc.toHit(score));
+            }
+        }
+
+        matches.sort(Comparator.comparingDouble(SearchHitDto::getScore).reversed()
+                .thenComparing(SearchHitDto::getType)
+                .thenComparing(SearchHitDto::getId));
+        int from = (int) Math.min((long) page * size, matches.size());
+        int to = Math.min(from + size, matches.size());
+
+        return SearchResultDto.builder()
+                .query(query)
+                .page(page)
+                .size(size)
+                .totalHits(matches.size())
+                .hits(new ArrayList<>(matches.subList(from, to)))
+                .facets(facets)
+                .build();
+    }
+
+    @Override
+    public void index(SearchEntityType type, Long id, Long businessProfileId, String title, String description) {
+        afterCommit(new Change(new DocKey(type, id), new Doc(type, id, businessProfileId, title, description)));
+    }
+
+    @Override
+    public void remove(SearchEntityType type, Long id) {
+        afterCommit(new Change(new DocKey(type, id), null));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${search.rebuild-ms:600000}")
+    public void rebuild() {
+        synchronized (lock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            Index rebuilt = new Index();
+            load(rebuilt);
+            synchronized (lock) {
+                changesDuringRebuild.forEach(rebuilt::apply);
+                index = rebuilt;
+            }
+            log.info("Rebuilt the search index with {} documents", rebuilt.docs.size());
+        } catch (RuntimeException e) {
+            // Keep searching the current index and try again on the next rebuild
+            log.warn("Failed to rebuild the search index: {}", e.getMessage());
+        } finally {
+            synchronized (lock) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    // Helper method to count the query trigrams each document shares, walking the postings rarest first. A
+    // document not seen by the time too few postings remain to reach the minimum similarity can no longer
+    // match on it, so the remaining, commoner postings are only probed for the documents already counted,
+    // each dropped as soon as it cannot reach the minimum
+    private Map<DocKey, Integer> countTrigramHits(List<Set<DocKey>> postings) {
+        int total = postings.size();
+        Map<DocKey, Integer> hits = new HashMap<>();
+        int walked = 0;
+        while (walked < total && reachesMinSimilarity(total - walked, total)) {
+            for (DocKey key : postings.get(walked)) {
+                hits.merge(key, 1, Integer::sum);
+            }
+            walked++;
+        }
+        for (int i = walked; i < total && !hits.isEmpty(); i++) {
+            Set<DocKey> keys = postings.get(i);
+            int remaining = total - i - 1;
+            Iterator<Map.Entry<DocKey, Integer>> it = hits.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<DocKey, Integer> hit = it.next();
+                int shared = keys.contains(hit.getKey()) ? hit.getValue() + 1 : hit.getValue();
+                if (reachesMinSimilarity(shared + remaining, total)) {
+                    hit.setValue(shared);
+                } else {
+                    it.remove();
+                }
+            }
+        }
+        return hits;
+    }
+
+    // Helper method to find the documents that may contain the query as a substring. Those contain every
+    // trigram lying inside a query word, so the rarest of them bounds the documents to check.
+    private Set<DocKey> substringCandidates(Index current, String normalizedQuery) {
+        Set<DocKey> rarest = null;
+        for (String word : normalizedQuery.split(" ")) {
+            for (int i = 0; i + 3 <= word.length(); i++) {
+                Set<DocKey> keys = current.postings.getOrDefault(word.substring(i, i + 3), Set.of());
+                if (rarest == null || keys.size() < rarest.size()) {
+                    rarest = keys;
+                }
+            }
+        }
+        return rarest != null ? rarest : Set.of();
+    }
+
+    // Helper method to tell whether sharing this many of the query's trigrams is similar enough to match
+    private boolean reachesMinSimilarity(int shared, int total) {
+        return (double) shared / total >= minSimilarity;
+    }
+
+    // Helper method to score a candidate against the query, or return null when it does not match
+    private Double score(Doc doc, String normalizedQuery, Set<String> queryTrigrams) {
+        int shared = 0;
+        for (String trigram : queryTrigrams) {
+            if (doc.trigrams.contains(trigram)) {
+                shared++;
+            }
+        }
+        double coverage = (double) shared / queryTrigrams.size();
+        double bonus = doc.normalizedTitle.contains(normalizedQuery) ? TITLE_SUBSTRING_BONUS
+                : doc.normalizedText.contains(normalizedQuery) ? TEXT_SUBSTRING_BONUS
+                : 0;
+        if (bonus == 0 && !reachesMinSimilarity(shared, queryTrigrams.size())) {
+            return null;
+        }
+        double similarity = (double) shared / (queryTrigrams.size() + doc.trigrams.size() - shared);
+        return coverage + bonus + similarity;
+    }
+
+    // Helper method to read every indexed entity page by page into the new index
+    private void load(Index rebuilt) {
+        loadPages(SearchEntityType.BUSINESS_PROFILE, businessProfileRepository::findSearchDocumentsAfter, rebuilt);
+        loadPages(SearchEntityType.SHOWCASE, showcaseRepository::findSearchDocumentsAfter, rebuilt);
+        loadPages(SearchEntityType.CAMPAIGN, campaignRepository::findSearchDocumentsAfter, rebuilt);
+        loadPages(SearchEntityType.SPONSORED_PIN, sponsoredPinRepository::findSearchDocumentsAfter, rebuilt);
+    }
+
+    // Helper method to read one entity type after the last id seen, each page in its own read-only transaction
+    private void loadPages(SearchEntityType type, BiFunction<Long, Pageable, List<SearchDocumentRow>> findAfter,
+                           Index rebuilt) {
+        Pageable limit = PageRequest.of(0, REBUILD_PAGE_SIZE);
+        long afterId = 0;
+        List<SearchDocumentRow> rows;
+        do {
+            long from = afterId;
+            rows = transactionTemplate.execute(tx -> findAfter.apply(from, limit));
+            for (SearchDocumentRow row : rows) {
+                rebuilt.apply(new Change(new DocKey(type, row.getId()),
+                        new Doc(type, row.getId(), row.getBusinessProfileId(), row.getTitle(), row.getDescription())));
+                afterId = row.getId();
+            }
+        } while (rows.size() == REBUILD_PAGE_SIZE);
+    }
+
+    private void afterCommit(Change change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Change change) {
+        synchronized (lock) {
+            index.apply(change);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private static int longestWord(String normalized) {
+        int longest = 0;
+        for (String word : normalized.split(" ")) {
+            longest = Math.max(longest, word.length());
+        }
+        return longest;
+    }
+
+    static Set<String> trigrams(String normalized) {
+        Set<String> trigrams = new HashSet<>();
+        if (normalized.isEmpty()) {
+            return trigrams;
+        }
+        for (String word : normalized.split(" ")) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    private static final class Index {
+
+        private final Map<DocKey, Doc> docs = new ConcurrentHashMap<>();
+
+        private final Map<String, Set<DocKey>> postings = new ConcurrentHashMap<>();
+
+        // Callers hold the lock; searches read concurrently and check candidates against the document itself
+        private void apply(Change change) {
+            Doc previous = change.doc != null ? docs.put(change.key, change.doc) : docs.remove(change.key);
+            if (previous != null) {
+                for (String trigram : previous.trigrams) {
+                    if (change.doc == null || !change.doc.trigrams.contains(trigram)) {
+                        Set<DocKey> keys = postings.get(trigram);
+                        if (keys != null) {
+                            keys.remove(change.key);
+                            if (keys.isEmpty()) {
+                                postings.remove(trigram);
+                            }
+                        }
+                    }
+                }
+            }
+            if (change.doc != null) {
+                for (String trigram : change.doc.trigrams) {
+                    postings.computeIfAbsent(trigram, t -> ConcurrentHashMap.newKeySet()).add(change.key);
+                }
+            }
+        }
+    }
+
+    private record DocKey(SearchEntityType type, Long id) {
+    }
+
+    // A null doc removes the key
+    private record Change(DocKey key, Doc doc) {
+    }
+
+    private static final class Doc {
+
+        private final SearchEntityType type;
+        private final Long id;
+        private final Long businessProfileId;
+        private final String title;
+        private final String description;
+        private final String normalizedTitle;
+        private final String normalizedText;
+        private final Set<String> trigrams;
+
+        private Doc(SearchEntityType type, Long id, Long businessProfileId, String title, String description) {
+            this.type = type;
+            this.id = id;
+            this.businessProfileId = businessProfileId;
+            this.title = title;
+            this.description = description;
+            this.normalizedTitle = normalize(title);
+            String normalizedDescription = normalize(description != null && description.length() > MAX_TEXT_LENGTH
+                    ? description.substring(0, MAX_TEXT_LENGTH) : description);
+            this.normalizedText = (normalizedTitle + " " + normalizedDescription).trim();
+            this.trigrams = Set.copyOf(trigrams(normalizedText));
+        }
+
+        private SearchHitDto toHit(double score) {
+            return SearchHitDto.builder()
+                    .type(type)
+                    .id(id)
+                    .businessProfileId(businessProfileId)
+                    .title(title)
+                    .description(description)
+                    .score(score)
+                    .build();
+        }
+    }
+}
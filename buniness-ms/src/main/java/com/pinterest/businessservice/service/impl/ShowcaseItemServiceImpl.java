@@ -41,7 +41,7 @@ public class ShowcaseItemServiceImpl implements ShowcaseItemService {
         
         // Set default display order if not provided
         if (showcaseItem.getDisplayOrder() == null) {
-            Long maxOrder = showcaseItemRepository.findMaxDisplayOrderByShowcaseId(showcaseItem.getShowcaseId());
+            Integer maxOrder = showcaseItemRepository.findMaxDisplayOrderByShowcaseId(showcaseItem.getShowcaseId());
             showcaseItem.setDisplayOrder(maxOrder != null ? maxOrder + 1 : 1);
         }
         
@@ -101,13 +101,9 @@ public class ShowcaseItemServiceImpl implements ShowcaseItemService {
         // Update fields
         showcaseItem.setDescription(showcaseItemDto.getDescription());
         
-        if (showcaseItemDto.getFeatured() != null) {
-            showcaseItem.setFeatured(showcaseItemDto.getFeatured());
-        }
+        showcaseItem.setFeatured(showcaseItemDto.isFeatured());
         
-        if (showcaseItemDto.getActive() != null) {
-            showcaseItem.setActive(showcaseItemDto.getActive());
-        }
+        showcaseItem.setActive(showcaseItemDto.isActive());
         
         if (showcaseItemDto.getDisplayOrder() != null) {
             showcaseItem.setDisplayOrder(showcaseItemDto.getDisplayOrder());
@@ -141,7 +137,7 @@ public class ShowcaseItemServiceImpl implements ShowcaseItemService {
         ShowcaseItem showcaseItem = showcaseItemRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Showcase item not found with id: " + id));
         
-        showcaseItem.setFeatured(!showcaseItem.getFeatured());
+        showcaseItem.setFeatured(!showcaseItem.isFeatured());
         showcaseItem.setUpdatedAt(LocalDateTime.now());
         
         ShowcaseItem updatedItem = showcaseItemRepository.save(showcaseItem);
@@ -154,7 +150,7 @@ public class ShowcaseItemServiceImpl implements ShowcaseItemService {
         ShowcaseItem showcaseItem = showcaseItemRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Showcase item not found with id: " + id));
         
-        showcaseItem.setActive(!showcaseItem.getActive());
+        showcaseItem.setActive(!showcaseItem.isActive());
         showcaseItem.setUpdatedAt(LocalDateTime.now());
         
         ShowcaseItem updatedItem = showcaseItemRepository.save(showcaseItem);
@@ -191,7 +187,7 @@ public class ShowcaseItemServiceImpl implements ShowcaseItemService {
                     .findFirst()
                     .orElseThrow(() -> new ResourceNotFoundException("Showcase item not found with id: " + itemId));
             
-            item.setDisplayOrder((long) (i + 1));
+            item.setDisplayOrder(i + 1);
             item.setUpdatedAt(now);
         }
         
@@ -218,7 +214,7 @@ public class ShowcaseItemServiceImpl implements ShowcaseItemService {
         item.setDescription(description);
         
         // Set display order
-        Long maxOrder = showcaseItemRepository.findMaxDisplayOrderByShowcaseId(showcaseId);
+        Integer maxOrder = showcaseItemRepository.findMaxDisplayOrderByShowcaseId(showcaseId);
         item.setDisplayOrder(maxOrder != null ? maxOrder + 1 : 1);
         
         // Set default values
@@ -257,8 +253,8 @@ public class ShowcaseItemServiceImpl implements ShowcaseItemService {
         entity.setPinId(dto.getPinId());
         entity.setDescription(dto.getDescription());
         entity.setDisplayOrder(dto.getDisplayOrder());
-        entity.setFeatured(dto.getFeatured() != null ? dto.getFeatured() : false);
-        entity.setActive(dto.getActive() != null ? dto.getActive() : true);
+        entity.setFeatured(dto.isFeatured());
+        entity.setActive(dto.isActive());
         entity.setCreatedAt(dto.getCreatedAt());
         entity.setUpdatedAt(dto.getUpdatedAt());
         return entity;
@@ -271,8 +267,8 @@ public class ShowcaseItemServiceImpl implements ShowcaseItemService {
         dto.setPinId(entity.getPinId());
         dto.setDescription(entity.getDescription());
         dto.setDisplayOrder(entity.getDisplayOrder());
-        dto.setFeatured(entity.getFeatured());
-        dto.setActive(entity.getActive());
+        dto.setFeatured(entity.isFeatured());
+        dto.setActive(entity.isActive());
         dto.setCreatedAt(entity.getCreatedAt());
         dto.setUpdatedAt(entity.getUpdatedAt());
         // Note: Pin details would need to be fetched from a Pin service
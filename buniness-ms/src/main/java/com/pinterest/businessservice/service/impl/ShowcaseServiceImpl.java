@@ -4,11 +4,13 @@ import com.pinterest.businessservice.dto.ShowcaseDto;
 import com.pinterest.businessservice.dto.ShowcaseItemDto;
 import com.pinterest.businessservice.exception.ResourceNotFoundException;
 import com.pinterest.businessservice.model.BusinessProfile;
+import com.pinterest.businessservice.model.SearchEntityType;
 import com.pinterest.businessservice.model.Showcase;
 import com.pinterest.businessservice.model.ShowcaseItem;
 import com.pinterest.businessservice.repository.BusinessProfileRepository;
 import com.pinterest.businessservice.repository.ShowcaseItemRepository;
 import com.pinterest.businessservice.repository.ShowcaseRepository;
+import com.pinterest.businessservice.service.SearchIndexService;
 import com.pinterest.businessservice.service.ShowcaseService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -28,6 +30,7 @@ public class ShowcaseServiceImpl implements ShowcaseService {
     private final ShowcaseRepository showcaseRepository;
     private final ShowcaseItemRepository showcaseItemRepository;
     private final BusinessProfileRepository businessProfileRepository;
+    private final SearchIndexService searchIndexService;
 
     @Override
     @Transactional
@@ -46,12 +49,14 @@ public class ShowcaseServiceImpl implements ShowcaseService {
         
         // Set default display order if not provided
         if (showcase.getDisplayOrder() == null) {
-            Long maxOrder = showcaseRepository.findMaxDisplayOrderByBusinessProfileId(showcase.getBusinessProfileId());
+            Integer maxOrder = showcaseRepository.findMaxDisplayOrderByBusinessProfileId(showcase.getBusinessProfileId());
             showcase.setDisplayOrder(maxOrder != null ? maxOrder + 1 : 1);
         }
         
         // Save showcase
         Showcase savedShowcase = showcaseRepository.save(showcase);
+        searchIndexService.index(SearchEntityType.SHOWCASE, savedShowcase.getId(), savedShowcase.getBusinessProfileId(),
+                savedShowcase.getTitle(), savedShowcase.getDescription());
         
         // Process showcase items if provided
         List<ShowcaseItem> showcaseItems = new ArrayList<>();
@@ -63,8 +68,8 @@ public class ShowcaseServiceImpl implements ShowcaseService {
                 item.setPinId(itemDto.getPinId());
                 item.setDescription(itemDto.getDescription());
                 item.setDisplayOrder(itemDto.getDisplayOrder() != null ? itemDto.getDisplayOrder() : order++);
-                item.setFeatured(itemDto.getFeatured() != null ? itemDto.getFeatured() : false);
-                item.setActive(itemDto.getActive() != null ? itemDto.getActive() : true);
+                item.setFeatured(itemDto.isFeatured());
+                item.setActive(itemDto.isActive());
                 item.setCreatedAt(now);
                 item.setUpdatedAt(now);
                 showcaseItems.add(item);
@@ -148,13 +153,9 @@ public class ShowcaseServiceImpl implements ShowcaseService {
         showcase.setCoverImageUrl(showcaseDto.getCoverImageUrl());
         showcase.setTheme(showcaseDto.getTheme());
         
-        if (showcaseDto.getFeatured() != null) {
-            showcase.setFeatured(showcaseDto.getFeatured());
-        }
+        showcase.setFeatured(showcaseDto.isFeatured());
         
-        if (showcaseDto.getActive() != null) {
-            showcase.setActive(showcaseDto.getActive());
-        }
+        showcase.setActive(showcaseDto.isActive());
         
         if (showcaseDto.getDisplayOrder() != null) {
             showcase.setDisplayOrder(showcaseDto.getDisplayOrder());
@@ -163,6 +164,8 @@ public class ShowcaseServiceImpl implements ShowcaseService {
         showcase.setUpdatedAt(LocalDateTime.now());
         
         Showcase updatedShowcase = showcaseRepository.save(showcase);
+        searchIndexService.index(SearchEntityType.SHOWCASE, updatedShowcase.getId(), updatedShowcase.getBusinessProfileId(),
+                updatedShowcase.getTitle(), updatedShowcase.getDescription());
         
         // Update showcase items if provided
         if (showcaseDto.getItems() != null && !showcaseDto.getItems().isEmpty()) {
@@ -180,8 +183,8 @@ public class ShowcaseServiceImpl implements ShowcaseService {
                 item.setPinId(itemDto.getPinId());
                 item.setDescription(itemDto.getDescription());
                 item.setDisplayOrder(itemDto.getDisplayOrder() != null ? itemDto.getDisplayOrder() : order++);
-                item.setFeatured(itemDto.getFeatured() != null ? itemDto.getFeatured() : false);
-                item.setActive(itemDto.getActive() != null ? itemDto.getActive() : true);
+                item.setFeatured(itemDto.isFeatured());
+                item.setActive(itemDto.isActive());
                 item.setCreatedAt(now);
                 item.setUpdatedAt(now);
                 showcaseItems.add(item);
@@ -205,6 +208,7 @@ public class ShowcaseServiceImpl implements ShowcaseService {
         
         // Delete showcase
         showcaseRepository.deleteById(id);
+        searchIndexService.remove(SearchEntityType.SHOWCASE, id);
     }
 
     @Override
@@ -225,7 +229,7 @@ public class ShowcaseServiceImpl implements ShowcaseService {
         Showcase showcase = showcaseRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Showcase not found with id: " + id));
         
-        showcase.setFeatured(!showcase.getFeatured());
+        showcase.setFeatured(!showcase.isFeatured());
         showcase.setUpdatedAt(LocalDateTime.now());
         
         Showcase updatedShowcase = showcaseRepository.save(showcase);
@@ -238,7 +242,7 @@ public class ShowcaseServiceImpl implements ShowcaseService {
         Showcase showcase = showcaseRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Showcase not found with id: " + id));
         
-        showcase.setActive(!showcase.getActive());
+        showcase.setActive(!showcase.isActive());
         showcase.setUpdatedAt(LocalDateTime.now());
         
         Showcase updatedShowcase = showcaseRepository.save(showcase);
@@ -275,7 +279,7 @@ public class ShowcaseServiceImpl implements ShowcaseService {
                     .findFirst()
                     .orElseThrow(() -> new ResourceNotFoundException("Showcase not found with id: " + showcaseId));
             
-            showcase.setDisplayOrder((long) (i + 1));
+            showcase.setDisplayOrder(i + 1);
             showcase.setUpdatedAt(now);
         }
         
@@ -291,8 +295,8 @@ public class ShowcaseServiceImpl implements ShowcaseService {
         entity.setDescription(dto.getDescription());
         entity.setCoverImageUrl(dto.getCoverImageUrl());
         entity.setTheme(dto.getTheme());
-        entity.setFeatured(dto.getFeatured() != null ? dto.getFeatured() : false);
-        entity.setActive(dto.getActive() != null ? dto.getActive() : true);
+        entity.setFeatured(dto.isFeatured());
+        entity.setActive(dto.isActive());
         entity.setDisplayOrder(dto.getDisplayOrder());
         entity.setCreatedAt(dto.getCreatedAt());
         entity.setUpdatedAt(dto.getUpdatedAt());
@@ -307,8 +311,8 @@ public class ShowcaseServiceImpl implements ShowcaseService {
         dto.setDescription(entity.getDescription());
         dto.setCoverImageUrl(entity.getCoverImageUrl());
         dto.setTheme(entity.getTheme());
-        dto.setFeatured(entity.getFeatured());
-        dto.setActive(entity.getActive());
+        dto.setFeatured(entity.isFeatured());
+        dto.setActive(entity.isActive());
         dto.setDisplayOrder(entity.getDisplayOrder());
         dto.setCreatedAt(entity.getCreatedAt());
         dto.setUpdatedAt(entity.getUpdatedAt());
@@ -322,8 +326,8 @@ public class ShowcaseServiceImpl implements ShowcaseService {
         dto.setPinId(entity.getPinId());
         dto.setDescription(entity.getDescription());
         dto.setDisplayOrder(entity.getDisplayOrder());
-        dto.setFeatured(entity.getFeatured());
-        dto.setActive(entity.getActive());
+        dto.setFeatured(entity.isFeatured());
+        dto.setActive(entity.isActive());
         dto.setCreatedAt(entity.getCreatedAt());
         dto.setUpdatedAt(entity.getUpdatedAt());
         // Note: Pin details would need to be fetched from a Pin service
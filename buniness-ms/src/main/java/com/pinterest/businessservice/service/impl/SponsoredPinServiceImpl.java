@@ -2,13 +2,20 @@ package com.pinterest.businessservice.service.impl;
 
 import com.pinterest.businessservice.dto.SponsoredPinDto;
 import com.pinterest.businessservice.exception.ResourceNotFoundException;
+import com.pinterest.businessservice.model.AdEventType;
 import com.pinterest.businessservice.model.BusinessProfile;
 import com.pinterest.businessservice.model.Campaign;
+import com.pinterest.businessservice.model.SearchEntityType;
 import com.pinterest.businessservice.model.SponsoredPin;
 import com.pinterest.businessservice.model.SponsoredPin.SponsoredStatus;
 import com.pinterest.businessservice.repository.BusinessProfileRepository;
 import com.pinterest.businessservice.repository.CampaignRepository;
 import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.businessservice.service.ActiveAdService;
+import com.pinterest.businessservice.service.AdEventCounterService;
+import com.pinterest.businessservice.service.AdServingService;
+import com.pinterest.businessservice.service.CampaignLifecycleService;
+import com.pinterest.businessservice.service.SearchIndexService;
 import com.pinterest.businessservice.service.SponsoredPinService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -20,6 +27,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,6 +38,11 @@ public class SponsoredPinServiceImpl implements SponsoredPinService {
     private final SponsoredPinRepository sponsoredPinRepository;
     private final BusinessProfileRepository businessProfileRepository;
     private final CampaignRepository campaignRepository;
+    private final AdEventCounterService adEventCounterService;
+    private final ActiveAdService activeAdService;
+    private final AdServingService adServingService;
+    private final CampaignLifecycleService campaignLifecycleService;
+    private final SearchIndexService searchIndexService;
 
     @Override
     @Transactional
@@ -77,6 +90,10 @@ public class SponsoredPinServiceImpl implements SponsoredPinService {
         
         // Save sponsored pin
         SponsoredPin savedPin = sponsoredPinRepository.save(sponsoredPin);
+        adServingService.requestRefresh();
+        campaignLifecycleService.scheduleSponsoredPin(savedPin.getId(), savedPin.getEndDate());
+        searchIndexService.index(SearchEntityType.SPONSORED_PIN, savedPin.getId(), savedPin.getBusinessProfileId(),
+                savedPin.getTitle(), savedPin.getDescription());
         
         // Convert back to DTO with additional info
         SponsoredPinDto resultDto = convertToDto(savedPin);
@@ -225,6 +242,10 @@ public class SponsoredPinServiceImpl implements SponsoredPinService {
         sponsoredPin.setUpdatedAt(LocalDateTime.now());
         
         SponsoredPin updatedPin = sponsoredPinRepository.save(sponsoredPin);
+        adServingService.requestRefresh();
+        campaignLifecycleService.scheduleSponsoredPin(updatedPin.getId(), updatedPin.getEndDate());
+        searchIndexService.index(SearchEntityType.SPONSORED_PIN, updatedPin.getId(), updatedPin.getBusinessProfileId(),
+                updatedPin.getTitle(), updatedPin.getDescription());
         return getSponsoredPinById(updatedPin.getId()); // Return full DTO with additional info
     }
 
@@ -236,6 +257,8 @@ public class SponsoredPinServiceImpl implements SponsoredPinService {
         }
         
         sponsoredPinRepository.deleteById(id);
+        adServingService.requestRefresh();
+        searchIndexService.remove(SearchEntityType.SPONSORED_PIN, id);
     }
 
     @Override
@@ -250,8 +273,7 @@ public class SponsoredPinServiceImpl implements SponsoredPinService {
 
     @Override
     public List<SponsoredPinDto> getActiveSponsoredPins() {
-        LocalDate today = LocalDate.now();
-        List<SponsoredPin> activePins = sponsoredPinRepository.findActiveSponsoredPins(today);
+        List<SponsoredPin> activePins = sponsoredPinRepository.findActiveSponsoredPins(LocalDateTime.now());
         return activePins.stream()
                 .map(this::convertToDto)
                 .peek(this::calculateMetrics)
@@ -260,8 +282,7 @@ public class SponsoredPinServiceImpl implements SponsoredPinService {
 
     @Override
     public Page<SponsoredPinDto> getActiveSponsoredPins(Pageable pageable) {
-        LocalDate today = LocalDate.now();
-        Page<SponsoredPin> activePinsPage = sponsoredPinRepository.findActiveSponsoredPins(today, pageable);
+        Page<SponsoredPin> activePinsPage = sponsoredPinRepository.findActiveSponsoredPins(LocalDateTime.now(), pageable);
         return activePinsPage.map(pin -> {
             SponsoredPinDto dto = convertToDto(pin);
             calculateMetrics(dto);
@@ -279,70 +300,33 @@ public class SponsoredPinServiceImpl implements SponsoredPinService {
         sponsoredPin.setUpdatedAt(LocalDateTime.now());
         
         SponsoredPin updatedPin = sponsoredPinRepository.save(sponsoredPin);
+        adServingService.requestRefresh();
+        campaignLifecycleService.scheduleSponsoredPin(updatedPin.getId(), updatedPin.getEndDate());
         return convertToDto(updatedPin);
     }
 
     @Override
-    @Transactional
     public void recordImpression(Long id) {
-        SponsoredPin sponsoredPin = sponsoredPinRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Sponsored pin not found with id: " + id));
-        
-        sponsoredPin.setImpressions(sponsoredPin.getImpressions() + 1);
-        sponsoredPin.setUpdatedAt(LocalDateTime.now());
-        
-        sponsoredPinRepository.save(sponsoredPin);
-        
-        // Update campaign impressions if associated with a campaign
-        if (sponsoredPin.getCampaignId() != null) {
-            Campaign campaign = campaignRepository.findById(sponsoredPin.getCampaignId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Campaign not found with id: " + sponsoredPin.getCampaignId()));
-            
-            campaign.setImpressions(campaign.getImpressions() + 1);
-            campaign.setUpdatedAt(LocalDateTime.now());
-            
-            campaignRepository.save(campaign);
-        }
+        requireActiveSponsoredPin(id);
+        adEventCounterService.recordSponsoredPinEvent(id, AdEventType.IMPRESSION);
     }
 
     @Override
-    @Transactional
     public void recordClick(Long id) {
-        SponsoredPin sponsoredPin = sponsoredPinRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Sponsored pin not found with id: " + id));
-        
-        sponsoredPin.setClicks(sponsoredPin.getClicks() + 1);
-        sponsoredPin.setUpdatedAt(LocalDateTime.now());
-        
-        sponsoredPinRepository.save(sponsoredPin);
-        
-        // Update campaign clicks if associated with a campaign
-        if (sponsoredPin.getCampaignId() != null) {
-            Campaign campaign = campaignRepository.findById(sponsoredPin.getCampaignId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Campaign not found with id: " + sponsoredPin.getCampaignId()));
-            
-            campaign.setClicks(campaign.getClicks() + 1);
-            campaign.setUpdatedAt(LocalDateTime.now());
-            
-            campaignRepository.save(campaign);
-        }
+        requireActiveSponsoredPin(id);
+        adEventCounterService.recordSponsoredPinEvent(id, AdEventType.CLICK);
     }
 
     @Override
-    @Transactional
     public void recordSave(Long id) {
-        SponsoredPin sponsoredPin = sponsoredPinRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Sponsored pin not found with id: " + id));
-        
-        sponsoredPin.setSaves(sponsoredPin.getSaves() + 1);
-        sponsoredPin.setUpdatedAt(LocalDateTime.now());
-        
-        sponsoredPinRepository.save(sponsoredPin);
+        requireActiveSponsoredPin(id);
+        adEventCounterService.recordSponsoredPinEvent(id, AdEventType.SAVE);
     }
 
     @Override
     public List<SponsoredPinDto> getSponsoredPinsByDateRange(LocalDate startDate, LocalDate endDate) {
-        List<SponsoredPin> sponsoredPins = sponsoredPinRepository.findByStartDateLessThanEqualAndEndDateGreaterThanEqual(endDate, startDate);
+        List<SponsoredPin> sponsoredPins = sponsoredPinRepository.findByStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                endDate.atTime(LocalTime.MAX), startDate.atStartOfDay());
         return sponsoredPins.stream()
                 .map(this::convertToDto)
                 .peek(this::calculateMetrics)
@@ -408,17 +392,25 @@ public class SponsoredPinServiceImpl implements SponsoredPinService {
         // Calculate Click-Through Rate (CTR)
         if (dto.getImpressions() != null && dto.getImpressions() > 0 && dto.getClicks() != null) {
             double ctr = (double) dto.getClicks() / dto.getImpressions() * 100;
-            dto.setClickThroughRate(BigDecimal.valueOf(ctr).setScale(2, RoundingMode.HALF_UP));
+            dto.setClickThroughRate(BigDecimal.valueOf(ctr).setScale(2, RoundingMode.HALF_UP).doubleValue());
         } else {
-            dto.setClickThroughRate(BigDecimal.ZERO.setScale(2));
+            dto.setClickThroughRate(0);
         }
         
         // Calculate Cost Per Click (CPC)
         if (dto.getClicks() != null && dto.getClicks() > 0 && dto.getBidAmount() != null) {
             BigDecimal cpc = dto.getBidAmount();
-            dto.setCostPerClick(cpc.setScale(2, RoundingMode.HALF_UP));
+            dto.setCostPerClick(cpc.setScale(2, RoundingMode.HALF_UP).doubleValue());
         } else {
-            dto.setCostPerClick(BigDecimal.ZERO.setScale(2));
+            dto.setCostPerClick(0);
+        }
+    }
+
+    // Helper method to refuse events for ids outside the cached active set the batch endpoint also checks,
+    // so a bogus id is a 404 instead of counts and stats rows for a sponsored pin that does not exist
+    private void requireActiveSponsoredPin(Long id) {
+        if (!activeAdService.isSponsoredPinActive(id)) {
+            throw new ResourceNotFoundException("Active sponsored pin not found with id: " + id);
         }
     }
 }
\ No newline at end of file
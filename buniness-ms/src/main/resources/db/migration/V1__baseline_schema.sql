@@ -0,0 +1,98 @@
+-- Schema as previously created by ddl-auto: update. Databases that already have these tables are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and only receive later migrations.
+
+CREATE TABLE business_profiles (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    business_name VARCHAR(255) NOT NULL,
+    logo_url VARCHAR(255),
+    description TEXT,
+    website_url VARCHAR(255),
+    category ENUM('ARTS_AND_CRAFTS', 'AUTOMOTIVE', 'BEAUTY', 'EDUCATION', 'ENTERTAINMENT', 'FASHION', 'FINANCE',
+        'FOOD_AND_BEVERAGE', 'HEALTH_AND_WELLNESS', 'HOME_DECOR', 'OTHER', 'REAL_ESTATE', 'RETAIL', 'TECHNOLOGY',
+        'TRAVEL'),
+    contact_email VARCHAR(255),
+    contact_phone VARCHAR(255),
+    address VARCHAR(255),
+    city VARCHAR(255),
+    state VARCHAR(255),
+    country VARCHAR(255),
+    postal_code VARCHAR(255),
+    verification_status ENUM('PENDING', 'REJECTED', 'VERIFIED') NOT NULL,
+    active BIT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_business_profiles_user UNIQUE (user_id)
+);
+
+CREATE TABLE campaigns (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    business_profile_id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    description TEXT,
+    objective ENUM('APP_INSTALLS', 'BRAND_AWARENESS', 'CATALOG_SALES', 'CONVERSIONS', 'LEAD_GENERATION', 'TRAFFIC',
+        'VIDEO_VIEWS'),
+    status ENUM('ACTIVE', 'ARCHIVED', 'COMPLETED', 'DRAFT', 'PAUSED', 'SCHEDULED') NOT NULL,
+    budget DECIMAL(10, 2),
+    daily_budget DECIMAL(10, 2),
+    start_date DATETIME(6),
+    end_date DATETIME(6),
+    target_audience TEXT,
+    impressions BIGINT,
+    clicks BIGINT,
+    conversions BIGINT,
+    amount_spent DECIMAL(10, 2),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE sponsored_pins (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    business_profile_id BIGINT NOT NULL,
+    pin_id BIGINT NOT NULL,
+    campaign_id BIGINT,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    target_url VARCHAR(255),
+    status ENUM('ACTIVE', 'ARCHIVED', 'COMPLETED', 'DRAFT', 'PAUSED', 'PENDING_REVIEW', 'REJECTED') NOT NULL,
+    budget DECIMAL(10, 2),
+    bid_amount DECIMAL(10, 2),
+    start_date DATETIME(6),
+    end_date DATETIME(6),
+    impressions BIGINT,
+    clicks BIGINT,
+    saves BIGINT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE showcases (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    business_profile_id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    cover_image_url VARCHAR(255),
+    theme VARCHAR(255),
+    display_order INTEGER,
+    featured BIT NOT NULL,
+    active BIT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE showcase_items (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    showcase_id BIGINT NOT NULL,
+    pin_id BIGINT NOT NULL,
+    description TEXT,
+    display_order INTEGER,
+    featured BIT NOT NULL,
+    active BIT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+);
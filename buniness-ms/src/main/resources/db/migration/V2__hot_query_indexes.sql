@@ -0,0 +1,23 @@
+-- Composite indexes for the listing and scheduling queries. Equality columns come first and the
+-- sort or range column last.
+
+-- Serving and scheduling scans: status is the equality, the date window the range
+CREATE INDEX idx_sponsored_pins_status_dates ON sponsored_pins (status, start_date, end_date);
+CREATE INDEX idx_campaigns_status_start ON campaigns (status, start_date);
+CREATE INDEX idx_campaigns_status_end ON campaigns (status, end_date);
+
+-- Campaigns and sponsored pins of an owner, optionally filtered by status
+CREATE INDEX idx_campaigns_profile_status ON campaigns (business_profile_id, status);
+CREATE INDEX idx_sponsored_pins_profile_status ON sponsored_pins (business_profile_id, status);
+CREATE INDEX idx_sponsored_pins_campaign_status ON sponsored_pins (campaign_id, status);
+CREATE INDEX idx_sponsored_pins_pin ON sponsored_pins (pin_id);
+
+-- Business profile filters
+CREATE INDEX idx_business_profiles_verification ON business_profiles (verification_status);
+CREATE INDEX idx_business_profiles_category_active ON business_profiles (category, active);
+
+-- Showcases of a profile and items of a showcase in display order
+CREATE INDEX idx_showcases_profile_display_order ON showcases (business_profile_id, display_order);
+CREATE INDEX idx_showcases_theme_active ON showcases (theme, active);
+CREATE INDEX idx_showcase_items_showcase_display_order ON showcase_items (showcase_id, display_order);
+CREATE INDEX idx_showcase_items_pin ON showcase_items (pin_id);
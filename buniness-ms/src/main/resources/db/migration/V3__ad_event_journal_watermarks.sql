@@ -0,0 +1,8 @@
+-- Highest ad event journal sequence applied to the counters, per journal. Written in the same
+-- transaction as the counter increments, so a restart replays exactly the entries that were not applied.
+CREATE TABLE ad_event_journal_watermarks (
+    journal_id VARCHAR(64) NOT NULL,
+    applied_sequence BIGINT NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (journal_id)
+);
@@ -0,0 +1,29 @@
+-- Ad event counts and spend per campaign or sponsored pin and hour, added to by the ad event flush.
+-- Hours older than the hourly retention are compacted into one row per day, so a range query reads at
+-- most one row per hour or day it covers, however many events there were.
+CREATE TABLE ad_stats_hourly (
+    entity_type VARCHAR(16) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    bucket_start DATETIME NOT NULL,
+    impressions BIGINT NOT NULL DEFAULT 0,
+    clicks BIGINT NOT NULL DEFAULT 0,
+    saves BIGINT NOT NULL DEFAULT 0,
+    conversions BIGINT NOT NULL DEFAULT 0,
+    spend DECIMAL(12, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (entity_type, entity_id, bucket_start)
+);
+
+-- Compaction takes the oldest hours of all entities
+CREATE INDEX idx_ad_stats_hourly_bucket ON ad_stats_hourly (bucket_start);
+
+CREATE TABLE ad_stats_daily (
+    entity_type VARCHAR(16) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    bucket_date DATE NOT NULL,
+    impressions BIGINT NOT NULL DEFAULT 0,
+    clicks BIGINT NOT NULL DEFAULT 0,
+    saves BIGINT NOT NULL DEFAULT 0,
+    conversions BIGINT NOT NULL DEFAULT 0,
+    spend DECIMAL(12, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (entity_type, entity_id, bucket_date)
+);
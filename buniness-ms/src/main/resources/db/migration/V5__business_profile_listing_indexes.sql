@@ -0,0 +1,8 @@
+-- Business profile listings page in id order, by offset or after the last id seen. With id as the last
+-- column the index hands out a page in order and a keyset page starts right at the last id, so neither
+-- sorts nor reads the rows before the page. These replace the filter-only indexes.
+CREATE INDEX idx_business_profiles_verification_id ON business_profiles (verification_status, id);
+CREATE INDEX idx_business_profiles_category_active_id ON business_profiles (category, active, id);
+
+DROP INDEX idx_business_profiles_verification ON business_profiles;
+DROP INDEX idx_business_profiles_category_active ON business_profiles;
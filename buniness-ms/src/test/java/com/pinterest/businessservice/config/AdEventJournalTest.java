@@ -0,0 +1,189 @@
+package com.pinterest.businessservice.config;
+
+import com.pinterest.businessservice.model.AdEventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdEventJournalTest {
+
+    // Room for four entries per segment
+    private static final int SEGMENT_BYTES = 4 * AdEventJournal.ENTRY_BYTES;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should replay the entries after the applied sequence once reopened, across segments")
+    void shouldReplayAfterAppliedSequence() throws IOException {
+        String journalId;
+        try (AdEventJournal journal = new AdEventJournal(directory, SEGMENT_BYTES, 1000)) {
+            journalId = journal.getJournalId();
+            for (long id = 1; id <= 10; id++) {
+                journal.append(id % 2 == 0, id, AdEventType.CLICK, 1000 + id);
+            }
+        }
+        assertThat(segmentCount()).isEqualTo(3);
+
+        try (AdEventJournal journal = new AdEventJournal(directory, SEGMENT_BYTES, 1000)) {
+            assertThat(journal.getJournalId()).isEqualTo(journalId);
+            assertThat(journal.lastSequence()).isEqualTo(10);
+
+            List<Long> replayed = new ArrayList<>();
+            journal.replay(3, (sequence, sponsoredPin, id, type, timestampMillis) -> {
+                assertThat(sponsoredPin).isEqualTo(id % 2 == 0);
+                assertThat(type).isEqualTo(AdEventType.CLICK);
+                assertThat(timestampMillis).isEqualTo(1000 + id);
+                replayed.add(sequence);
+            });
+            assertThat(replayed).containsExactly(4L, 5L, 6L, 7L, 8L, 9L, 10L);
+            assertThat(journal.append(true, 11, AdEventType.SAVE, 0)).isEqualTo(11);
+        }
+    }
+
+    @Test
+    @DisplayName("Should delete applied segments but keep the one being appended to")
+    void shouldCompactAppliedSegments() throws IOException {
+        try (AdEventJournal journal = new AdEventJournal(directory, SEGMENT_BYTES, 1000)) {
+            for (long id = 1; id <= 9; id++) {
+                journal.append(true, id, AdEventType.IMPRESSION, 0);
+            }
+            assertThat(segmentCount()).isEqualTo(3);
+
+            journal.markApplied(6);
+            assertThat(segmentCount()).isEqualTo(2);
+
+            journal.markApplied(9);
+            assertThat(segmentCount()).isEqualTo(1);
+
+            List<Long> replayed = new ArrayList<>();
+            journal.replay(0, (sequence, sponsoredPin, id, type, timestampMillis) -> replayed.add(sequence));
+            assertThat(replayed).containsExactly(9L);
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop a torn entry at the end of the journal and continue after the last intact one")
+    void shouldDropTornEntry() throws IOException {
+        try (AdEventJournal journal = new AdEventJournal(directory, SEGMENT_BYTES, 1000)) {
+            journal.append(true, 1, AdEventType.IMPRESSION, 0);
+            journal.append(true, 2, AdEventType.IMPRESSION, 0);
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(path -> path.toString().endsWith(".journal")).findFirst().orElseThrow();
+        }
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[AdEventJournal.ENTRY_BYTES + 9] ^= 1;
+        Files.write(segment, bytes);
+
+        try (AdEventJournal journal = new AdEventJournal(directory, SEGMENT_BYTES, 1000)) {
+            assertThat(journal.lastSequence()).isEqualTo(1);
+            assertThat(journal.append(true, 3, AdEventType.IMPRESSION, 0)).isEqualTo(2);
+
+            List<Long> replayed = new ArrayList<>();
+            journal.replay(0, (sequence, sponsoredPin, id, type, timestampMillis) -> replayed.add(id));
+            assertThat(replayed).containsExactly(1L, 3L);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep numbering after the applied entries when the tail segment lost its only entry")
+    void shouldNotReuseAppliedSequencesAfterEmptyTail() throws IOException {
+        try (AdEventJournal journal = new AdEventJournal(directory, SEGMENT_BYTES, 1000)) {
+            for (long id = 1; id <= 5; id++) {
+                journal.append(true, id, AdEventType.IMPRESSION, 0);
+            }
+            journal.markApplied(4);
+        }
+        // The roll reached the disk, the entry written after it did not
+        Path tail = directory.resolve("segment-00000000000000000005.journal");
+        Files.write(tail, new byte[SEGMENT_BYTES]);
+
+        try (AdEventJournal journal = new AdEventJournal(directory, SEGMENT_BYTES, 1000)) {
+            journal.continueAfter(4);
+            journal.replay(4, (sequence, sponsoredPin, id, type, timestampMillis) -> {
+                throw new AssertionError("Nothing after the applied sequence survived");
+            });
+            assertThat(journal.append(true, 6, AdEventType.CLICK, 0)).isEqualTo(5);
+            assertThat(journal.append(true, 7, AdEventType.CLICK, 0)).isEqualTo(6);
+            journal.awaitDurable();
+        }
+
+        // Crashed before those were applied, they are replayed after the stored sequence
+        try (AdEventJournal journal = new AdEventJournal(directory, SEGMENT_BYTES, 1000)) {
+            journal.continueAfter(4);
+            List<Long> replayed = new ArrayList<>();
+            journal.replay(4, (sequence, sponsoredPin, id, type, timestampMillis) -> replayed.add(id));
+            assertThat(replayed).containsExactly(6L, 7L);
+        }
+    }
+
+    @Test
+    @DisplayName("Should continue after the stored applied sequence when the segments are gone")
+    void shouldContinueAfterAppliedSequenceOnEmptyJournal() throws IOException {
+        try (AdEventJournal journal = new AdEventJournal(directory, SEGMENT_BYTES, 1000)) {
+            journal.continueAfter(42);
+            assertThat(journal.append(false, 1, AdEventType.CONVERSION, 0)).isEqualTo(43);
+        }
+
+        try (AdEventJournal journal = new AdEventJournal(directory, SEGMENT_BYTES, 1000)) {
+            assertThat(journal.lastSequence()).isEqualTo(43);
+            List<Long> replayed = new ArrayList<>();
+            journal.replay(42, (sequence, sponsoredPin, id, type, timestampMillis) -> replayed.add(sequence));
+            assertThat(replayed).containsExactly(43L);
+        }
+    }
+
+    @Test
+    @DisplayName("Should journal concurrent appends under distinct sequences and sync them for every waiting caller")
+    void shouldAppendConcurrently() throws Exception {
+        int threads = 8;
+        int perThread = 250;
+        try (AdEventJournal journal = new AdEventJournal(directory, SEGMENT_BYTES, 1000)) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> appenders = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                appenders.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        journal.append(true, i, AdEventType.IMPRESSION, 0);
+                        if (i % 50 == 0) {
+                            // Returns well before the one second sync interval
+                            journal.awaitDurable();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> appender : appenders) {
+                appender.get(10, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+            assertThat(journal.lastSequence()).isEqualTo(threads * perThread);
+        }
+
+        try (AdEventJournal journal = new AdEventJournal(directory, SEGMENT_BYTES, 1000)) {
+            List<Long> replayed = new ArrayList<>();
+            journal.replay(0, (sequence, sponsoredPin, id, type, timestampMillis) -> replayed.add(sequence));
+            assertThat(replayed).hasSize(threads * perThread).doesNotHaveDuplicates().isSorted();
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".journal")).count();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.pinterest.businessservice.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimingWheelTest {
+
+    @Test
+    @DisplayName("Should hand out items at their deadline tick, across levels, in deadline order")
+    void shouldExpireItemsAtTheirDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 3, 0);
+        // Level 0, level 1 and level 2 deadlines, and one past the top level's reach of 64^3 seconds
+        wheel.add("soon", 5_000);
+        wheel.add("minutes", 200_000);
+        wheel.add("hours", 10_000_000);
+        wheel.add("days", 1_000_000_000);
+        wheel.add("past", -1);
+
+        assertThat(wheel.advance(0)).containsExactly("past");
+        assertThat(wheel.advance(4_999)).isEmpty();
+        assertThat(wheel.advance(5_000)).containsExactly("soon");
+        assertThat(wheel.advance(199_999)).isEmpty();
+        assertThat(wheel.advance(200_500)).containsExactly("minutes");
+        assertThat(wheel.advance(9_999_999)).isEmpty();
+        assertThat(wheel.advance(10_000_000)).containsExactly("hours");
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(999_999_999)).isEmpty();
+        assertThat(wheel.advance(1_000_000_000)).containsExactly("days");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hand out every item with a passed deadline when advanced over many ticks at once")
+    void shouldCatchUpOverManyTicks() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(1000, 4, 0);
+        for (int i = 1; i <= 500; i++) {
+            wheel.add(i, i * 7_919L);
+        }
+        List<Integer> expired = new ArrayList<>(wheel.advance(250 * 7_919L));
+        assertThat(expired).hasSize(250);
+        assertThat(expired).isSorted();
+        expired.addAll(wheel.advance(Long.MAX_VALUE / 2));
+        assertThat(expired).hasSize(500);
+        assertThat(wheel.size()).isZero();
+    }
+}
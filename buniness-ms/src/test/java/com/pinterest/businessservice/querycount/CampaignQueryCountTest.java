@@ -0,0 +1,80 @@
+package com.pinterest.businessservice.querycount;
+
+import com.pinterest.businessservice.model.BusinessProfile;
+import com.pinterest.businessservice.model.BusinessProfile.VerificationStatus;
+import com.pinterest.businessservice.model.Campaign;
+import com.pinterest.businessservice.model.Campaign.CampaignStatus;
+import com.pinterest.businessservice.model.SponsoredPin;
+import com.pinterest.businessservice.model.SponsoredPin.SponsoredStatus;
+import com.pinterest.businessservice.repository.BusinessProfileRepository;
+import com.pinterest.businessservice.repository.CampaignRepository;
+import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.servicesupport.querycount.QueryCountTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+public class CampaignQueryCountTest extends QueryCountTestSupport {
+
+    private static final int SPONSORED_PINS = 100;
+
+    private static final int PINS_PAGE_SIZE = 20;
+
+    @Autowired
+    private BusinessProfileRepository businessProfileRepository;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private SponsoredPinRepository sponsoredPinRepository;
+
+    private Long campaignId;
+
+    @BeforeEach
+    void setUp() {
+        BusinessProfile businessProfile = businessProfileRepository.save(BusinessProfile.builder()
+                .userId(newOwnerId())
+                .businessName("Acme Outdoor")
+                .verificationStatus(VerificationStatus.VERIFIED)
+                .active(true)
+                .build());
+        Campaign campaign = campaignRepository.save(Campaign.builder()
+                .businessProfileId(businessProfile.getId())
+                .name("Spring launch")
+                .status(CampaignStatus.ACTIVE)
+                .impressions(0L)
+                .clicks(0L)
+                .conversions(0L)
+                .build());
+        campaignId = campaign.getId();
+
+        List<SponsoredPin> sponsoredPins = new ArrayList<>();
+        for (int i = 0; i < SPONSORED_PINS; i++) {
+            sponsoredPins.add(SponsoredPin.builder()
+                    .businessProfileId(businessProfile.getId())
+                    .pinId((long) i)
+                    .campaignId(campaignId)
+                    .title("Sponsored pin " + i)
+                    .status(SponsoredStatus.ACTIVE)
+                    .build());
+        }
+        sponsoredPinRepository.saveAll(sponsoredPins);
+    }
+
+    @Test
+    @DisplayName("Should load a campaign with its sponsored pins in a constant number of queries")
+    void shouldGetCampaignWithoutNPlusOne() throws Exception {
+        // Campaign, sponsored pin totals, business profile and one page of sponsored pins. Rows are the
+        // campaign, the business profile and the page, which reads one pin past its size to tell whether
+        // another page follows
+        assertQueryBudget(get("/api/campaigns/{id}", campaignId).param("pinsSize", String.valueOf(PINS_PAGE_SIZE)),
+                4, PINS_PAGE_SIZE + 3);
+    }
+}
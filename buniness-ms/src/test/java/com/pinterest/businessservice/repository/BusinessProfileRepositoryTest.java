@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -145,4 +146,32 @@ public class BusinessProfileRepositoryTest {
         assertThat(foodProfiles).hasSize(1);
         assertThat(foodProfiles.get(0).getBusinessName()).isEqualTo("Food Services");
     }
+
+    @Test
+    @DisplayName("Should read search documents after the given id as projections, in id order")
+    void shouldFindSearchDocumentsAfter() {
+        // given
+        for (long userId = 201L; userId <= 203L; userId++) {
+            entityManager.persist(BusinessProfile.builder()
+                    .userId(userId)
+                    .businessName("Business " + userId)
+                    .description("Description " + userId)
+                    .verificationStatus(BusinessProfile.VerificationStatus.VERIFIED)
+                    .active(true)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Long firstId = businessProfileRepository.findByUserId(201L).orElseThrow().getId();
+
+        // when
+        List<SearchDocumentRow> rows = businessProfileRepository.findSearchDocumentsAfter(firstId, PageRequest.of(0, 1));
+
+        // then
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getId()).isGreaterThan(firstId);
+        assertThat(rows.get(0).getBusinessProfileId()).isEqualTo(rows.get(0).getId());
+        assertThat(rows.get(0).getTitle()).isEqualTo("Business 202");
+        assertThat(rows.get(0).getDescription()).isEqualTo("Description 202");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.pinterest.businessservice.repository;
+
+import com.pinterest.servicesupport.config.SqlStatementCounter;
+import com.pinterest.servicesupport.config.SqlStatementCounter.RequestStatements;
+import com.pinterest.businessservice.model.BusinessProfile.BusinessCategory;
+import com.pinterest.businessservice.model.BusinessProfile.VerificationStatus;
+import com.pinterest.businessservice.model.Campaign.CampaignStatus;
+import com.pinterest.businessservice.model.SponsoredPin.SponsoredStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL behind the campaign, sponsored pin and showcase repository queries and checks
+ * that none of them needs a table scan. The schema comes from the Flyway migrations, so dropping an
+ * index or changing a query so it no longer matches one fails the build. H2 plans differently from
+ * MySQL, but a query H2 can only answer with a table scan has no usable index in MySQL either.
+ * <p>
+ * The business name and showcase text searches use leading wildcards and are not covered.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:queryplan;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.cloud.consul.enabled=false",
+        "spring.cloud.compatibility-verifier.enabled=false",
+        "ad-events.journal.enabled=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+public class QueryIndexUsageTest {
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private SponsoredPinRepository sponsoredPinRepository;
+
+    @Autowired
+    private BusinessProfileRepository businessProfileRepository;
+
+    @Autowired
+    private ShowcaseRepository showcaseRepository;
+
+    @Autowired
+    private ShowcaseItemRepository showcaseItemRepository;
+
+    @Test
+    @DisplayName("Should serve campaign listing and scheduling queries from an index")
+    void shouldUseIndexesForCampaignQueries() {
+        LocalDateTime now = LocalDateTime.now();
+        assertUsesIndex(() -> campaignRepository.findByBusinessProfileId(1L));
+        assertUsesIndex(() -> campaignRepository.findByBusinessProfileIdAndStatus(1L, CampaignStatus.ACTIVE));
+        assertUsesIndex(() -> campaignRepository.findByStatus(CampaignStatus.ACTIVE));
+        assertUsesIndex(() -> campaignRepository.findActiveCampaigns(now));
+        assertUsesIndex(() -> campaignRepository.findCampaignsToActivate(now));
+        assertUsesIndex(() -> campaignRepository.findCampaignsToComplete(now));
+    }
+
+    @Test
+    @DisplayName("Should serve sponsored pin serving and listing queries from an index")
+    void shouldUseIndexesForSponsoredPinQueries() {
+        assertUsesIndex(() -> sponsoredPinRepository.findActiveSponsoredPins(LocalDateTime.now()));
+        assertUsesIndex(() -> sponsoredPinRepository.findServableSponsoredPins(LocalDateTime.now()));
+        assertUsesIndex(() -> sponsoredPinRepository.findByBusinessProfileId(1L));
+        assertUsesIndex(() -> sponsoredPinRepository.findByBusinessProfileIdAndStatus(1L, SponsoredStatus.ACTIVE));
+        assertUsesIndex(() -> sponsoredPinRepository.findByCampaignId(1L));
+        assertUsesIndex(() -> sponsoredPinRepository.findByCampaignIdAndStatus(1L, SponsoredStatus.ACTIVE));
+        assertUsesIndex(() -> sponsoredPinRepository.findByCampaignId(1L, PageRequest.of(0, 20)));
+        assertUsesIndex(() -> sponsoredPinRepository.sumByCampaignIds(List.of(1L, 2L, 3L)));
+        assertUsesIndex(() -> sponsoredPinRepository.findByPinId(1L));
+        assertUsesIndex(() -> sponsoredPinRepository.findByStatus(SponsoredStatus.ACTIVE));
+    }
+
+    @Test
+    @DisplayName("Should serve business profile and showcase queries from an index")
+    void shouldUseIndexesForProfileAndShowcaseQueries() {
+        assertUsesIndex(() -> businessProfileRepository.findByUserId(1L));
+        assertUsesIndex(() -> businessProfileRepository.findByVerificationStatus(VerificationStatus.VERIFIED));
+        assertUsesIndex(() -> businessProfileRepository.findByCategory(BusinessCategory.TRAVEL));
+        assertUsesIndex(() -> businessProfileRepository.findByVerificationStatus(VerificationStatus.VERIFIED,
+                PageRequest.of(3, 10, Sort.by("id"))));
+        assertUsesIndex(() -> businessProfileRepository.findByCategory(BusinessCategory.TRAVEL, PageRequest.of(3, 10, Sort.by("id"))));
+        assertUsesIndex(() -> businessProfileRepository.findByVerificationStatusAfter(VerificationStatus.VERIFIED, 100L,
+                PageRequest.of(0, 11)));
+        assertUsesIndex(() -> businessProfileRepository.findByCategoryAfter(BusinessCategory.TRAVEL, 100L, PageRequest.of(0, 11)));
+        assertUsesIndex(() -> showcaseRepository.findByBusinessProfileIdOrderByDisplayOrder(1L));
+        assertUsesIndex(() -> showcaseItemRepository.findByShowcaseIdOrderByDisplayOrder(1L));
+        assertUsesIndex(() -> showcaseItemRepository.findFeaturedItemsByShowcaseId(1L));
+    }
+
+    // Helper method to run a repository call and EXPLAIN every statement it issued
+    private void assertUsesIndex(Runnable repositoryCall) {
+        sqlStatementCounter.begin();
+        RequestStatements statements;
+        try {
+            repositoryCall.run();
+        } finally {
+            statements = sqlStatementCounter.end();
+        }
+
+        assertThat(statements.getStatements()).as("statements issued").isNotEmpty();
+        for (String sql : statements.getStatements()) {
+            assertThat(explain(sql)).as("plan of %s", sql).doesNotContain("tableScan");
+        }
+    }
+
+    // Helper method to get H2's plan, parameters can stay unbound for EXPLAIN
+    private String explain(String sql) {
+        return jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                resultSet -> resultSet.next() ? resultSet.getString(1) : "");
+    }
+}
@@ -0,0 +1,68 @@
+package com.pinterest.businessservice.service;
+
+import com.pinterest.businessservice.repository.CampaignRepository;
+import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.businessservice.service.impl.ActiveAdServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ActiveAdServiceImplTest {
+
+    @Mock
+    private SponsoredPinRepository sponsoredPinRepository;
+
+    @Mock
+    private CampaignRepository campaignRepository;
+
+    private ActiveAdServiceImpl activeAdService;
+
+    @BeforeEach
+    void setUp() {
+        activeAdService = new ActiveAdServiceImpl(sponsoredPinRepository, campaignRepository);
+    }
+
+    @Test
+    @DisplayName("Should answer from the ids loaded at startup without further queries")
+    void shouldAnswerFromCachedIds() {
+        when(sponsoredPinRepository.findActiveSponsoredPinIds(any())).thenReturn(List.of(1L, 2L));
+        when(campaignRepository.findActiveCampaignIds(any())).thenReturn(List.of(7L));
+
+        activeAdService.load();
+
+        assertThat(activeAdService.isSponsoredPinActive(1L)).isTrue();
+        assertThat(activeAdService.isSponsoredPinActive(3L)).isFalse();
+        assertThat(activeAdService.isSponsoredPinActive(null)).isFalse();
+        assertThat(activeAdService.isCampaignActive(7L)).isTrue();
+        assertThat(activeAdService.isCampaignActive(1L)).isFalse();
+        verify(sponsoredPinRepository, times(1)).findActiveSponsoredPinIds(any());
+        verify(campaignRepository, times(1)).findActiveCampaignIds(any());
+    }
+
+    @Test
+    @DisplayName("Should keep the previous ids when a refresh fails")
+    void shouldKeepPreviousIdsWhenRefreshFails() {
+        when(sponsoredPinRepository.findActiveSponsoredPinIds(any()))
+                .thenReturn(List.of(1L))
+                .thenThrow(new IllegalStateException("connection refused"));
+        when(campaignRepository.findActiveCampaignIds(any())).thenReturn(List.of(7L));
+
+        activeAdService.load();
+        activeAdService.refresh();
+
+        assertThat(activeAdService.isSponsoredPinActive(1L)).isTrue();
+        assertThat(activeAdService.isCampaignActive(7L)).isTrue();
+    }
+}
@@ -0,0 +1,181 @@
+package com.pinterest.businessservice.service;
+
+import com.pinterest.businessservice.config.AdEventJournal;
+import com.pinterest.businessservice.model.AdEventType;
+import com.pinterest.businessservice.service.impl.AdEventCounterServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class AdEventCounterServiceImplTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private AdEventCounterServiceImpl adEventCounterService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                // Production runs MySQL, the hourly stats are written with ON DUPLICATE KEY UPDATE
+                .setName(UUID.randomUUID() + ";MODE=MySQL")
+                .addScript("db/migration/V1__baseline_schema.sql")
+                .addScript("db/migration/V3__ad_event_journal_watermarks.sql")
+                .addScript("db/migration/V4__ad_stats_rollups.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        meterRegistry = new SimpleMeterRegistry();
+        adEventCounterService = new AdEventCounterServiceImpl(new NamedParameterJdbcTemplate(database),
+                new DataSourceTransactionManager(database), meterRegistry, null, false);
+
+        jdbcTemplate.update("INSERT INTO campaigns (id, business_profile_id, name, status, impressions, clicks, conversions) "
+                + "VALUES (10, 1, 'Spring', 'ACTIVE', 5, 0, 0)");
+        jdbcTemplate.update("INSERT INTO sponsored_pins (id, business_profile_id, pin_id, campaign_id, title, status, impressions) "
+                + "VALUES (100, 1, 1000, 10, 'Pin', 'ACTIVE', 7)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should write nothing until flushed, then add buffered counts to the pin and its campaign")
+    void shouldFlushBufferedCounts() {
+        adEventCounterService.recordSponsoredPinEvent(100L, AdEventType.IMPRESSION);
+        adEventCounterService.recordSponsoredPinEvent(100L, AdEventType.IMPRESSION);
+        adEventCounterService.recordSponsoredPinEvent(100L, AdEventType.CLICK);
+        adEventCounterService.recordSponsoredPinEvent(100L, AdEventType.SAVE);
+        adEventCounterService.recordCampaignEvent(10L, AdEventType.CONVERSION);
+
+        assertThat(pinCount("impressions")).isEqualTo(7);
+
+        adEventCounterService.flush();
+
+        assertThat(pinCount("impressions")).isEqualTo(9);
+        assertThat(pinCount("clicks")).isEqualTo(1);
+        assertThat(pinCount("saves")).isEqualTo(1);
+        assertThat(campaignCount("impressions")).isEqualTo(7);
+        assertThat(campaignCount("clicks")).isEqualTo(1);
+        assertThat(campaignCount("conversions")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not lose increments recorded concurrently")
+    void shouldNotLoseConcurrentIncrements() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8_000; i++) {
+            executor.execute(() -> adEventCounterService.recordSponsoredPinEvent(100L, AdEventType.CLICK));
+            if (i % 1_000 == 0) {
+                executor.execute(adEventCounterService::flush);
+            }
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        adEventCounterService.flush();
+
+        assertThat(pinCount("clicks")).isEqualTo(8_000);
+        assertThat(campaignCount("clicks")).isEqualTo(8_000);
+    }
+
+    @Test
+    @DisplayName("Should drop counts for deleted rows and reject events a target does not count")
+    void shouldDropCountsForMissingRows() {
+        adEventCounterService.recordCampaignEvent(99L, AdEventType.CLICK);
+
+        adEventCounterService.flush();
+
+        assertThat(meterRegistry.get(AdEventCounterServiceImpl.DROPPED_METRIC).counter().count()).isEqualTo(1);
+        assertThrows(IllegalArgumentException.class,
+                () -> adEventCounterService.recordSponsoredPinEvent(100L, AdEventType.CONVERSION));
+        assertThrows(IllegalArgumentException.class,
+                () -> adEventCounterService.recordCampaignEvent(10L, AdEventType.SAVE));
+    }
+
+    @Test
+    @DisplayName("Should count journaled events again after a restart, except the ones already flushed")
+    void shouldReplayUnflushedEventsFromJournal(@TempDir Path journalDirectory) throws IOException {
+        try (AdEventJournal journal = new AdEventJournal(journalDirectory, 1 << 16, 1000)) {
+            AdEventCounterServiceImpl crashed = journaledCounter(journal);
+            crashed.recordSponsoredPinEvent(100L, AdEventType.IMPRESSION);
+            crashed.flush();
+            crashed.recordSponsoredPinEvent(100L, AdEventType.IMPRESSION);
+            crashed.recordCampaignEvent(10L, AdEventType.CONVERSION);
+        }
+        assertThat(pinCount("impressions")).isEqualTo(8);
+
+        try (AdEventJournal journal = new AdEventJournal(journalDirectory, 1 << 16, 1000)) {
+            AdEventCounterServiceImpl restarted = journaledCounter(journal);
+            restarted.flush();
+        }
+
+        assertThat(pinCount("impressions")).isEqualTo(9);
+        assertThat(campaignCount("impressions")).isEqualTo(7);
+        assertThat(campaignCount("conversions")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should acknowledge single events once journaled and wait for the fsync only when configured")
+    void shouldSyncSingleEventsOnlyWhenConfigured() {
+        AdEventJournal journal = mock(AdEventJournal.class);
+        AdEventCounterServiceImpl acknowledging = new AdEventCounterServiceImpl(new NamedParameterJdbcTemplate(database),
+                new DataSourceTransactionManager(database), meterRegistry, journal, false);
+        AdEventCounterServiceImpl syncing = new AdEventCounterServiceImpl(new NamedParameterJdbcTemplate(database),
+                new DataSourceTransactionManager(database), meterRegistry, journal, true);
+
+        acknowledging.recordSponsoredPinEvent(100L, AdEventType.CLICK);
+        acknowledging.recordCampaignEvent(10L, AdEventType.CONVERSION);
+        verify(journal, times(2)).append(anyBoolean(), anyLong(), any(), anyLong());
+        verify(journal, never()).awaitDurable();
+
+        syncing.recordSponsoredPinEvent(100L, AdEventType.CLICK);
+        syncing.recordCampaignEvent(10L, AdEventType.CONVERSION);
+        // Events handed over with their own time come from the batch worker, which never waits
+        syncing.recordSponsoredPinEvent(100L, AdEventType.SAVE, LocalDateTime.now());
+        verify(journal, times(2)).awaitDurable();
+    }
+
+    private AdEventCounterServiceImpl journaledCounter(AdEventJournal journal) {
+        AdEventCounterServiceImpl counter = new AdEventCounterServiceImpl(new NamedParameterJdbcTemplate(database),
+                new DataSourceTransactionManager(database), meterRegistry, journal, false);
+        counter.replayJournal();
+        return counter;
+    }
+
+    private long pinCount(String column) {
+        return jdbcTemplate.queryForObject("SELECT " + column + " FROM sponsored_pins WHERE id = 100", Long.class);
+    }
+
+    private long campaignCount(String column) {
+        return jdbcTemplate.queryForObject("SELECT " + column + " FROM campaigns WHERE id = 10", Long.class);
+    }
+}
@@ -0,0 +1,107 @@
+package com.pinterest.businessservice.service;
+
+import com.pinterest.businessservice.dto.AdEventBatchResultDto;
+import com.pinterest.businessservice.dto.AdEventDto;
+import com.pinterest.businessservice.exception.BadRequestException;
+import com.pinterest.businessservice.exception.EventQueueFullException;
+import com.pinterest.businessservice.model.AdEventType;
+import com.pinterest.businessservice.repository.CampaignRepository;
+import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.businessservice.service.impl.ActiveAdServiceImpl;
+import com.pinterest.businessservice.service.impl.AdEventIngestionServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AdEventIngestionServiceImplTest {
+
+    @Mock
+    private SponsoredPinRepository sponsoredPinRepository;
+
+    @Mock
+    private CampaignRepository campaignRepository;
+
+    @Mock
+    private AdEventCounterService adEventCounterService;
+
+    private AdEventIngestionServiceImpl adEventIngestionService;
+
+    @BeforeEach
+    void setUp() {
+        when(sponsoredPinRepository.findActiveSponsoredPinIds(any())).thenReturn(List.of(1L, 2L));
+        ActiveAdServiceImpl activeAdService = new ActiveAdServiceImpl(sponsoredPinRepository, campaignRepository);
+        activeAdService.load();
+        adEventIngestionService = new AdEventIngestionServiceImpl(activeAdService, adEventCounterService,
+                new SimpleMeterRegistry(), 1, 3);
+    }
+
+    @Test
+    @DisplayName("Should queue events for active sponsored pins and reject the rest")
+    void shouldValidateAgainstActiveSponsoredPins() {
+        AdEventBatchResultDto result = adEventIngestionService.submitBatch(List.of(
+                event(AdEventType.IMPRESSION, 1L),
+                event(AdEventType.CLICK, 3L),
+                event(AdEventType.CONVERSION, 2L)));
+
+        assertThat(result.getReceived()).isEqualTo(3);
+        assertThat(result.getAccepted()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(2);
+        verifyNoInteractions(adEventCounterService);
+
+        adEventIngestionService.stop();
+
+        verify(adEventCounterService).recordSponsoredPinEvent(eq(1L), eq(AdEventType.IMPRESSION), any(LocalDateTime.class));
+        verifyNoMoreInteractions(adEventCounterService);
+    }
+
+    @Test
+    @DisplayName("Should count an event stamped ahead of our clock as now")
+    void shouldClampFutureTimestamps() {
+        LocalDateTime future = LocalDateTime.now().plusHours(1);
+
+        AdEventDto event = event(AdEventType.SAVE, 2L);
+        event.setTimestamp(future);
+
+        adEventIngestionService.submitBatch(List.of(event));
+        adEventIngestionService.stop();
+
+        verify(adEventCounterService).recordSponsoredPinEvent(eq(2L), eq(AdEventType.SAVE),
+                argThat(occurredAt -> occurredAt.isBefore(future)));
+    }
+
+    @Test
+    @DisplayName("Should load the active sponsored pins once at startup and refuse a batch while the queue is full or over the size limit")
+    void shouldApplyBackpressure() {
+        adEventIngestionService.submitBatch(List.of(event(AdEventType.IMPRESSION, 1L)));
+
+        assertThrows(EventQueueFullException.class,
+                () -> adEventIngestionService.submitBatch(List.of(event(AdEventType.SAVE, 2L))));
+        assertThrows(BadRequestException.class, () -> adEventIngestionService.submitBatch(List.of(
+                event(AdEventType.IMPRESSION, 1L), event(AdEventType.IMPRESSION, 1L),
+                event(AdEventType.IMPRESSION, 1L), event(AdEventType.IMPRESSION, 1L))));
+        verify(sponsoredPinRepository, times(1)).findActiveSponsoredPinIds(any());
+    }
+
+    private static AdEventDto event(AdEventType type, Long sponsoredPinId) {
+        return AdEventDto.builder()
+                .type(type)
+                .sponsoredPinId(sponsoredPinId)
+                .viewerId(42L)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.pinterest.businessservice.service;
+
+import com.pinterest.businessservice.dto.ServedAdDto;
+import com.pinterest.businessservice.exception.BadRequestException;
+import com.pinterest.businessservice.model.SponsoredPin;
+import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.businessservice.service.impl.AdServingServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AdServingServiceImplTest {
+
+    @Mock
+    private SponsoredPinRepository sponsoredPinRepository;
+
+    @Mock
+    private BudgetPacingService budgetPacingService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AdServingServiceImpl adServingService;
+
+    @BeforeEach
+    void setUp() {
+        adServingService = new AdServingServiceImpl(sponsoredPinRepository, budgetPacingService, transactionManager,
+                new SimpleMeterRegistry(), 20, 0.01, 100, new BigDecimal("0.01"), 5000);
+        lenient().when(budgetPacingService.shouldServe(any())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should rank by bid times estimated CTR and charge what it takes to beat the next ad")
+    void shouldRankAndPriceBySecondPrice() {
+        LocalDateTime now = LocalDateTime.now();
+        when(sponsoredPinRepository.findServableSponsoredPins(any())).thenReturn(List.of(
+                // Estimated CTRs 0.019, 0.046 and the prior 0.01
+                sponsoredPin(1L, "2.00", 900, 18, now.minusDays(1)),
+                sponsoredPin(2L, "1.00", 900, 45, now.minusDays(1)),
+                sponsoredPin(3L, "3.00", 0, 0, now.minusDays(1)),
+                // Highest bid, but not started yet
+                sponsoredPin(4L, "10.00", 0, 0, now.plusDays(1))));
+        adServingService.refreshIfStale();
+        // The scheduled check calls refresh() on the target itself, the read-only transaction must still apply
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+
+        List<ServedAdDto> served = adServingService.serve(3);
+
+        assertThat(served).extracting(ServedAdDto::getSponsoredPinId).containsExactly(2L, 1L, 3L);
+        assertThat(served).extracting(ServedAdDto::getSlot).containsExactly(1, 2, 3);
+        // 0.038 / 0.046 and 0.03 / 0.019 rounded up to the cent; the last ad pays the reserve price
+        assertThat(served.get(0).getClearingPrice()).isEqualByComparingTo("0.83");
+        assertThat(served.get(1).getClearingPrice()).isEqualByComparingTo("1.58");
+        assertThat(served.get(2).getClearingPrice()).isEqualByComparingTo("0.01");
+        assertThat(adServingService.serve(1)).extracting(ServedAdDto::getSponsoredPinId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should serve nothing before the index is built and reject slot counts out of range")
+    void shouldValidateSlots() {
+        assertThat(adServingService.serve(5)).isEmpty();
+        assertThrows(BadRequestException.class, () -> adServingService.serve(0));
+        assertThrows(BadRequestException.class, () -> adServingService.serve(21));
+    }
+
+    private static SponsoredPin sponsoredPin(Long id, String bid, long impressions, long clicks, LocalDateTime startDate) {
+        return SponsoredPin.builder()
+                .id(id)
+                .pinId(id * 10)
+                .campaignId(1L)
+                .businessProfileId(1L)
+                .title("Pin " + id)
+                .status(SponsoredPin.SponsoredStatus.ACTIVE)
+                .bidAmount(new BigDecimal(bid))
+                .impressions(impressions)
+                .clicks(clicks)
+                .startDate(startDate)
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.pinterest.businessservice.service;
+
+import com.pinterest.businessservice.dto.AdStatsBucketDto;
+import com.pinterest.businessservice.model.AdEventType;
+import com.pinterest.businessservice.model.AdStatsGranularity;
+import com.pinterest.businessservice.repository.CampaignRepository;
+import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.businessservice.service.impl.AdEventCounterServiceImpl;
+import com.pinterest.businessservice.service.impl.AdStatsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AdStatsServiceImplTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 9, 7);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private AdEventCounterServiceImpl adEventCounterService;
+    private AdStatsServiceImpl adStatsService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                // Spend is added with ON DUPLICATE KEY UPDATE, as on the production MySQL
+                .setName(UUID.randomUUID() + ";MODE=MySQL")
+                .addScript("db/migration/V1__baseline_schema.sql")
+                .addScript("db/migration/V4__ad_stats_rollups.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(database);
+        adEventCounterService = new AdEventCounterServiceImpl(new NamedParameterJdbcTemplate(database),
+                transactionManager, new SimpleMeterRegistry(), null, false);
+
+        CampaignRepository campaignRepository = mock(CampaignRepository.class);
+        when(campaignRepository.existsById(anyLong())).thenReturn(true);
+        adStatsService = new AdStatsServiceImpl(new NamedParameterJdbcTemplate(database), transactionManager,
+                campaignRepository, mock(SponsoredPinRepository.class), 7);
+
+        jdbcTemplate.update("INSERT INTO campaigns (id, business_profile_id, name, status) VALUES (10, 1, 'Fall', 'ACTIVE')");
+        jdbcTemplate.update("INSERT INTO sponsored_pins (id, business_profile_id, pin_id, campaign_id, title, status) "
+                + "VALUES (100, 1, 1000, 10, 'Pin', 'ACTIVE')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should bucket events by the hour they happened in and add them up per day and week")
+    void shouldReaggregateHourlyStats() {
+        adEventCounterService.recordSponsoredPinEvent(100L, AdEventType.IMPRESSION, MONDAY.atTime(9, 5));
+        adEventCounterService.recordSponsoredPinEvent(100L, AdEventType.IMPRESSION, MONDAY.atTime(9, 55));
+        adEventCounterService.recordSponsoredPinEvent(100L, AdEventType.CLICK, MONDAY.atTime(17, 30));
+        adEventCounterService.recordSponsoredPinEvent(100L, AdEventType.IMPRESSION, MONDAY.plusDays(2).atTime(8, 0));
+        adEventCounterService.recordCampaignEvent(10L, AdEventType.CONVERSION, MONDAY.plusDays(7).atTime(12, 0));
+        adEventCounterService.flush();
+        adStatsService.recordSpend(10L, new BigDecimal("2.50"), MONDAY.atTime(17, 45));
+
+        List<AdStatsBucketDto> hours = adStatsService.getCampaignStats(10L, MONDAY, MONDAY, AdStatsGranularity.HOUR);
+        assertThat(hours).extracting(AdStatsBucketDto::getBucketStart)
+                .containsExactly(MONDAY.atTime(9, 0), MONDAY.atTime(17, 0));
+        assertThat(hours.get(0).getImpressions()).isEqualTo(2);
+        assertThat(hours.get(1).getClicks()).isEqualTo(1);
+        assertThat(hours.get(1).getSpend()).isEqualByComparingTo("2.50");
+
+        List<AdStatsBucketDto> days = adStatsService.getCampaignStats(10L, MONDAY, MONDAY.plusDays(13), AdStatsGranularity.DAY);
+        assertThat(days).extracting(AdStatsBucketDto::getBucketStart).containsExactly(
+                MONDAY.atStartOfDay(), MONDAY.plusDays(2).atStartOfDay(), MONDAY.plusDays(7).atStartOfDay());
+
+        List<AdStatsBucketDto> weeks = adStatsService.getCampaignStats(10L, MONDAY, MONDAY.plusDays(13), AdStatsGranularity.WEEK);
+        assertThat(weeks).hasSize(2);
+        assertThat(weeks.get(0).getImpressions()).isEqualTo(3);
+        assertThat(weeks.get(0).getClicks()).isEqualTo(1);
+        assertThat(weeks.get(1).getConversions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should add to an hourly row another instance inserted first instead of failing on its key")
+    void shouldAddToHourInsertedByAnotherInstance() {
+        AdEventCounterServiceImpl otherInstance = new AdEventCounterServiceImpl(new NamedParameterJdbcTemplate(database),
+                new DataSourceTransactionManager(database), new SimpleMeterRegistry(), null, false);
+        otherInstance.recordSponsoredPinEvent(100L, AdEventType.IMPRESSION, MONDAY.atTime(9, 0));
+        adEventCounterService.recordSponsoredPinEvent(100L, AdEventType.IMPRESSION, MONDAY.atTime(9, 30));
+        otherInstance.flush();
+        adEventCounterService.flush();
+        adStatsService.recordSpend(10L, new BigDecimal("1.25"), MONDAY.atTime(20, 0));
+        adStatsService.recordSpend(10L, new BigDecimal("0.75"), MONDAY.atTime(20, 59));
+
+        List<AdStatsBucketDto> hours = adStatsService.getCampaignStats(10L, MONDAY, MONDAY, AdStatsGranularity.HOUR);
+        assertThat(hours).extracting(AdStatsBucketDto::getBucketStart)
+                .containsExactly(MONDAY.atTime(9, 0), MONDAY.atTime(20, 0));
+        assertThat(hours.get(0).getImpressions()).isEqualTo(2);
+        assertThat(hours.get(1).getSpend()).isEqualByComparingTo("2.00");
+    }
+
+    @Test
+    @DisplayName("Should compact old hours into daily rows without changing day totals")
+    void shouldCompactOldHoursIntoDays() {
+        LocalDate old = LocalDate.now().minusDays(30);
+        LocalDateTime recent = LocalDateTime.now().minusHours(1);
+        adEventCounterService.recordSponsoredPinEvent(100L, AdEventType.IMPRESSION, old.atTime(1, 0));
+        adEventCounterService.recordSponsoredPinEvent(100L, AdEventType.IMPRESSION, old.atTime(23, 0));
+        adEventCounterService.recordSponsoredPinEvent(100L, AdEventType.IMPRESSION, recent);
+        adEventCounterService.flush();
+        adStatsService.compactHourlyStats();
+
+        // A late event for a compacted day lands in an hourly row again and is folded into the same daily row
+        adEventCounterService.recordSponsoredPinEvent(100L, AdEventType.CLICK, old.atTime(12, 0));
+        adEventCounterService.flush();
+        adStatsService.compactHourlyStats();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ad_stats_hourly", Long.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ad_stats_daily", Long.class)).isEqualTo(2);
+
+        List<AdStatsBucketDto> days = adStatsService.getCampaignStats(10L, old, LocalDate.now(), AdStatsGranularity.DAY);
+        assertThat(days.get(0).getBucketStart()).isEqualTo(old.atStartOfDay());
+        assertThat(days.get(0).getImpressions()).isEqualTo(2);
+        assertThat(days.get(0).getClicks()).isEqualTo(1);
+        assertThat(days).extracting(AdStatsBucketDto::getImpressions).containsExactly(2L, 1L);
+    }
+}
@@ -0,0 +1,113 @@
+package com.pinterest.businessservice.service;
+
+import com.pinterest.businessservice.model.Campaign;
+import com.pinterest.businessservice.repository.CampaignRepository;
+import com.pinterest.businessservice.service.impl.BudgetPacingServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BudgetPacingServiceImplTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private CampaignRepository campaignRepository;
+    private BudgetPacingServiceImpl budgetPacingService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(UUID.randomUUID() + ";MODE=MySQL")
+                .addScript("db/migration/V1__baseline_schema.sql")
+                .addScript("db/migration/V4__ad_stats_rollups.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        campaignRepository = mock(CampaignRepository.class);
+        budgetPacingService = new BudgetPacingServiceImpl(campaignRepository, new NamedParameterJdbcTemplate(database),
+                new DataSourceTransactionManager(database), 60000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should throttle a campaign ahead of its daily target and stop it at the daily budget")
+    void shouldPaceAgainstTheDailyTarget() {
+        LocalDateTime noon = LocalDate.now().atTime(12, 0);
+        when(campaignRepository.findByStatus(Campaign.CampaignStatus.ACTIVE)).thenReturn(List.of(
+                campaign(10L, null, "100.00", "30.00", null)));
+        jdbcTemplate.update("INSERT INTO ad_stats_hourly (entity_type, entity_id, bucket_start, spend) VALUES ('CAMPAIGN', 10, ?, 30.00)",
+                Timestamp.valueOf(LocalDate.now().atTime(1, 0)));
+
+        budgetPacingService.reload(noon);
+        // Half the day gone and 30 of 100 spent, under the target of 50
+        assertThat(budgetPacingService.getServingProbability(10L)).isEqualTo(1);
+
+        budgetPacingService.recordSpend(10L, new BigDecimal("40.00"));
+        budgetPacingService.updateServingProbabilities(noon);
+        // 70 spent, 30 left of the 50 between the target and the limit
+        assertThat(budgetPacingService.getServingProbability(10L)).isCloseTo(0.6, within(1e-9));
+
+        budgetPacingService.recordSpend(10L, new BigDecimal("30.00"));
+        assertThat(budgetPacingService.getServingProbability(10L)).isZero();
+        assertThat(budgetPacingService.shouldServe(10L)).isFalse();
+        // Campaigns without a pacer are not held back
+        assertThat(budgetPacingService.shouldServe(99L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should stop serving and pause a campaign once it has spent its whole budget")
+    void shouldPauseExhaustedCampaigns() {
+        when(campaignRepository.findByStatus(Campaign.CampaignStatus.ACTIVE)).thenReturn(List.of(
+                campaign(20L, "50.00", null, "45.00", LocalDateTime.now().plusDays(5))));
+        budgetPacingService.tick();
+        assertThat(budgetPacingService.getServingProbability(20L)).isPositive();
+        verify(campaignRepository, never()).updateStatuses(any(), any(), any(), any());
+
+        budgetPacingService.recordSpend(20L, new BigDecimal("5.00"));
+        assertThat(budgetPacingService.shouldServe(20L)).isFalse();
+
+        budgetPacingService.tick();
+        verify(campaignRepository).updateStatuses(eq(List.of(20L)), eq(Campaign.CampaignStatus.ACTIVE),
+                eq(Campaign.CampaignStatus.PAUSED), any(LocalDateTime.class));
+    }
+
+    private static Campaign campaign(Long id, String budget, String dailyBudget, String amountSpent, LocalDateTime endDate) {
+        return Campaign.builder()
+                .id(id)
+                .businessProfileId(1L)
+                .name("Campaign " + id)
+                .status(Campaign.CampaignStatus.ACTIVE)
+                .budget(budget != null ? new BigDecimal(budget) : null)
+                .dailyBudget(dailyBudget != null ? new BigDecimal(dailyBudget) : null)
+                .amountSpent(new BigDecimal(amountSpent))
+                .endDate(endDate)
+                .build();
+    }
+}
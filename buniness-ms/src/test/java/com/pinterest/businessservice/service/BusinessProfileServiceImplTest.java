@@ -1,8 +1,11 @@
 package com.pinterest.businessservice.service;
 
 import com.pinterest.businessservice.dto.BusinessProfileDto;
+import com.pinterest.businessservice.dto.KeysetPageDto;
+import com.pinterest.businessservice.exception.BadRequestException;
 import com.pinterest.businessservice.exception.ResourceNotFoundException;
 import com.pinterest.businessservice.model.BusinessProfile;
+import com.pinterest.businessservice.model.SearchEntityType;
 import com.pinterest.businessservice.repository.BusinessProfileRepository;
 import com.pinterest.businessservice.service.impl.BusinessProfileServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,7 +17,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +27,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +36,9 @@ public class BusinessProfileServiceImplTest {
     @Mock
     private BusinessProfileRepository businessProfileRepository;
 
+    @Mock
+    private SearchIndexService searchIndexService;
+
     @InjectMocks
     private BusinessProfileServiceImpl businessProfileService;
 
@@ -143,6 +152,7 @@ public class BusinessProfileServiceImplTest {
 
         verify(businessProfileRepository, times(1)).findById(1L);
         verify(businessProfileRepository, times(1)).delete(businessProfile);
+        verify(searchIndexService, times(1)).remove(SearchEntityType.BUSINESS_PROFILE, 1L);
     }
 
     @Test
@@ -158,4 +168,42 @@ public class BusinessProfileServiceImplTest {
         assertThat(resultPage.getContent()).hasSize(1);
         verify(businessProfileRepository, times(1)).findAll(any(Pageable.class));
     }
+
+    @Test
+    @DisplayName("Should read a category page from the database in id order")
+    void shouldPageCategoryInDatabase() {
+        when(businessProfileRepository.findByCategory(eq(BusinessProfile.BusinessCategory.RETAIL), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(businessProfile), PageRequest.of(2, 1), 5));
+
+        Page<BusinessProfileDto> resultPage = businessProfileService.getBusinessProfilesByCategory(
+                BusinessProfile.BusinessCategory.RETAIL, PageRequest.of(2, 1));
+
+        assertThat(resultPage.getContent()).extracting(BusinessProfileDto::getId).containsExactly(1L);
+        assertThat(resultPage.getTotalElements()).isEqualTo(5);
+        verify(businessProfileRepository).findByCategory(BusinessProfile.BusinessCategory.RETAIL,
+                PageRequest.of(2, 1, Sort.by("id")));
+    }
+
+    @Test
+    @DisplayName("Should return the next keyset position only when another page follows")
+    void shouldPageVerifiedProfilesByKeyset() {
+        BusinessProfile next = BusinessProfile.builder().id(7L).businessName("Next Business")
+                .verificationStatus(BusinessProfile.VerificationStatus.VERIFIED).active(true).build();
+        when(businessProfileRepository.findByVerificationStatusAfter(BusinessProfile.VerificationStatus.VERIFIED, 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(businessProfile, next));
+        when(businessProfileRepository.findByVerificationStatusAfter(BusinessProfile.VerificationStatus.VERIFIED, 1L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(next));
+
+        KeysetPageDto<BusinessProfileDto> first = businessProfileService.getBusinessProfilesByVerificationStatus(
+                BusinessProfile.VerificationStatus.VERIFIED, null, 1);
+        KeysetPageDto<BusinessProfileDto> last = businessProfileService.getBusinessProfilesByVerificationStatus(
+                BusinessProfile.VerificationStatus.VERIFIED, first.getNextAfterId(), 1);
+
+        assertThat(first.getContent()).extracting(BusinessProfileDto::getId).containsExactly(1L);
+        assertThat(first.getNextAfterId()).isEqualTo(1L);
+        assertThat(last.getContent()).extracting(BusinessProfileDto::getId).containsExactly(7L);
+        assertThat(last.getNextAfterId()).isNull();
+        assertThrows(BadRequestException.class, () -> businessProfileService.getBusinessProfilesByVerificationStatus(
+                BusinessProfile.VerificationStatus.VERIFIED, null, 101));
+    }
 }
\ No newline at end of file
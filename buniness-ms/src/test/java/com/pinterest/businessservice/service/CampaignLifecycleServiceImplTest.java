@@ -0,0 +1,99 @@
+package com.pinterest.businessservice.service;
+
+import com.pinterest.businessservice.model.Campaign;
+import com.pinterest.businessservice.model.Campaign.CampaignStatus;
+import com.pinterest.businessservice.model.SponsoredPin.SponsoredStatus;
+import com.pinterest.businessservice.repository.CampaignRepository;
+import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.businessservice.service.impl.CampaignLifecycleServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CampaignLifecycleServiceImplTest {
+
+    @Mock
+    private CampaignRepository campaignRepository;
+
+    @Mock
+    private SponsoredPinRepository sponsoredPinRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private AdServingService adServingService;
+
+    @Mock
+    private BudgetPacingService budgetPacingService;
+
+    private CampaignLifecycleServiceImpl campaignLifecycleService;
+
+    @BeforeEach
+    void setUp() {
+        campaignLifecycleService = new CampaignLifecycleServiceImpl(campaignRepository, sponsoredPinRepository,
+                transactionManager, adServingService, budgetPacingService, 1000);
+    }
+
+    @Test
+    @DisplayName("Should start every campaign whose start date passed in one update and refresh ad serving")
+    void shouldStartDueCampaignsTogether() {
+        LocalDateTime start = LocalDateTime.now().minusMinutes(1);
+        when(campaignRepository.findByStatus(CampaignStatus.SCHEDULED)).thenReturn(List.of(
+                campaign(1L, start), campaign(2L, start), campaign(3L, LocalDateTime.now().plusDays(1))));
+        when(campaignRepository.updateStatusesOfStarted(anyList(), eq(CampaignStatus.SCHEDULED),
+                eq(CampaignStatus.ACTIVE), any())).thenReturn(2);
+
+        campaignLifecycleService.advance();
+
+        verify(campaignRepository).updateStatusesOfStarted(eq(List.of(1L, 2L)), eq(CampaignStatus.SCHEDULED),
+                eq(CampaignStatus.ACTIVE), any(LocalDateTime.class));
+        verify(campaignRepository, never()).updateStatusesOfEnded(any(), any(), any(), any());
+        verify(adServingService).requestRefresh();
+        verify(budgetPacingService).requestReload();
+
+        // Loaded once, and nothing else is due yet
+        campaignLifecycleService.advance();
+        verify(campaignRepository, times(1)).findByStatus(CampaignStatus.SCHEDULED);
+        verify(campaignRepository, times(1)).updateStatusesOfStarted(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should complete an ended campaign together with its active sponsored pins")
+    void shouldCompleteEndedCampaignsAndTheirPins() {
+        campaignLifecycleService.scheduleCampaign(7L, null, LocalDateTime.now().minusSeconds(5));
+
+        campaignLifecycleService.advance();
+
+        verify(campaignRepository).updateStatusesOfEnded(eq(List.of(7L)), eq(CampaignStatus.ACTIVE),
+                eq(CampaignStatus.COMPLETED), any(LocalDateTime.class));
+        verify(sponsoredPinRepository).updateStatusesByCampaigns(eq(List.of(7L)), eq(CampaignStatus.COMPLETED),
+                eq(SponsoredStatus.ACTIVE), eq(SponsoredStatus.COMPLETED), any(LocalDateTime.class));
+        // Nothing changed in the database, so there is nothing to announce
+        verify(adServingService, never()).requestRefresh();
+    }
+
+    private static Campaign campaign(Long id, LocalDateTime startDate) {
+        return Campaign.builder()
+                .id(id)
+                .status(CampaignStatus.SCHEDULED)
+                .startDate(startDate)
+                .build();
+    }
+}
@@ -0,0 +1,189 @@
+package com.pinterest.businessservice.service;
+
+import com.pinterest.businessservice.dto.SearchHitDto;
+import com.pinterest.businessservice.dto.SearchResultDto;
+import com.pinterest.businessservice.exception.BadRequestException;
+import com.pinterest.businessservice.model.SearchEntityType;
+import com.pinterest.businessservice.repository.BusinessProfileRepository;
+import com.pinterest.businessservice.repository.CampaignRepository;
+import com.pinterest.businessservice.repository.SearchDocumentRow;
+import com.pinterest.businessservice.repository.ShowcaseRepository;
+import com.pinterest.businessservice.repository.SponsoredPinRepository;
+import com.pinterest.businessservice.service.impl.SearchIndexServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchIndexServiceImplTest {
+
+    @Mock
+    private BusinessProfileRepository businessProfileRepository;
+
+    @Mock
+    private ShowcaseRepository showcaseRepository;
+
+    @Mock
+    private CampaignRepository campaignRepository;
+
+    @Mock
+    private SponsoredPinRepository sponsoredPinRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SearchIndexServiceImpl searchIndexService;
+
+    @BeforeEach
+    void setUp() {
+        searchIndexService = new SearchIndexServiceImpl(businessProfileRepository, showcaseRepository, campaignRepository,
+                sponsoredPinRepository, transactionManager, new SimpleMeterRegistry(), 0.5, 100);
+    }
+
+    @Test
+    @DisplayName("Should find entities of every type despite typos, rank substring matches first and count hits per type")
+    void shouldSearchAcrossTypes() {
+        when(businessProfileRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                row(1L, 1L, "Crème Coffee Roasters", "Small batch beans"),
+                row(2L, 2L, "Tea House", "Loose leaf tea and coffee cups")));
+        when(campaignRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                row(10L, 1L, "Fall coffee week", null)));
+        when(sponsoredPinRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                row(100L, 2L, "Garden party", null)));
+        searchIndexService.rebuild();
+
+        // A typo still matches, accents are ignored
+        SearchResultDto fuzzy = searchIndexService.search("cofee creme", null, 0, 20);
+        assertThat(fuzzy.getHits()).extracting(SearchHitDto::getId).first().isEqualTo(1L);
+
+        SearchResultDto all = searchIndexService.search("Coffee", null, 0, 20);
+        // Title matches before the description match, the closer title first
+        assertThat(all.getHits()).extracting(SearchHitDto::getId).containsExactly(10L, 1L, 2L);
+        assertThat(all.getTotalHits()).isEqualTo(3);
+        assertThat(all.getFacets()).containsEntry(SearchEntityType.BUSINESS_PROFILE, 2L)
+                .containsEntry(SearchEntityType.CAMPAIGN, 1L)
+                .containsEntry(SearchEntityType.SHOWCASE, 0L)
+                .containsEntry(SearchEntityType.SPONSORED_PIN, 0L);
+
+        SearchResultDto profiles = searchIndexService.search("coffee", SearchEntityType.BUSINESS_PROFILE, 0, 1);
+        assertThat(profiles.getHits()).extracting(SearchHitDto::getId).containsExactly(1L);
+        assertThat(profiles.getTotalHits()).isEqualTo(2);
+        assertThat(profiles.getFacets()).containsEntry(SearchEntityType.CAMPAIGN, 1L);
+
+        // Substrings inside a word match even when too few trigrams are shared
+        assertThat(searchIndexService.search("arde", null, 0, 20).getHits())
+                .extracting(SearchHitDto::getType).containsExactly(SearchEntityType.SPONSORED_PIN);
+        assertThat(searchIndexService.search("rde", null, 0, 20).getHits())
+                .extracting(SearchHitDto::getId).containsExactly(100L);
+    }
+
+    @Test
+    @DisplayName("Should match documents sharing enough trigrams or the query itself, not every document sharing a common trigram")
+    void shouldMatchOnlyDocumentsInReachOfMinSimilarity() {
+        List<SearchDocumentRow> rows = new ArrayList<>(List.of(
+                row(1L, 1L, "Coffee", null),
+                row(2L, 1L, "Cofee", null),
+                row(3L, 1L, "Toffee", null),
+                row(4L, 1L, "Coffers", null),
+                row(5L, 1L, "Fee", null)));
+        // Share the padded word ending with the query, and nothing else
+        for (long id = 100; id < 300; id++) {
+            rows.add(row(id, 1L, "Tree " + id, "Free bee"));
+        }
+        when(campaignRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class))).thenReturn(rows);
+        searchIndexService.rebuild();
+
+        assertThat(searchIndexService.search("coffee", null, 0, 100).getHits())
+                .extracting(SearchHitDto::getId).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        // Inside a word, in Tree 100 to Tree 199, with too few trigrams shared to match on similarity
+        assertThat(searchIndexService.search("ree 1", null, 0, 100).getTotalHits()).isEqualTo(100);
+        assertThat(searchIndexService.search("offer", null, 0, 100).getHits())
+                .extracting(SearchHitDto::getId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Should rebuild page by page after the last id read, each page in its own transaction")
+    void shouldRebuildByKeyset() {
+        List<SearchDocumentRow> firstPage = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            firstPage.add(row(id, 1L, "Campaign " + id, null));
+        }
+        when(campaignRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class))).thenReturn(firstPage);
+        when(campaignRepository.findSearchDocumentsAfter(eq(1000L), any(Pageable.class)))
+                .thenReturn(List.of(row(1001L, 1L, "Harvest sale", null)));
+
+        searchIndexService.rebuild();
+
+        assertThat(searchIndexService.search("harvest", null, 0, 20).getHits())
+                .extracting(SearchHitDto::getId).containsExactly(1001L);
+        assertThat(searchIndexService.search("campaign", SearchEntityType.CAMPAIGN, 0, 1).getTotalHits()).isEqualTo(1000);
+        verify(campaignRepository).findSearchDocumentsAfter(eq(1000L), any(Pageable.class));
+        // Two campaign pages and one empty page for each other type
+        verify(transactionManager, times(5)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    @DisplayName("Should replace and remove indexed text and reject invalid queries")
+    void shouldIndexAndRemove() {
+        searchIndexService.index(SearchEntityType.SHOWCASE, 5L, 1L, "Autumn looks", "Knitwear");
+        assertThat(searchIndexService.search("knitwear", null, 0, 20).getHits()).hasSize(1);
+
+        searchIndexService.index(SearchEntityType.SHOWCASE, 5L, 1L, "Winter looks", "Coats");
+        assertThat(searchIndexService.search("knitwear", null, 0, 20).getHits()).isEmpty();
+        assertThat(searchIndexService.search("winter", null, 0, 20).getHits())
+                .extracting(SearchHitDto::getTitle).containsExactly("Winter looks");
+
+        searchIndexService.remove(SearchEntityType.SHOWCASE, 5L);
+        assertThat(searchIndexService.search("winter", null, 0, 20).getTotalHits()).isZero();
+
+        assertThrows(BadRequestException.class, () -> searchIndexService.search(" ", null, 0, 20));
+        assertThrows(BadRequestException.class, () -> searchIndexService.search("!!", null, 0, 20));
+        // Too short to be found inside a word, and a padded start trigram would match half the index
+        assertThrows(BadRequestException.class, () -> searchIndexService.search("co", null, 0, 20));
+        assertThrows(BadRequestException.class, () -> searchIndexService.search("a b c", null, 0, 20));
+        assertThrows(BadRequestException.class, () -> searchIndexService.search("coats", null, 0, 101));
+    }
+
+    private static SearchDocumentRow row(Long id, Long businessProfileId, String title, String description) {
+        return new SearchDocumentRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getBusinessProfileId() {
+                return businessProfileId;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+}
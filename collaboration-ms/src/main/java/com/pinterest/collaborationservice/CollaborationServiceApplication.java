@@ -4,7 +4,8 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 
-@SpringBootApplication
+// Also scans the shared configuration compiled in from service-support
+@SpringBootApplication(scanBasePackages = {"com.pinterest.collaborationservice", "com.pinterest.servicesupport.config"})
 @EnableDiscoveryClient
 public class CollaborationServiceApplication {
 
@@ -0,0 +1,29 @@
+package com.pinterest.collaborationservice.config;
+
+import com.pinterest.collaborationservice.repository.InvitationRepository;
+import com.pinterest.servicesupport.config.ServiceMetricsAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics beyond what Spring Boot binds on its own (HTTP, JVM, Hikari pools, thread pool executors):
+ * service method timers and gauges over the service's data. All of it is scraped from
+ * {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServiceMetricsAspect serviceMetricsAspect(MeterRegistry meterRegistry) {
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public DomainMetrics domainMetrics(
+            InvitationRepository invitationRepository,
+            @Value("${metrics.gauges.refresh-ms:30000}") long refreshMillis) {
+        return new DomainMetrics(invitationRepository, refreshMillis);
+    }
+}
@@ -4,6 +4,7 @@ import com.pinterest.collaborationservice.dto.ApiResponse;
 import com.pinterest.collaborationservice.dto.InvitationDto;
 import com.pinterest.collaborationservice.dto.InvitationRequest;
 import com.pinterest.collaborationservice.dto.InvitationResponseRequest;
+import com.pinterest.collaborationservice.model.Invitation;
 import com.pinterest.collaborationservice.service.InvitationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -14,7 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import javax.validation.Valid;
+import jakarta.validation.Valid;
 import java.util.List;
 
 @RestController
@@ -35,7 +36,7 @@ public class InvitationController {
     @GetMapping("/{invitationId}")
     public ResponseEntity<ApiResponse<InvitationDto>> getInvitation(
             @PathVariable Long invitationId) {
-        InvitationDto invitation = invitationService.getInvitation(invitationId);
+        InvitationDto invitation = invitationService.getInvitationById(invitationId);
         return ResponseEntity.ok(ApiResponse.success("Invitation retrieved successfully", invitation));
     }
 
@@ -86,16 +87,10 @@ public class InvitationController {
     }
 
     @GetMapping("/type/{recipientId}/{type}")
-    public ResponseEntity<ApiResponse<Page<InvitationDto>>> getInvitationsByType(
+    public ResponseEntity<ApiResponse<List<InvitationDto>>> getInvitationsByType(
             @PathVariable Long recipientId,
-            @PathVariable String type,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
-        Sort sort = sortDir.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<InvitationDto> invitations = invitationService.getInvitationsByType(recipientId, type, pageable);
+            @PathVariable Invitation.InvitationType type) {
+        List<InvitationDto> invitations = invitationService.getInvitationsByType(recipientId, type);
         return ResponseEntity.ok(ApiResponse.success("Invitations by type retrieved successfully", invitations));
     }
 
@@ -109,16 +104,16 @@ public class InvitationController {
     @GetMapping("/count/pending/{recipientId}")
     public ResponseEntity<ApiResponse<Long>> countPendingInvitations(
             @PathVariable Long recipientId) {
-        long count = invitationService.countPendingInvitations(recipientId);
+        long count = invitationService.getPendingInvitationsCount(recipientId);
         return ResponseEntity.ok(ApiResponse.success("Pending invitations count retrieved successfully", count));
     }
 
     @PostMapping("/cancel/{invitationId}/{senderId}")
-    public ResponseEntity<ApiResponse<InvitationDto>> cancelInvitation(
+    public ResponseEntity<ApiResponse<Void>> cancelInvitation(
             @PathVariable Long invitationId,
             @PathVariable Long senderId) {
-        InvitationDto invitation = invitationService.cancelInvitation(invitationId, senderId);
-        return ResponseEntity.ok(ApiResponse.success("Invitation canceled successfully", invitation));
+        invitationService.cancelInvitation(invitationId, senderId);
+        return ResponseEntity.ok(ApiResponse.success("Invitation canceled successfully", null));
     }
 
     @DeleteMapping("/{invitationId}")
@@ -130,7 +125,7 @@ public class InvitationController {
 
     @PostMapping("/process-expired")
     public ResponseEntity<ApiResponse<Void>> processExpiredInvitations() {
-        invitationService.processExpiredInvitations();
+        invitationService.processExpiredInvitations(InvitationService.INVITATION_EXPIRY_DAYS);
         return ResponseEntity.ok(ApiResponse.success("Expired invitations processed successfully", null));
     }
 }
\ No newline at end of file
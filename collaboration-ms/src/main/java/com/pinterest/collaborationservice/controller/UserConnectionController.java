@@ -14,7 +14,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import javax.validation.Valid;
+import jakarta.validation.Valid;
 import java.util.List;
 
 @RestController
@@ -27,19 +27,16 @@ public class UserConnectionController {
     @PostMapping
     public ResponseEntity<ApiResponse<UserConnectionDto>> createConnection(
             @Valid @RequestBody ConnectionRequest request) {
-        UserConnectionDto connection = userConnectionService.createConnection(
-                request.getFollowerId(),
-                request.getFollowingId(),
-                request.getNote(),
-                request.isNotificationsEnabled());
+        UserConnectionDto connection = userConnectionService.createConnection(request);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Connection created successfully", connection));
     }
 
-    @GetMapping("/{connectionId}")
+    @GetMapping("/between")
     public ResponseEntity<ApiResponse<UserConnectionDto>> getConnection(
-            @PathVariable Long connectionId) {
-        UserConnectionDto connection = userConnectionService.getConnection(connectionId);
+            @RequestParam Long followerId,
+            @RequestParam Long followingId) {
+        UserConnectionDto connection = userConnectionService.getConnection(followerId, followingId);
         return ResponseEntity.ok(ApiResponse.success("Connection retrieved successfully", connection));
     }
 
@@ -82,7 +79,7 @@ public class UserConnectionController {
             @RequestParam(defaultValue = "desc") String sortDir) {
         Sort sort = sortDir.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<UserConnectionDto> followers = userConnectionService.getFollowersPaged(userId, pageable);
+        Page<UserConnectionDto> followers = userConnectionService.getFollowers(userId, pageable);
         return ResponseEntity.ok(ApiResponse.success("Followers retrieved successfully", followers));
     }
 
@@ -95,21 +92,21 @@ public class UserConnectionController {
             @RequestParam(defaultValue = "desc") String sortDir) {
         Sort sort = sortDir.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<UserConnectionDto> following = userConnectionService.getFollowingPaged(userId, pageable);
+        Page<UserConnectionDto> following = userConnectionService.getFollowing(userId, pageable);
         return ResponseEntity.ok(ApiResponse.success("Following retrieved successfully", following));
     }
 
     @GetMapping("/count/followers/{userId}")
     public ResponseEntity<ApiResponse<Long>> countFollowers(
             @PathVariable Long userId) {
-        long count = userConnectionService.countFollowers(userId);
+        long count = userConnectionService.getFollowersCount(userId);
         return ResponseEntity.ok(ApiResponse.success("Followers count retrieved successfully", count));
     }
 
     @GetMapping("/count/following/{userId}")
     public ResponseEntity<ApiResponse<Long>> countFollowing(
             @PathVariable Long userId) {
-        long count = userConnectionService.countFollowing(userId);
+        long count = userConnectionService.getFollowingCount(userId);
         return ResponseEntity.ok(ApiResponse.success("Following count retrieved successfully", count));
     }
 
@@ -121,22 +118,20 @@ public class UserConnectionController {
         return ResponseEntity.ok(ApiResponse.success("Follow status retrieved successfully", isFollowing));
     }
 
-    @GetMapping("/mutual/{userId1}/{userId2}")
+    @GetMapping("/mutual/{userId}")
     public ResponseEntity<ApiResponse<List<UserConnectionDto>>> getMutualConnections(
-            @PathVariable Long userId1,
-            @PathVariable Long userId2) {
-        List<UserConnectionDto> mutualConnections = userConnectionService.getMutualConnections(userId1, userId2);
+            @PathVariable Long userId) {
+        List<UserConnectionDto> mutualConnections = userConnectionService.getMutualConnections(userId);
         return ResponseEntity.ok(ApiResponse.success("Mutual connections retrieved successfully", mutualConnections));
     }
 
-    @GetMapping("/mutual/{userId1}/{userId2}/paged")
+    @GetMapping("/mutual/{userId}/paged")
     public ResponseEntity<ApiResponse<Page<UserConnectionDto>>> getMutualConnectionsPaged(
-            @PathVariable Long userId1,
-            @PathVariable Long userId2,
+            @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<UserConnectionDto> mutualConnections = userConnectionService.getMutualConnectionsPaged(userId1, userId2, pageable);
+        Page<UserConnectionDto> mutualConnections = userConnectionService.getMutualConnections(userId, pageable);
         return ResponseEntity.ok(ApiResponse.success("Mutual connections retrieved successfully", mutualConnections));
     }
 
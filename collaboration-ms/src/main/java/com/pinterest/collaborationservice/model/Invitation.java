@@ -73,6 +73,7 @@ public class Invitation {
         ACCEPTED,
         DECLINED,
         IGNORED,
-        EXPIRED
+        EXPIRED,
+        CANCELED
     }
 }
\ No newline at end of file
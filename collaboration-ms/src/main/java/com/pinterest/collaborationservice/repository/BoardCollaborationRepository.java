@@ -36,12 +36,18 @@ public interface BoardCollaborationRepository extends JpaRepository<BoardCollabo
     Page<BoardCollaboration> findByUserId(Long userId, Pageable pageable);
     
     // Count collaborators for a board
+    long countByBoardId(Long boardId);
+    
+    // Count collaborators of a board in a given status
     long countByBoardIdAndStatus(Long boardId, BoardCollaboration.CollaborationStatus status);
     
     // Check if a user is a collaborator on a board
     boolean existsByBoardIdAndUserIdAndStatus(Long boardId, Long userId, BoardCollaboration.CollaborationStatus status);
     
     // Find collaborations by permission level
+    List<BoardCollaboration> findByPermissionLevel(BoardCollaboration.PermissionLevel permissionLevel);
+    
+    // Find collaborators of a board with a given permission level
     List<BoardCollaboration> findByBoardIdAndPermissionLevel(Long boardId, BoardCollaboration.PermissionLevel permissionLevel);
     
     // Find boards where user has specific permission level
@@ -21,6 +21,9 @@ public interface InvitationRepository extends JpaRepository<Invitation, Long> {
     // Find all invitations sent by a user
     List<Invitation> findBySenderId(Long senderId);
     
+    // Find all invitations sent by a user in a given status
+    List<Invitation> findBySenderIdAndStatus(Long senderId, Invitation.InvitationStatus status);
+    
     // Find all pending invitations for a user
     List<Invitation> findByRecipientIdAndStatus(Long recipientId, Invitation.InvitationStatus status);
     
@@ -48,6 +51,14 @@ public interface InvitationRepository extends JpaRepository<Invitation, Long> {
             Long referenceId, 
             Invitation.InvitationStatus status);
     
+    // Check for an invitation between two users in a given status
+    boolean existsBySenderIdAndRecipientIdAndTypeAndReferenceIdAndStatus(
+            Long senderId, 
+            Long recipientId, 
+            Invitation.InvitationType type, 
+            Long referenceId, 
+            Invitation.InvitationStatus status);
+    
     // Paginated version for received invitations
     Page<Invitation> findByRecipientId(Long recipientId, Pageable pageable);
     
@@ -63,6 +74,9 @@ public interface InvitationRepository extends JpaRepository<Invitation, Long> {
     // Count pending invitations for a user
     long countByRecipientIdAndStatus(Long recipientId, Invitation.InvitationStatus status);
     
+    // Count invitations in a status across all users
+    long countByStatus(Invitation.InvitationStatus status);
+    
     // Find all invitations for a specific board
     List<Invitation> findByTypeAndReferenceId(Invitation.InvitationType type, Long referenceId);
     
@@ -11,6 +11,9 @@ import java.util.List;
 
 public interface InvitationService {
 
+    // Invitations still pending after this many days expire
+    int INVITATION_EXPIRY_DAYS = 7;
+
     // Create a new invitation
     InvitationDto createInvitation(InvitationRequest invitationRequest);
     
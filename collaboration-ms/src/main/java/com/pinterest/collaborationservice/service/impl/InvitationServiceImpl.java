@@ -1,12 +1,11 @@
 package com.pinterest.collaborationservice.service.impl;
 
+import com.pinterest.collaborationservice.dto.ConnectionRequest;
 import com.pinterest.collaborationservice.dto.InvitationDto;
 import com.pinterest.collaborationservice.dto.InvitationRequest;
 import com.pinterest.collaborationservice.dto.InvitationResponseRequest;
 import com.pinterest.collaborationservice.exception.ResourceNotFoundException;
-import com.pinterest.collaborationservice.model.BoardCollaboration;
 import com.pinterest.collaborationservice.model.Invitation;
-import com.pinterest.collaborationservice.model.UserConnection;
 import com.pinterest.collaborationservice.repository.InvitationRepository;
 import com.pinterest.collaborationservice.service.BoardCollaborationService;
 import com.pinterest.collaborationservice.service.InvitationService;
@@ -40,7 +39,7 @@ public class InvitationServiceImpl implements InvitationService {
         if (invitationRepository.existsBySenderIdAndRecipientIdAndTypeAndReferenceIdAndStatus(
                 request.getSenderId(), 
                 request.getRecipientId(), 
-                Invitation.InvitationType.valueOf(request.getType()), 
+                request.getType(), 
                 request.getReferenceId(), 
                 Invitation.InvitationStatus.PENDING)) {
             throw new IllegalStateException("A pending invitation already exists");
@@ -49,12 +48,11 @@ public class InvitationServiceImpl implements InvitationService {
         Invitation invitation = Invitation.builder()
                 .senderId(request.getSenderId())
                 .recipientId(request.getRecipientId())
-                .type(Invitation.InvitationType.valueOf(request.getType()))
+                .type(request.getType())
                 .referenceId(request.getReferenceId())
                 .status(Invitation.InvitationStatus.PENDING)
                 .message(request.getMessage())
-                .permissionLevel(request.getPermissionLevel() != null ? 
-                        BoardCollaboration.PermissionLevel.valueOf(request.getPermissionLevel()) : null)
+                .permissionLevel(request.getPermissionLevel())
                 .build();
         
         Invitation savedInvitation = invitationRepository.save(invitation);
@@ -62,23 +60,21 @@ public class InvitationServiceImpl implements InvitationService {
     }
 
     @Override
-    public InvitationDto getInvitation(Long invitationId) {
-        Invitation invitation = invitationRepository.findById(invitationId)
-                .orElseThrow(() -> new ResourceNotFoundException("Invitation not found with id: " + invitationId));
-        return mapToDto(invitation);
+    @Transactional(readOnly = true)
+    public InvitationDto getInvitationById(Long invitationId) {
+        return mapToDto(findInvitation(invitationId));
     }
 
     @Override
     @Transactional
     public InvitationDto respondToInvitation(InvitationResponseRequest request) {
-        Invitation invitation = invitationRepository.findById(request.getInvitationId())
-                .orElseThrow(() -> new ResourceNotFoundException("Invitation not found with id: " + request.getInvitationId()));
+        Invitation invitation = findInvitation(request.getInvitationId());
         
         if (invitation.getStatus() != Invitation.InvitationStatus.PENDING) {
             throw new IllegalStateException("Invitation has already been processed");
         }
         
-        Invitation.InvitationStatus newStatus = Invitation.InvitationStatus.valueOf(request.getStatus());
+        Invitation.InvitationStatus newStatus = request.getStatus();
         invitation.setStatus(newStatus);
         invitation.setRespondedAt(LocalDateTime.now());
         
@@ -92,49 +88,60 @@ public class InvitationServiceImpl implements InvitationService {
     }
 
     @Override
-    public Page<InvitationDto> getSentInvitations(Long senderId, Pageable pageable) {
-        Page<Invitation> invitations = invitationRepository.findBySenderId(senderId, pageable);
-        return invitations.map(this::mapToDto);
+    @Transactional(readOnly = true)
+    public List<InvitationDto> getReceivedInvitations(Long recipientId) {
+        return mapToDtos(invitationRepository.findByRecipientId(recipientId));
     }
 
     @Override
-    public Page<InvitationDto> getReceivedInvitations(Long recipientId, Pageable pageable) {
-        Page<Invitation> invitations = invitationRepository.findByRecipientId(recipientId, pageable);
-        return invitations.map(this::mapToDto);
+    @Transactional(readOnly = true)
+    public List<InvitationDto> getSentInvitations(Long senderId) {
+        return mapToDtos(invitationRepository.findBySenderId(senderId));
     }
 
     @Override
-    public Page<InvitationDto> getPendingInvitations(Long recipientId, Pageable pageable) {
-        Page<Invitation> invitations = invitationRepository.findByRecipientIdAndStatus(
-                recipientId, Invitation.InvitationStatus.PENDING, pageable);
-        return invitations.map(this::mapToDto);
+    @Transactional(readOnly = true)
+    public List<InvitationDto> getPendingInvitations(Long recipientId) {
+        return mapToDtos(invitationRepository.findByRecipientIdAndStatus(
+                recipientId, Invitation.InvitationStatus.PENDING));
     }
 
     @Override
-    public Page<InvitationDto> getInvitationsByType(Long recipientId, String type, Pageable pageable) {
-        Page<Invitation> invitations = invitationRepository.findByRecipientIdAndType(
-                recipientId, Invitation.InvitationType.valueOf(type), pageable);
-        return invitations.map(this::mapToDto);
+    @Transactional(readOnly = true)
+    public List<InvitationDto> getInvitationsByType(Long recipientId, Invitation.InvitationType type) {
+        return mapToDtos(invitationRepository.findByRecipientIdAndType(recipientId, type));
     }
 
     @Override
-    public List<InvitationDto> getPendingInvitations(Long recipientId) {
-        List<Invitation> invitations = invitationRepository.findByRecipientIdAndStatus(
-                recipientId, Invitation.InvitationStatus.PENDING);
-        return invitations.stream().map(this::mapToDto).collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<InvitationDto> getReceivedInvitations(Long recipientId, Pageable pageable) {
+        return invitationRepository.findByRecipientId(recipientId, pageable).map(this::mapToDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<InvitationDto> getSentInvitations(Long senderId, Pageable pageable) {
+        return invitationRepository.findBySenderId(senderId, pageable).map(this::mapToDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<InvitationDto> getPendingInvitations(Long recipientId, Pageable pageable) {
+        return invitationRepository.findByRecipientIdAndStatus(
+                recipientId, Invitation.InvitationStatus.PENDING, pageable).map(this::mapToDto);
     }
 
     @Override
-    public long countPendingInvitations(Long recipientId) {
+    @Transactional(readOnly = true)
+    public long getPendingInvitationsCount(Long recipientId) {
         return invitationRepository.countByRecipientIdAndStatus(
                 recipientId, Invitation.InvitationStatus.PENDING);
     }
 
     @Override
     @Transactional
-    public InvitationDto cancelInvitation(Long invitationId, Long senderId) {
-        Invitation invitation = invitationRepository.findById(invitationId)
-                .orElseThrow(() -> new ResourceNotFoundException("Invitation not found with id: " + invitationId));
+    public void cancelInvitation(Long invitationId, Long senderId) {
+        Invitation invitation = findInvitation(invitationId);
         
         if (!invitation.getSenderId().equals(senderId)) {
             throw new IllegalStateException("Only the sender can cancel an invitation");
@@ -146,26 +153,40 @@ public class InvitationServiceImpl implements InvitationService {
         
         invitation.setStatus(Invitation.InvitationStatus.CANCELED);
         invitation.setRespondedAt(LocalDateTime.now());
-        
-        Invitation updatedInvitation = invitationRepository.save(invitation);
-        return mapToDto(updatedInvitation);
+        invitationRepository.save(invitation);
     }
 
     @Override
     @Transactional
     public void deleteInvitation(Long invitationId) {
-        Invitation invitation = invitationRepository.findById(invitationId)
-                .orElseThrow(() -> new ResourceNotFoundException("Invitation not found with id: " + invitationId));
-        
+        Invitation invitation = findInvitation(invitationId);
         invitationRepository.delete(invitation);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<InvitationDto> getBoardInvitations(Long boardId) {
+        return mapToDtos(invitationRepository.findByTypeAndReferenceId(
+                Invitation.InvitationType.BOARD_COLLABORATION, boardId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InvitationDto> getPendingBoardInvitations(Long boardId) {
+        return mapToDtos(invitationRepository.findByTypeAndReferenceIdAndStatus(
+                Invitation.InvitationType.BOARD_COLLABORATION, boardId, Invitation.InvitationStatus.PENDING));
+    }
+
     @Scheduled(cron = "0 0 * * * *") // Run every hour
+    public void expireInvitations() {
+        processExpiredInvitations(INVITATION_EXPIRY_DAYS);
+    }
+
+    @Override
     @Transactional
-    public void processExpiredInvitations() {
-        LocalDateTime expiryTime = LocalDateTime.now().minusDays(7); // Invitations expire after 7 days
-        List<Invitation> expiredInvitations = invitationRepository.findExpiredPendingInvitations(expiryTime);
+    public void processExpiredInvitations(int expirationDays) {
+        LocalDateTime expiryTime = LocalDateTime.now().minusDays(expirationDays);
+        List<Invitation> expiredInvitations = invitationRepository.findExpiredInvitations(expiryTime);
         
         for (Invitation invitation : expiredInvitations) {
             invitation.setStatus(Invitation.InvitationStatus.EXPIRED);
@@ -173,11 +194,14 @@ public class InvitationServiceImpl implements InvitationService {
         }
     }
 
+    private Invitation findInvitation(Long invitationId) {
+        return invitationRepository.findById(invitationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Invitation not found with id: " + invitationId));
+    }
+
     // Helper methods
     private void validateInvitationRequest(InvitationRequest request) {
-        Invitation.InvitationType type = Invitation.InvitationType.valueOf(request.getType());
-        
-        switch (type) {
+        switch (request.getType()) {
             case CONNECTION:
                 // For connection invitations, referenceId should be null
                 if (request.getReferenceId() != null) {
@@ -201,13 +225,13 @@ public class InvitationServiceImpl implements InvitationService {
     private void processAcceptedInvitation(Invitation invitation) {
         switch (invitation.getType()) {
             case CONNECTION:
-                // Create a user connection
-                userConnectionService.createConnection(
-                        invitation.getSenderId(),
-                        invitation.getRecipientId(),
-                        invitation.getMessage(),
-                        true // Enable notifications by default
-                );
+                // Create a user connection, with notifications enabled by default
+                userConnectionService.createConnection(ConnectionRequest.builder()
+                        .followerId(invitation.getSenderId())
+                        .followingId(invitation.getRecipientId())
+                        .note(invitation.getMessage())
+                        .notificationsEnabled(true)
+                        .build());
                 break;
             case BOARD_COLLABORATION:
                 // Add user as a board collaborator
@@ -221,20 +245,24 @@ public class InvitationServiceImpl implements InvitationService {
         }
     }
 
+    private List<InvitationDto> mapToDtos(List<Invitation> invitations) {
+        return invitations.stream().map(this::mapToDto).collect(Collectors.toList());
+    }
+
     private InvitationDto mapToDto(Invitation invitation) {
         return InvitationDto.builder()
                 .id(invitation.getId())
                 .senderId(invitation.getSenderId())
                 .recipientId(invitation.getRecipientId())
-                .type(invitation.getType().name())
+                .type(invitation.getType())
                 .referenceId(invitation.getReferenceId())
-                .status(invitation.getStatus().name())
+                .status(invitation.getStatus())
                 .message(invitation.getMessage())
-                .permissionLevel(invitation.getPermissionLevel() != null ? invitation.getPermissionLevel().name() : null)
+                .permissionLevel(invitation.getPermissionLevel())
                 .respondedAt(invitation.getRespondedAt())
                 .createdAt(invitation.getCreatedAt())
                 .updatedAt(invitation.getUpdatedAt())
                 // Additional fields would be populated from User and Board services in a real implementation
                 .build();
     }
-}
\ No newline at end of file
+}
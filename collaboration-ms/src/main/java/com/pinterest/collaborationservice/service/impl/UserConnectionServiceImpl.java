@@ -44,6 +44,7 @@ public class UserConnectionServiceImpl implements UserConnectionService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserConnectionDto getConnection(Long followerId, Long followingId) {
         UserConnection connection = userConnectionRepository.findByFollowerIdAndFollowingId(followerId, followingId)
                 .orElseThrow(() -> new ResourceNotFoundException("Connection not found"));
@@ -71,6 +72,7 @@ public class UserConnectionServiceImpl implements UserConnectionService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserConnectionDto> getFollowing(Long userId) {
         List<UserConnection> connections = userConnectionRepository.findByFollowerIdAndStatus(
                 userId, UserConnection.ConnectionStatus.ACCEPTED);
@@ -78,6 +80,7 @@ public class UserConnectionServiceImpl implements UserConnectionService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserConnectionDto> getFollowers(Long userId) {
         List<UserConnection> connections = userConnectionRepository.findByFollowingIdAndStatus(
                 userId, UserConnection.ConnectionStatus.ACCEPTED);
@@ -85,6 +88,7 @@ public class UserConnectionServiceImpl implements UserConnectionService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<UserConnectionDto> getFollowing(Long userId, Pageable pageable) {
         Page<UserConnection> connections = userConnectionRepository.findByFollowerIdAndStatus(
                 userId, UserConnection.ConnectionStatus.ACCEPTED, pageable);
@@ -92,6 +96,7 @@ public class UserConnectionServiceImpl implements UserConnectionService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<UserConnectionDto> getFollowers(Long userId, Pageable pageable) {
         Page<UserConnection> connections = userConnectionRepository.findByFollowingIdAndStatus(
                 userId, UserConnection.ConnectionStatus.ACCEPTED, pageable);
@@ -99,30 +104,35 @@ public class UserConnectionServiceImpl implements UserConnectionService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public long getFollowersCount(Long userId) {
         return userConnectionRepository.countByFollowingIdAndStatus(
                 userId, UserConnection.ConnectionStatus.ACCEPTED);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public long getFollowingCount(Long userId) {
         return userConnectionRepository.countByFollowerIdAndStatus(
                 userId, UserConnection.ConnectionStatus.ACCEPTED);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean isFollowing(Long followerId, Long followingId) {
         return userConnectionRepository.existsByFollowerIdAndFollowingIdAndStatus(
                 followerId, followingId, UserConnection.ConnectionStatus.ACCEPTED);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserConnectionDto> getMutualConnections(Long userId) {
         List<UserConnection> connections = userConnectionRepository.findMutualConnections(userId);
         return connections.stream().map(this::mapToDto).collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<UserConnectionDto> getMutualConnections(Long userId, Pageable pageable) {
         Page<UserConnection> connections = userConnectionRepository.findMutualConnections(userId, pageable);
         return connections.map(this::mapToDto);
@@ -165,6 +175,7 @@ public class UserConnectionServiceImpl implements UserConnectionService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserConnectionDto> getBlockedUsers(Long userId) {
         List<UserConnection> connections = userConnectionRepository.findByFollowerIdAndStatus(
                 userId, UserConnection.ConnectionStatus.BLOCKED);
@@ -0,0 +1,44 @@
+-- Schema as previously created by ddl-auto: update. Databases that already have these tables are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and only receive later migrations.
+
+CREATE TABLE user_connections (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    follower_id BIGINT NOT NULL,
+    following_id BIGINT NOT NULL,
+    status ENUM('ACCEPTED', 'BLOCKED', 'PENDING') NOT NULL,
+    note VARCHAR(255),
+    notifications_enabled BIT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_connections_pair UNIQUE (follower_id, following_id)
+);
+
+CREATE TABLE invitations (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    sender_id BIGINT NOT NULL,
+    recipient_id BIGINT NOT NULL,
+    type ENUM('BOARD_COLLABORATION', 'CONNECTION') NOT NULL,
+    reference_id BIGINT,
+    status ENUM('ACCEPTED', 'DECLINED', 'EXPIRED', 'IGNORED', 'PENDING') NOT NULL,
+    message TEXT,
+    permission_level ENUM('ADMIN', 'CONTRIBUTE', 'EDIT', 'VIEW'),
+    responded_at DATETIME(6),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE board_collaborations (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    board_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    invited_by BIGINT,
+    status ENUM('ACCEPTED', 'DECLINED', 'PENDING', 'REMOVED') NOT NULL,
+    permission_level ENUM('ADMIN', 'CONTRIBUTE', 'EDIT', 'VIEW') NOT NULL,
+    invitation_message TEXT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_board_collaborations_member UNIQUE (board_id, user_id)
+);
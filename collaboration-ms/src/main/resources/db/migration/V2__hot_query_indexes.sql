@@ -0,0 +1,16 @@
+-- Composite indexes for the follower, inbox and membership queries. Equality columns come first and
+-- the sort or range column last.
+
+-- Followers and followings by status; the unique (follower_id, following_id) key serves pair lookups
+CREATE INDEX idx_user_connections_following_status ON user_connections (following_id, status);
+CREATE INDEX idx_user_connections_follower_status ON user_connections (follower_id, status);
+
+-- Invitation inbox and outbox, newest first, lookups by the invited object and the expiry sweep
+CREATE INDEX idx_invitations_recipient_status_created ON invitations (recipient_id, status, created_at);
+CREATE INDEX idx_invitations_sender_created ON invitations (sender_id, created_at);
+CREATE INDEX idx_invitations_type_reference_status ON invitations (type, reference_id, status);
+CREATE INDEX idx_invitations_status_created ON invitations (status, created_at);
+
+-- Memberships of a user or a board by status; the unique (board_id, user_id) key serves single lookups
+CREATE INDEX idx_board_collaborations_user_status ON board_collaborations (user_id, status);
+CREATE INDEX idx_board_collaborations_board_status ON board_collaborations (board_id, status);
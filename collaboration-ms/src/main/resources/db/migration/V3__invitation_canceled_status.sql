@@ -0,0 +1,2 @@
+-- Invitations withdrawn by their sender are kept as CANCELED rather than deleted
+ALTER TABLE invitations MODIFY COLUMN status ENUM('ACCEPTED', 'CANCELED', 'DECLINED', 'EXPIRED', 'IGNORED', 'PENDING') NOT NULL;
@@ -48,7 +48,7 @@ public class BoardCollaborationControllerTest {
                 .userId(201L)
                 .invitedBy(301L)
                 .permissionLevel(BoardCollaboration.PermissionLevel.EDIT)
-                .status(BoardCollaboration.CollaborationStatus.ACTIVE)
+                .status(BoardCollaboration.CollaborationStatus.ACCEPTED)
                 .createdAt(LocalDateTime.now())
                 .build();
     }
@@ -88,17 +88,17 @@ public class BoardCollaborationControllerTest {
     @Test
     @DisplayName("Should update collaboration status")
     void shouldUpdateCollaborationStatus() throws Exception {
-        collaborationDto.setStatus(BoardCollaboration.CollaborationStatus.INACTIVE);
+        collaborationDto.setStatus(BoardCollaboration.CollaborationStatus.REMOVED);
         when(boardCollaborationService.updateCollaborationStatus(
-                eq(1L), eq(BoardCollaboration.CollaborationStatus.INACTIVE)))
+                eq(1L), eq(BoardCollaboration.CollaborationStatus.REMOVED)))
                 .thenReturn(collaborationDto);
 
         mockMvc.perform(put("/api/board-collaborations/1/status")
-                .param("status", "INACTIVE")
+                .param("status", "REMOVED")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data.status").value("INACTIVE"));
+                .andExpect(jsonPath("$.data.status").value("REMOVED"));
     }
 
     @Test
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pinterest.collaborationservice.dto.InvitationDto;
 import com.pinterest.collaborationservice.dto.InvitationRequest;
 import com.pinterest.collaborationservice.dto.InvitationResponseRequest;
+import com.pinterest.collaborationservice.model.BoardCollaboration;
 import com.pinterest.collaborationservice.model.Invitation;
 import com.pinterest.collaborationservice.service.InvitationService;
 import org.junit.jupiter.api.BeforeEach;
@@ -49,9 +50,9 @@ public class InvitationControllerTest {
         invitationDto = InvitationDto.builder()
                 .id(1L)
                 .senderId(101L)
-                .receiverId(201L)
-                .resourceId(301L)
-                .resourceType(Invitation.ResourceType.BOARD)
+                .recipientId(201L)
+                .referenceId(301L)
+                .type(Invitation.InvitationType.BOARD_COLLABORATION)
                 .message("Please join my board")
                 .status(Invitation.InvitationStatus.PENDING)
                 .createdAt(LocalDateTime.now())
@@ -59,13 +60,15 @@ public class InvitationControllerTest {
 
         invitationRequest = InvitationRequest.builder()
                 .senderId(101L)
-                .receiverId(201L)
-                .resourceId(301L)
-                .resourceType(Invitation.ResourceType.BOARD)
+                .recipientId(201L)
+                .referenceId(301L)
+                .type(Invitation.InvitationType.BOARD_COLLABORATION)
                 .message("Please join my board")
+                .permissionLevel(BoardCollaboration.PermissionLevel.EDIT)
                 .build();
 
         responseRequest = InvitationResponseRequest.builder()
+                .invitationId(1L)
                 .status(Invitation.InvitationStatus.ACCEPTED)
                 .build();
     }
@@ -73,7 +76,7 @@ public class InvitationControllerTest {
     @Test
     @DisplayName("Should send invitation successfully")
     void shouldSendInvitation() throws Exception {
-        when(invitationService.sendInvitation(any(InvitationRequest.class)))
+        when(invitationService.createInvitation(any(InvitationRequest.class)))
                 .thenReturn(invitationDto);
 
         mockMvc.perform(post("/api/invitations")
@@ -82,7 +85,7 @@ public class InvitationControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.senderId").value(101L))
-                .andExpect(jsonPath("$.data.receiverId").value(201L));
+                .andExpect(jsonPath("$.data.recipientId").value(201L));
     }
 
     @Test
@@ -101,10 +104,10 @@ public class InvitationControllerTest {
     @DisplayName("Should respond to invitation")
     void shouldRespondToInvitation() throws Exception {
         invitationDto.setStatus(Invitation.InvitationStatus.ACCEPTED);
-        when(invitationService.respondToInvitation(eq(1L), any(InvitationResponseRequest.class)))
+        when(invitationService.respondToInvitation(any(InvitationResponseRequest.class)))
                 .thenReturn(invitationDto);
 
-        mockMvc.perform(put("/api/invitations/1/respond")
+        mockMvc.perform(post("/api/invitations/respond")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(responseRequest)))
                 .andExpect(status().isOk())
@@ -115,25 +118,27 @@ public class InvitationControllerTest {
     @Test
     @DisplayName("Should get sent invitations")
     void shouldGetSentInvitations() throws Exception {
-        when(invitationService.getSentInvitations(101L))
-                .thenReturn(List.of(invitationDto));
+        Page<InvitationDto> page = new PageImpl<>(List.of(invitationDto));
+        when(invitationService.getSentInvitations(eq(101L), any(Pageable.class)))
+                .thenReturn(page);
 
         mockMvc.perform(get("/api/invitations/sent/101"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data[0].senderId").value(101L));
+                .andExpect(jsonPath("$.data.content[0].senderId").value(101L));
     }
 
     @Test
     @DisplayName("Should get received invitations")
     void shouldGetReceivedInvitations() throws Exception {
-        when(invitationService.getReceivedInvitations(201L))
-                .thenReturn(List.of(invitationDto));
+        Page<InvitationDto> page = new PageImpl<>(List.of(invitationDto));
+        when(invitationService.getReceivedInvitations(eq(201L), any(Pageable.class)))
+                .thenReturn(page);
 
         mockMvc.perform(get("/api/invitations/received/201"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data[0].receiverId").value(201L));
+                .andExpect(jsonPath("$.data.content[0].recipientId").value(201L));
     }
 
     @Test
@@ -142,7 +147,7 @@ public class InvitationControllerTest {
         when(invitationService.getPendingInvitations(201L))
                 .thenReturn(List.of(invitationDto));
 
-        mockMvc.perform(get("/api/invitations/pending/201"))
+        mockMvc.perform(get("/api/invitations/pending/201/all"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data[0].status").value("PENDING"));
@@ -155,7 +160,9 @@ public class InvitationControllerTest {
         when(invitationService.getSentInvitations(eq(101L), any(Pageable.class)))
                 .thenReturn(page);
 
-        mockMvc.perform(get("/api/invitations/sent/101/paged"))
+        mockMvc.perform(get("/api/invitations/sent/101")
+                .param("page", "0")
+                .param("size", "5"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.content[0].senderId").value(101L));
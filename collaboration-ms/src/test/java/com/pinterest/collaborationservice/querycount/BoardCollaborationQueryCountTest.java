@@ -0,0 +1,50 @@
+package com.pinterest.collaborationservice.querycount;
+
+import com.pinterest.collaborationservice.model.BoardCollaboration;
+import com.pinterest.collaborationservice.model.BoardCollaboration.CollaborationStatus;
+import com.pinterest.collaborationservice.model.BoardCollaboration.PermissionLevel;
+import com.pinterest.collaborationservice.repository.BoardCollaborationRepository;
+import com.pinterest.servicesupport.querycount.QueryCountTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+public class BoardCollaborationQueryCountTest extends QueryCountTestSupport {
+
+    private static final int COLLABORATORS = 50;
+
+    @Autowired
+    private BoardCollaborationRepository boardCollaborationRepository;
+
+    private long boardId;
+
+    @BeforeEach
+    void setUp() {
+        boardId = newOwnerId();
+        List<BoardCollaboration> collaborations = new ArrayList<>();
+        for (int i = 0; i < COLLABORATORS; i++) {
+            collaborations.add(BoardCollaboration.builder()
+                    .boardId(boardId)
+                    .userId((long) i)
+                    .invitedBy(1L)
+                    .status(CollaborationStatus.ACCEPTED)
+                    .permissionLevel(PermissionLevel.CONTRIBUTE)
+                    .build());
+        }
+        boardCollaborationRepository.saveAll(collaborations);
+    }
+
+    @Test
+    @DisplayName("Should page a board's collaborators with a constant number of queries")
+    void shouldPageCollaboratorsWithoutNPlusOne() throws Exception {
+        // Page and total count
+        assertQueryBudget(get("/api/board-collaborations/board/{boardId}/paged", boardId)
+                .param("size", "" + COLLABORATORS), 2, COLLABORATORS);
+    }
+}
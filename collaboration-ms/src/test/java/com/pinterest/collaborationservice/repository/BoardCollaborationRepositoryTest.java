@@ -16,7 +16,15 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+// Run against H2 in MySQL mode, so the MySQL-syntax migrations apply as they do in production
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:collaborations;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
 public class BoardCollaborationRepositoryTest {
 
     @Autowired
@@ -35,7 +43,7 @@ public class BoardCollaborationRepositoryTest {
                 .boardId(101L)
                 .userId(201L)
                 .permissionLevel(BoardCollaboration.PermissionLevel.EDIT)
-                .status(BoardCollaboration.CollaborationStatus.ACTIVE)
+                .status(BoardCollaboration.CollaborationStatus.ACCEPTED)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
@@ -44,7 +52,7 @@ public class BoardCollaborationRepositoryTest {
                 .boardId(101L)
                 .userId(202L)
                 .permissionLevel(BoardCollaboration.PermissionLevel.VIEW)
-                .status(BoardCollaboration.CollaborationStatus.ACTIVE)
+                .status(BoardCollaboration.CollaborationStatus.ACCEPTED)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
@@ -53,7 +61,7 @@ public class BoardCollaborationRepositoryTest {
                 .boardId(102L)
                 .userId(201L)
                 .permissionLevel(BoardCollaboration.PermissionLevel.EDIT)
-                .status(BoardCollaboration.CollaborationStatus.INACTIVE)
+                .status(BoardCollaboration.CollaborationStatus.REMOVED)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
@@ -124,26 +132,26 @@ public class BoardCollaborationRepositoryTest {
     @DisplayName("Should find active collaborations by board ID")
     void shouldFindActiveCollaborationsByBoardId() {
         List<BoardCollaboration> collaborations = collaborationRepository.findByBoardIdAndStatus(
-                101L, BoardCollaboration.CollaborationStatus.ACTIVE);
+                101L, BoardCollaboration.CollaborationStatus.ACCEPTED);
 
         assertThat(collaborations).isNotEmpty();
         assertThat(collaborations).hasSize(2);
         assertThat(collaborations.get(0).getBoardId()).isEqualTo(101L);
-        assertThat(collaborations.get(0).getStatus()).isEqualTo(BoardCollaboration.CollaborationStatus.ACTIVE);
+        assertThat(collaborations.get(0).getStatus()).isEqualTo(BoardCollaboration.CollaborationStatus.ACCEPTED);
         assertThat(collaborations.get(1).getBoardId()).isEqualTo(101L);
-        assertThat(collaborations.get(1).getStatus()).isEqualTo(BoardCollaboration.CollaborationStatus.ACTIVE);
+        assertThat(collaborations.get(1).getStatus()).isEqualTo(BoardCollaboration.CollaborationStatus.ACCEPTED);
     }
 
     @Test
     @DisplayName("Should find active collaborations by user ID")
     void shouldFindActiveCollaborationsByUserId() {
         List<BoardCollaboration> collaborations = collaborationRepository.findByUserIdAndStatus(
-                201L, BoardCollaboration.CollaborationStatus.ACTIVE);
+                201L, BoardCollaboration.CollaborationStatus.ACCEPTED);
 
         assertThat(collaborations).isNotEmpty();
         assertThat(collaborations).hasSize(1);
         assertThat(collaborations.get(0).getUserId()).isEqualTo(201L);
-        assertThat(collaborations.get(0).getStatus()).isEqualTo(BoardCollaboration.CollaborationStatus.ACTIVE);
+        assertThat(collaborations.get(0).getStatus()).isEqualTo(BoardCollaboration.CollaborationStatus.ACCEPTED);
     }
 
     @Test
@@ -170,7 +178,7 @@ public class BoardCollaborationRepositoryTest {
     @DisplayName("Should count active collaborations by board ID")
     void shouldCountActiveCollaborationsByBoardId() {
         long count = collaborationRepository.countByBoardIdAndStatus(
-                101L, BoardCollaboration.CollaborationStatus.ACTIVE);
+                101L, BoardCollaboration.CollaborationStatus.ACCEPTED);
 
         assertThat(count).isEqualTo(2);
     }
@@ -15,7 +15,15 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+// Run against H2 in MySQL mode, so the MySQL-syntax migrations apply as they do in production
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:invitations;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
 public class InvitationRepositoryTest {
 
     @Autowired
@@ -31,9 +39,9 @@ public class InvitationRepositoryTest {
     void setUp() {
         invitation1 = Invitation.builder()
                 .senderId(101L)
-                .receiverId(201L)
-                .resourceId(301L)
-                .resourceType(Invitation.ResourceType.BOARD)
+                .recipientId(201L)
+                .referenceId(301L)
+                .type(Invitation.InvitationType.BOARD_COLLABORATION)
                 .message("Please join my board")
                 .status(Invitation.InvitationStatus.PENDING)
                 .createdAt(LocalDateTime.now())
@@ -41,9 +49,9 @@ public class InvitationRepositoryTest {
 
         invitation2 = Invitation.builder()
                 .senderId(101L)
-                .receiverId(202L)
-                .resourceId(302L)
-                .resourceType(Invitation.ResourceType.BOARD)
+                .recipientId(202L)
+                .referenceId(302L)
+                .type(Invitation.InvitationType.BOARD_COLLABORATION)
                 .message("Please join my other board")
                 .status(Invitation.InvitationStatus.ACCEPTED)
                 .createdAt(LocalDateTime.now())
@@ -68,22 +76,22 @@ public class InvitationRepositoryTest {
     @Test
     @DisplayName("Should find invitations by receiver ID")
     void shouldFindInvitationsByReceiverId() {
-        List<Invitation> invitations = invitationRepository.findByReceiverId(201L);
+        List<Invitation> invitations = invitationRepository.findByRecipientId(201L);
 
         assertThat(invitations).isNotEmpty();
         assertThat(invitations).hasSize(1);
-        assertThat(invitations.get(0).getReceiverId()).isEqualTo(201L);
+        assertThat(invitations.get(0).getRecipientId()).isEqualTo(201L);
     }
 
     @Test
     @DisplayName("Should find invitations by receiver ID and status")
     void shouldFindInvitationsByReceiverIdAndStatus() {
-        List<Invitation> invitations = invitationRepository.findByReceiverIdAndStatus(
+        List<Invitation> invitations = invitationRepository.findByRecipientIdAndStatus(
                 201L, Invitation.InvitationStatus.PENDING);
 
         assertThat(invitations).isNotEmpty();
         assertThat(invitations).hasSize(1);
-        assertThat(invitations.get(0).getReceiverId()).isEqualTo(201L);
+        assertThat(invitations.get(0).getRecipientId()).isEqualTo(201L);
         assertThat(invitations.get(0).getStatus()).isEqualTo(Invitation.InvitationStatus.PENDING);
     }
 
@@ -102,24 +110,24 @@ public class InvitationRepositoryTest {
     @Test
     @DisplayName("Should find invitations by receiver ID with pagination")
     void shouldFindInvitationsByReceiverIdWithPagination() {
-        Page<Invitation> invitationsPage = invitationRepository.findByReceiverId(
+        Page<Invitation> invitationsPage = invitationRepository.findByRecipientId(
                 201L, PageRequest.of(0, 10));
 
         assertThat(invitationsPage).isNotEmpty();
         assertThat(invitationsPage.getContent()).hasSize(1);
-        assertThat(invitationsPage.getContent().get(0).getReceiverId()).isEqualTo(201L);
+        assertThat(invitationsPage.getContent().get(0).getRecipientId()).isEqualTo(201L);
     }
 
     @Test
-    @DisplayName("Should find invitations by resource ID and type")
-    void shouldFindInvitationsByResourceIdAndType() {
-        List<Invitation> invitations = invitationRepository.findByResourceIdAndResourceType(
-                301L, Invitation.ResourceType.BOARD);
+    @DisplayName("Should find invitations by type and reference ID")
+    void shouldFindInvitationsByTypeAndReferenceId() {
+        List<Invitation> invitations = invitationRepository.findByTypeAndReferenceId(
+                Invitation.InvitationType.BOARD_COLLABORATION, 301L);
 
         assertThat(invitations).isNotEmpty();
         assertThat(invitations).hasSize(1);
-        assertThat(invitations.get(0).getResourceId()).isEqualTo(301L);
-        assertThat(invitations.get(0).getResourceType()).isEqualTo(Invitation.ResourceType.BOARD);
+        assertThat(invitations.get(0).getReferenceId()).isEqualTo(301L);
+        assertThat(invitations.get(0).getType()).isEqualTo(Invitation.InvitationType.BOARD_COLLABORATION);
     }
 
     @Test
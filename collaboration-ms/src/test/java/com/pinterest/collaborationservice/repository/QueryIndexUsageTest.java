@@ -0,0 +1,130 @@
+package com.pinterest.collaborationservice.repository;
+
+import com.pinterest.servicesupport.config.SqlStatementCounter;
+import com.pinterest.servicesupport.config.SqlStatementCounter.RequestStatements;
+import com.pinterest.collaborationservice.model.BoardCollaboration.CollaborationStatus;
+import com.pinterest.collaborationservice.model.Invitation.InvitationStatus;
+import com.pinterest.collaborationservice.model.Invitation.InvitationType;
+import com.pinterest.collaborationservice.model.UserConnection.ConnectionStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL behind the follower, invitation and membership repository queries and checks
+ * that none of them needs a table scan. The schema comes from the Flyway migrations, so dropping an
+ * index or changing a query so it no longer matches one fails the build. H2 plans differently from
+ * MySQL, but a query H2 can only answer with a table scan has no usable index in MySQL either.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:queryplan;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.cloud.consul.enabled=false",
+        "spring.cloud.compatibility-verifier.enabled=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+public class QueryIndexUsageTest {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserConnectionRepository userConnectionRepository;
+
+    @Autowired
+    private InvitationRepository invitationRepository;
+
+    @Autowired
+    private BoardCollaborationRepository boardCollaborationRepository;
+
+    @Test
+    @DisplayName("Should serve follower and following queries from an index")
+    void shouldUseIndexesForConnectionQueries() {
+        assertUsesIndex(() -> userConnectionRepository.findByFollowerIdAndFollowingId(1L, 2L));
+        assertUsesIndex(() -> userConnectionRepository.findByFollowerIdAndStatus(1L, ConnectionStatus.ACCEPTED));
+        assertUsesIndex(() -> userConnectionRepository.findByFollowingIdAndStatus(1L, ConnectionStatus.ACCEPTED));
+        assertUsesIndex(() -> userConnectionRepository.findByFollowerIdAndStatus(
+                1L, ConnectionStatus.ACCEPTED, PageRequest.of(0, 20, NEWEST_FIRST)));
+        assertUsesIndex(() -> userConnectionRepository.findByFollowingIdAndStatus(
+                1L, ConnectionStatus.ACCEPTED, PageRequest.of(0, 20, NEWEST_FIRST)));
+        assertUsesIndex(() -> userConnectionRepository.countByFollowerIdAndStatus(1L, ConnectionStatus.ACCEPTED));
+        assertUsesIndex(() -> userConnectionRepository.countByFollowingIdAndStatus(1L, ConnectionStatus.ACCEPTED));
+        assertUsesIndex(() -> userConnectionRepository.existsByFollowerIdAndFollowingIdAndStatus(
+                1L, 2L, ConnectionStatus.ACCEPTED));
+        assertUsesIndex(() -> userConnectionRepository.findMutualConnections(1L));
+    }
+
+    @Test
+    @DisplayName("Should serve invitation inbox, outbox and expiry queries from an index")
+    void shouldUseIndexesForInvitationQueries() {
+        assertUsesIndex(() -> invitationRepository.findByRecipientId(1L));
+        assertUsesIndex(() -> invitationRepository.findBySenderId(1L));
+        assertUsesIndex(() -> invitationRepository.findByRecipientIdAndStatus(1L, InvitationStatus.PENDING));
+        assertUsesIndex(() -> invitationRepository.findByRecipientIdAndStatus(
+                1L, InvitationStatus.PENDING, PageRequest.of(0, 20, NEWEST_FIRST)));
+        assertUsesIndex(() -> invitationRepository.findByRecipientId(1L, PageRequest.of(0, 20, NEWEST_FIRST)));
+        assertUsesIndex(() -> invitationRepository.findBySenderId(1L, PageRequest.of(0, 20, NEWEST_FIRST)));
+        assertUsesIndex(() -> invitationRepository.countByRecipientIdAndStatus(1L, InvitationStatus.PENDING));
+        assertUsesIndex(() -> invitationRepository.findBySenderIdAndRecipientIdAndTypeAndReferenceIdAndStatus(
+                1L, 2L, InvitationType.BOARD_COLLABORATION, 3L, InvitationStatus.PENDING));
+        assertUsesIndex(() -> invitationRepository.findByTypeAndReferenceIdAndStatus(
+                InvitationType.BOARD_COLLABORATION, 3L, InvitationStatus.PENDING));
+        assertUsesIndex(() -> invitationRepository.findExpiredInvitations(LocalDateTime.now().minusDays(30)));
+    }
+
+    @Test
+    @DisplayName("Should serve board membership queries from an index")
+    void shouldUseIndexesForCollaborationQueries() {
+        assertUsesIndex(() -> boardCollaborationRepository.findByBoardIdAndUserId(1L, 2L));
+        assertUsesIndex(() -> boardCollaborationRepository.findByBoardIdAndStatus(1L, CollaborationStatus.ACCEPTED));
+        assertUsesIndex(() -> boardCollaborationRepository.findByUserIdAndStatus(1L, CollaborationStatus.ACCEPTED));
+        assertUsesIndex(() -> boardCollaborationRepository.findByBoardId(1L, PageRequest.of(0, 20)));
+        assertUsesIndex(() -> boardCollaborationRepository.findByUserId(1L, PageRequest.of(0, 20)));
+        assertUsesIndex(() -> boardCollaborationRepository.countByBoardIdAndStatus(1L, CollaborationStatus.ACCEPTED));
+        assertUsesIndex(() -> boardCollaborationRepository.existsByBoardIdAndUserIdAndStatus(
+                1L, 2L, CollaborationStatus.ACCEPTED));
+        assertUsesIndex(() -> boardCollaborationRepository.findAdminBoards(1L));
+    }
+
+    // Helper method to run a repository call and EXPLAIN every statement it issued
+    private void assertUsesIndex(Runnable repositoryCall) {
+        sqlStatementCounter.begin();
+        RequestStatements statements;
+        try {
+            repositoryCall.run();
+        } finally {
+            statements = sqlStatementCounter.end();
+        }
+
+        assertThat(statements.getStatements()).as("statements issued").isNotEmpty();
+        for (String sql : statements.getStatements()) {
+            assertThat(explain(sql)).as("plan of %s", sql).doesNotContain("tableScan");
+        }
+    }
+
+    // Helper method to get H2's plan, parameters can stay unbound for EXPLAIN
+    private String explain(String sql) {
+        return jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                resultSet -> resultSet.next() ? resultSet.getString(1) : "");
+    }
+}
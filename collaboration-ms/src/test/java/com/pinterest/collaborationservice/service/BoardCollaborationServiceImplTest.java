@@ -45,7 +45,7 @@ public class BoardCollaborationServiceImplTest {
                 .userId(201L)
                 .invitedBy(301L)
                 .permissionLevel(BoardCollaboration.PermissionLevel.EDIT)
-                .status(BoardCollaboration.CollaborationStatus.ACTIVE)
+                .status(BoardCollaboration.CollaborationStatus.ACCEPTED)
                 .createdAt(LocalDateTime.now())
                 .build();
 
@@ -55,7 +55,7 @@ public class BoardCollaborationServiceImplTest {
                 .userId(201L)
                 .invitedBy(301L)
                 .permissionLevel(BoardCollaboration.PermissionLevel.EDIT)
-                .status(BoardCollaboration.CollaborationStatus.ACTIVE)
+                .status(BoardCollaboration.CollaborationStatus.ACCEPTED)
                 .createdAt(boardCollaboration.getCreatedAt())
                 .build();
     }
@@ -112,10 +112,10 @@ public class BoardCollaborationServiceImplTest {
                 .thenReturn(boardCollaboration);
 
         BoardCollaborationDto result = boardCollaborationService.updateCollaborationStatus(
-                1L, BoardCollaboration.CollaborationStatus.INACTIVE);
+                1L, BoardCollaboration.CollaborationStatus.REMOVED);
 
         assertThat(result).isNotNull();
-        assertThat(result.getStatus()).isEqualTo(BoardCollaboration.CollaborationStatus.INACTIVE);
+        assertThat(result.getStatus()).isEqualTo(BoardCollaboration.CollaborationStatus.REMOVED);
         verify(boardCollaborationRepository, times(1)).findById(1L);
         verify(boardCollaborationRepository, times(1)).save(any(BoardCollaboration.class));
     }
@@ -140,7 +140,7 @@ public class BoardCollaborationServiceImplTest {
     @Test
     @DisplayName("Should get board collaborators")
     void shouldGetBoardCollaborators() {
-        when(boardCollaborationRepository.findByBoardId(101L))
+        when(boardCollaborationRepository.findByBoardIdAndStatus(101L, BoardCollaboration.CollaborationStatus.ACCEPTED))
                 .thenReturn(List.of(boardCollaboration));
 
         List<BoardCollaborationDto> result = boardCollaborationService.getBoardCollaborators(101L);
@@ -148,13 +148,13 @@ public class BoardCollaborationServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getBoardId()).isEqualTo(101L);
-        verify(boardCollaborationRepository, times(1)).findByBoardId(101L);
+        verify(boardCollaborationRepository, times(1)).findByBoardIdAndStatus(101L, BoardCollaboration.CollaborationStatus.ACCEPTED);
     }
 
     @Test
     @DisplayName("Should get user collaborations")
     void shouldGetUserCollaborations() {
-        when(boardCollaborationRepository.findByUserId(201L))
+        when(boardCollaborationRepository.findByUserIdAndStatus(201L, BoardCollaboration.CollaborationStatus.ACCEPTED))
                 .thenReturn(List.of(boardCollaboration));
 
         List<BoardCollaborationDto> result = boardCollaborationService.getUserCollaborations(201L);
@@ -162,7 +162,7 @@ public class BoardCollaborationServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getUserId()).isEqualTo(201L);
-        verify(boardCollaborationRepository, times(1)).findByUserId(201L);
+        verify(boardCollaborationRepository, times(1)).findByUserIdAndStatus(201L, BoardCollaboration.CollaborationStatus.ACCEPTED);
     }
 
     @Test
@@ -4,6 +4,7 @@ import com.pinterest.collaborationservice.dto.InvitationDto;
 import com.pinterest.collaborationservice.dto.InvitationRequest;
 import com.pinterest.collaborationservice.dto.InvitationResponseRequest;
 import com.pinterest.collaborationservice.exception.ResourceNotFoundException;
+import com.pinterest.collaborationservice.model.BoardCollaboration;
 import com.pinterest.collaborationservice.model.Invitation;
 import com.pinterest.collaborationservice.repository.InvitationRepository;
 import com.pinterest.collaborationservice.service.impl.InvitationServiceImpl;
@@ -33,6 +34,12 @@ public class InvitationServiceImplTest {
     @Mock
     private InvitationRepository invitationRepository;
 
+    @Mock
+    private UserConnectionService userConnectionService;
+
+    @Mock
+    private BoardCollaborationService boardCollaborationService;
+
     @InjectMocks
     private InvitationServiceImpl invitationService;
 
@@ -45,9 +52,9 @@ public class InvitationServiceImplTest {
         invitation = Invitation.builder()
                 .id(1L)
                 .senderId(101L)
-                .receiverId(201L)
-                .resourceId(301L)
-                .resourceType(Invitation.ResourceType.BOARD)
+                .recipientId(201L)
+                .referenceId(301L)
+                .type(Invitation.InvitationType.BOARD_COLLABORATION)
                 .message("Please join my board")
                 .status(Invitation.InvitationStatus.PENDING)
                 .createdAt(LocalDateTime.now())
@@ -55,13 +62,15 @@ public class InvitationServiceImplTest {
 
         invitationRequest = InvitationRequest.builder()
                 .senderId(101L)
-                .receiverId(201L)
-                .resourceId(301L)
-                .resourceType(Invitation.ResourceType.BOARD)
+                .recipientId(201L)
+                .referenceId(301L)
+                .type(Invitation.InvitationType.BOARD_COLLABORATION)
                 .message("Please join my board")
+                .permissionLevel(BoardCollaboration.PermissionLevel.EDIT)
                 .build();
 
         responseRequest = InvitationResponseRequest.builder()
+                .invitationId(1L)
                 .status(Invitation.InvitationStatus.ACCEPTED)
                 .build();
     }
@@ -71,11 +80,11 @@ public class InvitationServiceImplTest {
     void shouldSendInvitation() {
         when(invitationRepository.save(any(Invitation.class))).thenReturn(invitation);
 
-        InvitationDto result = invitationService.sendInvitation(invitationRequest);
+        InvitationDto result = invitationService.createInvitation(invitationRequest);
 
         assertThat(result).isNotNull();
         assertThat(result.getSenderId()).isEqualTo(101L);
-        assertThat(result.getReceiverId()).isEqualTo(201L);
+        assertThat(result.getRecipientId()).isEqualTo(201L);
         assertThat(result.getStatus()).isEqualTo(Invitation.InvitationStatus.PENDING);
         verify(invitationRepository, times(1)).save(any(Invitation.class));
     }
@@ -110,7 +119,7 @@ public class InvitationServiceImplTest {
         when(invitationRepository.findById(1L)).thenReturn(Optional.of(invitation));
         when(invitationRepository.save(any(Invitation.class))).thenReturn(invitation);
 
-        InvitationDto result = invitationService.respondToInvitation(1L, responseRequest);
+        InvitationDto result = invitationService.respondToInvitation(responseRequest);
 
         assertThat(result).isNotNull();
         assertThat(result.getStatus()).isEqualTo(Invitation.InvitationStatus.ACCEPTED);
@@ -118,6 +127,19 @@ public class InvitationServiceImplTest {
         verify(invitationRepository, times(1)).save(any(Invitation.class));
     }
 
+    @Test
+    @DisplayName("Should keep a canceled invitation as canceled")
+    void shouldCancelInvitation() {
+        when(invitationRepository.findById(1L)).thenReturn(Optional.of(invitation));
+
+        invitationService.cancelInvitation(1L, 101L);
+
+        assertThat(invitation.getStatus()).isEqualTo(Invitation.InvitationStatus.CANCELED);
+        assertThat(invitation.getRespondedAt()).isNotNull();
+        verify(invitationRepository, times(1)).save(invitation);
+        verify(invitationRepository, never()).delete(any(Invitation.class));
+    }
+
     @Test
     @DisplayName("Should get sent invitations")
     void shouldGetSentInvitations() {
@@ -134,20 +156,20 @@ public class InvitationServiceImplTest {
     @Test
     @DisplayName("Should get received invitations")
     void shouldGetReceivedInvitations() {
-        when(invitationRepository.findByReceiverId(201L)).thenReturn(List.of(invitation));
+        when(invitationRepository.findByRecipientId(201L)).thenReturn(List.of(invitation));
 
         List<InvitationDto> results = invitationService.getReceivedInvitations(201L);
 
         assertThat(results).isNotEmpty();
         assertThat(results).hasSize(1);
-        assertThat(results.get(0).getReceiverId()).isEqualTo(201L);
-        verify(invitationRepository, times(1)).findByReceiverId(201L);
+        assertThat(results.get(0).getRecipientId()).isEqualTo(201L);
+        verify(invitationRepository, times(1)).findByRecipientId(201L);
     }
 
     @Test
     @DisplayName("Should get pending invitations")
     void shouldGetPendingInvitations() {
-        when(invitationRepository.findByReceiverIdAndStatus(201L, Invitation.InvitationStatus.PENDING))
+        when(invitationRepository.findByRecipientIdAndStatus(201L, Invitation.InvitationStatus.PENDING))
                 .thenReturn(List.of(invitation));
 
         List<InvitationDto> results = invitationService.getPendingInvitations(201L);
@@ -156,7 +178,7 @@ public class InvitationServiceImplTest {
         assertThat(results).hasSize(1);
         assertThat(results.get(0).getStatus()).isEqualTo(Invitation.InvitationStatus.PENDING);
         verify(invitationRepository, times(1))
-                .findByReceiverIdAndStatus(201L, Invitation.InvitationStatus.PENDING);
+                .findByRecipientIdAndStatus(201L, Invitation.InvitationStatus.PENDING);
     }
 
     @Test
@@ -179,15 +201,15 @@ public class InvitationServiceImplTest {
     @DisplayName("Should get received invitations with pagination")
     void shouldGetReceivedInvitationsPaged() {
         Page<Invitation> page = new PageImpl<>(List.of(invitation));
-        when(invitationRepository.findByReceiverId(eq(201L), any(Pageable.class)))
+        when(invitationRepository.findByRecipientId(eq(201L), any(Pageable.class)))
                 .thenReturn(page);
 
         Page<InvitationDto> results = invitationService.getReceivedInvitations(201L, Pageable.unpaged());
 
         assertThat(results).isNotEmpty();
         assertThat(results.getContent()).hasSize(1);
-        assertThat(results.getContent().get(0).getReceiverId()).isEqualTo(201L);
+        assertThat(results.getContent().get(0).getRecipientId()).isEqualTo(201L);
         verify(invitationRepository, times(1))
-                .findByReceiverId(eq(201L), any(Pageable.class));
+                .findByRecipientId(eq(201L), any(Pageable.class));
     }
 }
\ No newline at end of file
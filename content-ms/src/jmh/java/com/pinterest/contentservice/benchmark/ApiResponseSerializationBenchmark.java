@@ -0,0 +1,80 @@
+package com.pinterest.contentservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pinterest.contentservice.dto.ApiResponse;
+import com.pinterest.contentservice.dto.KeywordDto;
+import com.pinterest.contentservice.dto.PinDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of a paged pin response, the envelope every list endpoint returns, with an
+ * object mapper configured the way Spring Boot configures the one used by the controllers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+
+    private ApiResponse<Page<PinDto>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<PinDto> pins = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            List<KeywordDto> keywords = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                keywords.add(KeywordDto.builder().id((long) j).name("keyword-" + j).pinCount(42)
+                        .createdAt("2024-05-01 10:15:30").updatedAt("2024-05-01 10:15:30").build());
+            }
+            pins.add(PinDto.builder()
+                    .id((long) i)
+                    .title("Pin " + i)
+                    .description("A description long enough to look like the ones users actually write, " + i)
+                    .imageUrl("https://images.example.com/pins/" + i + ".jpg")
+                    .sourceUrl("https://blog.example.com/posts/" + i)
+                    .keywords("keyword-0, keyword-1, keyword-2")
+                    .keywordList(keywords)
+                    .userId(7L)
+                    .boardId(3L)
+                    .boardTitle("Travel ideas")
+                    .createdAt("2024-05-01 10:15:30")
+                    .updatedAt("2024-05-01 10:15:30")
+                    .build());
+        }
+        response = ApiResponse.success("Pins retrieved successfully",
+                new PageImpl<>(pins, PageRequest.of(0, pageSize), pageSize * 10L));
+    }
+
+    @Benchmark
+    public byte[] serializePinPage() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
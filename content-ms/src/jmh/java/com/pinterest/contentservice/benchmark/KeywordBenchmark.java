@@ -0,0 +1,82 @@
+package com.pinterest.contentservice.benchmark;
+
+import com.pinterest.contentservice.model.Keyword;
+import com.pinterest.contentservice.repository.KeywordRepository;
+import com.pinterest.contentservice.service.impl.KeywordServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Keyword parsing and normalization as done for every pin create and update. Half of the keywords
+ * already exist, the other half go through the (stubbed) save path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeywordBenchmark {
+
+    @Param({"3", "15", "60"})
+    private int keywordCount;
+
+    private KeywordServiceImpl keywordService;
+
+    private String keywordsString;
+
+    private List<String> keywordNames;
+
+    @Setup
+    public void setUp() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < keywordCount; i++) {
+            // Mixed case, padding and a duplicate every fifth entry, as typed by users
+            names.add(i % 5 == 4 ? "  Keyword-" + (i - 1) : " Keyword-" + i + " ");
+        }
+        keywordsString = String.join(",", names) + ", ,";
+        keywordNames = names;
+
+        KeywordRepository keywordRepository = StubRepositories.stub(KeywordRepository.class, Map.of(
+                "findByNameInIgnoreCase", args -> existing((Collection<?>) args[0]),
+                "save", args -> args[0]));
+        keywordService = new KeywordServiceImpl(keywordRepository, null);
+    }
+
+    @Benchmark
+    public List<String> parseKeywordString() {
+        return keywordService.parseKeywordString(keywordsString);
+    }
+
+    @Benchmark
+    public Set<Keyword> processKeywords() {
+        return keywordService.processKeywords(keywordNames);
+    }
+
+    // Helper method to pretend that about half of the requested keywords are already stored
+    private static List<Keyword> existing(Collection<?> names) {
+        return names.stream()
+                .map(name -> (String) name)
+                .filter(name -> name.hashCode() % 2 == 0)
+                .map(name -> Keyword.builder().name(name.toUpperCase(Locale.ROOT)).build())
+                .collect(Collectors.toList());
+    }
+}
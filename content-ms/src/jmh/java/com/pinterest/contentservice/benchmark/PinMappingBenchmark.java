@@ -0,0 +1,85 @@
+package com.pinterest.contentservice.benchmark;
+
+import com.pinterest.contentservice.dto.PinDto;
+import com.pinterest.contentservice.model.Board;
+import com.pinterest.contentservice.model.Keyword;
+import com.pinterest.contentservice.model.Pin;
+import com.pinterest.contentservice.repository.PinRepository;
+import com.pinterest.contentservice.service.impl.PinServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a loaded pin into its DTO, including the keyword list and the date formatting.
+ * The repository is an in-memory stub, so only the mapping is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PinMappingBenchmark {
+
+    @Param({"0", "5", "20"})
+    private int keywordCount;
+
+    private PinServiceImpl pinService;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        Board board = Board.builder().id(1L).title("Travel ideas").userId(7L).pins(new ArrayList<>()).build();
+
+        Set<Keyword> keywords = new HashSet<>();
+        for (int i = 0; i < keywordCount; i++) {
+            Set<Pin> keywordPins = new HashSet<>();
+            for (int j = 0; j < 10; j++) {
+                keywordPins.add(Pin.builder().id((long) (i * 10 + j + 100)).title("Other").imageUrl("x")
+                        .userId(8L).keywords(new HashSet<>()).build());
+            }
+            keywords.add(Keyword.builder().id((long) i).name("keyword-" + i).pins(keywordPins)
+                    .createdAt(now).updatedAt(now).build());
+        }
+
+        Pin pin = Pin.builder()
+                .id(1L)
+                .title("Lisbon in three days")
+                .description("Tram 28, pasteis de nata and the view from the Miradouro da Senhora do Monte")
+                .imageUrl("https://images.example.com/pins/1.jpg")
+                .sourceUrl("https://blog.example.com/lisbon")
+                .keywordsText("travel, lisbon, portugal")
+                .userId(7L)
+                .board(board)
+                .keywords(keywords)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        PinRepository pinRepository = StubRepositories.stub(PinRepository.class,
+                Map.of("findById", args -> Optional.of(pin)));
+        pinService = new PinServiceImpl(pinRepository, null, null, null);
+    }
+
+    @Benchmark
+    public PinDto mapToDto() {
+        return pinService.getPinById(1L);
+    }
+}
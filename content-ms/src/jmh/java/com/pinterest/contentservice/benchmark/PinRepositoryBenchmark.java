@@ -0,0 +1,133 @@
+package com.pinterest.contentservice.benchmark;
+
+import com.pinterest.contentservice.ContentServiceApplication;
+import com.pinterest.contentservice.model.Pin;
+import com.pinterest.contentservice.repository.PinRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository queries behind the pin and board listing endpoints, against an embedded H2 database
+ * seeded with {@code pinCount} pins spread over boards of 100 pins and users of 10 boards.
+ * The second-level cache is off so every call reaches the database.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PinRepositoryBenchmark {
+
+    private static final int PINS_PER_BOARD = 100;
+    private static final int BOARDS_PER_USER = 10;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "10000", "100000"})
+    private int pinCount;
+
+    private ConfigurableApplicationContext context;
+
+    private PinRepository pinRepository;
+
+    private int boardCount;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        // Passed as command line arguments so they take precedence over application.yml
+        context = new SpringApplicationBuilder(ContentServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark-" + pinCount + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=validate",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--spring.cloud.consul.enabled=false",
+                        "--spring.cloud.compatibility-verifier.enabled=false",
+                        "--board.purge.interval-ms=3600000",
+                        "--sql-budget.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        pinRepository = context.getBean(PinRepository.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Pin> pinsByBoardPage() {
+        return pinRepository.findByBoardId(nextBoardId(), PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<Pin> pinsByUserPage() {
+        return pinRepository.findByUserId(nextBoardId() / BOARDS_PER_USER + 1, PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<Object[]> pinCountsForBoardPage() {
+        List<Long> boardIds = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            boardIds.add(nextBoardId());
+        }
+        return pinRepository.countByBoardIds(boardIds);
+    }
+
+    // Helper method to cycle through the boards without the cost of a random number generator
+    private long nextBoardId() {
+        next = next + 1 == boardCount ? 0 : next + 1;
+        return next + 1;
+    }
+
+    // Helper method to insert the boards and pins with batched JDBC, far faster than through JPA
+    private void seed(JdbcTemplate jdbcTemplate) {
+        boardCount = Math.max(1, pinCount / PINS_PER_BOARD);
+        List<Object[]> boards = new ArrayList<>(boardCount);
+        for (int board = 0; board < boardCount; board++) {
+            boards.add(new Object[]{"Board " + board, (long) board / BOARDS_PER_USER + 1, board});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO boards (title, user_id, display_order, is_private, is_collaborative) "
+                + "VALUES (?, ?, ?, FALSE, FALSE)", boards);
+
+        List<Object[]> pins = new ArrayList<>(pinCount);
+        for (int pin = 0; pin < pinCount; pin++) {
+            long boardId = pin / PINS_PER_BOARD % boardCount + 1;
+            pins.add(new Object[]{"Pin " + pin, "https://images.example.com/pins/" + pin + ".jpg",
+                    (boardId - 1) / BOARDS_PER_USER + 1, boardId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO pins (title, image_url, user_id, board_id, is_private, is_draft) "
+                + "VALUES (?, ?, ?, ?, FALSE, FALSE)", pins);
+    }
+}
@@ -0,0 +1,74 @@
+package com.pinterest.contentservice.config;
+
+import com.pinterest.contentservice.repository.BoardRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Gauges over the service's data. Each is a database count, so the value is cached for the refresh
+ * interval and a scrape only queries once that has passed.
+ */
+@Slf4j
+public class DomainMetrics implements MeterBinder {
+
+    public static final String BOARDS_PENDING_PURGE_METRIC = "boards.pending.purge";
+
+    private final BoardRepository boardRepository;
+
+    private final long refreshMillis;
+
+    public DomainMetrics(BoardRepository boardRepository, long refreshMillis) {
+        this.boardRepository = boardRepository;
+        this.refreshMillis = refreshMillis;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        countGauge(BOARDS_PENDING_PURGE_METRIC, boardRepository::countDeletedBoards)
+                .description("Soft-deleted boards waiting for the board purger")
+                .register(registry);
+    }
+
+    // Helper method to build a gauge over a database count
+    private Gauge.Builder<CachedCount> countGauge(String name, LongSupplier count) {
+        return Gauge.builder(name, new CachedCount(name, count, refreshMillis), CachedCount::value)
+                .strongReference(true);
+    }
+
+    private static final class CachedCount {
+
+        private final String name;
+
+        private final LongSupplier count;
+
+        private final long refreshMillis;
+
+        private double value = Double.NaN;
+
+        private long refreshedAt;
+
+        private CachedCount(String name, LongSupplier count, long refreshMillis) {
+            this.name = name;
+            this.count = count;
+            this.refreshMillis = refreshMillis;
+        }
+
+        // Keeps the last value when the count fails, NaN until one succeeds
+        private synchronized double value() {
+            long now = System.currentTimeMillis();
+            if (Double.isNaN(value) || now - refreshedAt >= refreshMillis) {
+                try {
+                    value = count.getAsLong();
+                } catch (RuntimeException e) {
+                    log.warn("Could not refresh gauge {}: {}", name, e.getMessage());
+                }
+                refreshedAt = now;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.pinterest.contentservice.config;
+
+import com.pinterest.contentservice.repository.BoardRepository;
+import com.pinterest.servicesupport.config.HibernateCacheMetrics;
+import com.pinterest.servicesupport.config.ServiceMetricsAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics beyond what Spring Boot binds on its own (HTTP, JVM, Hikari pools, thread pool executors):
+ * service method timers, second-level cache regions and gauges over the service's data. All of it is
+ * scraped from {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServiceMetricsAspect serviceMetricsAspect(MeterRegistry meterRegistry) {
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernateCacheMetrics hibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateCacheMetrics(entityManagerFactory);
+    }
+
+    @Bean
+    public DomainMetrics domainMetrics(
+            BoardRepository boardRepository,
+            @Value("${metrics.gauges.refresh-ms:30000}") long refreshMillis) {
+        return new DomainMetrics(boardRepository, refreshMillis);
+    }
+}
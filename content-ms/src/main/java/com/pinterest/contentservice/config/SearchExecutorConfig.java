@@ -0,0 +1,43 @@
+package com.pinterest.contentservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@Slf4j
+public class SearchExecutorConfig {
+
+    @Value("${search.executor.pool-size:32}")
+    private int poolSize;
+
+    /**
+     * Executor used to fan a unified search out to the pin, board and keyword branches.
+     * Runs each branch on its own virtual thread in virtual thread mode (spring.threads.virtual.enabled
+     * on Java 21+), otherwise on a bounded platform thread pool.
+     */
+    @Bean
+    public AsyncTaskExecutor searchTaskExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("search-");
+            executor.setVirtualThreads(true);
+            log.info("Unified search branches will run on virtual threads");
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("search-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.initialize();
+        log.info("Using a pool of {} search threads", poolSize);
+        return executor;
+    }
+}
@@ -1,8 +1,12 @@
 package com.pinterest.contentservice.controller;
 
 import com.pinterest.contentservice.dto.ApiResponse;
+import com.pinterest.contentservice.dto.BoardArchiveDto;
 import com.pinterest.contentservice.dto.BoardDto;
+import com.pinterest.contentservice.dto.BoardPurgeStatusDto;
 import com.pinterest.contentservice.dto.BoardRequest;
+import com.pinterest.contentservice.service.BoardArchiveService;
+import com.pinterest.contentservice.service.BoardPurgeService;
 import com.pinterest.contentservice.service.BoardService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -10,9 +14,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -22,6 +29,8 @@ import java.util.List;
 public class BoardController {
 
     private final BoardService boardService;
+    private final BoardArchiveService boardArchiveService;
+    private final BoardPurgeService boardPurgeService;
     
     @PostMapping
     public ResponseEntity<ApiResponse<BoardDto>> createBoard(@Valid @RequestBody BoardRequest boardRequest) {
@@ -35,6 +44,17 @@ public class BoardController {
         return ResponseEntity.ok(ApiResponse.success(boardDto));
     }
     
+    @GetMapping(value = "/{boardId}/archive", produces = "application/zip")
+    public ResponseEntity<StreamingResponseBody> downloadBoardArchive(@PathVariable Long boardId) {
+        // Resolved up front so an unknown board is a 404 rather than a broken download
+        BoardArchiveDto archive = boardArchiveService.prepareArchive(boardId);
+        StreamingResponseBody body = outputStream -> boardArchiveService.writeArchive(archive, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + archive.getFileName() + "\"")
+                .body(body);
+    }
+    
     @PutMapping("/{boardId}")
     public ResponseEntity<ApiResponse<BoardDto>> updateBoard(
             @PathVariable Long boardId,
@@ -49,12 +69,26 @@ public class BoardController {
         return ResponseEntity.ok(ApiResponse.success("Board deleted successfully", null));
     }
     
+    @GetMapping("/{boardId}/purge-status")
+    public ResponseEntity<ApiResponse<BoardPurgeStatusDto>> getBoardPurgeStatus(@PathVariable Long boardId) {
+        BoardPurgeStatusDto status = boardPurgeService.getPurgeStatus(boardId);
+        return ResponseEntity.ok(ApiResponse.success(status));
+    }
+    
     @GetMapping("/user/{userId}")
     public ResponseEntity<ApiResponse<List<BoardDto>>> getBoardsByUserId(@PathVariable Long userId) {
         List<BoardDto> boards = boardService.getBoardsByUserId(userId);
         return ResponseEntity.ok(ApiResponse.success(boards));
     }
     
+    @GetMapping(value = "/user/{userId}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportBoardsByUserId(@PathVariable Long userId) {
+        StreamingResponseBody body = outputStream -> boardService.exportBoardsByUserId(userId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+    
     @GetMapping("/user/{userId}/paged")
     public ResponseEntity<ApiResponse<Page<BoardDto>>> getBoardsByUserIdPaged(
             @PathVariable Long userId,
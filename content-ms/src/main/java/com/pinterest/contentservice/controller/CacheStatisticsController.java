@@ -0,0 +1,30 @@
+package com.pinterest.contentservice.controller;
+
+import com.pinterest.contentservice.dto.ApiResponse;
+import com.pinterest.contentservice.dto.CacheStatisticsDto;
+import com.pinterest.contentservice.service.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/content/cache/statistics")
+@RequiredArgsConstructor
+public class CacheStatisticsController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<CacheStatisticsDto>> getStatistics() {
+        return ResponseEntity.ok(ApiResponse.success(cacheStatisticsService.getStatistics()));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<Void>> resetStatistics() {
+        cacheStatisticsService.resetStatistics();
+        return ResponseEntity.ok(ApiResponse.success("Cache statistics reset successfully", null));
+    }
+}
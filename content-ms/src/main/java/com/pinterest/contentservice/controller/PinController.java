@@ -11,8 +11,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -55,6 +57,14 @@ public class PinController {
         return ResponseEntity.ok(ApiResponse.success(pins));
     }
     
+    @GetMapping(value = "/user/{userId}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPinsByUserId(@PathVariable Long userId) {
+        StreamingResponseBody body = outputStream -> pinService.exportPinsByUserId(userId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+    
     @GetMapping("/user/{userId}/paged")
     public ResponseEntity<ApiResponse<Page<PinDto>>> getPinsByUserIdPaged(
             @PathVariable Long userId,
@@ -0,0 +1,34 @@
+package com.pinterest.contentservice.controller;
+
+import com.pinterest.contentservice.dto.ApiResponse;
+import com.pinterest.contentservice.dto.SearchResultDto;
+import com.pinterest.contentservice.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/content/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<SearchResultDto>> search(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Pageable pageable = PageRequest.of(page, size);
+        SearchResultDto result = searchService.searchAll(query, pageable);
+
+        String message = result.isPartial() ? "Partial search results retrieved" : "Search results retrieved successfully";
+        return ResponseEntity.ok(ApiResponse.success(message, result));
+    }
+}
@@ -0,0 +1,19 @@
+package com.pinterest.contentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardArchiveDto {
+
+    // Board metadata, looked up once before the download starts
+    private BoardDto board;
+
+    // Download file name of the archive
+    private String fileName;
+}
@@ -0,0 +1,41 @@
+package com.pinterest.contentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Layout of {@code manifest.json} in a board archive. The archive is written while the board's pins are
+ * paged, so the manifest is produced field by field and never held in memory as a whole.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardArchiveManifest {
+
+    private String exportedAt;
+
+    // Every pin of the board in ID order, with the archive entry of its image
+    @Builder.Default
+    private List<ArchivedPin> pins = new ArrayList<>();
+
+    // Board metadata, its pin count is the number of pins in the archive
+    private BoardDto board;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ArchivedPin {
+
+        private PinDto pin;
+
+        // Archive entry name of the pin's image, null when the image is not in the upload store
+        private String image;
+    }
+}
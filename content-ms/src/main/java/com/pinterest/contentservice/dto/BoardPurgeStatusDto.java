@@ -0,0 +1,29 @@
+package com.pinterest.contentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardPurgeStatusDto {
+
+    private Long boardId;
+
+    // PENDING, PURGING, COMPLETED or FAILED
+    private String state;
+
+    // Pins the board had when purging started
+    private long pinsTotal;
+
+    private long pinsDeleted;
+
+    private String requestedAt;
+
+    private String finishedAt;
+
+    private String error;
+}
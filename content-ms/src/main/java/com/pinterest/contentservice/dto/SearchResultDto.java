@@ -0,0 +1,34 @@
+package com.pinterest.contentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResultDto {
+
+    private String query;
+
+    private Page<PinDto> pins;
+
+    private Page<BoardDto> boards;
+
+    private List<KeywordDto> keywords;
+
+    // True when at least one section missed its deadline or failed
+    private boolean partial;
+
+    // Sections (pins, boards, keywords) that are missing from this result
+    @Builder.Default
+    private List<String> incompleteSections = new ArrayList<>();
+
+    private long tookMs;
+}
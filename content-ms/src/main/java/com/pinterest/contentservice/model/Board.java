@@ -7,7 +7,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -16,6 +19,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "boards")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@SQLRestriction("deleted_at IS NULL")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -64,6 +69,9 @@ public class Board {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    // Soft delete marker; the pins of a deleted board are removed later by the board purger
+    private LocalDateTime deletedAt;
+
     // Helper method to add a pin to the board
     public void addPin(Pin pin) {
         pins.add(pin);
@@ -7,7 +7,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -16,6 +19,8 @@ import java.util.Set;
 
 @Entity
 @Table(name = "pins")
+// Pins of a soft-deleted board are hidden by the board purger before it removes them
+@SQLRestriction("board_deleted = FALSE")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -45,7 +50,8 @@ public class Pin {
     // Original content creator attribution
     private String attribution;
 
-    // Keywords/tags for the pin
+    // Keywords/tags for the pin; only the keyword ids are cached, the keywords come from their own region
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinTable(
         name = "pin_keywords",
@@ -66,6 +72,10 @@ public class Pin {
     @Column(nullable = false)
     private boolean isDraft = false;
 
+    // Set by the board purger, in chunks, once the board is soft-deleted
+    @Column(nullable = false)
+    private boolean boardDeleted = false;
+
     // User ID who created this pin (foreign key to User service)
     @Column(nullable = false)
     private Long userId;
@@ -0,0 +1,10 @@
+package com.pinterest.contentservice.repository;
+
+import java.util.stream.Stream;
+
+public interface BoardExportRepository {
+
+    // Stream all boards of a user together with their pin count for export;
+    // must be consumed inside a read-only transaction
+    Stream<Object[]> streamWithPinCountByUserId(Long userId);
+}
@@ -0,0 +1,27 @@
+package com.pinterest.contentservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+// Built on the entity manager because the fetch size depends on the dialect, which a @QueryHints constant cannot
+class BoardExportRepositoryImpl implements BoardExportRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Object[]> streamWithPinCountByUserId(Long userId) {
+        return entityManager.createQuery(
+                        "SELECT b, (SELECT COUNT(p) FROM Pin p WHERE p.board = b) FROM Board b "
+                                + "WHERE b.userId = :userId ORDER BY b.id", Object[].class)
+                .setParameter("userId", userId)
+                .setHint(HINT_FETCH_SIZE, ExportFetchSize.of(entityManager))
+                .setHint(HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
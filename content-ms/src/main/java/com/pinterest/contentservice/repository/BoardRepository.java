@@ -1,22 +1,30 @@
 package com.pinterest.contentservice.repository;
 
 import com.pinterest.contentservice.model.Board;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
 @Repository
-public interface BoardRepository extends JpaRepository<Board, Long> {
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardExportRepository {
 
     // Find boards by user ID
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Board> findByUserId(Long userId);
     
     // Find boards by user ID with pagination
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Page<Board> findByUserId(Long userId, Pageable pageable);
     
     // Find public boards by user ID
@@ -42,4 +50,18 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     
     // Count boards by user ID
     long countByUserId(Long userId);
+    
+    // Oldest soft-deleted boards waiting for the board purger; native because deleted boards are filtered from JPQL
+    @Query(value = "SELECT id FROM boards WHERE deleted_at IS NOT NULL ORDER BY deleted_at, id LIMIT :limit", nativeQuery = true)
+    List<Long> findDeletedBoardIds(@Param("limit") int limit);
+    
+    // Number of soft-deleted boards the board purger has yet to remove
+    @Query(value = "SELECT COUNT(*) FROM boards WHERE deleted_at IS NOT NULL", nativeQuery = true)
+    long countDeletedBoards();
+    
+    // Remove a soft-deleted board once all of its pins are gone
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "boards"))
+    @Query(value = "DELETE FROM boards WHERE id = :boardId AND deleted_at IS NOT NULL", nativeQuery = true)
+    int deleteSoftDeletedBoard(@Param("boardId") Long boardId);
 }
\ No newline at end of file
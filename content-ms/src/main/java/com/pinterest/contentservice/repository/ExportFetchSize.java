@@ -0,0 +1,27 @@
+package com.pinterest.contentservice.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Fetch size of the export statements, chosen by database dialect. On MySQL, Integer.MIN_VALUE makes
+ * Connector/J stream rows one at a time for just these statements, so the connection pool does not need
+ * useCursorFetch (which would turn every statement of the service into a server-side prepared statement).
+ * Other drivers reject a negative fetch size and get an ordinary batch size instead.
+ */
+final class ExportFetchSize {
+
+    static final int MYSQL_STREAMING = Integer.MIN_VALUE;
+
+    static final int DEFAULT = 500;
+
+    private ExportFetchSize() {
+    }
+
+    static int of(EntityManager entityManager) {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class);
+        return sessionFactory.getJdbcServices().getDialect() instanceof MySQLDialect ? MYSQL_STREAMING : DEFAULT;
+    }
+}
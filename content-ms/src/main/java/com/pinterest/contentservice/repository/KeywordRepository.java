@@ -1,7 +1,9 @@
 package com.pinterest.contentservice.repository;
 
 import com.pinterest.contentservice.model.Keyword;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,9 +18,13 @@ public interface KeywordRepository extends JpaRepository<Keyword, Long> {
     // Find keywords containing the search term
     List<Keyword> findByNameContainingIgnoreCase(String searchTerm);
     
+    // Find keywords containing the search term, limited in the query
+    List<Keyword> findByNameContainingIgnoreCase(String searchTerm, Limit limit);
+    
     // Find keywords by multiple names
     List<Keyword> findByNameInIgnoreCase(List<String> names);
     
     // Find most used keywords (by pin count)
-    List<Keyword> findTop10ByOrderByPinsSizeDesc();
+    @Query("SELECT k FROM Keyword k ORDER BY SIZE(k.pins) DESC")
+    List<Keyword> findMostUsed(Limit limit);
 }
\ No newline at end of file
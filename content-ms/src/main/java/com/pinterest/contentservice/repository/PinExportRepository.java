@@ -0,0 +1,11 @@
+package com.pinterest.contentservice.repository;
+
+import com.pinterest.contentservice.model.Pin;
+
+import java.util.stream.Stream;
+
+public interface PinExportRepository {
+
+    // Stream all pins of a user for export; must be consumed inside a read-only transaction
+    Stream<Pin> streamByUserId(Long userId);
+}
@@ -0,0 +1,27 @@
+package com.pinterest.contentservice.repository;
+
+import com.pinterest.contentservice.model.Pin;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+// Built on the entity manager because the fetch size depends on the dialect, which a @QueryHints constant cannot
+class PinExportRepositoryImpl implements PinExportRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Pin> streamByUserId(Long userId) {
+        return entityManager.createQuery(
+                        "SELECT p FROM Pin p LEFT JOIN FETCH p.board WHERE p.userId = :userId ORDER BY p.id", Pin.class)
+                .setParameter("userId", userId)
+                .setHint(HINT_FETCH_SIZE, ExportFetchSize.of(entityManager))
+                .setHint(HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -1,17 +1,24 @@
 package com.pinterest.contentservice.repository;
 
 import com.pinterest.contentservice.model.Pin;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
 @Repository
-public interface PinRepository extends JpaRepository<Pin, Long> {
+public interface PinRepository extends JpaRepository<Pin, Long>, PinExportRepository {
 
     // Find pins by user ID
     List<Pin> findByUserId(Long userId);
@@ -25,19 +32,22 @@ public interface PinRepository extends JpaRepository<Pin, Long> {
     // Find pins by board ID with pagination
     Page<Pin> findByBoardId(Long boardId, Pageable pageable);
     
+    // Next page of a board's pins after the given pin ID, for walking a board in ID order without OFFSET
+    List<Pin> findByBoardIdAndIdGreaterThanOrderByIdAsc(Long boardId, Long afterId, Limit limit);
+    
     // Find public pins by user ID
     List<Pin> findByUserIdAndIsPrivate(Long userId, boolean isPrivate);
     
     // Find pins by title containing keyword
     List<Pin> findByTitleContainingIgnoreCase(String keyword);
     
-    // Find pins by keywords containing search term
-    List<Pin> findByKeywordsContainingIgnoreCase(String searchTerm);
+    // Find pins by the legacy keywords text containing search term
+    List<Pin> findByKeywordsTextContainingIgnoreCase(String searchTerm);
     
     // Search pins by title or description or keywords
     @Query("SELECT p FROM Pin p WHERE p.isPrivate = false AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR "
             + "LOWER(p.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR "
-            + "LOWER(p.keywords) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
+            + "LOWER(p.keywordsText) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
     Page<Pin> searchPins(@Param("searchTerm") String searchTerm, Pageable pageable);
     
     // Find pins by user ID and draft status
@@ -45,4 +55,40 @@ public interface PinRepository extends JpaRepository<Pin, Long> {
     
     // Count pins by board ID
     long countByBoardId(Long boardId);
+    
+    // Count pins of several boards at once, one [boardId, count] row per board that has pins
+    @Query("SELECT p.board.id, COUNT(p) FROM Pin p WHERE p.board.id IN :boardIds GROUP BY p.board.id")
+    List<Object[]> countByBoardIds(@Param("boardIds") Collection<Long> boardIds);
+    
+    // Next chunk of pin IDs of a board for the board purger; native so that pins of deleted boards are visible
+    @Query(value = "SELECT id FROM pins WHERE board_id = :boardId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByBoardIdForPurge(@Param("boardId") Long boardId, @Param("limit") int limit);
+    
+    // Count all pins of a board, including pins of a deleted board
+    @Query(value = "SELECT COUNT(*) FROM pins WHERE board_id = :boardId", nativeQuery = true)
+    long countByBoardIdForPurge(@Param("boardId") Long boardId);
+    
+    // Next chunk of still visible pin IDs of a deleted board for the board purger to hide
+    @Query(value = "SELECT id FROM pins WHERE board_id = :boardId AND board_deleted = FALSE ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findVisibleIdsByBoardIdForPurge(@Param("boardId") Long boardId, @Param("limit") int limit);
+    
+    // Hide a chunk of pins of a soft-deleted board. Declaring the table evicts cached pins, so none of
+    // them is served from the second-level cache afterwards
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "pins"))
+    @Query(value = "UPDATE pins SET board_deleted = TRUE WHERE id IN (:pinIds)", nativeQuery = true)
+    int markBoardDeletedByIds(@Param("pinIds") List<Long> pinIds);
+    
+    // Bulk delete the keyword links of the given pins. Native statements evict the whole second-level
+    // cache unless their tables are declared; only links of pins being purged are touched
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "pin_keywords"))
+    @Query(value = "DELETE FROM pin_keywords WHERE pin_id IN (:pinIds)", nativeQuery = true)
+    int deleteKeywordLinksByPinIds(@Param("pinIds") List<Long> pinIds);
+    
+    // Bulk delete pins by ID, bypassing cascades; keyword links must be deleted first
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "pins"))
+    @Query(value = "DELETE FROM pins WHERE id IN (:pinIds)", nativeQuery = true)
+    int deleteByIdsForPurge(@Param("pinIds") List<Long> pinIds);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.pinterest.contentservice.service;
+
+import com.pinterest.contentservice.dto.BoardArchiveDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface BoardArchiveService {
+
+    // Look up a board and the download file name of its archive, fails if the board does not exist
+    BoardArchiveDto prepareArchive(Long boardId);
+
+    // Stream a board as a ZIP of its stored images followed by a JSON manifest, returns the number of images written
+    long writeArchive(BoardArchiveDto archive, OutputStream outputStream) throws IOException;
+}
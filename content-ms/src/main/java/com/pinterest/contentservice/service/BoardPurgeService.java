@@ -0,0 +1,15 @@
+package com.pinterest.contentservice.service;
+
+import com.pinterest.contentservice.dto.BoardPurgeStatusDto;
+
+public interface BoardPurgeService {
+
+    // Record that a soft-deleted board is waiting to be purged
+    void schedulePurge(Long boardId);
+
+    // Hide, then remove the pins, keyword links and rows of soft-deleted boards in bounded chunks
+    void purgeDeletedBoards();
+
+    // Get the purge progress of a deleted board
+    BoardPurgeStatusDto getPurgeStatus(Long boardId);
+}
@@ -5,6 +5,8 @@ import com.pinterest.contentservice.dto.BoardRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface BoardService {
@@ -18,7 +20,7 @@ public interface BoardService {
     // Update an existing board
     BoardDto updateBoard(Long boardId, BoardRequest boardRequest);
     
-    // Delete a board
+    // Delete a board; its pins are purged in the background
     void deleteBoard(Long boardId);
     
     // Get all boards by user ID
@@ -38,4 +40,7 @@ public interface BoardService {
     
     // Get collaborative boards by user ID
     List<BoardDto> getCollaborativeBoardsByUserId(Long userId);
+    
+    // Stream all boards of a user as newline-delimited JSON, returns the number of boards written
+    long exportBoardsByUserId(Long userId, OutputStream outputStream) throws IOException;
 }
\ No newline at end of file
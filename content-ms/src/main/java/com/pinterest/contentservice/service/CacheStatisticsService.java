@@ -0,0 +1,12 @@
+package com.pinterest.contentservice.service;
+
+import com.pinterest.contentservice.dto.CacheStatisticsDto;
+
+public interface CacheStatisticsService {
+
+    // Get second-level and query cache statistics, per region
+    CacheStatisticsDto getStatistics();
+
+    // Reset all Hibernate statistics, e.g. before measuring a workload
+    void resetStatistics();
+}
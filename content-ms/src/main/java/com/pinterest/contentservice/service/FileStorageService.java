@@ -3,6 +3,7 @@ package com.pinterest.contentservice.service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
 public interface FileStorageService {
     
@@ -22,4 +23,12 @@ public interface FileStorageService {
      * @return true if the file was deleted successfully, false otherwise
      */
     boolean deleteFile(String fileUrl);
+
+    /**
+     * Resolve a file URL returned by {@link #storeFile} to its location in the upload directory
+     *
+     * @param fileUrl The URL of the stored file
+     * @return The path of the file, or null if the URL does not point to an existing stored file
+     */
+    Path resolveStoredFile(String fileUrl);
 }
\ No newline at end of file
@@ -23,6 +23,9 @@ public interface KeywordService {
     // Search keywords by name
     List<KeywordDto> searchKeywords(String searchTerm);
     
+    // Search keywords by name, reading at most limit rows
+    List<KeywordDto> searchKeywords(String searchTerm, int limit);
+    
     // Get most used keywords
     List<KeywordDto> getMostUsedKeywords();
     
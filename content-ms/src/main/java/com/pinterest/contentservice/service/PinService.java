@@ -5,6 +5,8 @@ import com.pinterest.contentservice.dto.PinRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface PinService {
@@ -44,4 +46,7 @@ public interface PinService {
     
     // Save pin to a different board
     PinDto savePinToBoard(Long pinId, Long boardId);
+    
+    // Stream all pins of a user as newline-delimited JSON, returns the number of pins written
+    long exportPinsByUserId(Long userId, OutputStream outputStream) throws IOException;
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.pinterest.contentservice.service;
+
+import com.pinterest.contentservice.dto.SearchResultDto;
+import org.springframework.data.domain.Pageable;
+
+public interface SearchService {
+
+    // Search pins, boards and keywords concurrently and merge whatever finished within the deadline
+    SearchResultDto searchAll(String searchTerm, Pageable pageable);
+}
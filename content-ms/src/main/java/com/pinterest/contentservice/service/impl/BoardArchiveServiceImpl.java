@@ -0,0 +1,201 @@
+package com.pinterest.contentservice.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pinterest.contentservice.dto.BoardArchiveDto;
+import com.pinterest.contentservice.dto.BoardArchiveManifest.ArchivedPin;
+import com.pinterest.contentservice.dto.BoardDto;
+import com.pinterest.contentservice.dto.PinDto;
+import com.pinterest.contentservice.exception.ResourceNotFoundException;
+import com.pinterest.contentservice.model.Board;
+import com.pinterest.contentservice.model.Pin;
+import com.pinterest.contentservice.repository.BoardRepository;
+import com.pinterest.contentservice.repository.PinRepository;
+import com.pinterest.contentservice.service.BoardArchiveService;
+import com.pinterest.contentservice.service.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Builds board archives on the fly: every pin image from the upload store, followed by a deflated
+ * {@code manifest.json}. Pins are read a page at a time and the manifest is spilled to a temporary file
+ * while the images are written, so memory use does not grow with the size of the board. Images are
+ * already compressed, so they are written at deflate level 0, which stores them in a single read; the
+ * CRC and sizes follow each entry in a data descriptor.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardArchiveServiceImpl implements BoardArchiveService {
+
+    private static final String MANIFEST_ENTRY = "manifest.json";
+    private static final String IMAGES_DIRECTORY = "images/";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final BoardRepository boardRepository;
+    private final PinRepository pinRepository;
+    private final FileStorageService fileStorageService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${archive.buffer-size:65536}")
+    private int bufferSize;
+
+    @Value("${archive.page-size:200}")
+    private int pageSize;
+
+    @Override
+    public BoardArchiveDto prepareArchive(Long boardId) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new ResourceNotFoundException("Board not found with id: " + boardId));
+
+        // Keep the header value safe by reducing the title to a plain slug
+        String slug = board.getTitle() == null ? "" : board.getTitle()
+                .replaceAll("[^A-Za-z0-9._-]+", "-")
+                .replaceAll("^-+|-+$", "");
+        return BoardArchiveDto.builder()
+                .board(mapToDto(board))
+                .fileName("board-" + boardId + (slug.isEmpty() ? "" : "-" + slug) + ".zip")
+                .build();
+    }
+
+    // Deliberately not transactional: each page of pins is read in its own short query,
+    // so a slow client does not hold a database connection for the whole download
+    @Override
+    public long writeArchive(BoardArchiveDto archive, OutputStream outputStream) throws IOException {
+        BoardDto board = archive.getBoard();
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        Path manifestFile = Files.createTempFile("board-" + board.getId() + "-", ".json");
+        long pinCount = 0;
+        long written = 0;
+        // The servlet container owns the response stream, closing the archive must only finish it
+        try (ZipOutputStream zip = new ZipOutputStream(StreamUtils.nonClosing(outputStream))) {
+            try (JsonGenerator manifest = objectMapper.getFactory().createGenerator(Files.newOutputStream(manifestFile))) {
+                manifest.writeStartObject();
+                manifest.writeStringField("exportedAt", LocalDateTime.now().format(DATE_FORMATTER));
+                manifest.writeArrayFieldStart("pins");
+
+                zip.setLevel(Deflater.NO_COMPRESSION);
+                byte[] buffer = new byte[bufferSize];
+                long lastId = 0;
+                List<Pin> pins;
+                do {
+                    pins = pinRepository.findByBoardIdAndIdGreaterThanOrderByIdAsc(board.getId(), lastId, Limit.of(pageSize));
+                    for (Pin pin : pins) {
+                        String image = writeImage(zip, pin, buffer, board.getId());
+                        if (image != null) {
+                            written++;
+                        }
+                        writer.writeValue(manifest, new ArchivedPin(mapToDto(pin, board), image));
+                        pinCount++;
+                        lastId = pin.getId();
+                    }
+                } while (pins.size() == pageSize);
+
+                manifest.writeEndArray();
+                board.setPinCount((int) pinCount);
+                manifest.writeFieldName("board");
+                writer.writeValue(manifest, board);
+                manifest.writeEndObject();
+            }
+
+            zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+            zip.putNextEntry(new ZipEntry(MANIFEST_ENTRY));
+            Files.copy(manifestFile, zip);
+            zip.closeEntry();
+        } finally {
+            Files.deleteIfExists(manifestFile);
+        }
+
+        log.info("Archived board {} with {} pins and {} images", board.getId(), pinCount, written);
+        return written;
+    }
+
+    // Helper method to copy a pin's stored image into the archive, returns its entry name or null when
+    // the image is not in the upload store
+    private String writeImage(ZipOutputStream zip, Pin pin, byte[] buffer, Long boardId) throws IOException {
+        Path file = fileStorageService.resolveStoredFile(pin.getImageUrl());
+        if (file == null) {
+            return null;
+        }
+        String entryName = IMAGES_DIRECTORY + pin.getId() + extensionOf(file);
+        try (InputStream in = Files.newInputStream(file)) {
+            ZipEntry entry = new ZipEntry(entryName);
+            entry.setLastModifiedTime(Files.getLastModifiedTime(file));
+            zip.putNextEntry(entry);
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                zip.write(buffer, 0, read);
+            }
+            zip.closeEntry();
+            zip.flush();
+            return entryName;
+        } catch (NoSuchFileException e) {
+            log.warn("Image {} of board {} was deleted while archiving, skipping it", file, boardId);
+            return null;
+        }
+    }
+
+    // Helper method to keep the original extension of a stored image
+    private String extensionOf(Path file) {
+        String extension = StringUtils.getFilenameExtension(file.getFileName().toString());
+        return extension == null ? "" : "." + extension;
+    }
+
+    // Helper method to map a board to the manifest representation
+    private BoardDto mapToDto(Board board) {
+        return BoardDto.builder()
+                .id(board.getId())
+                .title(board.getTitle())
+                .description(board.getDescription())
+                .coverImageUrl(board.getCoverImageUrl())
+                .userId(board.getUserId())
+                .isPrivate(board.isPrivate())
+                .category(board.getCategory())
+                .displayOrder(board.getDisplayOrder())
+                .isCollaborative(board.isCollaborative())
+                .createdAt(board.getCreatedAt() != null ? board.getCreatedAt().format(DATE_FORMATTER) : null)
+                .updatedAt(board.getUpdatedAt() != null ? board.getUpdatedAt().format(DATE_FORMATTER) : null)
+                .build();
+    }
+
+    // Helper method to map a pin of the board to the manifest representation
+    private PinDto mapToDto(Pin pin, BoardDto board) {
+        return PinDto.builder()
+                .id(pin.getId())
+                .title(pin.getTitle())
+                .description(pin.getDescription())
+                .imageUrl(pin.getImageUrl())
+                .videoUrl(pin.getVideoUrl())
+                .sourceUrl(pin.getSourceUrl())
+                .attribution(pin.getAttribution())
+                .keywords(pin.getKeywordsText())
+                .isPrivate(pin.isPrivate())
+                .isDraft(pin.isDraft())
+                .userId(pin.getUserId())
+                .boardId(board.getId())
+                .boardTitle(board.getTitle())
+                .createdAt(pin.getCreatedAt() != null ? pin.getCreatedAt().format(DATE_FORMATTER) : null)
+                .updatedAt(pin.getUpdatedAt() != null ? pin.getUpdatedAt().format(DATE_FORMATTER) : null)
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.pinterest.contentservice.service.impl;
+
+import com.pinterest.contentservice.dto.BoardPurgeStatusDto;
+import com.pinterest.contentservice.exception.ResourceNotFoundException;
+import com.pinterest.contentservice.repository.BoardRepository;
+import com.pinterest.contentservice.repository.PinRepository;
+import com.pinterest.contentservice.service.BoardPurgeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Background removal of soft-deleted boards. Deleting a board only sets its {@code deleted_at}, so
+ * each run first hides the pins of every board it picked up by setting their {@code board_deleted}
+ * flag, then deletes them. Both passes work on chunks of pins with bulk statements in their own short
+ * transactions, with a pause between delete chunks, so a huge board never turns into one long
+ * transaction or a burst of write load. The work list lives in the database (boards with a
+ * {@code deleted_at}), so an interrupted purge resumes on the next run; the progress shown by
+ * {@link #getPurgeStatus} is tracked per instance.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardPurgeServiceImpl implements BoardPurgeService {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final BoardRepository boardRepository;
+    private final PinRepository pinRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<Long, BoardPurgeStatusDto> statuses = new ConcurrentHashMap<>();
+
+    @Value("${board.purge.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${board.purge.pause-ms:50}")
+    private long pauseMs;
+
+    @Value("${board.purge.boards-per-run:20}")
+    private int boardsPerRun;
+
+    @Value("${board.purge.status-retention-minutes:60}")
+    private long statusRetentionMinutes;
+
+    @Override
+    public void schedulePurge(Long boardId) {
+        statuses.put(boardId, BoardPurgeStatusDto.builder()
+                .boardId(boardId)
+                .state("PENDING")
+                .requestedAt(LocalDateTime.now().format(DATE_FORMATTER))
+                .build());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${board.purge.interval-ms:10000}")
+    public void purgeDeletedBoards() {
+        evictFinishedStatuses();
+
+        List<Long> boardIds = boardRepository.findDeletedBoardIds(boardsPerRun);
+        // Hide the pins of all picked boards before the throttled deletes, so a huge board being purged
+        // does not keep the pins of the next ones visible
+        for (Long boardId : boardIds) {
+            try {
+                hidePins(boardId);
+            } catch (RuntimeException e) {
+                log.error("Failed to hide the pins of board {}, will retry on the next run", boardId, e);
+            }
+        }
+        for (Long boardId : boardIds) {
+            try {
+                purgeBoard(boardId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to purge board {}, will retry on the next run", boardId, e);
+                BoardPurgeStatusDto status = statusOf(boardId);
+                status.setState("FAILED");
+                status.setError(e.getMessage());
+                statuses.put(boardId, status);
+            }
+        }
+    }
+
+    @Override
+    public BoardPurgeStatusDto getPurgeStatus(Long boardId) {
+        BoardPurgeStatusDto status = statuses.get(boardId);
+        if (status == null) {
+            throw new ResourceNotFoundException("No purge found for board with id: " + boardId);
+        }
+        return status;
+    }
+
+    // Flag a deleted board's still visible pins chunk by chunk; cheap enough to run without a pause
+    private void hidePins(Long boardId) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        while (true) {
+            Integer hidden = transaction.execute(tx -> {
+                List<Long> pinIds = pinRepository.findVisibleIdsByBoardIdForPurge(boardId, chunkSize);
+                return pinIds.isEmpty() ? 0 : pinRepository.markBoardDeletedByIds(pinIds);
+            });
+            if (hidden == null || hidden == 0) {
+                return;
+            }
+        }
+    }
+
+    // Delete a board's pins chunk by chunk, then the board row itself
+    private void purgeBoard(Long boardId) throws InterruptedException {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        BoardPurgeStatusDto status = statusOf(boardId);
+        status.setState("PURGING");
+        status.setError(null);
+        status.setPinsTotal(status.getPinsDeleted() + pinRepository.countByBoardIdForPurge(boardId));
+        statuses.put(boardId, status);
+
+        while (true) {
+            Integer deleted = transaction.execute(tx -> {
+                List<Long> pinIds = pinRepository.findIdsByBoardIdForPurge(boardId, chunkSize);
+                if (pinIds.isEmpty()) {
+                    return 0;
+                }
+                // Join rows first, pin_keywords references pins
+                pinRepository.deleteKeywordLinksByPinIds(pinIds);
+                return pinRepository.deleteByIdsForPurge(pinIds);
+            });
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+
+            status.setPinsDeleted(status.getPinsDeleted() + deleted);
+            statuses.put(boardId, status);
+
+            // Throttle so the purge does not starve regular traffic of I/O and replica lag stays low
+            Thread.sleep(pauseMs);
+        }
+
+        transaction.executeWithoutResult(tx -> boardRepository.deleteSoftDeletedBoard(boardId));
+
+        status.setState("COMPLETED");
+        status.setFinishedAt(LocalDateTime.now().format(DATE_FORMATTER));
+        statuses.put(boardId, status);
+        log.info("Purged board {} and {} pins", boardId, status.getPinsDeleted());
+    }
+
+    // Helper method to get the tracked status of a board, e.g. after a restart when it was never scheduled here
+    private BoardPurgeStatusDto statusOf(Long boardId) {
+        return statuses.computeIfAbsent(boardId, id -> BoardPurgeStatusDto.builder()
+                .boardId(id)
+                .state("PENDING")
+                .build());
+    }
+
+    // Helper method to drop finished purges once they are older than the retention period
+    private void evictFinishedStatuses() {
+        String cutoff = LocalDateTime.now().minusMinutes(statusRetentionMinutes).format(DATE_FORMATTER);
+        statuses.values().removeIf(status -> status.getFinishedAt() != null && status.getFinishedAt().compareTo(cutoff) < 0);
+    }
+}
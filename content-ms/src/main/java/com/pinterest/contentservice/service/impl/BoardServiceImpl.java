@@ -7,17 +7,26 @@ import com.pinterest.contentservice.exception.ResourceNotFoundException;
 import com.pinterest.contentservice.model.Board;
 import com.pinterest.contentservice.repository.BoardRepository;
 import com.pinterest.contentservice.repository.PinRepository;
+import com.pinterest.contentservice.service.BoardPurgeService;
 import com.pinterest.contentservice.service.BoardService;
 import com.pinterest.contentservice.service.PinService;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +35,9 @@ public class BoardServiceImpl implements BoardService {
     private final BoardRepository boardRepository;
     private final PinRepository pinRepository;
     private final PinService pinService;
+    private final NdjsonExporter ndjsonExporter;
+    private final BoardPurgeService boardPurgeService;
+    private final EntityManagerFactory entityManagerFactory;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     @Override
@@ -37,6 +49,7 @@ public class BoardServiceImpl implements BoardService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BoardDto getBoardById(Long boardId) {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Board not found with id: " + boardId));
@@ -75,46 +88,58 @@ public class BoardServiceImpl implements BoardService {
     public void deleteBoard(Long boardId) {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Board not found with id: " + boardId));
-        boardRepository.delete(board);
+        
+        // Only mark the board here; touching its pins would cost O(pins) in this request, so BoardPurgeService
+        // hides the pins and then removes them with their keyword links in chunks
+        board.setDeletedAt(LocalDateTime.now());
+        boardRepository.save(board);
+        evictAfterCommit(board.getId());
+        boardPurgeService.schedulePurge(boardId);
+    }
+    
+    // Helper method to drop a deleted board from the second-level cache. The restriction that hides deleted
+    // boards only applies to SQL, so the cached copy carrying deletedAt must not outlive the transaction
+    private void evictAfterCommit(Long boardId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entityManagerFactory.getCache().evict(Board.class, boardId);
+                }
+            });
+        } else {
+            entityManagerFactory.getCache().evict(Board.class, boardId);
+        }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BoardDto> getBoardsByUserId(Long userId) {
         List<Board> boards = boardRepository.findByUserId(userId);
-        return boards.stream().map(this::mapToDto).collect(Collectors.toList());
+        return mapToDtos(boards);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<BoardDto> getBoardsByUserId(Long userId, Pageable pageable) {
         Page<Board> boardPage = boardRepository.findByUserId(userId, pageable);
-        return boardPage.map(board -> {
-            BoardDto boardDto = mapToDto(board);
-            long pinCount = pinRepository.countByBoardId(board.getId());
-            boardDto.setPinCount((int) pinCount);
-            return boardDto;
-        });
+        Map<Long, Long> pinCounts = countPins(boardPage.getContent());
+        return boardPage.map(board -> mapToDto(board, pinCounts));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<BoardDto> searchBoards(String searchTerm, Pageable pageable) {
         Page<Board> boardPage = boardRepository.searchBoards(searchTerm, pageable);
-        return boardPage.map(board -> {
-            BoardDto boardDto = mapToDto(board);
-            long pinCount = pinRepository.countByBoardId(board.getId());
-            boardDto.setPinCount((int) pinCount);
-            return boardDto;
-        });
+        Map<Long, Long> pinCounts = countPins(boardPage.getContent());
+        return boardPage.map(board -> mapToDto(board, pinCounts));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BoardDto> getBoardsByCategory(String category) {
         List<Board> boards = boardRepository.findByCategory(category);
-        return boards.stream().map(board -> {
-            BoardDto boardDto = mapToDto(board);
-            long pinCount = pinRepository.countByBoardId(board.getId());
-            boardDto.setPinCount((int) pinCount);
-            return boardDto;
-        }).collect(Collectors.toList());
+        return mapToDtos(boards);
     }
 
     @Override
@@ -144,13 +169,46 @@ public class BoardServiceImpl implements BoardService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BoardDto> getCollaborativeBoardsByUserId(Long userId) {
         List<Board> boards = boardRepository.findCollaborativeBoardsByUserId(userId);
-        return boards.stream().map(this::mapToDto).collect(Collectors.toList());
+        return mapToDtos(boards);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long exportBoardsByUserId(Long userId, OutputStream outputStream) throws IOException {
+        try (Stream<Object[]> rows = boardRepository.streamWithPinCountByUserId(userId)) {
+            return ndjsonExporter.write(rows, row -> mapToDto((Board) row[0], ((Number) row[1]).longValue()), outputStream);
+        }
     }
     
     // Helper method to map Board entity to BoardDto
     private BoardDto mapToDto(Board board) {
+        return mapToDto(board, pinRepository.countByBoardId(board.getId()));
+    }
+    
+    // Helper method to map a list of boards with one grouped pin count query instead of one per board
+    private List<BoardDto> mapToDtos(List<Board> boards) {
+        Map<Long, Long> pinCounts = countPins(boards);
+        return boards.stream().map(board -> mapToDto(board, pinCounts)).collect(Collectors.toList());
+    }
+    
+    private BoardDto mapToDto(Board board, Map<Long, Long> pinCounts) {
+        return mapToDto(board, pinCounts.getOrDefault(board.getId(), 0L));
+    }
+    
+    // Helper method to count the pins of the given boards, boards without pins are absent from the map
+    private Map<Long, Long> countPins(List<Board> boards) {
+        if (boards.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> boardIds = boards.stream().map(Board::getId).collect(Collectors.toList());
+        return pinRepository.countByBoardIds(boardIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+    }
+    
+    private BoardDto mapToDto(Board board, long pinCount) {
         return BoardDto.builder()
                 .id(board.getId())
                 .title(board.getTitle())
@@ -161,7 +219,7 @@ public class BoardServiceImpl implements BoardService {
                 .category(board.getCategory())
                 .displayOrder(board.getDisplayOrder())
                 .isCollaborative(board.isCollaborative())
-                .pinCount((int) pinRepository.countByBoardId(board.getId()))
+                .pinCount((int) pinCount)
                 .createdAt(board.getCreatedAt() != null ? board.getCreatedAt().format(DATE_FORMATTER) : null)
                 .updatedAt(board.getUpdatedAt() != null ? board.getUpdatedAt().format(DATE_FORMATTER) : null)
                 .build();
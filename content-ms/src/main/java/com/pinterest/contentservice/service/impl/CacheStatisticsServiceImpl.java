@@ -0,0 +1,78 @@
+package com.pinterest.contentservice.service.impl;
+
+import com.pinterest.contentservice.dto.CacheStatisticsDto;
+import com.pinterest.contentservice.dto.CacheStatisticsDto.CacheRegionStatisticsDto;
+import com.pinterest.contentservice.service.CacheStatisticsService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsServiceImpl implements CacheStatisticsService {
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public CacheStatisticsDto getStatistics() {
+        Statistics statistics = statistics();
+
+        List<CacheRegionStatisticsDto> regions = Stream.concat(
+                        Arrays.stream(statistics.getSecondLevelCacheRegionNames()),
+                        Stream.of(QUERY_RESULTS_REGION))
+                .distinct()
+                .sorted()
+                .map(region -> mapToDto(region, statistics.getCacheRegionStatistics(region)))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return CacheStatisticsDto.builder()
+                .statisticsEnabled(statistics.isStatisticsEnabled())
+                .prepareStatementCount(statistics.getPrepareStatementCount())
+                .queryExecutionCount(statistics.getQueryExecutionCount())
+                .secondLevelCacheHitCount(statistics.getSecondLevelCacheHitCount())
+                .secondLevelCacheMissCount(statistics.getSecondLevelCacheMissCount())
+                .secondLevelCachePutCount(statistics.getSecondLevelCachePutCount())
+                .queryCacheHitCount(statistics.getQueryCacheHitCount())
+                .queryCacheMissCount(statistics.getQueryCacheMissCount())
+                .regions(regions)
+                .build();
+    }
+
+    @Override
+    public void resetStatistics() {
+        statistics().clear();
+    }
+
+    // Helper method to get the statistics of the Hibernate session factory
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // Helper method to map region statistics to a DTO, regions that were never used have none
+    private CacheRegionStatisticsDto mapToDto(String region, CacheRegionStatistics statistics) {
+        if (statistics == null) {
+            return null;
+        }
+        long lookups = statistics.getHitCount() + statistics.getMissCount();
+        return CacheRegionStatisticsDto.builder()
+                .region(region)
+                .hitCount(statistics.getHitCount())
+                .missCount(statistics.getMissCount())
+                .putCount(statistics.getPutCount())
+                .hitRatio(lookups == 0 ? 0 : (double) statistics.getHitCount() / lookups)
+                .elementCountInMemory(statistics.getElementCountInMemory())
+                .build();
+    }
+}
@@ -90,4 +90,21 @@ public class FileStorageServiceImpl implements FileStorageService {
             return false;
         }
     }
+
+    @Override
+    public Path resolveStoredFile(String fileUrl) {
+        if (fileUrl == null || !fileUrl.contains("/api/content/files/")) {
+            return null;
+        }
+
+        // Extract file name from URL
+        String fileName = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
+        Path filePath = this.fileStoragePath.resolve(fileName).normalize();
+
+        // Only hand out regular files that live inside the upload directory
+        if (!filePath.startsWith(this.fileStoragePath) || !Files.isRegularFile(filePath)) {
+            return null;
+        }
+        return filePath;
+    }
 }
\ No newline at end of file
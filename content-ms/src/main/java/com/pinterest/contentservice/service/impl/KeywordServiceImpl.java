@@ -8,6 +8,7 @@ import com.pinterest.contentservice.repository.KeywordRepository;
 import com.pinterest.contentservice.repository.PinRepository;
 import com.pinterest.contentservice.service.KeywordService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -74,9 +75,17 @@ public class KeywordServiceImpl implements KeywordService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<KeywordDto> searchKeywords(String searchTerm, int limit) {
+        List<Keyword> keywords = keywordRepository.findByNameContainingIgnoreCase(searchTerm.trim(), Limit.of(limit));
+        return keywords.stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<KeywordDto> getMostUsedKeywords() {
-        List<Keyword> keywords = keywordRepository.findTop10ByOrderByPinsSizeDesc();
+        List<Keyword> keywords = keywordRepository.findMostUsed(Limit.of(10));
         return keywords.stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
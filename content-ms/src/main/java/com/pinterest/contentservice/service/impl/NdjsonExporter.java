@@ -0,0 +1,60 @@
+package com.pinterest.contentservice.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes a repository {@link Stream} to an output stream as newline-delimited JSON.
+ * Every {@code export.batch-size} rows the output is flushed to the client and the
+ * persistence context is cleared, so memory stays flat no matter how many rows are exported.
+ * Must be called from inside a read-only transaction that owns the stream.
+ */
+@Component
+@RequiredArgsConstructor
+class NdjsonExporter {
+
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${export.batch-size:500}")
+    private int batchSize;
+
+    <T, D> long write(Stream<T> rows, Function<T, D> mapper, OutputStream outputStream) throws IOException {
+        // Flushing is done per batch rather than after every row
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // The servlet container owns the response stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, mapper.apply(iterator.next()));
+                generator.writeRaw('\n');
+
+                if (++count % batchSize == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+            generator.flush();
+        }
+        return count;
+    }
+}
@@ -17,9 +17,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +32,7 @@ public class PinServiceImpl implements PinService {
     private final PinRepository pinRepository;
     private final BoardRepository boardRepository;
     private final KeywordService keywordService;
+    private final NdjsonExporter ndjsonExporter;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     @Override
@@ -57,6 +62,7 @@ public class PinServiceImpl implements PinService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PinDto getPinById(Long pinId) {
         Pin pin = pinRepository.findById(pinId)
                 .orElseThrow(() -> new ResourceNotFoundException("Pin not found with id: " + pinId));
@@ -110,36 +116,42 @@ public class PinServiceImpl implements PinService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<PinDto> getPinsByUserId(Long userId) {
         List<Pin> pins = pinRepository.findByUserId(userId);
         return pins.stream().map(this::mapToDto).collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<PinDto> getPinsByUserId(Long userId, Pageable pageable) {
         Page<Pin> pinPage = pinRepository.findByUserId(userId, pageable);
         return pinPage.map(this::mapToDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<PinDto> getPinsByBoardId(Long boardId) {
         List<Pin> pins = pinRepository.findByBoardId(boardId);
         return pins.stream().map(this::mapToDto).collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<PinDto> getPinsByBoardId(Long boardId, Pageable pageable) {
         Page<Pin> pinPage = pinRepository.findByBoardId(boardId, pageable);
         return pinPage.map(this::mapToDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<PinDto> searchPins(String searchTerm, Pageable pageable) {
         Page<Pin> pinPage = pinRepository.searchPins(searchTerm, pageable);
         return pinPage.map(this::mapToDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<PinDto> getDraftPinsByUserId(Long userId) {
         List<Pin> pins = pinRepository.findByUserIdAndIsDraft(userId, true);
         return pins.stream().map(this::mapToDto).collect(Collectors.toList());
@@ -175,8 +187,21 @@ public class PinServiceImpl implements PinService {
         return mapToDto(savedPin);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public long exportPinsByUserId(Long userId, OutputStream outputStream) throws IOException {
+        try (Stream<Pin> pins = pinRepository.streamByUserId(userId)) {
+            return ndjsonExporter.write(pins, pin -> mapToDto(pin, false), outputStream);
+        }
+    }
+    
     // Helper method to map Pin entity to PinDto
     private PinDto mapToDto(Pin pin) {
+        return mapToDto(pin, true);
+    }
+    
+    // Exports leave the keyword list out because its pin counts would load every keyword's pins
+    private PinDto mapToDto(Pin pin, boolean includeKeywordList) {
         PinDto pinDto = PinDto.builder()
                 .id(pin.getId())
                 .title(pin.getTitle())
@@ -200,7 +225,7 @@ public class PinServiceImpl implements PinService {
         }
         
         // Set keyword list if available
-        if (pin.getKeywords() != null && !pin.getKeywords().isEmpty()) {
+        if (includeKeywordList && pin.getKeywords() != null && !pin.getKeywords().isEmpty()) {
             List<KeywordDto> keywordDtos = pin.getKeywords().stream()
                     .map(keyword -> KeywordDto.builder()
                             .id(keyword.getId())
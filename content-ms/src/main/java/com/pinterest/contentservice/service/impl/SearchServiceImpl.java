@@ -0,0 +1,109 @@
+package com.pinterest.contentservice.service.impl;
+
+import com.pinterest.contentservice.dto.BoardDto;
+import com.pinterest.contentservice.dto.KeywordDto;
+import com.pinterest.contentservice.dto.PinDto;
+import com.pinterest.contentservice.dto.SearchResultDto;
+import com.pinterest.contentservice.service.BoardService;
+import com.pinterest.contentservice.service.KeywordService;
+import com.pinterest.contentservice.service.PinService;
+import com.pinterest.contentservice.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchServiceImpl implements SearchService {
+
+    private final PinService pinService;
+    private final BoardService boardService;
+    private final KeywordService keywordService;
+    private final PlatformTransactionManager transactionManager;
+    private final AsyncTaskExecutor searchTaskExecutor;
+
+    @Value("${search.branch-timeout-ms:500}")
+    private long branchTimeoutMs;
+
+    @Override
+    public SearchResultDto searchAll(String searchTerm, Pageable pageable) {
+        long start = System.nanoTime();
+        String term = searchTerm.trim();
+        int keywordLimit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+
+        // All branches start at the same instant and share one deadline, which bounds the whole request
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(branchTimeoutMs);
+        Future<Page<PinDto>> pins = submit(() -> pinService.searchPins(term, pageable));
+        Future<Page<BoardDto>> boards = submit(() -> boardService.searchBoards(term, pageable));
+        Future<List<KeywordDto>> keywords = submit(() -> keywordService.searchKeywords(term, keywordLimit));
+
+        List<String> incompleteSections = new ArrayList<>();
+        SearchResultDto result = SearchResultDto.builder()
+                .query(term)
+                .pins(await("pins", pins, deadline, incompleteSections))
+                .boards(await("boards", boards, deadline, incompleteSections))
+                .keywords(await("keywords", keywords, deadline, incompleteSections))
+                .build();
+
+        result.setIncompleteSections(incompleteSections);
+        result.setPartial(!incompleteSections.isEmpty());
+        result.setTookMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    // Run a branch on the search executor inside its own read-only transaction, since the
+    // DTO mappers touch lazy associations and the request-scoped session is not visible here.
+    // The transaction timeout becomes the JDBC query timeout, so the database also gives up on
+    // a branch shortly after its deadline (JDBC counts whole seconds, hence the rounding up)
+    private <T> Future<T> submit(Supplier<T> branch) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(branchTimeoutMs + 999)));
+        try {
+            return searchTaskExecutor.submit(() -> readOnly.execute(status -> branch.get()));
+        } catch (RejectedExecutionException e) {
+            // A saturated executor degrades this branch instead of failing the whole request
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Wait for a branch until the shared deadline and degrade to an empty section if it timed out,
+    // failed or was never started; a late branch is cancelled so it stops holding a thread and a connection
+    private <T> T await(String section, Future<T> future, long deadline, List<String> incompleteSections) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Search section '{}' exceeded {} ms, returning partial results", section, branchTimeoutMs);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RejectedExecutionException) {
+                log.warn("Search section '{}' was rejected by the search executor, returning partial results", section);
+            } else {
+                log.error("Search section '{}' failed: {}", section, cause.getMessage(), cause);
+            }
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        incompleteSections.add(section);
+        return null;
+    }
+}
@@ -0,0 +1,54 @@
+-- Schema as previously created by ddl-auto: update. Databases that already have these tables are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and only receive later migrations.
+
+CREATE TABLE keywords (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(50) NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_keywords_name UNIQUE (name)
+);
+
+CREATE TABLE boards (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    title VARCHAR(100) NOT NULL,
+    description TEXT,
+    cover_image_url VARCHAR(255),
+    user_id BIGINT NOT NULL,
+    is_private BIT NOT NULL,
+    category VARCHAR(255),
+    display_order INTEGER,
+    is_collaborative BIT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE pins (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    title VARCHAR(100) NOT NULL,
+    description TEXT,
+    image_url VARCHAR(255) NOT NULL,
+    video_url VARCHAR(255),
+    source_url VARCHAR(255),
+    attribution VARCHAR(255),
+    keywords_text TEXT,
+    is_private BIT NOT NULL,
+    is_draft BIT NOT NULL,
+    user_id BIGINT NOT NULL,
+    board_id BIGINT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_pins_board FOREIGN KEY (board_id) REFERENCES boards (id)
+);
+
+CREATE TABLE pin_keywords (
+    pin_id BIGINT NOT NULL,
+    keyword_id BIGINT NOT NULL,
+    PRIMARY KEY (keyword_id, pin_id),
+    CONSTRAINT fk_pin_keywords_pin FOREIGN KEY (pin_id) REFERENCES pins (id),
+    CONSTRAINT fk_pin_keywords_keyword FOREIGN KEY (keyword_id) REFERENCES keywords (id)
+);
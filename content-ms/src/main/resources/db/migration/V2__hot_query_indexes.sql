@@ -0,0 +1,14 @@
+-- Composite indexes for the listing, paging and purge queries. Equality columns come first and the
+-- sort or range column last, so a page is read in index order without a filesort.
+
+-- Pins of a user or a board, newest first
+CREATE INDEX idx_pins_user_created ON pins (user_id, created_at);
+CREATE INDEX idx_pins_board_created ON pins (board_id, created_at);
+
+-- Boards of a user in display order, and the purge job's oldest-deleted-first scan
+CREATE INDEX idx_boards_user_display_order ON boards (user_id, display_order);
+CREATE INDEX idx_boards_deleted_at ON boards (deleted_at, id);
+CREATE INDEX idx_boards_category ON boards (category);
+
+-- Keyword links of a pin, the primary key only covers lookups by keyword
+CREATE INDEX idx_pin_keywords_pin ON pin_keywords (pin_id, keyword_id);
@@ -0,0 +1,11 @@
+-- Pins of a soft-deleted board are flagged in the same transaction as the board, so hiding them is a check of
+-- an indexed column rather than a lookup of the pin's board on every pin query
+ALTER TABLE pins ADD COLUMN board_deleted BIT NOT NULL DEFAULT 0;
+
+UPDATE pins SET board_deleted = 1 WHERE board_id IN (SELECT id FROM boards WHERE deleted_at IS NOT NULL);
+
+-- The flag is an equality column of every pin listing, so it goes between the owner and the sort column
+CREATE INDEX idx_pins_user_deleted_created ON pins (user_id, board_deleted, created_at);
+CREATE INDEX idx_pins_board_deleted_created ON pins (board_id, board_deleted, created_at);
+DROP INDEX idx_pins_user_created ON pins;
+DROP INDEX idx_pins_board_created ON pins;
@@ -0,0 +1,56 @@
+package com.pinterest.contentservice.config;
+
+import com.pinterest.contentservice.repository.BoardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DomainMetricsTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should query a count once per refresh interval however often it is read")
+    void shouldCacheCountsForRefreshInterval() {
+        when(boardRepository.countDeletedBoards()).thenReturn(3L, 5L);
+        new DomainMetrics(boardRepository, 60_000).bindTo(meterRegistry);
+
+        double first = meterRegistry.get(DomainMetrics.BOARDS_PENDING_PURGE_METRIC).gauge().value();
+        double second = meterRegistry.get(DomainMetrics.BOARDS_PENDING_PURGE_METRIC).gauge().value();
+
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isEqualTo(3);
+        verify(boardRepository, times(1)).countDeletedBoards();
+    }
+
+    @Test
+    @DisplayName("Should keep the last value when a refresh fails")
+    void shouldKeepLastValueWhenRefreshFails() {
+        when(boardRepository.countDeletedBoards()).thenReturn(7L).thenThrow(new IllegalStateException("down"));
+        new DomainMetrics(boardRepository, 0).bindTo(meterRegistry);
+
+        double first = meterRegistry.get(DomainMetrics.BOARDS_PENDING_PURGE_METRIC).gauge().value();
+        double second = meterRegistry.get(DomainMetrics.BOARDS_PENDING_PURGE_METRIC).gauge().value();
+
+        assertThat(first).isEqualTo(7);
+        assertThat(second).isEqualTo(7);
+    }
+}
@@ -3,6 +3,8 @@ package com.pinterest.contentservice.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pinterest.contentservice.dto.BoardDto;
 import com.pinterest.contentservice.dto.BoardRequest;
+import com.pinterest.contentservice.service.BoardArchiveService;
+import com.pinterest.contentservice.service.BoardPurgeService;
 import com.pinterest.contentservice.service.BoardService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -36,6 +38,12 @@ public class BoardControllerTest {
     @MockBean
     private BoardService boardService;
 
+    @MockBean
+    private BoardArchiveService boardArchiveService;
+
+    @MockBean
+    private BoardPurgeService boardPurgeService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -46,16 +54,16 @@ public class BoardControllerTest {
     void setUp() {
         boardDto = BoardDto.builder()
                 .id(1L)
-                .name("Test Board")
+                .title("Test Board")
                 .description("Test Description")
                 .coverImageUrl("https://example.com/cover.jpg")
                 .userId(101L)
                 .isPrivate(false)
-                .createdAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now().toString())
                 .build();
 
         boardRequest = BoardRequest.builder()
-                .name("Test Board")
+                .title("Test Board")
                 .description("Test Description")
                 .coverImageUrl("https://example.com/cover.jpg")
                 .userId(101L)
@@ -75,7 +83,7 @@ public class BoardControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.id").value(1L))
-                .andExpect(jsonPath("$.data.name").value("Test Board"));
+                .andExpect(jsonPath("$.data.title").value("Test Board"));
     }
 
     @Test
@@ -88,7 +96,7 @@ public class BoardControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.id").value(1L))
-                .andExpect(jsonPath("$.data.name").value("Test Board"));
+                .andExpect(jsonPath("$.data.title").value("Test Board"));
     }
 
     @Test
@@ -139,17 +147,4 @@ public class BoardControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.content[0].userId").value(101L));
     }
-
-    @Test
-    @DisplayName("Should get public boards")
-    void shouldGetPublicBoards() throws Exception {
-        Page<BoardDto> page = new PageImpl<>(List.of(boardDto));
-        when(boardService.getPublicBoards(any(Pageable.class)))
-                .thenReturn(page);
-
-        mockMvc.perform(get("/api/content/boards/public"))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data.content[0].isPrivate").value(false));
-    }
 }
\ No newline at end of file
@@ -51,7 +51,7 @@ public class PinControllerTest {
                 .imageUrl("https://example.com/image.jpg")
                 .userId(101L)
                 .boardId(201L)
-                .createdAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now().toString())
                 .build();
 
         pinRequest = PinRequest.builder()
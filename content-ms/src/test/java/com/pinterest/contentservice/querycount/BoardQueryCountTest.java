@@ -0,0 +1,69 @@
+package com.pinterest.contentservice.querycount;
+
+import com.pinterest.contentservice.model.Board;
+import com.pinterest.contentservice.model.Pin;
+import com.pinterest.contentservice.repository.BoardRepository;
+import com.pinterest.contentservice.repository.PinRepository;
+import com.pinterest.servicesupport.querycount.QueryCountTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+public class BoardQueryCountTest extends QueryCountTestSupport {
+
+    private static final int BOARDS = 50;
+    private static final int PINS_PER_BOARD = 3;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private PinRepository pinRepository;
+
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = newOwnerId();
+        List<Pin> pins = new ArrayList<>();
+        for (int i = 0; i < BOARDS; i++) {
+            Board board = boardRepository.save(Board.builder()
+                    .title("Board " + i)
+                    .userId(userId)
+                    .displayOrder(i)
+                    .pins(new ArrayList<>())
+                    .build());
+            for (int j = 0; j < PINS_PER_BOARD; j++) {
+                pins.add(Pin.builder()
+                        .title("Pin " + j)
+                        .imageUrl("https://example.com/" + i + "/" + j + ".jpg")
+                        .userId(userId)
+                        .board(board)
+                        .keywords(new HashSet<>())
+                        .build());
+            }
+        }
+        pinRepository.saveAll(pins);
+    }
+
+    @Test
+    @DisplayName("Should page a user's boards with a constant number of queries")
+    void shouldPageBoardsWithoutNPlusOne() throws Exception {
+        // Page, total count and one grouped pin count
+        assertQueryBudget(get("/api/content/boards/user/{userId}/paged", userId).param("size", "" + BOARDS), 3, BOARDS);
+    }
+
+    @Test
+    @DisplayName("Should list a user's boards with a constant number of queries")
+    void shouldListBoardsWithoutNPlusOne() throws Exception {
+        // Boards and one grouped pin count
+        assertQueryBudget(get("/api/content/boards/user/{userId}", userId), 2, BOARDS);
+    }
+}
@@ -0,0 +1,94 @@
+package com.pinterest.contentservice.querycount;
+
+import com.pinterest.contentservice.model.Board;
+import com.pinterest.contentservice.model.Pin;
+import com.pinterest.contentservice.repository.BoardRepository;
+import com.pinterest.contentservice.repository.PinRepository;
+import com.pinterest.servicesupport.querycount.QueryCountTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Streams the NDJSON exports end to end, through the repository streams, the exporter and the async
+ * response, so a fetch size or streaming setting the database rejects fails the build.
+ */
+public class ExportStreamingTest extends QueryCountTestSupport {
+
+    private static final int BOARDS = 3;
+    private static final int PINS_PER_BOARD = 250;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private PinRepository pinRepository;
+
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = newOwnerId();
+        List<Pin> pins = new ArrayList<>();
+        for (int i = 0; i < BOARDS; i++) {
+            Board board = boardRepository.save(Board.builder()
+                    .title("Board " + i)
+                    .userId(userId)
+                    .displayOrder(i)
+                    .pins(new ArrayList<>())
+                    .build());
+            for (int j = 0; j < PINS_PER_BOARD; j++) {
+                pins.add(Pin.builder()
+                        .title("Pin " + j)
+                        .imageUrl("https://example.com/" + i + "/" + j + ".jpg")
+                        .userId(userId)
+                        .board(board)
+                        .keywords(new HashSet<>())
+                        .build());
+            }
+        }
+        pinRepository.saveAll(pins);
+    }
+
+    @Test
+    @DisplayName("Should stream every pin of a user as NDJSON")
+    void shouldStreamPinExport() throws Exception {
+        String body = export("/api/content/pins/user/{userId}/export");
+
+        assertThat(body.lines()).hasSize(BOARDS * PINS_PER_BOARD)
+                .allSatisfy(line -> assertThat(line).contains("\"userId\":" + userId));
+    }
+
+    @Test
+    @DisplayName("Should stream every board of a user with its pin count as NDJSON")
+    void shouldStreamBoardExport() throws Exception {
+        String body = export("/api/content/boards/user/{userId}/export");
+
+        assertThat(body.lines()).hasSize(BOARDS)
+                .allSatisfy(line -> assertThat(line).contains("\"pinCount\":" + PINS_PER_BOARD));
+    }
+
+    // Helper method to run an export request and wait for its streamed body
+    private String export(String urlTemplate) throws Exception {
+        MvcResult result = mockMvc.perform(get(urlTemplate, userId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+}
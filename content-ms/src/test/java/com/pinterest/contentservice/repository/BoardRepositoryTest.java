@@ -15,7 +15,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
 public class BoardRepositoryTest {
 
     @Autowired
@@ -32,7 +32,7 @@ public class BoardRepositoryTest {
     void setUp() {
         board1 = Board.builder()
                 .userId(101L)
-                .name("Travel Ideas")
+                .title("Travel Ideas")
                 .description("Places I want to visit")
                 .isPrivate(false)
                 .createdAt(LocalDateTime.now())
@@ -41,7 +41,7 @@ public class BoardRepositoryTest {
 
         board2 = Board.builder()
                 .userId(101L)
-                .name("Food Recipes")
+                .title("Food Recipes")
                 .description("Delicious recipes to try")
                 .isPrivate(true)
                 .createdAt(LocalDateTime.now())
@@ -50,7 +50,7 @@ public class BoardRepositoryTest {
 
         board3 = Board.builder()
                 .userId(102L)
-                .name("Home Decor")
+                .title("Home Decor")
                 .description("Ideas for home decoration")
                 .isPrivate(false)
                 .createdAt(LocalDateTime.now())
@@ -108,44 +108,12 @@ public class BoardRepositoryTest {
     }
 
     @Test
-    @DisplayName("Should find all public boards")
-    void shouldFindAllPublicBoards() {
-        List<Board> boards = boardRepository.findByIsPrivate(false);
-
-        assertThat(boards).isNotEmpty();
-        assertThat(boards).hasSize(2);
-        assertThat(boards.get(0).isPrivate()).isFalse();
-        assertThat(boards.get(1).isPrivate()).isFalse();
-    }
-
-    @Test
-    @DisplayName("Should find boards by name containing keyword")
-    void shouldFindBoardsByNameContaining() {
-        List<Board> boards = boardRepository.findByNameContainingIgnoreCase("travel");
+    @DisplayName("Should find boards by title containing keyword")
+    void shouldFindBoardsByTitleContaining() {
+        List<Board> boards = boardRepository.findByTitleContainingIgnoreCase("travel");
 
         assertThat(boards).isNotEmpty();
         assertThat(boards).hasSize(1);
-        assertThat(boards.get(0).getName()).contains("Travel");
-    }
-
-    @Test
-    @DisplayName("Should find boards by description containing keyword")
-    void shouldFindBoardsByDescriptionContaining() {
-        List<Board> boards = boardRepository.findByDescriptionContainingIgnoreCase("home");
-
-        assertThat(boards).isNotEmpty();
-        assertThat(boards).hasSize(1);
-        assertThat(boards.get(0).getDescription()).contains("home");
-    }
-
-    @Test
-    @DisplayName("Should find public boards with pagination")
-    void shouldFindPublicBoardsWithPagination() {
-        Page<Board> boardsPage = boardRepository.findByIsPrivate(false, PageRequest.of(0, 10));
-
-        assertThat(boardsPage).isNotEmpty();
-        assertThat(boardsPage.getContent()).hasSize(2);
-        assertThat(boardsPage.getContent().get(0).isPrivate()).isFalse();
-        assertThat(boardsPage.getContent().get(1).isPrivate()).isFalse();
+        assertThat(boards.get(0).getTitle()).contains("Travel");
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.pinterest.contentservice.repository;
 
+import com.pinterest.contentservice.model.Board;
 import com.pinterest.contentservice.model.Pin;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,7 +16,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
 public class PinRepositoryTest {
 
     @Autowired
@@ -24,41 +25,46 @@ public class PinRepositoryTest {
     @Autowired
     private PinRepository pinRepository;
 
+    private Board board1;
+    private Board board2;
     private Pin pin1;
     private Pin pin2;
     private Pin pin3;
 
     @BeforeEach
     void setUp() {
+        board1 = entityManager.persist(Board.builder().userId(101L).title("Outdoors").build());
+        board2 = entityManager.persist(Board.builder().userId(101L).title("Recipes").build());
+
         pin1 = Pin.builder()
                 .userId(101L)
-                .boardId(201L)
+                .board(board1)
                 .title("Beautiful Sunset")
                 .description("Amazing sunset at the beach")
                 .imageUrl("https://example.com/images/sunset.jpg")
-                .link("https://example.com/sunset")
+                .sourceUrl("https://example.com/sunset")
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
         pin2 = Pin.builder()
                 .userId(101L)
-                .boardId(202L)
+                .board(board2)
                 .title("Delicious Pasta")
                 .description("Homemade pasta recipe")
                 .imageUrl("https://example.com/images/pasta.jpg")
-                .link("https://example.com/pasta")
+                .sourceUrl("https://example.com/pasta")
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
         pin3 = Pin.builder()
                 .userId(102L)
-                .boardId(201L)
+                .board(board1)
                 .title("Mountain View")
                 .description("Beautiful mountain landscape")
                 .imageUrl("https://example.com/images/mountain.jpg")
-                .link("https://example.com/mountain")
+                .sourceUrl("https://example.com/mountain")
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
@@ -94,34 +100,23 @@ public class PinRepositoryTest {
     @Test
     @DisplayName("Should find pins by board ID")
     void shouldFindPinsByBoardId() {
-        List<Pin> pins = pinRepository.findByBoardId(201L);
+        List<Pin> pins = pinRepository.findByBoardId(board1.getId());
 
         assertThat(pins).isNotEmpty();
         assertThat(pins).hasSize(2);
-        assertThat(pins.get(0).getBoardId()).isEqualTo(201L);
-        assertThat(pins.get(1).getBoardId()).isEqualTo(201L);
+        assertThat(pins.get(0).getBoard().getId()).isEqualTo(board1.getId());
+        assertThat(pins.get(1).getBoard().getId()).isEqualTo(board1.getId());
     }
 
     @Test
     @DisplayName("Should find pins by board ID with pagination")
     void shouldFindPinsByBoardIdWithPagination() {
-        Page<Pin> pinsPage = pinRepository.findByBoardId(201L, PageRequest.of(0, 10));
+        Page<Pin> pinsPage = pinRepository.findByBoardId(board1.getId(), PageRequest.of(0, 10));
 
         assertThat(pinsPage).isNotEmpty();
         assertThat(pinsPage.getContent()).hasSize(2);
-        assertThat(pinsPage.getContent().get(0).getBoardId()).isEqualTo(201L);
-        assertThat(pinsPage.getContent().get(1).getBoardId()).isEqualTo(201L);
-    }
-
-    @Test
-    @DisplayName("Should find pins by user ID and board ID")
-    void shouldFindPinsByUserIdAndBoardId() {
-        List<Pin> pins = pinRepository.findByUserIdAndBoardId(101L, 201L);
-
-        assertThat(pins).isNotEmpty();
-        assertThat(pins).hasSize(1);
-        assertThat(pins.get(0).getUserId()).isEqualTo(101L);
-        assertThat(pins.get(0).getBoardId()).isEqualTo(201L);
+        assertThat(pinsPage.getContent().get(0).getBoard().getId()).isEqualTo(board1.getId());
+        assertThat(pinsPage.getContent().get(1).getBoard().getId()).isEqualTo(board1.getId());
     }
 
     @Test
@@ -134,39 +129,26 @@ public class PinRepositoryTest {
         assertThat(pins.get(0).getTitle()).contains("Sunset");
     }
 
-    @Test
-    @DisplayName("Should find pins by description containing keyword")
-    void shouldFindPinsByDescriptionContaining() {
-        List<Pin> pins = pinRepository.findByDescriptionContainingIgnoreCase("mountain");
-
-        assertThat(pins).isNotEmpty();
-        assertThat(pins).hasSize(1);
-        assertThat(pins.get(0).getDescription()).contains("mountain");
-    }
-
-    @Test
-    @DisplayName("Should find pins by title or description containing keyword")
-    void shouldFindPinsByTitleOrDescriptionContaining() {
-        List<Pin> pins = pinRepository.findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase("pasta", "pasta");
-
-        assertThat(pins).isNotEmpty();
-        assertThat(pins).hasSize(1);
-        assertThat(pins.get(0).getTitle()).contains("Pasta");
-    }
-
     @Test
     @DisplayName("Should count pins by board ID")
     void shouldCountPinsByBoardId() {
-        long count = pinRepository.countByBoardId(201L);
+        long count = pinRepository.countByBoardId(board1.getId());
 
         assertThat(count).isEqualTo(2);
     }
 
     @Test
-    @DisplayName("Should count pins by user ID")
-    void shouldCountPinsByUserId() {
-        long count = pinRepository.countByUserId(101L);
-
-        assertThat(count).isEqualTo(2);
+    @DisplayName("Should hide the pins of a soft-deleted board")
+    void shouldHidePinsOfDeletedBoard() {
+        List<Long> pinIds = pinRepository.findVisibleIdsByBoardIdForPurge(board1.getId(), 10);
+        assertThat(pinIds).hasSize(2);
+        assertThat(pinRepository.markBoardDeletedByIds(pinIds)).isEqualTo(2);
+        entityManager.clear();
+
+        assertThat(pinRepository.findVisibleIdsByBoardIdForPurge(board1.getId(), 10)).isEmpty();
+
+        assertThat(pinRepository.findByUserId(101L)).extracting(Pin::getTitle).containsExactly("Delicious Pasta");
+        assertThat(pinRepository.findByBoardId(board1.getId())).isEmpty();
+        assertThat(pinRepository.countByBoardIdForPurge(board1.getId())).isEqualTo(2);
     }
-}
\ No newline at end of file
+}
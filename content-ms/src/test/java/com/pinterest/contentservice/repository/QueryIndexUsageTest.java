@@ -0,0 +1,116 @@
+package com.pinterest.contentservice.repository;
+
+import com.pinterest.servicesupport.config.SqlStatementCounter;
+import com.pinterest.servicesupport.config.SqlStatementCounter.RequestStatements;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL behind the listing, paging and purge repository queries and checks that none
+ * of them needs a table scan. The schema comes from the Flyway migrations, so dropping an index or
+ * changing a query so it no longer matches one fails the build. H2 plans differently from MySQL, but a
+ * query H2 can only answer with a table scan has no usable index in MySQL either.
+ * <p>
+ * Leading-wildcard searches and case-insensitive keyword lookups are not covered, a B-tree index
+ * cannot serve them.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:queryplan;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.cloud.consul.enabled=false",
+        "spring.cloud.compatibility-verifier.enabled=false",
+        "board.purge.interval-ms=3600000",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+public class QueryIndexUsageTest {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PinRepository pinRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Test
+    @DisplayName("Should serve pin listing and purge queries from an index")
+    void shouldUseIndexesForPinQueries() {
+        assertUsesIndex(() -> pinRepository.findByUserId(1L));
+        assertUsesIndex(() -> pinRepository.findByUserId(1L, PageRequest.of(0, 20, NEWEST_FIRST)));
+        assertUsesIndex(() -> pinRepository.findByBoardId(1L));
+        assertUsesIndex(() -> pinRepository.findByBoardId(1L, PageRequest.of(0, 20, NEWEST_FIRST)));
+        assertUsesIndex(() -> pinRepository.findByUserIdAndIsPrivate(1L, false));
+        assertUsesIndex(() -> pinRepository.findByUserIdAndIsDraft(1L, true));
+        assertUsesIndex(() -> pinRepository.countByBoardId(1L));
+        assertUsesIndex(() -> pinRepository.countByBoardIds(List.of(1L, 2L, 3L)));
+        assertUsesIndex(() -> pinRepository.findIdsByBoardIdForPurge(1L, 500));
+        assertUsesIndex(() -> pinRepository.countByBoardIdForPurge(1L));
+        assertUsesIndex(() -> transactionTemplate.executeWithoutResult(status ->
+                pinRepository.deleteKeywordLinksByPinIds(List.of(1L, 2L))));
+        assertUsesIndex(() -> transactionTemplate.executeWithoutResult(status ->
+                pinRepository.deleteByIdsForPurge(List.of(1L, 2L))));
+    }
+
+    @Test
+    @DisplayName("Should serve board listing and purge queries from an index")
+    void shouldUseIndexesForBoardQueries() {
+        assertUsesIndex(() -> boardRepository.findByUserId(1L));
+        assertUsesIndex(() -> boardRepository.findByUserId(1L, PageRequest.of(0, 20, Sort.by("displayOrder"))));
+        assertUsesIndex(() -> boardRepository.findByUserIdAndIsPrivate(1L, false));
+        assertUsesIndex(() -> boardRepository.findByUserIdOrderByDisplayOrderAsc(1L));
+        assertUsesIndex(() -> boardRepository.findByCategory("travel"));
+        assertUsesIndex(() -> boardRepository.findCollaborativeBoardsByUserId(1L));
+        assertUsesIndex(() -> boardRepository.countByUserId(1L));
+        assertUsesIndex(() -> boardRepository.findDeletedBoardIds(20));
+        assertUsesIndex(() -> transactionTemplate.executeWithoutResult(status ->
+                boardRepository.deleteSoftDeletedBoard(1L)));
+    }
+
+    // Helper method to run a repository call and EXPLAIN every statement it issued
+    private void assertUsesIndex(Runnable repositoryCall) {
+        sqlStatementCounter.begin();
+        RequestStatements statements;
+        try {
+            repositoryCall.run();
+        } finally {
+            statements = sqlStatementCounter.end();
+        }
+
+        assertThat(statements.getStatements()).as("statements issued").isNotEmpty();
+        for (String sql : statements.getStatements()) {
+            assertThat(explain(sql)).as("plan of %s", sql).doesNotContain("tableScan");
+        }
+    }
+
+    // Helper method to get H2's plan, parameters can stay unbound for EXPLAIN
+    private String explain(String sql) {
+        return jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                resultSet -> resultSet.next() ? resultSet.getString(1) : "");
+    }
+}
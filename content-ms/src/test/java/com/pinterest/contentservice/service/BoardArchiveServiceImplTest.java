@@ -0,0 +1,130 @@
+package com.pinterest.contentservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pinterest.contentservice.dto.BoardArchiveDto;
+import com.pinterest.contentservice.dto.BoardArchiveManifest;
+import com.pinterest.contentservice.dto.BoardArchiveManifest.ArchivedPin;
+import com.pinterest.contentservice.exception.ResourceNotFoundException;
+import com.pinterest.contentservice.model.Board;
+import com.pinterest.contentservice.model.Pin;
+import com.pinterest.contentservice.repository.BoardRepository;
+import com.pinterest.contentservice.repository.PinRepository;
+import com.pinterest.contentservice.service.impl.BoardArchiveServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BoardArchiveServiceImplTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private PinRepository pinRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @TempDir
+    Path uploadDir;
+
+    private BoardArchiveServiceImpl boardArchiveService;
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        boardArchiveService = new BoardArchiveServiceImpl(boardRepository, pinRepository, fileStorageService, new ObjectMapper());
+        // Smaller than the image so the copy loop runs more than once
+        ReflectionTestUtils.setField(boardArchiveService, "bufferSize", 16);
+        ReflectionTestUtils.setField(boardArchiveService, "pageSize", 1);
+
+        board = Board.builder().id(1L).title("Summer / Travel").userId(1L).build();
+    }
+
+    @Test
+    @DisplayName("Should build a slugged archive file name")
+    void shouldBuildArchiveFileName() {
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+
+        assertThat(boardArchiveService.prepareArchive(1L).getFileName()).isEqualTo("board-1-Summer-Travel.zip");
+    }
+
+    @Test
+    @DisplayName("Should throw when archiving a missing board")
+    void shouldThrowWhenBoardIsMissing() {
+        when(boardRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> boardArchiveService.prepareArchive(99L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should page the pins, copy images without recompressing them and write the manifest last")
+    void shouldWriteImagesAndManifest() throws Exception {
+        byte[] image = "not really a jpeg, but long enough to span several buffers".getBytes();
+        Path imageFile = Files.write(uploadDir.resolve("abc.jpg"), image);
+
+        Pin stored = Pin.builder().id(10L).title("Beach").imageUrl("http://localhost/api/content/files/abc.jpg").userId(1L).build();
+        Pin external = Pin.builder().id(11L).title("Elsewhere").imageUrl("https://example.com/x.png").userId(1L).build();
+        Pin deleted = Pin.builder().id(12L).title("Gone").imageUrl("http://localhost/api/content/files/gone.jpg").userId(1L).build();
+
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        // One pin per page, so the archive walks the board in four queries
+        when(pinRepository.findByBoardIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(0L), any(Limit.class))).thenReturn(List.of(stored));
+        when(pinRepository.findByBoardIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(10L), any(Limit.class))).thenReturn(List.of(external));
+        when(pinRepository.findByBoardIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(11L), any(Limit.class))).thenReturn(List.of(deleted));
+        when(pinRepository.findByBoardIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(12L), any(Limit.class))).thenReturn(List.of());
+        when(fileStorageService.resolveStoredFile(stored.getImageUrl())).thenReturn(imageFile);
+        when(fileStorageService.resolveStoredFile(external.getImageUrl())).thenReturn(null);
+        when(fileStorageService.resolveStoredFile(deleted.getImageUrl())).thenReturn(uploadDir.resolve("gone.jpg"));
+
+        BoardArchiveDto archive = boardArchiveService.prepareArchive(1L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = boardArchiveService.writeArchive(archive, out);
+
+        assertThat(written).isEqualTo(1);
+        verify(boardRepository, times(1)).findById(1L);
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry imageEntry = zip.getNextEntry();
+            assertThat(imageEntry.getName()).isEqualTo("images/10.jpg");
+            assertThat(zip.readAllBytes()).isEqualTo(image);
+            // Sizes are known once the entry has been read from its data descriptor
+            assertThat(imageEntry.getCompressedSize()).isGreaterThanOrEqualTo(image.length);
+
+            ZipEntry manifestEntry = zip.getNextEntry();
+            assertThat(manifestEntry.getName()).isEqualTo("manifest.json");
+            BoardArchiveManifest manifest = new ObjectMapper().readValue(zip.readAllBytes(), BoardArchiveManifest.class);
+            assertThat(manifest.getBoard().getTitle()).isEqualTo("Summer / Travel");
+            assertThat(manifest.getBoard().getPinCount()).isEqualTo(3);
+            assertThat(manifest.getPins()).extracting(pin -> pin.getPin().getId()).containsExactly(10L, 11L, 12L);
+            assertThat(manifest.getPins()).extracting(ArchivedPin::getImage).containsExactly("images/10.jpg", null, null);
+
+            assertThat(zip.getNextEntry()).isNull();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.pinterest.contentservice.service;
+
+import com.pinterest.contentservice.dto.BoardPurgeStatusDto;
+import com.pinterest.contentservice.exception.ResourceNotFoundException;
+import com.pinterest.contentservice.repository.BoardRepository;
+import com.pinterest.contentservice.repository.PinRepository;
+import com.pinterest.contentservice.service.impl.BoardPurgeServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BoardPurgeServiceImplTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private PinRepository pinRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BoardPurgeServiceImpl boardPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        boardPurgeService = new BoardPurgeServiceImpl(boardRepository, pinRepository, transactionManager);
+        ReflectionTestUtils.setField(boardPurgeService, "chunkSize", 2);
+        ReflectionTestUtils.setField(boardPurgeService, "pauseMs", 0L);
+        ReflectionTestUtils.setField(boardPurgeService, "boardsPerRun", 10);
+        ReflectionTestUtils.setField(boardPurgeService, "statusRetentionMinutes", 60L);
+    }
+
+    @Test
+    @DisplayName("Should hide pins in chunks, then delete them, join rows first, then the board")
+    void shouldPurgeBoardInChunks() {
+        when(boardRepository.findDeletedBoardIds(10)).thenReturn(List.of(1L));
+        when(pinRepository.findVisibleIdsByBoardIdForPurge(1L, 2))
+                .thenReturn(List.of(10L, 11L))
+                .thenReturn(List.of(12L))
+                .thenReturn(List.of());
+        when(pinRepository.markBoardDeletedByIds(List.of(10L, 11L))).thenReturn(2);
+        when(pinRepository.markBoardDeletedByIds(List.of(12L))).thenReturn(1);
+        when(pinRepository.countByBoardIdForPurge(1L)).thenReturn(3L);
+        when(pinRepository.findIdsByBoardIdForPurge(1L, 2))
+                .thenReturn(List.of(10L, 11L))
+                .thenReturn(List.of(12L))
+                .thenReturn(List.of());
+        when(pinRepository.deleteByIdsForPurge(List.of(10L, 11L))).thenReturn(2);
+        when(pinRepository.deleteByIdsForPurge(List.of(12L))).thenReturn(1);
+
+        boardPurgeService.schedulePurge(1L);
+        boardPurgeService.purgeDeletedBoards();
+
+        InOrder order = inOrder(pinRepository, boardRepository);
+        order.verify(pinRepository).markBoardDeletedByIds(List.of(10L, 11L));
+        order.verify(pinRepository).markBoardDeletedByIds(List.of(12L));
+        order.verify(pinRepository).deleteKeywordLinksByPinIds(List.of(10L, 11L));
+        order.verify(pinRepository).deleteByIdsForPurge(List.of(10L, 11L));
+        order.verify(pinRepository).deleteKeywordLinksByPinIds(List.of(12L));
+        order.verify(pinRepository).deleteByIdsForPurge(List.of(12L));
+        order.verify(boardRepository).deleteSoftDeletedBoard(1L);
+
+        BoardPurgeStatusDto status = boardPurgeService.getPurgeStatus(1L);
+        assertThat(status.getState()).isEqualTo("COMPLETED");
+        assertThat(status.getPinsTotal()).isEqualTo(3);
+        assertThat(status.getPinsDeleted()).isEqualTo(3);
+        assertThat(status.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should keep the board for a retry when a chunk fails")
+    void shouldMarkPurgeFailedAndKeepBoard() {
+        when(boardRepository.findDeletedBoardIds(10)).thenReturn(List.of(1L));
+        when(pinRepository.findVisibleIdsByBoardIdForPurge(1L, 2)).thenReturn(List.of());
+        when(pinRepository.findIdsByBoardIdForPurge(1L, 2)).thenThrow(new IllegalStateException("lock wait timeout"));
+
+        boardPurgeService.purgeDeletedBoards();
+
+        verify(boardRepository, never()).deleteSoftDeletedBoard(1L);
+        BoardPurgeStatusDto status = boardPurgeService.getPurgeStatus(1L);
+        assertThat(status.getState()).isEqualTo("FAILED");
+        assertThat(status.getError()).isEqualTo("lock wait timeout");
+    }
+
+    @Test
+    @DisplayName("Should throw when no purge is known for the board")
+    void shouldThrowForUnknownPurge() {
+        assertThatThrownBy(() -> boardPurgeService.getPurgeStatus(42L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -5,7 +5,10 @@ import com.pinterest.contentservice.dto.BoardRequest;
 import com.pinterest.contentservice.exception.ResourceNotFoundException;
 import com.pinterest.contentservice.model.Board;
 import com.pinterest.contentservice.repository.BoardRepository;
+import com.pinterest.contentservice.repository.PinRepository;
 import com.pinterest.contentservice.service.impl.BoardServiceImpl;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +36,21 @@ public class BoardServiceImplTest {
     @Mock
     private BoardRepository boardRepository;
 
+    @Mock
+    private PinRepository pinRepository;
+
+    @Mock
+    private PinService pinService;
+
+    @Mock
+    private BoardPurgeService boardPurgeService;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache cache;
+
     @InjectMocks
     private BoardServiceImpl boardService;
 
@@ -44,7 +62,7 @@ public class BoardServiceImplTest {
         board = Board.builder()
                 .id(1L)
                 .userId(101L)
-                .name("Travel Ideas")
+                .title("Travel Ideas")
                 .description("Places I want to visit")
                 .isPrivate(false)
                 .createdAt(LocalDateTime.now())
@@ -53,7 +71,7 @@ public class BoardServiceImplTest {
 
         boardRequest = BoardRequest.builder()
                 .userId(101L)
-                .name("Travel Ideas")
+                .title("Travel Ideas")
                 .description("Places I want to visit")
                 .isPrivate(false)
                 .build();
@@ -68,7 +86,7 @@ public class BoardServiceImplTest {
 
         assertThat(result).isNotNull();
         assertThat(result.getUserId()).isEqualTo(101L);
-        assertThat(result.getName()).isEqualTo("Travel Ideas");
+        assertThat(result.getTitle()).isEqualTo("Travel Ideas");
         assertThat(result.getDescription()).isEqualTo("Places I want to visit");
         assertThat(result.isPrivate()).isFalse();
         verify(boardRepository, times(1)).save(any(Board.class));
@@ -106,7 +124,7 @@ public class BoardServiceImplTest {
 
         BoardRequest updateRequest = BoardRequest.builder()
                 .userId(101L)
-                .name("Updated Travel Ideas")
+                .title("Updated Travel Ideas")
                 .description("Updated places I want to visit")
                 .isPrivate(true)
                 .build();
@@ -114,7 +132,7 @@ public class BoardServiceImplTest {
         BoardDto result = boardService.updateBoard(1L, updateRequest);
 
         assertThat(result).isNotNull();
-        assertThat(result.getName()).isEqualTo("Updated Travel Ideas");
+        assertThat(result.getTitle()).isEqualTo("Updated Travel Ideas");
         assertThat(result.getDescription()).isEqualTo("Updated places I want to visit");
         assertThat(result.isPrivate()).isTrue();
         verify(boardRepository, times(1)).findById(1L);
@@ -122,15 +140,24 @@ public class BoardServiceImplTest {
     }
 
     @Test
-    @DisplayName("Should delete board")
+    @DisplayName("Should soft delete board and leave its pins to the purger")
     void shouldDeleteBoard() {
         when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
-        doNothing().when(boardRepository).delete(board);
+
+        when(entityManagerFactory.getCache()).thenReturn(cache);
 
         boardService.deleteBoard(1L);
 
         verify(boardRepository, times(1)).findById(1L);
-        verify(boardRepository, times(1)).delete(board);
+        verify(boardRepository, never()).delete(any(Board.class));
+        verify(boardRepository, times(1)).save(board);
+        assertThat(board.getDeletedAt()).isNotNull();
+        // Only the deleted board leaves the second-level cache
+        verify(cache, times(1)).evict(Board.class, 1L);
+        verify(cache, never()).evict(Board.class);
+        // The pins are hidden by the purger, not in this request
+        verify(pinRepository, never()).markBoardDeletedByIds(any());
+        verify(boardPurgeService, times(1)).schedulePurge(1L);
     }
 
     @Test
@@ -161,51 +188,4 @@ public class BoardServiceImplTest {
         verify(boardRepository, times(1))
                 .findByUserId(eq(101L), any(Pageable.class));
     }
-
-    @Test
-    @DisplayName("Should get public boards by user ID")
-    void shouldGetPublicBoardsByUserId() {
-        when(boardRepository.findByUserIdAndIsPrivate(101L, false))
-                .thenReturn(List.of(board));
-
-        List<BoardDto> results = boardService.getPublicBoardsByUserId(101L);
-
-        assertThat(results).isNotEmpty();
-        assertThat(results).hasSize(1);
-        assertThat(results.get(0).getUserId()).isEqualTo(101L);
-        assertThat(results.get(0).isPrivate()).isFalse();
-        verify(boardRepository, times(1))
-                .findByUserIdAndIsPrivate(101L, false);
-    }
-
-    @Test
-    @DisplayName("Should get public boards")
-    void shouldGetPublicBoards() {
-        Page<Board> page = new PageImpl<>(List.of(board));
-        when(boardRepository.findByIsPrivate(eq(false), any(Pageable.class)))
-                .thenReturn(page);
-
-        Page<BoardDto> results = boardService.getPublicBoards(Pageable.unpaged());
-
-        assertThat(results).isNotEmpty();
-        assertThat(results.getContent()).hasSize(1);
-        assertThat(results.getContent().get(0).isPrivate()).isFalse();
-        verify(boardRepository, times(1))
-                .findByIsPrivate(eq(false), any(Pageable.class));
-    }
-
-    @Test
-    @DisplayName("Should search boards by name")
-    void shouldSearchBoardsByName() {
-        when(boardRepository.findByNameContainingIgnoreCase("travel"))
-                .thenReturn(List.of(board));
-
-        List<BoardDto> results = boardService.searchBoardsByName("travel");
-
-        assertThat(results).isNotEmpty();
-        assertThat(results).hasSize(1);
-        assertThat(results.get(0).getName()).contains("Travel");
-        verify(boardRepository, times(1))
-                .findByNameContainingIgnoreCase("travel");
-    }
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package com.pinterest.contentservice.service;
 import com.pinterest.contentservice.dto.PinDto;
 import com.pinterest.contentservice.dto.PinRequest;
 import com.pinterest.contentservice.exception.ResourceNotFoundException;
+import com.pinterest.contentservice.model.Board;
 import com.pinterest.contentservice.model.Pin;
+import com.pinterest.contentservice.repository.BoardRepository;
 import com.pinterest.contentservice.repository.PinRepository;
 import com.pinterest.contentservice.service.impl.PinServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,22 +34,31 @@ public class PinServiceImplTest {
     @Mock
     private PinRepository pinRepository;
 
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private KeywordService keywordService;
+
     @InjectMocks
     private PinServiceImpl pinService;
 
+    private Board board;
     private Pin pin;
     private PinDto pinDto;
     private PinRequest pinRequest;
 
     @BeforeEach
     void setUp() {
+        board = Board.builder().id(201L).userId(101L).title("Test Board").build();
+
         pin = Pin.builder()
                 .id(1L)
                 .title("Test Pin")
                 .description("Test Description")
                 .imageUrl("https://example.com/image.jpg")
                 .userId(101L)
-                .boardId(201L)
+                .board(board)
                 .createdAt(LocalDateTime.now())
                 .build();
 
@@ -58,7 +69,7 @@ public class PinServiceImplTest {
                 .imageUrl("https://example.com/image.jpg")
                 .userId(101L)
                 .boardId(201L)
-                .createdAt(pin.getCreatedAt())
+                .createdAt(pin.getCreatedAt().toString())
                 .build();
 
         pinRequest = PinRequest.builder()
@@ -73,6 +84,8 @@ public class PinServiceImplTest {
     @Test
     @DisplayName("Should create pin successfully")
     void shouldCreatePin() {
+        when(boardRepository.findById(201L))
+                .thenReturn(Optional.of(board));
         when(pinRepository.save(any(Pin.class)))
                 .thenReturn(pin);
 
@@ -178,7 +191,7 @@ public class PinServiceImplTest {
 
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
-        assertThat(result.getContent().get(0).getBoardId()).isEqualTo(201L);
+        assertThat(result.get(0).getBoardId()).isEqualTo(201L);
         verify(pinRepository, times(1)).findByBoardId(201L);
     }
 
@@ -0,0 +1,127 @@
+package com.pinterest.contentservice.service;
+
+import com.pinterest.contentservice.dto.BoardDto;
+import com.pinterest.contentservice.dto.KeywordDto;
+import com.pinterest.contentservice.dto.PinDto;
+import com.pinterest.contentservice.dto.SearchResultDto;
+import com.pinterest.contentservice.service.impl.SearchServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchServiceImplTest {
+
+    @Mock
+    private PinService pinService;
+
+    @Mock
+    private BoardService boardService;
+
+    @Mock
+    private KeywordService keywordService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SearchServiceImpl searchService;
+
+    private final Pageable pageable = PageRequest.of(0, 10);
+
+    @BeforeEach
+    void setUp() {
+        searchService = new SearchServiceImpl(pinService, boardService, keywordService,
+                transactionManager, new SimpleAsyncTaskExecutor("search-test-"));
+        ReflectionTestUtils.setField(searchService, "branchTimeoutMs", 200L);
+    }
+
+    @Test
+    @DisplayName("Should merge results from all three sections")
+    void shouldMergeAllSections() {
+        when(pinService.searchPins(eq("sunset"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(PinDto.builder().id(1L).title("Sunset").build())));
+        when(boardService.searchBoards(eq("sunset"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(BoardDto.builder().id(2L).title("Sunsets").build())));
+        when(keywordService.searchKeywords("sunset", 10))
+                .thenReturn(List.of(KeywordDto.builder().id(3L).name("sunset").build()));
+
+        SearchResultDto result = searchService.searchAll(" sunset ", pageable);
+
+        assertThat(result.isPartial()).isFalse();
+        assertThat(result.getIncompleteSections()).isEmpty();
+        assertThat(result.getPins().getContent()).hasSize(1);
+        assertThat(result.getBoards().getContent()).hasSize(1);
+        assertThat(result.getKeywords()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should return partial results when a section misses its deadline")
+    void shouldReturnPartialResultsWhenSectionIsSlow() throws InterruptedException {
+        when(pinService.searchPins(eq("sunset"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(PinDto.builder().id(1L).title("Sunset").build())));
+        // The board branch blocks until it is cancelled, as a query stuck on a lock would
+        CountDownLatch cancelled = new CountDownLatch(1);
+        when(boardService.searchBoards(eq("sunset"), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        cancelled.countDown();
+                    }
+                    return new PageImpl<>(List.of());
+                });
+        when(keywordService.searchKeywords("sunset", 10))
+                .thenThrow(new IllegalStateException("keyword index unavailable"));
+
+        long start = System.currentTimeMillis();
+        SearchResultDto result = searchService.searchAll("sunset", pageable);
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertThat(elapsed).isLessThan(1_500);
+        assertThat(result.isPartial()).isTrue();
+        assertThat(result.getIncompleteSections()).containsExactly("boards", "keywords");
+        assertThat(result.getPins().getContent()).hasSize(1);
+        assertThat(result.getBoards()).isNull();
+        assertThat(result.getKeywords()).isNull();
+        assertThat(cancelled.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should return partial results when the search executor rejects a section")
+    void shouldReturnPartialResultsWhenExecutorIsSaturated() {
+        SimpleAsyncTaskExecutor saturated = new SimpleAsyncTaskExecutor("search-test-") {
+            @Override
+            public <T> Future<T> submit(Callable<T> task) {
+                throw new TaskRejectedException("search executor saturated");
+            }
+        };
+        searchService = new SearchServiceImpl(pinService, boardService, keywordService, transactionManager, saturated);
+        ReflectionTestUtils.setField(searchService, "branchTimeoutMs", 200L);
+
+        SearchResultDto result = searchService.searchAll("sunset", pageable);
+
+        assertThat(result.isPartial()).isTrue();
+        assertThat(result.getIncompleteSections()).containsExactly("pins", "boards", "keywords");
+    }
+}
@@ -0,0 +1,94 @@
+package com.pinterest.contentservice.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class NdjsonExporterTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private NdjsonExporter ndjsonExporter;
+
+    @BeforeEach
+    void setUp() {
+        ndjsonExporter = new NdjsonExporter(new ObjectMapper());
+        ReflectionTestUtils.setField(ndjsonExporter, "entityManager", entityManager);
+        ReflectionTestUtils.setField(ndjsonExporter, "batchSize", BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON line per row and return the row count")
+    void shouldWriteOneLinePerRow() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long count = ndjsonExporter.write(Stream.of(1L, 2L, 3L, 4L, 5L), id -> Map.of("id", id), output);
+
+        assertThat(count).isEqualTo(5);
+        assertThat(output.toString(StandardCharsets.UTF_8).split("\n"))
+                .containsExactly("{\"id\":1}", "{\"id\":2}", "{\"id\":3}", "{\"id\":4}", "{\"id\":5}");
+    }
+
+    @Test
+    @DisplayName("Should flush to the client and clear the persistence context once per batch while reading the rows")
+    void shouldFlushAndClearPerBatch() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        // Lines the client had received at the moment each row was read from the database
+        List<Long> linesSentBeforeRow = new ArrayList<>();
+        Stream<Long> rows = Stream.of(1L, 2L, 3L, 4L, 5L)
+                .peek(id -> linesSentBeforeRow.add(output.toString(StandardCharsets.UTF_8).chars().filter(c -> c == '\n').count()));
+
+        ndjsonExporter.write(rows, id -> Map.of("id", id), output);
+
+        // Rows after a full batch are only read once that batch has left the buffer
+        assertThat(linesSentBeforeRow).containsExactly(0L, 0L, 2L, 2L, 4L);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("Should stop reading rows and fail when the client goes away")
+    void shouldStopOnClientAbort() {
+        AtomicInteger rowsRead = new AtomicInteger();
+        Stream<Integer> endless = Stream.iterate(1, id -> id + 1).peek(id -> rowsRead.incrementAndGet());
+        OutputStream abortedClient = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class, () -> ndjsonExporter.write(endless, id -> Map.of("id", id), abortedClient));
+        // The first flush fails, so no row beyond the first batch is read
+        assertThat(rowsRead.get()).isEqualTo(BATCH_SIZE);
+    }
+}
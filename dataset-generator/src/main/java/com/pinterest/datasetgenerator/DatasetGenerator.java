@@ -0,0 +1,111 @@
+package com.pinterest.datasetgenerator;
+
+import com.pinterest.datasetgenerator.generator.BusinessDataGenerator;
+import com.pinterest.datasetgenerator.generator.CollaborationDataGenerator;
+import com.pinterest.datasetgenerator.generator.ContentDataGenerator;
+import com.pinterest.datasetgenerator.generator.DatasetModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Runs the generator stages in dependency order: content first, since the other services refer to
+ * its users, boards and pins, then collaboration and business.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatasetGenerator implements ApplicationRunner {
+
+    private final DatasetModel model;
+
+    private final ContentDataGenerator contentDataGenerator;
+
+    private final CollaborationDataGenerator collaborationDataGenerator;
+
+    private final BusinessDataGenerator businessDataGenerator;
+
+    private final DataSource contentDataSource;
+
+    private final DataSource businessDataSource;
+
+    private final DataSource collaborationDataSource;
+
+    @Value("${generator.create-schema:true}")
+    private boolean createSchema;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        log.info("Generating dataset with seed {}: {} users, {} keywords, {} boards, {} pins, {} business profiles",
+                model.getSeed(), model.getUsers(), model.getKeywords(), model.getBoards(), model.getPins(),
+                model.getBusinessProfiles());
+        long started = System.currentTimeMillis();
+
+        prepare(contentDataSource, "content", "keywords");
+        prepare(collaborationDataSource, "collaboration", "user_connections");
+        prepare(businessDataSource, "business", "business_profiles");
+
+        contentDataGenerator.generate();
+        collaborationDataGenerator.generate();
+        businessDataGenerator.generate();
+
+        restartIdentities(contentDataSource, List.of("keywords", "boards", "pins"));
+        restartIdentities(collaborationDataSource, List.of("user_connections", "invitations", "board_collaborations"));
+        restartIdentities(businessDataSource, List.of("business_profiles", "campaigns", "sponsored_pins"));
+
+        log.info("Dataset generated in {} s", (System.currentTimeMillis() - started) / 1000);
+    }
+
+    // Helper method to migrate the schema if asked to and refuse to write into a populated database. The
+    // service's own migrations run, so the services later find their schema current in the Flyway history
+    private void prepare(DataSource dataSource, String service, String firstTable) throws SQLException {
+        if (createSchema) {
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations("classpath:db/migration/" + service)
+                    .load()
+                    .migrate();
+        }
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + firstTable)) {
+            resultSet.next();
+            if (resultSet.getLong(1) > 0) {
+                throw new IllegalStateException(firstTable + " already has rows in " + connection.getMetaData().getURL()
+                        + ", the generator writes fixed ids and needs empty tables");
+            }
+        }
+    }
+
+    /**
+     * Rows are written with explicit ids. MySQL moves AUTO_INCREMENT past them by itself, H2 does
+     * not, so its identity columns are restarted after the highest id for the services' own inserts.
+     */
+    private void restartIdentities(DataSource dataSource, List<String> tables) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            if (!"H2".equals(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+            for (String table : tables) {
+                try (ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+                    resultSet.next();
+                    long next = resultSet.getLong(1);
+                    statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+                }
+            }
+            connection.commit();
+        }
+    }
+}
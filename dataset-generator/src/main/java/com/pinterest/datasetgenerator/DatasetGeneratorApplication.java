@@ -0,0 +1,14 @@
+package com.pinterest.datasetgenerator;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class DatasetGeneratorApplication {
+
+	public static void main(String[] args) {
+		// Exits once the generator runner is done so the worker pool does not keep the JVM alive
+		System.exit(SpringApplication.exit(SpringApplication.run(DatasetGeneratorApplication.class, args)));
+	}
+
+}
@@ -0,0 +1,70 @@
+package com.pinterest.datasetgenerator.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One connection pool per service database and the worker pool that writes to them. Pools are sized
+ * to the worker count so every worker holds a connection for the whole of its chunk.
+ */
+@Configuration
+public class GeneratorConfig {
+
+    @Value("${generator.threads:0}")
+    private int threads;
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService generatorExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(workerCount(), runnable -> {
+            Thread thread = new Thread(runnable, "generator-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource contentDataSource(@Value("${generator.content.url}") String url,
+                                              @Value("${generator.content.username:}") String username,
+                                              @Value("${generator.content.password:}") String password) {
+        return dataSource("content", url, username, password);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource businessDataSource(@Value("${generator.business.url}") String url,
+                                               @Value("${generator.business.username:}") String username,
+                                               @Value("${generator.business.password:}") String password) {
+        return dataSource("business", url, username, password);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource collaborationDataSource(@Value("${generator.collaboration.url}") String url,
+                                                    @Value("${generator.collaboration.username:}") String username,
+                                                    @Value("${generator.collaboration.password:}") String password) {
+        return dataSource("collaboration", url, username, password);
+    }
+
+    // Helper method to resolve the configured thread count, 0 meaning one per processor
+    private int workerCount() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    // Helper method to build a pool with one connection per worker plus one for schema and sequence work
+    private HikariDataSource dataSource(String name, String url, String username, String password) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("generator-" + name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(workerCount() + 1);
+        config.setAutoCommit(false);
+        return new HikariDataSource(config);
+    }
+}
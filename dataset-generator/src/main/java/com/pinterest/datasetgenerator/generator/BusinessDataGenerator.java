@@ -0,0 +1,172 @@
+package com.pinterest.datasetgenerator.generator;
+
+import com.pinterest.datasetgenerator.generator.DatasetModel.Stream;
+import com.pinterest.datasetgenerator.support.BatchWriter;
+import com.pinterest.datasetgenerator.support.ParallelChunks;
+import com.pinterest.datasetgenerator.support.SeededRandoms;
+import com.pinterest.datasetgenerator.support.Vocabulary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Business profiles, campaigns and sponsored pins of buniness-ms. Sponsored pin impressions are
+ * log-normal with click and save rates drawn per pin, and each campaign's counters are the totals
+ * of its sponsored pins, as the service would have accumulated them.
+ */
+@Component
+@RequiredArgsConstructor
+public class BusinessDataGenerator {
+
+    private static final String INSERT_PROFILE = "INSERT INTO business_profiles (id, user_id, business_name, "
+            + "logo_url, description, website_url, category, contact_email, city, country, verification_status, "
+            + "active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_CAMPAIGN = "INSERT INTO campaigns (id, business_profile_id, name, description, "
+            + "objective, status, budget, daily_budget, start_date, end_date, target_audience, impressions, clicks, "
+            + "conversions, amount_spent, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SPONSORED_PIN = "INSERT INTO sponsored_pins (id, business_profile_id, pin_id, "
+            + "campaign_id, title, description, target_url, status, budget, bid_amount, start_date, end_date, "
+            + "impressions, clicks, saves, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final List<String> CATEGORIES = List.of("RETAIL", "FOOD_AND_BEVERAGE", "FASHION", "BEAUTY",
+            "HOME_DECOR", "TECHNOLOGY", "HEALTH_AND_WELLNESS", "TRAVEL", "EDUCATION", "ENTERTAINMENT", "FINANCE",
+            "AUTOMOTIVE", "REAL_ESTATE", "ARTS_AND_CRAFTS", "OTHER");
+
+    private static final List<String> OBJECTIVES = List.of("BRAND_AWARENESS", "TRAFFIC", "APP_INSTALLS",
+            "VIDEO_VIEWS", "CONVERSIONS", "CATALOG_SALES", "LEAD_GENERATION");
+
+    private final DatasetModel model;
+
+    private final ParallelChunks parallelChunks;
+
+    private final DataSource businessDataSource;
+
+    @Value("${generator.batch-size:1000}")
+    private int batchSize;
+
+    public void generate() {
+        parallelChunks.run("business_profiles", model.getBusinessProfiles(), this::writeProfiles);
+        long[] sponsoredPinOffsets = model.offsets(model.campaigns(), model::sponsoredPins);
+        parallelChunks.run("campaigns and sponsored_pins", model.campaigns(),
+                (from, to) -> writeCampaigns(from, to, sponsoredPinOffsets));
+    }
+
+    private long writeProfiles(long from, long to) throws Exception {
+        try (BatchWriter writer = new BatchWriter(businessDataSource, batchSize)) {
+            for (long id = from; id <= to; id++) {
+                SplittableRandom random = model.random(Stream.BUSINESS_PROFILE, id);
+                String name = Vocabulary.title(random) + " " + Vocabulary.pick(Vocabulary.BRANDS, random);
+                String domain = "business" + id + ".example.com";
+                double verification = random.nextDouble();
+                LocalDateTime createdAt = model.createdAt(id, model.getBusinessProfiles(), random);
+                writer.insert(INSERT_PROFILE, id, model.businessProfileUser(id), name,
+                        "https://images.example.com/logos/" + id + ".png",
+                        Vocabulary.sentence(random, 10 + random.nextInt(20)),
+                        "https://" + domain,
+                        Vocabulary.pick(CATEGORIES, random),
+                        "contact@" + domain,
+                        Vocabulary.pick(Vocabulary.CITIES, random),
+                        "US",
+                        verification < 0.6 ? "VERIFIED" : verification < 0.95 ? "PENDING" : "REJECTED",
+                        random.nextDouble() < 0.95,
+                        createdAt, model.after(createdAt, random));
+            }
+            return writer.commit();
+        }
+    }
+
+    private long writeCampaigns(long from, long to, long[] offsets) throws Exception {
+        try (BatchWriter writer = new BatchWriter(businessDataSource, batchSize)) {
+            for (long id = from; id <= to; id++) {
+                SplittableRandom random = model.random(Stream.CAMPAIGN, id);
+                long businessProfileId = model.campaignBusinessProfile(id);
+                String status = campaignStatus(random.nextDouble());
+                boolean started = !status.equals("DRAFT") && !status.equals("SCHEDULED");
+                BigDecimal budget = money(SeededRandoms.logNormal(random, 2_000, 1.0));
+                LocalDateTime createdAt = model.createdAt(id, model.campaigns(), random);
+                LocalDateTime startDate = createdAt.plusDays(random.nextInt(14));
+                LocalDateTime endDate = startDate.plusDays(7 + random.nextInt(84));
+
+                int sponsoredPins = model.sponsoredPins(id);
+                BigDecimal pinBudget = budget.divide(BigDecimal.valueOf(sponsoredPins), 2, RoundingMode.HALF_UP);
+                long impressions = 0;
+                long clicks = 0;
+                double spent = 0;
+                long sponsoredPinId = offsets[(int) id - 1];
+                Object[][] pinRows = new Object[sponsoredPins][];
+                for (int i = 0; i < sponsoredPins; i++) {
+                    sponsoredPinId++;
+                    SplittableRandom pinRandom = model.random(Stream.SPONSORED_PIN, sponsoredPinId);
+                    long pinImpressions = started ? Math.round(SeededRandoms.logNormal(pinRandom, 4_000, 1.5)) : 0;
+                    long pinClicks = Math.round(pinImpressions * (0.002 + 0.028 * pinRandom.nextDouble()));
+                    long pinSaves = Math.round(pinClicks * (0.1 + 0.4 * pinRandom.nextDouble()));
+                    BigDecimal bid = money(0.10 + 2.90 * pinRandom.nextDouble());
+                    impressions += pinImpressions;
+                    clicks += pinClicks;
+                    spent += pinClicks * bid.doubleValue();
+                    pinRows[i] = new Object[]{sponsoredPinId, businessProfileId,
+                            1 + pinRandom.nextLong(model.getPins()), id,
+                            Vocabulary.title(pinRandom),
+                            pinRandom.nextBoolean() ? Vocabulary.sentence(pinRandom, 8) : null,
+                            "https://business" + businessProfileId + ".example.com/products/" + pinRandom.nextInt(10_000),
+                            sponsoredPinStatus(status, pinRandom), pinBudget, bid, startDate, endDate,
+                            pinImpressions, pinClicks, pinSaves, createdAt, model.after(createdAt, pinRandom)};
+                }
+
+                writer.insert(INSERT_CAMPAIGN, id, businessProfileId,
+                        Vocabulary.title(random) + " Campaign",
+                        Vocabulary.sentence(random, 8 + random.nextInt(12)),
+                        Vocabulary.pick(OBJECTIVES, random),
+                        status, budget, budget.divide(BigDecimal.valueOf(30), 2, RoundingMode.HALF_UP),
+                        startDate, endDate,
+                        random.nextBoolean() ? "{\"ageRange\":\"18-44\",\"interests\":[\""
+                                + Vocabulary.pick(Vocabulary.TOPICS, random) + "\"]}" : null,
+                        impressions, clicks, Math.round(clicks * (0.01 + 0.05 * random.nextDouble())),
+                        money(Math.min(spent, budget.doubleValue())),
+                        createdAt, model.after(createdAt, random));
+                for (Object[] pinRow : pinRows) {
+                    writer.insert(INSERT_SPONSORED_PIN, pinRow);
+                }
+            }
+            return writer.commit();
+        }
+    }
+
+    // Helper method to draw a campaign status, most campaigns having run at some point
+    private static String campaignStatus(double draw) {
+        if (draw < 0.40) {
+            return "ACTIVE";
+        } else if (draw < 0.65) {
+            return "COMPLETED";
+        } else if (draw < 0.80) {
+            return "PAUSED";
+        } else if (draw < 0.90) {
+            return "DRAFT";
+        } else if (draw < 0.95) {
+            return "SCHEDULED";
+        }
+        return "ARCHIVED";
+    }
+
+    // Helper method to derive a sponsored pin status from its campaign's, with a few paused pins
+    private static String sponsoredPinStatus(String campaignStatus, SplittableRandom random) {
+        return switch (campaignStatus) {
+            case "ACTIVE" -> random.nextDouble() < 0.1 ? "PAUSED" : "ACTIVE";
+            case "SCHEDULED" -> "PENDING_REVIEW";
+            default -> campaignStatus;
+        };
+    }
+
+    private static BigDecimal money(double amount) {
+        return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP);
+    }
+}
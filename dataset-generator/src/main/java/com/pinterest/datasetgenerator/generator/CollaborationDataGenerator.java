@@ -0,0 +1,155 @@
+package com.pinterest.datasetgenerator.generator;
+
+import com.pinterest.datasetgenerator.generator.DatasetModel.Stream;
+import com.pinterest.datasetgenerator.support.BatchWriter;
+import com.pinterest.datasetgenerator.support.ParallelChunks;
+import com.pinterest.datasetgenerator.support.Vocabulary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Follower graph, invitations and board collaborators of collaboration-ms. Out-degrees are Pareto
+ * distributed and followed users are drawn from a Zipf distribution, giving the heavy-tailed
+ * in-degree of a real social graph.
+ */
+@Component
+@RequiredArgsConstructor
+public class CollaborationDataGenerator {
+
+    private static final String INSERT_CONNECTION = "INSERT INTO user_connections (id, follower_id, following_id, "
+            + "status, note, notifications_enabled, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_INVITATION = "INSERT INTO invitations (id, sender_id, recipient_id, type, "
+            + "reference_id, status, message, permission_level, responded_at, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_BOARD_COLLABORATION = "INSERT INTO board_collaborations (id, board_id, user_id, "
+            + "invited_by, status, permission_level, invitation_message, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final List<String> PERMISSION_LEVELS = List.of("VIEW", "CONTRIBUTE", "CONTRIBUTE", "EDIT");
+
+    private final DatasetModel model;
+
+    private final ParallelChunks parallelChunks;
+
+    private final DataSource collaborationDataSource;
+
+    @Value("${generator.batch-size:1000}")
+    private int batchSize;
+
+    public void generate() {
+        long[] connectionOffsets = model.offsets(model.getUsers(), model::followings);
+        parallelChunks.run("user_connections", model.getUsers(),
+                (from, to) -> writeConnections(from, to, connectionOffsets));
+        parallelChunks.run("invitations", model.getInvitations(), this::writeInvitations);
+        long[] collaborationOffsets = model.offsets(model.getBoards(), model::boardCollaborators);
+        parallelChunks.run("board_collaborations", model.getBoards(),
+                (from, to) -> writeBoardCollaborations(from, to, collaborationOffsets));
+    }
+
+    private long writeConnections(long from, long to, long[] offsets) throws Exception {
+        Set<Long> followings = new LinkedHashSet<>();
+        try (BatchWriter writer = new BatchWriter(collaborationDataSource, batchSize)) {
+            for (long followerId = from; followerId <= to; followerId++) {
+                SplittableRandom random = model.random(Stream.CONNECTION, followerId);
+                drawDistinctUsers(random, model.followings(followerId), followerId, followings);
+
+                long id = offsets[(int) followerId - 1];
+                for (long followingId : followings) {
+                    double status = random.nextDouble();
+                    LocalDateTime createdAt = model.createdAt(followerId, model.getUsers(), random);
+                    writer.insert(INSERT_CONNECTION, ++id, followerId, followingId,
+                            status < 0.94 ? "ACCEPTED" : status < 0.99 ? "PENDING" : "BLOCKED",
+                            random.nextDouble() < 0.05 ? Vocabulary.sentence(random, 3) : null,
+                            random.nextDouble() < 0.7,
+                            createdAt, model.after(createdAt, random));
+                }
+            }
+            return writer.commit();
+        }
+    }
+
+    private long writeInvitations(long from, long to) throws Exception {
+        try (BatchWriter writer = new BatchWriter(collaborationDataSource, batchSize)) {
+            for (long id = from; id <= to; id++) {
+                SplittableRandom random = model.random(Stream.INVITATION, id);
+                long senderId = 1 + random.nextInt(model.getUsers());
+                long recipientId = model.getUserPopularity().sample(random) + 1;
+                if (recipientId == senderId) {
+                    recipientId = senderId % model.getUsers() + 1;
+                }
+                boolean board = random.nextDouble() < 0.3;
+                double outcome = random.nextDouble();
+                String status = outcome < 0.3 ? "PENDING" : outcome < 0.75 ? "ACCEPTED"
+                        : outcome < 0.85 ? "DECLINED" : outcome < 0.95 ? "IGNORED" : "EXPIRED";
+                boolean responded = !status.equals("PENDING") && !status.equals("EXPIRED");
+                LocalDateTime createdAt = model.createdAt(id, model.getInvitations(), random);
+                LocalDateTime respondedAt = responded ? model.after(createdAt, random) : null;
+                writer.insert(INSERT_INVITATION, id, senderId, recipientId,
+                        board ? "BOARD_COLLABORATION" : "CONNECTION",
+                        board ? (Object) (1L + random.nextInt(model.getBoards())) : null,
+                        status,
+                        random.nextDouble() < 0.4 ? Vocabulary.sentence(random, 5 + random.nextInt(10)) : null,
+                        board ? Vocabulary.pick(PERMISSION_LEVELS, random) : null,
+                        respondedAt, createdAt, respondedAt != null ? respondedAt : createdAt);
+            }
+            return writer.commit();
+        }
+    }
+
+    private long writeBoardCollaborations(long from, long to, long[] offsets) throws Exception {
+        Set<Long> members = new LinkedHashSet<>();
+        try (BatchWriter writer = new BatchWriter(collaborationDataSource, batchSize)) {
+            for (long boardId = from; boardId <= to; boardId++) {
+                int collaborators = model.boardCollaborators(boardId);
+                if (collaborators == 0) {
+                    continue;
+                }
+                SplittableRandom random = model.random(Stream.BOARD_COLLABORATION, boardId);
+                long ownerId = model.boardOwner(boardId);
+                drawDistinctUsers(random, collaborators, ownerId, members);
+
+                long id = offsets[(int) boardId - 1];
+                for (long userId : members) {
+                    double status = random.nextDouble();
+                    LocalDateTime createdAt = model.createdAt(boardId, model.getBoards(), random);
+                    writer.insert(INSERT_BOARD_COLLABORATION, ++id, boardId, userId, ownerId,
+                            status < 0.8 ? "ACCEPTED" : status < 0.95 ? "PENDING" : "DECLINED",
+                            Vocabulary.pick(PERMISSION_LEVELS, random),
+                            random.nextDouble() < 0.3 ? Vocabulary.sentence(random, 6) : null,
+                            createdAt, model.after(createdAt, random));
+                }
+            }
+            return writer.commit();
+        }
+    }
+
+    /**
+     * Fills users with exactly count distinct popular users other than excluded, so the number of
+     * rows matches the precomputed offsets. Once Zipf draws mostly hit users already chosen, the rest
+     * is taken in id order after the excluded user.
+     */
+    private void drawDistinctUsers(SplittableRandom random, int count, long excluded, Set<Long> users) {
+        users.clear();
+        for (int attempt = 0; users.size() < count && attempt < count * 10; attempt++) {
+            long userId = model.getUserPopularity().sample(random) + 1;
+            if (userId != excluded) {
+                users.add(userId);
+            }
+        }
+        for (long userId = excluded % model.getUsers() + 1; users.size() < count; userId = userId % model.getUsers() + 1) {
+            if (userId != excluded) {
+                users.add(userId);
+            }
+        }
+    }
+}
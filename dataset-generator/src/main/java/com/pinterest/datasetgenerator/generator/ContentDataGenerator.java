@@ -0,0 +1,139 @@
+package com.pinterest.datasetgenerator.generator;
+
+import com.pinterest.datasetgenerator.generator.DatasetModel.Stream;
+import com.pinterest.datasetgenerator.support.BatchWriter;
+import com.pinterest.datasetgenerator.support.ParallelChunks;
+import com.pinterest.datasetgenerator.support.Vocabulary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Keywords, boards and pins of content-ms. Board sizes follow a power law because every pin picks
+ * its board from a Zipf distribution, and keywords are attached the same way so a few keywords are
+ * on a large share of the pins.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentDataGenerator {
+
+    private static final String INSERT_KEYWORD =
+            "INSERT INTO keywords (id, name, created_at, updated_at) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_BOARD = "INSERT INTO boards (id, title, description, user_id, is_private, "
+            + "category, display_order, is_collaborative, created_at, updated_at, deleted_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PIN = "INSERT INTO pins (id, title, description, image_url, source_url, "
+            + "keywords_text, is_private, is_draft, user_id, board_id, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PIN_KEYWORD = "INSERT INTO pin_keywords (pin_id, keyword_id) VALUES (?, ?)";
+
+    // Keywords per pin are exponentially distributed with this mean, capped at MAX_KEYWORDS_PER_PIN
+    private static final double MEAN_KEYWORDS_PER_PIN = 2.5;
+
+    private static final int MAX_KEYWORDS_PER_PIN = 8;
+
+    private final DatasetModel model;
+
+    private final ParallelChunks parallelChunks;
+
+    private final DataSource contentDataSource;
+
+    @Value("${generator.batch-size:1000}")
+    private int batchSize;
+
+    public void generate() {
+        parallelChunks.run("keywords", model.getKeywords(), this::writeKeywords);
+        parallelChunks.run("boards", model.getBoards(), this::writeBoards);
+        parallelChunks.run("pins", model.getPins(), this::writePins);
+    }
+
+    private long writeKeywords(long from, long to) throws Exception {
+        try (BatchWriter writer = new BatchWriter(contentDataSource, batchSize)) {
+            for (long id = from; id <= to; id++) {
+                SplittableRandom random = model.random(Stream.KEYWORD, id);
+                LocalDateTime createdAt = model.createdAt(id, model.getKeywords(), random);
+                writer.insert(INSERT_KEYWORD, id, Vocabulary.keywordName(id), createdAt, createdAt);
+            }
+            return writer.commit();
+        }
+    }
+
+    private long writeBoards(long from, long to) throws Exception {
+        try (BatchWriter writer = new BatchWriter(contentDataSource, batchSize)) {
+            for (long id = from; id <= to; id++) {
+                SplittableRandom random = model.random(Stream.BOARD, id);
+                LocalDateTime createdAt = model.createdAt(id, model.getBoards(), random);
+                LocalDateTime updatedAt = model.after(createdAt, random);
+                // A small share of boards sit in the trash waiting to be purged
+                LocalDateTime deletedAt = random.nextDouble() < 0.01 ? updatedAt : null;
+                writer.insert(INSERT_BOARD, id,
+                        Vocabulary.title(random),
+                        random.nextBoolean() ? Vocabulary.sentence(random, 4 + random.nextInt(12)) : null,
+                        model.boardOwner(id),
+                        random.nextDouble() < 0.08,
+                        Vocabulary.pick(Vocabulary.BOARD_CATEGORIES, random),
+                        random.nextInt(50),
+                        model.boardCollaborators(id) > 0,
+                        createdAt, updatedAt, deletedAt);
+            }
+            return writer.commit();
+        }
+    }
+
+    private long writePins(long from, long to) throws Exception {
+        long[] keywordIds = new long[MAX_KEYWORDS_PER_PIN];
+        try (BatchWriter writer = new BatchWriter(contentDataSource, batchSize)) {
+            for (long id = from; id <= to; id++) {
+                SplittableRandom random = model.random(Stream.PIN, id);
+                long boardId = model.getBoardSizes().sample(random) + 1;
+                int keywordCount = drawKeywords(random, keywordIds);
+                LocalDateTime createdAt = model.createdAt(id, model.getPins(), random);
+
+                StringBuilder keywordsText = new StringBuilder();
+                for (int i = 0; i < keywordCount; i++) {
+                    keywordsText.append(i > 0 ? ", " : "").append(Vocabulary.keywordName(keywordIds[i]));
+                }
+                writer.insert(INSERT_PIN, id,
+                        Vocabulary.title(random),
+                        Vocabulary.sentence(random, 6 + random.nextInt(20)),
+                        "https://images.example.com/pins/" + id + ".jpg",
+                        random.nextDouble() < 0.6 ? "https://blog.example.com/posts/" + random.nextInt(1_000_000) : null,
+                        keywordCount > 0 ? keywordsText.toString() : null,
+                        random.nextDouble() < 0.03,
+                        random.nextDouble() < 0.02,
+                        model.boardOwner(boardId),
+                        boardId,
+                        createdAt, model.after(createdAt, random));
+                for (int i = 0; i < keywordCount; i++) {
+                    writer.insert(INSERT_PIN_KEYWORD, id, keywordIds[i]);
+                }
+            }
+            return writer.commit();
+        }
+    }
+
+    // Helper method to fill keywordIds with distinct Zipf-distributed keyword ids, returns how many
+    private int drawKeywords(SplittableRandom random, long[] keywordIds) {
+        int wanted = (int) Math.min(Math.min(MAX_KEYWORDS_PER_PIN, model.getKeywords()),
+                -Math.log(1 - random.nextDouble()) * MEAN_KEYWORDS_PER_PIN);
+        int count = 0;
+        for (int attempt = 0; count < wanted && attempt < wanted * 4; attempt++) {
+            long keywordId = model.getKeywordPopularity().sample(random) + 1;
+            boolean duplicate = false;
+            for (int i = 0; i < count && !duplicate; i++) {
+                duplicate = keywordIds[i] == keywordId;
+            }
+            if (!duplicate) {
+                keywordIds[count++] = keywordId;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,177 @@
+package com.pinterest.datasetgenerator.generator;
+
+import com.pinterest.datasetgenerator.support.SeededRandoms;
+import com.pinterest.datasetgenerator.support.ZipfDistribution;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Dataset volumes, distributions and the facts shared between services, such as who owns a board,
+ * computed from the seed alone so each generator can derive them without reading another database.
+ * Ranks of the Zipf distributions map to ids (rank 0 is id 1), so low ids are the popular ones.
+ */
+@Component
+@Getter
+public class DatasetModel {
+
+    // Upper bound on a single user's followings, the tail of the follower graph
+    private static final int MAX_FOLLOWINGS = 5_000;
+
+    // Upper bound on sponsored pins in a single campaign
+    private static final int MAX_SPONSORED_PINS = 500;
+
+    // Share of users who follow nobody
+    private static final double NON_FOLLOWER_SHARE = 0.2;
+
+    // Share of boards shared with collaborators
+    private static final double COLLABORATIVE_SHARE = 0.05;
+
+    /**
+     * Independent random streams; every attribute family has its own so that adding a draw to one
+     * generator does not shift the values of another.
+     */
+    public enum Stream {
+        KEYWORD, BOARD, BOARD_OWNER, BOARD_MEMBERS, BOARD_COLLABORATION, PIN, FOLLOWS, CONNECTION, INVITATION,
+        BUSINESS_PROFILE, CAMPAIGN, CAMPAIGN_SIZE, SPONSORED_PIN
+    }
+
+    @Value("${generator.seed:42}")
+    private long seed;
+
+    @Value("${generator.users:100000}")
+    private int users;
+
+    @Value("${generator.keywords:20000}")
+    private int keywords;
+
+    @Value("${generator.boards:200000}")
+    private int boards;
+
+    @Value("${generator.pins:1000000}")
+    private long pins;
+
+    @Value("${generator.follows-per-user:25}")
+    private int followsPerUser;
+
+    @Value("${generator.invitations:200000}")
+    private long invitations;
+
+    @Value("${generator.business-profiles:2000}")
+    private int businessProfiles;
+
+    @Value("${generator.campaigns-per-profile:4}")
+    private int campaignsPerProfile;
+
+    @Value("${generator.sponsored-pins-per-campaign:12}")
+    private int sponsoredPinsPerCampaign;
+
+    @Value("${generator.start-date:2024-01-01}")
+    private LocalDate startDate;
+
+    @Value("${generator.history-days:730}")
+    private int historyDays;
+
+    // Pins per keyword, exponent close to 1 like word frequencies
+    private ZipfDistribution keywordPopularity;
+
+    // Pins per board, a flatter power law since most boards stay small
+    private ZipfDistribution boardSizes;
+
+    // Followers and invitations per user
+    private ZipfDistribution userPopularity;
+
+    // Boards per user
+    private ZipfDistribution boardOwnership;
+
+    @PostConstruct
+    public void init() {
+        if (businessProfiles > users) {
+            throw new IllegalStateException("generator.business-profiles cannot exceed generator.users");
+        }
+        keywordPopularity = new ZipfDistribution(keywords, 1.07);
+        boardSizes = new ZipfDistribution(boards, 0.8);
+        userPopularity = new ZipfDistribution(users, 0.9);
+        boardOwnership = new ZipfDistribution(users, 0.6);
+    }
+
+    public SplittableRandom random(Stream stream, long id) {
+        return SeededRandoms.forEntity(seed, stream.ordinal() + 1, id);
+    }
+
+    public long boardOwner(long boardId) {
+        return boardOwnership.sample(random(Stream.BOARD_OWNER, boardId)) + 1;
+    }
+
+    // Collaborators of a board besides its owner, 0 for boards that are not collaborative
+    public int boardCollaborators(long boardId) {
+        SplittableRandom random = random(Stream.BOARD_MEMBERS, boardId);
+        if (random.nextDouble() >= COLLABORATIVE_SHARE) {
+            return 0;
+        }
+        return Math.min(users - 1, 1 + random.nextInt(4));
+    }
+
+    public int followings(long userId) {
+        SplittableRandom random = random(Stream.FOLLOWS, userId);
+        if (random.nextDouble() < NON_FOLLOWER_SHARE) {
+            return 0;
+        }
+        double followings = SeededRandoms.pareto(random, followsPerUser / (1 - NON_FOLLOWER_SHARE), 1.8);
+        return (int) Math.min(Math.min(MAX_FOLLOWINGS, users - 1), Math.round(followings));
+    }
+
+    public long campaigns() {
+        return (long) businessProfiles * campaignsPerProfile;
+    }
+
+    public long campaignBusinessProfile(long campaignId) {
+        return (campaignId - 1) / campaignsPerProfile + 1;
+    }
+
+    // Business accounts are spread evenly over the user ids so no two profiles share a user
+    public long businessProfileUser(long businessProfileId) {
+        return 1 + (businessProfileId - 1) * users / businessProfiles;
+    }
+
+    public int sponsoredPins(long campaignId) {
+        // Median chosen so the log-normal mean (median * e^(sigma^2 / 2)) is the configured average
+        double sigma = 0.8;
+        double median = sponsoredPinsPerCampaign / Math.exp(sigma * sigma / 2);
+        double count = SeededRandoms.logNormal(random(Stream.CAMPAIGN_SIZE, campaignId), median, sigma);
+        return (int) Math.max(1, Math.min(MAX_SPONSORED_PINS, Math.round(count)));
+    }
+
+    /**
+     * First id of the rows owned by each parent: element {@code i} is the number of rows of parents
+     * {@code 1..i}, so parent {@code p} writes ids {@code offsets[p-1]+1 .. offsets[p]}. Lets rows
+     * without a natural key get stable ids while parents are written in parallel.
+     */
+    public long[] offsets(long parents, LongUnaryOperator rowsOf) {
+        long[] offsets = new long[(int) parents + 1];
+        for (int parent = 1; parent <= parents; parent++) {
+            offsets[parent] = offsets[parent - 1] + rowsOf.applyAsLong(parent);
+        }
+        return offsets;
+    }
+
+    // Creation time of the id-th of count entities: ids grow with time, with up to a day of jitter
+    public LocalDateTime createdAt(long id, long count, SplittableRandom random) {
+        LocalDateTime first = startDate.minusDays(historyDays).atStartOfDay();
+        long seconds = (long) ((double) historyDays * 86_400 * (id - 1) / Math.max(1, count));
+        return first.plusSeconds(seconds + random.nextInt(86_400));
+    }
+
+    // A time between the given one and the start date, for updates and responses
+    public LocalDateTime after(LocalDateTime time, SplittableRandom random) {
+        long remaining = Duration.between(time, startDate.atStartOfDay()).getSeconds();
+        return remaining <= 0 ? time : time.plusSeconds(random.nextLong(remaining));
+    }
+}
@@ -0,0 +1,83 @@
+package com.pinterest.datasetgenerator.support;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Batched inserts over a single connection and transaction, one prepared statement per SQL string.
+ * When any statement reaches the batch size all of them are flushed in the order they were first
+ * used, so rows referenced by foreign keys (pins) always reach the database before the rows that
+ * reference them (pin keywords).
+ */
+public class BatchWriter implements AutoCloseable {
+
+    private final Connection connection;
+
+    private final int batchSize;
+
+    private final Map<String, PreparedStatement> statements = new LinkedHashMap<>();
+
+    private final Map<String, Integer> pending = new LinkedHashMap<>();
+
+    private long rows;
+
+    private boolean committed;
+
+    public BatchWriter(DataSource dataSource, int batchSize) throws SQLException {
+        this.connection = dataSource.getConnection();
+        this.connection.setAutoCommit(false);
+        this.batchSize = batchSize;
+    }
+
+    public void insert(String sql, Object... values) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        }
+        for (int i = 0; i < values.length; i++) {
+            statement.setObject(i + 1, values[i]);
+        }
+        statement.addBatch();
+        rows++;
+        if (pending.merge(sql, 1, Integer::sum) >= batchSize) {
+            flush();
+        }
+    }
+
+    // Flushes the remaining batches and commits, returns the number of rows written
+    public long commit() throws SQLException {
+        flush();
+        connection.commit();
+        committed = true;
+        return rows;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            for (PreparedStatement statement : statements.values()) {
+                statement.close();
+            }
+            if (!committed) {
+                connection.rollback();
+            }
+        } finally {
+            connection.close();
+        }
+    }
+
+    // Helper method to execute every pending batch in first-use order
+    private void flush() throws SQLException {
+        for (Map.Entry<String, PreparedStatement> entry : statements.entrySet()) {
+            if (pending.containsKey(entry.getKey())) {
+                entry.getValue().executeBatch();
+            }
+        }
+        pending.clear();
+    }
+}
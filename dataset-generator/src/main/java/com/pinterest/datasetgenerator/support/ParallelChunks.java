@@ -0,0 +1,72 @@
+package com.pinterest.datasetgenerator.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Splits an id range into chunks and writes them on the generator worker pool, logging progress as
+ * chunks complete. Returns once every chunk is committed, so later stages can rely on the rows.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParallelChunks {
+
+    private final ExecutorService generatorExecutor;
+
+    @Value("${generator.chunk-size:5000}")
+    private int chunkSize;
+
+    public long run(String stage, long count, ChunkWriter writer) {
+        long started = System.nanoTime();
+        AtomicLong rows = new AtomicLong();
+        AtomicLong done = new AtomicLong();
+        long chunks = (count + chunkSize - 1) / chunkSize;
+        long logEvery = Math.max(1, chunks / 10);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (long first = 1; first <= count; first += chunkSize) {
+            long from = first;
+            long to = Math.min(count, first + chunkSize - 1);
+            futures.add(generatorExecutor.submit(() -> {
+                rows.addAndGet(writer.write(from, to));
+                long completed = done.incrementAndGet();
+                if (completed % logEvery == 0 && completed < chunks) {
+                    log.info("{}: {}/{} chunks, {} rows", stage, completed, chunks, rows.get());
+                }
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException(stage + " failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(stage + " interrupted", e);
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("{}: {} rows in {} ms ({} rows/s)", stage, rows.get(), elapsedMs, rows.get() * 1000 / elapsedMs);
+        return rows.get();
+    }
+
+    @FunctionalInterface
+    public interface ChunkWriter {
+
+        // Writes the entities with ids from..to inclusive, returns the number of rows inserted
+        long write(long from, long to) throws Exception;
+    }
+}
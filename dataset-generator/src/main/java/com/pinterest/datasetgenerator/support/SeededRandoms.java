@@ -0,0 +1,44 @@
+package com.pinterest.datasetgenerator.support;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random generators derived from the dataset seed, a stream and an entity id. Each entity gets its
+ * own generator, so its values do not depend on which thread produced it or in which order.
+ */
+public final class SeededRandoms {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private SeededRandoms() {
+    }
+
+    public static SplittableRandom forEntity(long seed, long stream, long id) {
+        return new SplittableRandom(mix(seed + GOLDEN_GAMMA * mix(stream * GOLDEN_GAMMA + id)));
+    }
+
+    // Log-normal value with the given median, heavy tailed for sigma above 1
+    public static double logNormal(SplittableRandom random, double median, double sigma) {
+        return median * Math.exp(sigma * gaussian(random));
+    }
+
+    // Pareto value with the given mean, alpha must be greater than 1
+    public static double pareto(SplittableRandom random, double mean, double alpha) {
+        double scale = mean * (alpha - 1) / alpha;
+        return scale / Math.pow(1 - random.nextDouble(), 1 / alpha);
+    }
+
+    // Standard normal value by the Box-Muller transform
+    public static double gaussian(SplittableRandom random) {
+        double u = 1 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+
+    // SplitMix64 finalizer, spreads consecutive inputs over the whole long range
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
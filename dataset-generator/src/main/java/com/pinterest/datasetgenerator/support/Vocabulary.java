@@ -0,0 +1,79 @@
+package com.pinterest.datasetgenerator.support;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Word lists for titles, descriptions and keyword names. Keyword names are built from a topic and
+ * modifiers so any number of distinct names can be produced from a small vocabulary.
+ */
+public final class Vocabulary {
+
+    public static final List<String> TOPICS = List.of(
+            "home decor", "recipes", "travel", "wedding", "fashion", "hairstyles", "diy", "gardening",
+            "fitness", "quotes", "art", "photography", "architecture", "interior design", "nails",
+            "makeup", "tattoos", "cars", "crafts", "baking", "vegan", "desserts", "kids", "pets",
+            "outdoors", "camping", "hiking", "beach", "minimalism", "vintage", "illustration",
+            "typography", "woodworking", "knitting", "skincare", "streetwear", "bathroom", "kitchen",
+            "living room", "bedroom");
+
+    public static final List<String> MODIFIERS = List.of(
+            "easy", "modern", "rustic", "summer", "winter", "autumn", "spring", "cozy", "boho", "small",
+            "budget", "luxury", "healthy", "quick", "aesthetic", "classic", "scandinavian", "colorful",
+            "cute", "simple", "elegant", "retro", "natural", "creative", "weekend", "family", "outdoor",
+            "holiday", "neutral", "industrial");
+
+    public static final List<String> BOARD_CATEGORIES = List.of(
+            "Home", "Food", "Travel", "Fashion", "Beauty", "DIY", "Art", "Photography", "Fitness",
+            "Garden", "Wedding", "Kids", "Pets", "Quotes", "Technology", "Design");
+
+    public static final List<String> BRANDS = List.of(
+            "Studio", "Collective", "Goods", "Supply", "House", "Market", "Works", "Company", "Atelier",
+            "Kitchen", "Lab", "Co");
+
+    public static final List<String> CITIES = List.of(
+            "San Francisco", "New York", "Austin", "Seattle", "Chicago", "London", "Berlin", "Paris",
+            "Toronto", "Sydney", "Madrid", "Amsterdam");
+
+    private Vocabulary() {
+    }
+
+    // Distinct name for every keyword id, the lowest ids being the plain topics
+    public static String keywordName(long keywordId) {
+        long index = keywordId - 1;
+        String topic = TOPICS.get((int) (index % TOPICS.size()));
+        long variant = index / TOPICS.size();
+        if (variant == 0) {
+            return topic;
+        }
+        String modifier = MODIFIERS.get((int) ((variant - 1) % MODIFIERS.size()));
+        long round = (variant - 1) / MODIFIERS.size();
+        return round == 0 ? modifier + " " + topic : modifier + " " + topic + " " + (round + 1);
+    }
+
+    public static String pick(List<String> words, SplittableRandom random) {
+        return words.get(random.nextInt(words.size()));
+    }
+
+    // Capitalized phrase of a modifier and a topic, e.g. "Cozy Kitchen"
+    public static String title(SplittableRandom random) {
+        return capitalize(pick(MODIFIERS, random)) + " " + capitalize(pick(TOPICS, random));
+    }
+
+    // Free text of the given number of words drawn from the topics and modifiers
+    public static String sentence(SplittableRandom random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(random.nextBoolean() ? pick(MODIFIERS, random) : pick(TOPICS, random));
+        }
+        text.setCharAt(0, Character.toUpperCase(text.charAt(0)));
+        return text.append('.').toString();
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
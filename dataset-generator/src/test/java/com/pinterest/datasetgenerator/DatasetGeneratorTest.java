@@ -0,0 +1,104 @@
+package com.pinterest.datasetgenerator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DatasetGeneratorTest {
+
+    private static final Map<String, List<String>> TABLES = Map.of(
+            "contentDataSource", List.of("keywords", "boards", "pins", "pin_keywords"),
+            "collaborationDataSource", List.of("user_connections", "invitations", "board_collaborations"),
+            "businessDataSource", List.of("business_profiles", "campaigns", "sponsored_pins"));
+
+    @Test
+    @DisplayName("Should generate the same rows for the same seed whatever the thread count")
+    void shouldBeDeterministicForSeed() {
+        Map<String, String> singleThreaded = generate("single", 7, 1);
+        Map<String, String> parallel = generate("parallel", 7, 4);
+        Map<String, String> otherSeed = generate("other", 8, 4);
+
+        assertThat(parallel).isEqualTo(singleThreaded);
+        assertThat(otherSeed.get("pins")).isNotEqualTo(singleThreaded.get("pins"));
+    }
+
+    @Test
+    @DisplayName("Should keep the generated data consistent across tables")
+    void shouldGenerateConsistentData() {
+        try (ConfigurableApplicationContext context = run("consistency", 11, 2)) {
+            JdbcTemplate content = new JdbcTemplate(context.getBean("contentDataSource", DataSource.class));
+            JdbcTemplate collaboration = new JdbcTemplate(context.getBean("collaborationDataSource", DataSource.class));
+            JdbcTemplate business = new JdbcTemplate(context.getBean("businessDataSource", DataSource.class));
+
+            assertThat(content.queryForObject("SELECT COUNT(*) FROM pins", Long.class)).isEqualTo(2000);
+            assertThat(content.queryForObject("SELECT COUNT(*) FROM pins p JOIN boards b ON b.id = p.board_id "
+                    + "WHERE p.user_id <> b.user_id", Long.class)).isZero();
+            // Power-law board sizes: the largest board holds far more than the 20 pins of an even spread
+            assertThat(content.queryForObject("SELECT MAX(c) FROM (SELECT COUNT(*) c FROM pins GROUP BY board_id) t",
+                    Long.class)).isGreaterThan(60);
+            assertThat(collaboration.queryForObject("SELECT COUNT(*) FROM user_connections "
+                    + "WHERE follower_id = following_id", Long.class)).isZero();
+            assertThat(business.queryForObject("SELECT COUNT(*) FROM campaigns c WHERE c.impressions <> "
+                    + "(SELECT COALESCE(SUM(s.impressions), 0) FROM sponsored_pins s WHERE s.campaign_id = c.id)",
+                    Long.class)).isZero();
+            // Identity columns continue after the generated ids, on one connection since the pool does not auto-commit
+            Long addedId = content.execute((ConnectionCallback<Long>) connection -> {
+                connection.createStatement().executeUpdate("INSERT INTO keywords (name) VALUES ('added after generation')");
+                ResultSet resultSet = connection.createStatement().executeQuery("SELECT MAX(id) FROM keywords");
+                resultSet.next();
+                return resultSet.getLong(1);
+            });
+            assertThat(addedId).isEqualTo(201);
+        }
+    }
+
+    // Helper method to generate a dataset and fingerprint every table
+    private Map<String, String> generate(String name, long seed, int threads) {
+        Map<String, String> fingerprints = new LinkedHashMap<>();
+        try (ConfigurableApplicationContext context = run(name, seed, threads)) {
+            TABLES.forEach((dataSource, tables) -> {
+                JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(dataSource, DataSource.class));
+                for (String table : tables) {
+                    List<String> rows = jdbcTemplate.queryForList("SELECT * FROM " + table + " ORDER BY 1, 2").stream()
+                            .map(Object::toString)
+                            .toList();
+                    fingerprints.put(table, rows.size() + ":" + rows.hashCode());
+                }
+            });
+        }
+        return fingerprints;
+    }
+
+    private ConfigurableApplicationContext run(String name, long seed, int threads) {
+        return new SpringApplicationBuilder(DatasetGeneratorApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--generator.seed=" + seed,
+                        "--generator.threads=" + threads,
+                        "--generator.chunk-size=100",
+                        "--generator.batch-size=50",
+                        "--generator.users=300",
+                        "--generator.keywords=200",
+                        "--generator.boards=100",
+                        "--generator.pins=2000",
+                        "--generator.follows-per-user=10",
+                        "--generator.invitations=500",
+                        "--generator.business-profiles=20",
+                        "--generator.campaigns-per-profile=3",
+                        "--generator.sponsored-pins-per-campaign=5",
+                        "--generator.content.url=jdbc:h2:mem:" + name + "-content;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                        "--generator.business.url=jdbc:h2:mem:" + name + "-business;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                        "--generator.collaboration.url=jdbc:h2:mem:" + name + "-collaboration;MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+    }
+}
@@ -0,0 +1,14 @@
+package com.pinterest.loaddriver;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class LoadDriverApplication {
+
+	public static void main(String[] args) {
+		// Exits once the run is reported, closing the context stops any services that were launched
+		System.exit(SpringApplication.exit(SpringApplication.run(LoadDriverApplication.class, args)));
+	}
+
+}
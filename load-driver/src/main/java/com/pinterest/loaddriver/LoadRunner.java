@@ -0,0 +1,166 @@
+package com.pinterest.loaddriver;
+
+import com.pinterest.loaddriver.driver.EndpointStats;
+import com.pinterest.loaddriver.driver.OpenModelDriver;
+import com.pinterest.loaddriver.launcher.ServiceLauncher;
+import com.pinterest.loaddriver.launcher.ServiceModule;
+import com.pinterest.loaddriver.launcher.ServiceTargets;
+import com.pinterest.loaddriver.report.EndpointReport;
+import com.pinterest.loaddriver.report.LoadReport;
+import com.pinterest.loaddriver.report.ReportWriter;
+import com.pinterest.loaddriver.workload.DatasetCatalog;
+import com.pinterest.loaddriver.workload.Operation;
+import com.pinterest.loaddriver.workload.WorkloadMix;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Launches the services if asked to, warms them up, runs the measured phase and writes the report,
+ * or only compares two earlier reports when load.compare names both.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadRunner implements ApplicationRunner {
+
+    private final ServiceTargets serviceTargets;
+
+    private final ServiceLauncher serviceLauncher;
+
+    private final OpenModelDriver openModelDriver;
+
+    private final ReportWriter reportWriter;
+
+    @Value("${load.seed:42}")
+    private long seed;
+
+    @Value("${load.rate:200}")
+    private double rate;
+
+    @Value("${load.warmup-seconds:30}")
+    private int warmupSeconds;
+
+    @Value("${load.duration-seconds:120}")
+    private int durationSeconds;
+
+    @Value("${load.mix}")
+    private String mixSpec;
+
+    @Value("${load.compare:}")
+    private String compare;
+
+    @Value("${load.launch-services:true}")
+    private boolean launchServices;
+
+    @Value("${load.project-dir:..}")
+    private String projectDir;
+
+    @Value("${load.service-threads:platform}")
+    private String serviceThreads;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<Path> reports = Arrays.stream(compare.split(",")).filter(path -> !path.isBlank())
+                .map(path -> Path.of(path.trim())).toList();
+        if (reports.size() == 2) {
+            reportWriter.compare(reportWriter.read(reports.get(0)), reportWriter.read(reports.get(1)));
+            return;
+        }
+
+        Set<ServiceModule> services = serviceTargets.enabled();
+        WorkloadMix mix = WorkloadMix.parse(mixSpec, services);
+        if (launchServices) {
+            serviceLauncher.prepareDataset();
+        }
+        DatasetCatalog catalog = DatasetCatalog.load(serviceTargets, services);
+        if (launchServices) {
+            serviceLauncher.start(services);
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (warmupSeconds > 0) {
+            log.info("Warming up for {} s at {} req/s", warmupSeconds, rate);
+            // A different seed, so the measured phase does not only hit what the warmup just cached
+            openModelDriver.run(mix, catalog, serviceTargets::baseUrl, ~seed, Duration.ofSeconds(warmupSeconds));
+        }
+        log.info("Measuring for {} s at {} req/s", durationSeconds, rate);
+        Map<Operation, EndpointStats> stats =
+                openModelDriver.run(mix, catalog, serviceTargets::baseUrl, seed, Duration.ofSeconds(durationSeconds));
+
+        String commit = git("rev-parse", "--short", "HEAD");
+        String changes = git("status", "--porcelain", "--untracked-files=no");
+        LoadReport report = LoadReport.builder()
+                .commit(commit == null ? "unknown" : commit)
+                .dirty(changes != null && !changes.isEmpty())
+                .startedAt(startedAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .javaVersion(Runtime.version().toString())
+                .requestThreads(Runtime.version().feature() >= 21 ? "virtual" : "platform")
+                .serviceThreads(serviceThreads)
+                .seed(seed)
+                .rate(rate)
+                .warmupSeconds(warmupSeconds)
+                .durationSeconds(durationSeconds)
+                .mix(mix.getWeights().entrySet().stream().collect(Collectors.toMap(
+                        entry -> entry.getKey().getEndpoint(), Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new)))
+                .dataset(datasetSummary(catalog))
+                .endpoints(stats.entrySet().stream()
+                        .map(entry -> EndpointReport.from(entry.getKey().getEndpoint(), entry.getValue(), durationSeconds))
+                        .toList())
+                .build();
+        Path file = reportWriter.write(report);
+        reportWriter.print(report);
+        log.info("Report written to {}", file.toAbsolutePath());
+        if (reports.size() == 1) {
+            reportWriter.compare(reportWriter.read(reports.get(0)), report);
+        }
+    }
+
+    // Helper method to describe the dataset in the report, a different dataset means different latencies
+    private static Map<String, Long> datasetSummary(DatasetCatalog catalog) {
+        Map<String, Long> dataset = new LinkedHashMap<>();
+        dataset.put("users", catalog.getUsers());
+        dataset.put("boards", catalog.getBoards());
+        dataset.put("pins", catalog.getPins());
+        dataset.put("sponsoredPins", catalog.getSponsoredPins());
+        dataset.put("keywords", (long) catalog.getKeywords().size());
+        return dataset;
+    }
+
+    // Helper method to run a git command in the project, null when git or the repository is not available
+    private String git(String... args) throws InterruptedException {
+        try {
+            Process process = new ProcessBuilder(concat("git", args))
+                    .directory(Path.of(projectDir).toFile())
+                    .redirectErrorStream(true)
+                    .start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return process.waitFor() == 0 ? output : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String[] concat(String first, String[] rest) {
+        String[] all = new String[rest.length + 1];
+        all[0] = first;
+        System.arraycopy(rest, 0, all, 1, rest.length);
+        return all;
+    }
+}
@@ -0,0 +1,52 @@
+package com.pinterest.loaddriver.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Configuration
+public class LoadDriverConfig {
+
+    @Value("${load.request-timeout-ms:10000}")
+    private long requestTimeoutMs;
+
+    /**
+     * One thread per outstanding request. On Java 21 and later these are virtual threads, looked up
+     * reflectively since the services still build for Java 17; before that a cached platform pool,
+     * which load.max-in-flight keeps bounded.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService requestExecutor() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            log.info("Requests run on virtual threads");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            log.info("Virtual threads need Java 21, requests run on a cached platform thread pool");
+            AtomicInteger sequence = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "request-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @Bean
+    public HttpClient loadHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(requestTimeoutMs))
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.pinterest.loaddriver.driver;
+
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and failure counts of one endpoint, recorded concurrently by the request threads.
+ */
+@Getter
+public class EndpointStats {
+
+    // Latencies are recorded in microseconds, anything beyond a minute is clamped to a minute
+    public static final long MAX_LATENCY_MICROS = 60_000_000L;
+
+    private final Histogram latency = new ConcurrentHistogram(1, MAX_LATENCY_MICROS, 3);
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final AtomicReference<String> firstError = new AtomicReference<>();
+
+    public void recordResponse(long latencyNanos, int status) {
+        latency.recordValue(Math.max(1, Math.min(MAX_LATENCY_MICROS, latencyNanos / 1_000)));
+        if (status >= 400) {
+            errors.increment();
+            firstError.compareAndSet(null, "HTTP " + status);
+        }
+    }
+
+    // Failed requests count in the latency too, a timeout is as slow as the user saw it
+    public void recordFailure(long latencyNanos, Throwable failure) {
+        latency.recordValue(Math.max(1, Math.min(MAX_LATENCY_MICROS, latencyNanos / 1_000)));
+        errors.increment();
+        firstError.compareAndSet(null, failure.getClass().getSimpleName() + ": " + failure.getMessage());
+    }
+
+    // Arrivals that found load.max-in-flight requests outstanding and were never sent
+    public void recordDropped() {
+        dropped.increment();
+    }
+}
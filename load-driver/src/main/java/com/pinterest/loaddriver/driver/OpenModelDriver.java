@@ -0,0 +1,104 @@
+package com.pinterest.loaddriver.driver;
+
+import com.pinterest.loaddriver.launcher.ServiceModule;
+import com.pinterest.loaddriver.workload.DatasetCatalog;
+import com.pinterest.loaddriver.workload.Operation;
+import com.pinterest.loaddriver.workload.RequestSchedule;
+import com.pinterest.loaddriver.workload.WorkloadMix;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Open-model load: a single scheduler thread follows the request schedule and hands each request to
+ * its own thread at its arrival time, never waiting for earlier responses. Latency is measured
+ * from the scheduled arrival, so when the system (or the driver) falls behind the queueing delay
+ * shows up in the percentiles instead of silently lowering the offered load.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenModelDriver {
+
+    private final HttpClient loadHttpClient;
+
+    private final ExecutorService requestExecutor;
+
+    @Value("${load.rate:200}")
+    private double rate;
+
+    @Value("${load.max-in-flight:5000}")
+    private int maxInFlight;
+
+    @Value("${load.request-timeout-ms:10000}")
+    private long requestTimeoutMs;
+
+    // Runs the mix for the given duration, the offered load being fixed by the seed
+
+    public Map<Operation, EndpointStats> run(WorkloadMix mix, DatasetCatalog catalog,
+                                             Function<ServiceModule, String> baseUrls, long seed,
+                                             Duration duration) throws InterruptedException {
+        Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+        mix.getWeights().keySet().forEach(operation -> stats.put(operation, new EndpointStats()));
+
+        RequestSchedule schedule = new RequestSchedule(mix, catalog, rate, seed);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long start = System.nanoTime();
+
+        while (schedule.next(duration.toNanos())) {
+            long scheduled = start + schedule.getOffsetNanos();
+            Operation operation = schedule.getOperation();
+            URI uri = URI.create(baseUrls.apply(operation.getService()) + schedule.getPath());
+            EndpointStats endpoint = stats.get(operation);
+
+            for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!inFlight.tryAcquire()) {
+                endpoint.recordDropped();
+                continue;
+            }
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .timeout(Duration.ofMillis(requestTimeoutMs))
+                    .method(operation.getMethod(), HttpRequest.BodyPublishers.noBody())
+                    .build();
+            long arrival = scheduled;
+            requestExecutor.execute(() -> send(request, arrival, endpoint, inFlight));
+        }
+
+        // Let the outstanding requests finish so they are counted in this run and not the next one
+        if (inFlight.tryAcquire(maxInFlight, requestTimeoutMs + 5_000, TimeUnit.MILLISECONDS)) {
+            inFlight.release(maxInFlight);
+        } else {
+            log.warn("{} requests still outstanding at the end of the run", maxInFlight - inFlight.availablePermits());
+        }
+        return stats;
+    }
+
+    private void send(HttpRequest request, long arrival, EndpointStats endpoint, Semaphore inFlight) {
+        try {
+            HttpResponse<Void> response = loadHttpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            endpoint.recordResponse(System.nanoTime() - arrival, response.statusCode());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            endpoint.recordFailure(System.nanoTime() - arrival, e);
+        } finally {
+            inFlight.release();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.pinterest.loaddriver.launcher;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the dataset once and starts each service as a child JVM on its own copy of it, built
+ * from the module sources with the test classpath so the embedded H2 driver is available. Every
+ * run starts from the same pristine data, and all output goes to log files next to the dataset.
+ * Services keep their own schema handling: Flyway finds the generated databases migrated and
+ * Hibernate only validates them, as in production.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ServiceLauncher implements DisposableBean {
+
+    private static final String GENERATOR_MODULE = "dataset-generator";
+
+    private static final String GENERATOR_MAIN_CLASS = "com.pinterest.datasetgenerator.DatasetGeneratorApplication";
+
+    private final ServiceTargets serviceTargets;
+
+    private final List<Process> processes = new ArrayList<>();
+
+    @Value("${load.project-dir:..}")
+    private String projectDir;
+
+    @Value("${load.maven-offline:true}")
+    private boolean mavenOffline;
+
+    @Value("${load.startup-timeout-seconds:300}")
+    private int startupTimeoutSeconds;
+
+    @Value("${load.service-jvm-args:}")
+    private String serviceJvmArgs;
+
+    @Value("${load.service-threads:platform}")
+    private String serviceThreads;
+
+    @Value("${load.seed:42}")
+    private long seed;
+
+    @Value("${load.dataset.users:20000}")
+    private int users;
+
+    @Value("${load.dataset.keywords:5000}")
+    private int keywords;
+
+    @Value("${load.dataset.boards:40000}")
+    private int boards;
+
+    @Value("${load.dataset.pins:200000}")
+    private long pins;
+
+    @Value("${load.dataset.invitations:20000}")
+    private long invitations;
+
+    @Value("${load.dataset.business-profiles:400}")
+    private int businessProfiles;
+
+    // Generates the pristine dataset unless an earlier run already did
+    public void prepareDataset() throws IOException, InterruptedException {
+        Path pristine = serviceTargets.pristineDir();
+        if (Files.exists(pristine.resolve(ServiceModule.CONTENT.getDatabase() + ".mv.db"))) {
+            log.info("Reusing the dataset in {}, delete it to regenerate", pristine);
+            return;
+        }
+        Files.createDirectories(pristine);
+        List<String> args = new ArrayList<>(List.of(
+                "--generator.seed=" + seed,
+                "--generator.users=" + users,
+                "--generator.keywords=" + keywords,
+                "--generator.boards=" + boards,
+                "--generator.pins=" + pins,
+                "--generator.invitations=" + invitations,
+                "--generator.business-profiles=" + businessProfiles));
+        for (ServiceModule service : ServiceModule.values()) {
+            args.add("--generator." + service.key() + ".url="
+                    + serviceTargets.h2Url(pristine, service));
+        }
+        log.info("Generating the dataset into {}", pristine);
+        Process generator = start(GENERATOR_MODULE, GENERATOR_MAIN_CLASS, List.of(), args);
+        if (generator.waitFor() != 0) {
+            FileSystemUtils.deleteRecursively(pristine);
+            throw new IllegalStateException("Dataset generation failed, see " + logFile(GENERATOR_MODULE));
+        }
+        processes.remove(generator);
+    }
+
+    // Copies the pristine dataset and starts the services on it, returns once all report healthy
+    public void start(Set<ServiceModule> services) throws IOException, InterruptedException {
+        Path run = serviceTargets.runDir();
+        FileSystemUtils.deleteRecursively(run);
+        FileSystemUtils.copyRecursively(serviceTargets.pristineDir(), run);
+
+        List<String> jvmArgs = serviceJvmArgs.isBlank() ? List.of() : Arrays.asList(serviceJvmArgs.trim().split("\\s+"));
+        Map<ServiceModule, Process> started = new EnumMap<>(ServiceModule.class);
+        for (ServiceModule service : services) {
+            log.info("Starting {} on port {}", service.getModule(), serviceTargets.port(service));
+            Process process = start(service.getModule(), service.getMainClass(), jvmArgs, List.of(
+                    "--server.port=" + serviceTargets.port(service),
+                    "--spring.datasource.url=" + serviceTargets.h2Url(run, service),
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.jpa.show-sql=false",
+                    "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                    "--spring.cloud.consul.enabled=false",
+                    "--spring.cloud.compatibility-verifier.enabled=false",
+                    "--spring.threads.virtual.enabled=" + "virtual".equals(serviceThreads),
+                    "--management.endpoints.web.exposure.include=health,metrics",
+                    // Background purges would change the data between runs
+                    "--board.purge.interval-ms=3600000",
+                    "--logging.level.root=WARN",
+                    "--logging.level.org.hibernate.SQL=WARN",
+                    "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+            started.put(service, process);
+        }
+        for (Map.Entry<ServiceModule, Process> entry : started.entrySet()) {
+            awaitHealthy(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        for (Process process : processes) {
+            process.destroy();
+        }
+        for (Process process : processes) {
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+        processes.clear();
+    }
+
+    // Helper method to start a module's main class in a child JVM with its output in a log file
+    private Process start(String module, String mainClass, List<String> jvmArgs, List<String> args)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(classpath(module));
+        command.add(mainClass);
+        command.addAll(args);
+
+        Path logFile = logFile(module);
+        Files.createDirectories(logFile.getParent());
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        processes.add(process);
+        return process;
+    }
+
+    // Helper method to compile a module and resolve its test classpath, which carries H2
+    private String classpath(String module) throws IOException, InterruptedException {
+        Path moduleDir = Path.of(projectDir, module).toAbsolutePath().normalize();
+        Path classpathFile = moduleDir.resolve("target/load-driver.classpath");
+        List<String> command = new ArrayList<>(List.of("mvn", "-B", "-q"));
+        if (mavenOffline) {
+            command.add("-o");
+        }
+        command.addAll(List.of("compile", "dependency:build-classpath", "-Dmdep.includeScope=test",
+                "-Dmdep.outputFile=" + classpathFile));
+
+        Path logFile = logFile(module + "-build");
+        Files.createDirectories(logFile.getParent());
+        Process build = new ProcessBuilder(command)
+                .directory(moduleDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        if (build.waitFor() != 0) {
+            throw new IllegalStateException(module + " does not build, see " + logFile);
+        }
+        return moduleDir.resolve("target/classes") + File.pathSeparator + Files.readString(classpathFile).trim();
+    }
+
+    // Helper method to poll the actuator health endpoint until the service is up
+    private void awaitHealthy(ServiceModule service, Process process) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(serviceTargets.baseUrl(service) + "/actuator/health"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(startupTimeoutSeconds);
+        while (System.nanoTime() < deadline) {
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    log.info("{} is up", service.getModule());
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            if (!process.isAlive()) {
+                break;
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException(service.getModule() + " did not become healthy, see "
+                + logFile(service.getModule()));
+    }
+
+    private Path logFile(String name) {
+        return serviceTargets.runDir().getParent().resolve("logs").resolve(name + ".log");
+    }
+}
@@ -0,0 +1,34 @@
+package com.pinterest.loaddriver.launcher;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * The services under load, with the module they are built from and the database they own.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ServiceModule {
+
+    CONTENT("content-ms", "com.pinterest.contentservice.ContentServiceApplication", "pinterest_content"),
+    COLLABORATION("collaboration-ms", "com.pinterest.collaborationservice.CollaborationServiceApplication",
+            "pinterest_collaboration"),
+    BUSINESS("buniness-ms", "com.pinterest.businessservice.BusinessServiceApplication", "pinterest_business");
+
+    private final String module;
+
+    private final String mainClass;
+
+    private final String database;
+
+    // Name used in load.services and as the prefix of the per-service properties
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static ServiceModule fromKey(String key) {
+        return valueOf(key.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,92 @@
+package com.pinterest.loaddriver.launcher;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Where each service listens and where its database is, for the services enabled in load.services.
+ * Unless a jdbc-url is configured the catalog is read from the generated dataset.
+ */
+@Component
+public class ServiceTargets {
+
+    private static final String H2_OPTIONS = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+
+    @Value("${load.services:content,collaboration,business}")
+    private String services;
+
+    @Value("${load.dataset-dir:target/load-dataset}")
+    private String datasetDir;
+
+    @Value("${load.content.port:18081}")
+    private int contentPort;
+
+    @Value("${load.collaboration.port:18082}")
+    private int collaborationPort;
+
+    @Value("${load.business.port:18083}")
+    private int businessPort;
+
+    @Value("${load.content.jdbc-url:}")
+    private String contentJdbcUrl;
+
+    @Value("${load.collaboration.jdbc-url:}")
+    private String collaborationJdbcUrl;
+
+    @Value("${load.business.jdbc-url:}")
+    private String businessJdbcUrl;
+
+    public Set<ServiceModule> enabled() {
+        Set<ServiceModule> enabled = EnumSet.noneOf(ServiceModule.class);
+        Arrays.stream(services.split(",")).filter(key -> !key.isBlank()).map(ServiceModule::fromKey).forEach(enabled::add);
+        return enabled;
+    }
+
+    public int port(ServiceModule service) {
+        return ports().get(service);
+    }
+
+    public String baseUrl(ServiceModule service) {
+        return "http://localhost:" + port(service);
+    }
+
+    // Pristine copy written by the dataset generator, never opened by a service
+    public Path pristineDir() {
+        return Path.of(datasetDir, "pristine").toAbsolutePath().normalize();
+    }
+
+    // Copy of the pristine dataset the launched services run on, replaced before every run
+    public Path runDir() {
+        return Path.of(datasetDir, "run").toAbsolutePath().normalize();
+    }
+
+    public String h2Url(Path dir, ServiceModule service) {
+        return "jdbc:h2:file:" + dir.resolve(service.getDatabase()) + H2_OPTIONS;
+    }
+
+    public String catalogJdbcUrl(ServiceModule service) {
+        String configured = switch (service) {
+            case CONTENT -> contentJdbcUrl;
+            case COLLABORATION -> collaborationJdbcUrl;
+            case BUSINESS -> businessJdbcUrl;
+        };
+        return configured == null || configured.isBlank()
+                ? h2Url(pristineDir(), service) + ";USER=sa;PASSWORD=;ACCESS_MODE_DATA=r"
+                : configured;
+    }
+
+    private Map<ServiceModule, Integer> ports() {
+        Map<ServiceModule, Integer> ports = new EnumMap<>(ServiceModule.class);
+        ports.put(ServiceModule.CONTENT, contentPort);
+        ports.put(ServiceModule.COLLABORATION, collaborationPort);
+        ports.put(ServiceModule.BUSINESS, businessPort);
+        return ports;
+    }
+}
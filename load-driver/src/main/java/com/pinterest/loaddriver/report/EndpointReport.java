@@ -0,0 +1,63 @@
+package com.pinterest.loaddriver.report;
+
+import com.pinterest.loaddriver.driver.EndpointStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EndpointReport {
+
+    private String endpoint;
+    private long requests;
+    private long errors;
+    private long dropped;
+    private String firstError;
+    private double throughputPerSecond;
+    private double meanMs;
+    private double p50Ms;
+    private double p90Ms;
+    private double p99Ms;
+    private double p999Ms;
+    private double maxMs;
+    // Compressed HdrHistogram of the latencies in microseconds, base64 encoded, for re-analysis
+    private String histogram;
+
+    public static EndpointReport from(String endpoint, EndpointStats stats, double seconds) {
+        Histogram latency = stats.getLatency().copy();
+        ByteBuffer buffer = ByteBuffer.allocate(latency.getNeededByteBufferCapacity());
+        int length = latency.encodeIntoCompressedByteBuffer(buffer);
+        return EndpointReport.builder()
+                .endpoint(endpoint)
+                .requests(latency.getTotalCount())
+                .errors(stats.getErrors().sum())
+                .dropped(stats.getDropped().sum())
+                .firstError(stats.getFirstError().get())
+                .throughputPerSecond(round(latency.getTotalCount() / seconds))
+                .meanMs(millis(latency.getMean()))
+                .p50Ms(millis(latency.getValueAtPercentile(50)))
+                .p90Ms(millis(latency.getValueAtPercentile(90)))
+                .p99Ms(millis(latency.getValueAtPercentile(99)))
+                .p999Ms(millis(latency.getValueAtPercentile(99.9)))
+                .maxMs(millis(latency.getMaxValue()))
+                .histogram(Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length)))
+                .build();
+    }
+
+    private static double millis(double micros) {
+        return round(micros / 1_000);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1_000) / 1_000d;
+    }
+}
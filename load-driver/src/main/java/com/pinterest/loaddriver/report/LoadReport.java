@@ -0,0 +1,34 @@
+package com.pinterest.loaddriver.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything needed to compare two runs: the commit they ran against, the offered load and dataset,
+ * and the latency distribution of every endpoint.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadReport {
+
+    private String commit;
+    private boolean dirty;
+    private String startedAt;
+    private String javaVersion;
+    private String requestThreads;
+    private String serviceThreads;
+    private long seed;
+    private double rate;
+    private int warmupSeconds;
+    private int durationSeconds;
+    private Map<String, Integer> mix;
+    private Map<String, Long> dataset;
+    private List<EndpointReport> endpoints;
+}
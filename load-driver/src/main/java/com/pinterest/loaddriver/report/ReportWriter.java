@@ -0,0 +1,99 @@
+package com.pinterest.loaddriver.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes reports as JSON named after the run time and commit, so a directory of them sorts
+ * chronologically, and prints them or their differences as a table.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportWriter {
+
+    private static final String ROW = "%-22s %9s %7s %7s %9s %9s %9s %9s %9s";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${load.report-dir:target/load-reports}")
+    private String reportDir;
+
+    public Path write(LoadReport report) throws IOException {
+        Path dir = Path.of(reportDir);
+        Files.createDirectories(dir);
+        String name = report.getStartedAt().replaceAll("[^0-9T]", "") + "-" + report.getCommit()
+                + (report.isDirty() ? "-dirty" : "") + ".json";
+        Path file = dir.resolve(name);
+        objectMapper.writer().with(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        return file;
+    }
+
+    public LoadReport read(Path file) throws IOException {
+        return objectMapper.readValue(file.toFile(), LoadReport.class);
+    }
+
+    public void print(LoadReport report) {
+        StringBuilder table = new StringBuilder(String.format(
+                "%nCommit %s%s, %.0f req/s for %d s, seed %d, services on %s threads%n",
+                report.getCommit(), report.isDirty() ? " (dirty)" : "", report.getRate(),
+                report.getDurationSeconds(), report.getSeed(), serviceThreads(report)));
+        table.append(String.format(ROW, "endpoint", "requests", "errors", "dropped", "req/s", "p50 ms", "p99 ms",
+                "p99.9 ms", "max ms")).append('\n');
+        for (EndpointReport endpoint : report.getEndpoints()) {
+            table.append(String.format(ROW, endpoint.getEndpoint(), endpoint.getRequests(), endpoint.getErrors(),
+                    endpoint.getDropped(), endpoint.getThroughputPerSecond(), endpoint.getP50Ms(), endpoint.getP99Ms(),
+                    endpoint.getP999Ms(), endpoint.getMaxMs())).append('\n');
+        }
+        log.info(table.toString());
+    }
+
+    // Prints the current percentiles next to the baseline's with the relative change
+    public void compare(LoadReport baseline, LoadReport current) {
+        if (baseline.getRate() != current.getRate() || baseline.getSeed() != current.getSeed()
+                || !baseline.getMix().equals(current.getMix())) {
+            log.warn("The runs offered different load (rate, seed or mix), latencies are not directly comparable");
+        }
+        Map<String, EndpointReport> before = baseline.getEndpoints().stream()
+                .collect(Collectors.toMap(EndpointReport::getEndpoint, Function.identity()));
+        StringBuilder table = new StringBuilder(String.format("%n%s (%s threads) -> %s (%s threads)%n",
+                baseline.getCommit(), serviceThreads(baseline), current.getCommit(), serviceThreads(current)));
+        table.append(String.format("%-22s %22s %22s %22s %22s %12s%n",
+                "endpoint", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "errors"));
+        for (EndpointReport after : current.getEndpoints()) {
+            EndpointReport previous = before.get(after.getEndpoint());
+            if (previous == null) {
+                table.append(String.format("%-22s %s%n", after.getEndpoint(), "not in baseline"));
+                continue;
+            }
+            table.append(String.format("%-22s %22s %22s %22s %22s %12s%n", after.getEndpoint(),
+                    delta(previous.getThroughputPerSecond(), after.getThroughputPerSecond()),
+                    delta(previous.getP50Ms(), after.getP50Ms()),
+                    delta(previous.getP99Ms(), after.getP99Ms()),
+                    delta(previous.getP999Ms(), after.getP999Ms()),
+                    previous.getErrors() + " -> " + after.getErrors()));
+        }
+        log.info(table.toString());
+    }
+
+    // Reports written before the service thread mode was recorded all ran on platform threads
+    private static String serviceThreads(LoadReport report) {
+        return report.getServiceThreads() != null ? report.getServiceThreads() : "platform";
+    }
+
+    private static String delta(double before, double after) {
+        String change = before == 0 ? "n/a" : String.format("%+.1f%%", (after - before) * 100 / before);
+        return String.format("%.2f -> %.2f (%s)", before, after, change);
+    }
+}
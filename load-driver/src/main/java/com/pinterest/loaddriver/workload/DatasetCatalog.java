@@ -0,0 +1,132 @@
+package com.pinterest.loaddriver.workload;
+
+import com.pinterest.datasetgenerator.support.ZipfDistribution;
+import com.pinterest.loaddriver.launcher.ServiceModule;
+import com.pinterest.loaddriver.launcher.ServiceTargets;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * What exists in the databases under load: id ranges and the keyword names to search for. Requests
+ * pick ids from Zipf distributions over these ranges, low ids being the popular ones as in the
+ * generated dataset, so caches see a realistic hot set rather than uniform traffic.
+ */
+@Slf4j
+@Getter
+public class DatasetCatalog {
+
+    // Keyword names searched for, the most used ones first
+    private static final int SEARCH_TERMS = 2_000;
+
+    private static final double POPULARITY_EXPONENT = 0.9;
+
+    private final long users;
+
+    private final long boards;
+
+    private final long pins;
+
+    private final long sponsoredPins;
+
+    private final List<String> keywords;
+
+    private final ZipfDistribution userPopularity;
+
+    private final ZipfDistribution boardPopularity;
+
+    private final ZipfDistribution pinPopularity;
+
+    private final ZipfDistribution sponsoredPinPopularity;
+
+    private final ZipfDistribution keywordPopularity;
+
+    public DatasetCatalog(long users, long boards, long pins, long sponsoredPins, List<String> keywords) {
+        this.users = users;
+        this.boards = boards;
+        this.pins = pins;
+        this.sponsoredPins = sponsoredPins;
+        this.keywords = keywords;
+        this.userPopularity = distribution(users);
+        this.boardPopularity = distribution(boards);
+        this.pinPopularity = distribution(pins);
+        this.sponsoredPinPopularity = distribution(sponsoredPins);
+        this.keywordPopularity = distribution(keywords.size());
+    }
+
+    public static DatasetCatalog load(ServiceTargets serviceTargets, Set<ServiceModule> services) throws SQLException {
+        long users = 0;
+        long boards = 0;
+        long pins = 0;
+        long sponsoredPins = 0;
+        List<String> keywords = new ArrayList<>();
+        if (services.contains(ServiceModule.CONTENT)) {
+            try (Connection connection = DriverManager.getConnection(serviceTargets.catalogJdbcUrl(ServiceModule.CONTENT));
+                 Statement statement = connection.createStatement()) {
+                users = queryLong(statement, "SELECT MAX(user_id) FROM boards");
+                boards = queryLong(statement, "SELECT MAX(id) FROM boards");
+                pins = queryLong(statement, "SELECT MAX(id) FROM pins");
+                try (ResultSet resultSet = statement.executeQuery("SELECT name FROM keywords ORDER BY id LIMIT " + SEARCH_TERMS)) {
+                    while (resultSet.next()) {
+                        keywords.add(resultSet.getString(1));
+                    }
+                }
+            }
+        }
+        if (services.contains(ServiceModule.COLLABORATION)) {
+            try (Connection connection = DriverManager.getConnection(serviceTargets.catalogJdbcUrl(ServiceModule.COLLABORATION));
+                 Statement statement = connection.createStatement()) {
+                users = Math.max(users, queryLong(statement, "SELECT MAX(follower_id) FROM user_connections"));
+            }
+        }
+        if (services.contains(ServiceModule.BUSINESS)) {
+            try (Connection connection = DriverManager.getConnection(serviceTargets.catalogJdbcUrl(ServiceModule.BUSINESS));
+                 Statement statement = connection.createStatement()) {
+                sponsoredPins = queryLong(statement, "SELECT MAX(id) FROM sponsored_pins");
+            }
+        }
+        log.info("Dataset: {} users, {} boards, {} pins, {} sponsored pins, {} search terms",
+                users, boards, pins, sponsoredPins, keywords.size());
+        return new DatasetCatalog(users, boards, pins, sponsoredPins, keywords);
+    }
+
+    public long user(SplittableRandom random) {
+        return userPopularity.sample(random) + 1;
+    }
+
+    public long board(SplittableRandom random) {
+        return boardPopularity.sample(random) + 1;
+    }
+
+    public long pin(SplittableRandom random) {
+        return pinPopularity.sample(random) + 1;
+    }
+
+    public long sponsoredPin(SplittableRandom random) {
+        return sponsoredPinPopularity.sample(random) + 1;
+    }
+
+    public String keyword(SplittableRandom random) {
+        return keywords.get(keywordPopularity.sample(random));
+    }
+
+    // Helper method to build a popularity distribution, empty ranges get a single rank never sampled
+    private static ZipfDistribution distribution(long size) {
+        return new ZipfDistribution((int) Math.max(1, Math.min(Integer.MAX_VALUE - 8, size)), POPULARITY_EXPONENT);
+    }
+
+    private static long queryLong(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.pinterest.loaddriver.workload;
+
+import com.pinterest.loaddriver.launcher.ServiceModule;
+import lombok.Getter;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * The calls the load mix is made of, each reported as its own endpoint. Paths are built from the
+ * dataset catalog so every request targets an existing, popularity-weighted entity.
+ */
+@Getter
+public enum Operation {
+
+    PIN_READ("pin-read", ServiceModule.CONTENT, "GET") {
+        @Override
+        public String path(DatasetCatalog catalog, SplittableRandom random) {
+            return "/api/content/pins/" + catalog.pin(random);
+        }
+    },
+    BOARD_PAGE("board-page", ServiceModule.CONTENT, "GET") {
+        @Override
+        public String path(DatasetCatalog catalog, SplittableRandom random) {
+            return "/api/content/boards/user/" + catalog.user(random) + "/paged?page=0&size=20";
+        }
+    },
+    BOARD_PINS_PAGE("board-pins-page", ServiceModule.CONTENT, "GET") {
+        @Override
+        public String path(DatasetCatalog catalog, SplittableRandom random) {
+            // Mostly the first page, sometimes scrolling further
+            int page = random.nextDouble() < 0.8 ? 0 : 1 + random.nextInt(4);
+            return "/api/content/pins/board/" + catalog.board(random) + "/paged?page=" + page + "&size=25";
+        }
+    },
+    PIN_SEARCH("pin-search", ServiceModule.CONTENT, "GET") {
+        @Override
+        public String path(DatasetCatalog catalog, SplittableRandom random) {
+            return "/api/content/pins/search?size=20&query="
+                    + URLEncoder.encode(catalog.keyword(random), StandardCharsets.UTF_8);
+        }
+    },
+    FOLLOW_CHECK("follow-check", ServiceModule.COLLABORATION, "GET") {
+        @Override
+        public String path(DatasetCatalog catalog, SplittableRandom random) {
+            // Followers are anyone, the followed side leans to popular accounts
+            long followerId = 1 + random.nextLong(Math.max(1, catalog.getUsers()));
+            return "/api/connections/status?followerId=" + followerId + "&followingId=" + catalog.user(random);
+        }
+    },
+    SPONSORED_IMPRESSION("sponsored-impression", ServiceModule.BUSINESS, "POST") {
+        @Override
+        public String path(DatasetCatalog catalog, SplittableRandom random) {
+            return "/api/sponsored-pins/" + catalog.sponsoredPin(random) + "/impression";
+        }
+    },
+    SPONSORED_CLICK("sponsored-click", ServiceModule.BUSINESS, "POST") {
+        @Override
+        public String path(DatasetCatalog catalog, SplittableRandom random) {
+            return "/api/sponsored-pins/" + catalog.sponsoredPin(random) + "/click";
+        }
+    };
+
+    private final String endpoint;
+
+    private final ServiceModule service;
+
+    private final String method;
+
+    Operation(String endpoint, ServiceModule service, String method) {
+        this.endpoint = endpoint;
+        this.service = service;
+        this.method = method;
+    }
+
+    public abstract String path(DatasetCatalog catalog, SplittableRandom random);
+
+    public static Operation fromEndpoint(String endpoint) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.endpoint.equals(endpoint.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation in load.mix: " + endpoint));
+    }
+}
@@ -0,0 +1,52 @@
+package com.pinterest.loaddriver.workload;
+
+import lombok.Getter;
+
+import java.util.SplittableRandom;
+
+/**
+ * The arrivals of an open-model run: Poisson arrival times at the given rate, each with the
+ * operation and path to request. Depends only on the seed, so two runs with the same seed offer
+ * exactly the same load however the system under test responds.
+ */
+public class RequestSchedule {
+
+    private final WorkloadMix mix;
+
+    private final DatasetCatalog catalog;
+
+    private final SplittableRandom arrivals;
+
+    private final SplittableRandom requests;
+
+    private final double meanGapNanos;
+
+    // Time of the current arrival since the start of the run
+    @Getter
+    private long offsetNanos;
+
+    @Getter
+    private Operation operation;
+
+    @Getter
+    private String path;
+
+    public RequestSchedule(WorkloadMix mix, DatasetCatalog catalog, double rate, long seed) {
+        this.mix = mix;
+        this.catalog = catalog;
+        this.arrivals = new SplittableRandom(seed);
+        this.requests = arrivals.split();
+        this.meanGapNanos = 1_000_000_000d / rate;
+    }
+
+    // Moves to the next arrival, false once it would fall after the given duration
+    public boolean next(long durationNanos) {
+        offsetNanos += (long) (-Math.log(1 - arrivals.nextDouble()) * meanGapNanos);
+        if (offsetNanos >= durationNanos) {
+            return false;
+        }
+        operation = mix.next(requests);
+        path = operation.path(catalog, requests);
+        return true;
+    }
+}
@@ -0,0 +1,74 @@
+package com.pinterest.loaddriver.workload;
+
+import com.pinterest.loaddriver.launcher.ServiceModule;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Weighted choice between operations, parsed from a spec such as {@code pin-read=30,follow-check=10}.
+ * Operations whose service is not under load are dropped and the remaining weights renormalized.
+ */
+@Slf4j
+public class WorkloadMix {
+
+    @Getter
+    private final Map<Operation, Integer> weights;
+
+    private final List<Operation> operations = new ArrayList<>();
+
+    private final double[] cumulative;
+
+    public WorkloadMix(Map<Operation, Integer> weights) {
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The load mix has no operation for the enabled services");
+        }
+        this.weights = Collections.unmodifiableMap(weights);
+        this.cumulative = new double[weights.size()];
+        double total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        double sum = 0;
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            sum += entry.getValue() / total;
+            cumulative[operations.size()] = sum;
+            operations.add(entry.getKey());
+        }
+    }
+
+    public static WorkloadMix parse(String spec, Set<ServiceModule> services) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight in load.mix, got " + entry);
+            }
+            Operation operation = Operation.fromEndpoint(parts[0]);
+            int weight = Integer.parseInt(parts[1].trim());
+            if (!services.contains(operation.getService())) {
+                log.warn("Leaving {} out of the mix, {} is not under load", operation.getEndpoint(), operation.getService().getModule());
+            } else if (weight > 0) {
+                weights.put(operation, weight);
+            }
+        }
+        return new WorkloadMix(weights);
+    }
+
+    public Operation next(SplittableRandom random) {
+        double draw = random.nextDouble();
+        for (int i = 0; i < cumulative.length - 1; i++) {
+            if (draw < cumulative[i]) {
+                return operations.get(i);
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+}
@@ -0,0 +1,114 @@
+package com.pinterest.loaddriver.driver;
+
+import com.pinterest.loaddriver.launcher.ServiceModule;
+import com.pinterest.loaddriver.workload.DatasetCatalog;
+import com.pinterest.loaddriver.workload.Operation;
+import com.pinterest.loaddriver.workload.RequestSchedule;
+import com.pinterest.loaddriver.workload.WorkloadMix;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OpenModelDriverTest {
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private OpenModelDriver driver;
+    private DatasetCatalog catalog;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().toString();
+            // Clicks fail so error accounting can be checked
+            exchange.sendResponseHeaders(path.endsWith("/click") ? 500 : 200, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.start();
+
+        executor = Executors.newCachedThreadPool();
+        driver = new OpenModelDriver(HttpClient.newHttpClient(), executor);
+        ReflectionTestUtils.setField(driver, "rate", 200d);
+        ReflectionTestUtils.setField(driver, "maxInFlight", 1_000);
+        ReflectionTestUtils.setField(driver, "requestTimeoutMs", 5_000L);
+        catalog = new DatasetCatalog(1_000, 500, 10_000, 300, List.of("travel", "recipes", "home decor"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should offer the configured arrival rate and mix whatever the response times")
+    void shouldOfferConfiguredRateAndMix() throws Exception {
+        WorkloadMix mix = WorkloadMix.parse("pin-read=3,sponsored-click=1",
+                Set.of(ServiceModule.CONTENT, ServiceModule.BUSINESS));
+
+        Map<Operation, EndpointStats> stats = run(mix, 7);
+
+        long reads = stats.get(Operation.PIN_READ).getLatency().getTotalCount() + stats.get(Operation.PIN_READ).getDropped().sum();
+        long clicks = stats.get(Operation.SPONSORED_CLICK).getLatency().getTotalCount();
+        long droppedClicks = stats.get(Operation.SPONSORED_CLICK).getDropped().sum();
+        // 200 req/s for 2 s is 400 Poisson arrivals, well within three standard deviations
+        assertThat(reads + clicks + droppedClicks).isBetween(340L, 460L);
+        assertThat((double) reads / (reads + clicks + droppedClicks)).isBetween(0.65, 0.85);
+        assertThat(stats.get(Operation.SPONSORED_CLICK).getErrors().sum()).isEqualTo(clicks);
+        assertThat(stats.get(Operation.SPONSORED_CLICK).getFirstError().get()).isEqualTo("HTTP 500");
+        assertThat(stats.get(Operation.PIN_READ).getErrors().sum()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should schedule the same requests at the same times for the same seed")
+    void shouldScheduleSameRequestsForSeed() {
+        WorkloadMix mix = WorkloadMix.parse("pin-read=2,pin-search=1,follow-check=1",
+                Set.of(ServiceModule.CONTENT, ServiceModule.COLLABORATION));
+
+        List<String> first = schedule(mix, 11);
+
+        assertThat(first).hasSizeGreaterThan(300);
+        assertThat(schedule(mix, 11)).isEqualTo(first);
+        assertThat(schedule(mix, 12)).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should leave out operations of services that are not under load")
+    void shouldLeaveOutDisabledServices() {
+        WorkloadMix mix = WorkloadMix.parse("pin-read=3,follow-check=1,sponsored-impression=1",
+                Set.of(ServiceModule.CONTENT));
+
+        assertThat(mix.getWeights()).containsOnlyKeys(Operation.PIN_READ);
+    }
+
+    private Map<Operation, EndpointStats> run(WorkloadMix mix, long seed) throws InterruptedException {
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        return driver.run(mix, catalog, service -> baseUrl, seed, Duration.ofSeconds(2));
+    }
+
+    private List<String> schedule(WorkloadMix mix, long seed) {
+        RequestSchedule schedule = new RequestSchedule(mix, catalog, 200, seed);
+        List<String> requests = new ArrayList<>();
+        while (schedule.next(Duration.ofSeconds(2).toNanos())) {
+            requests.add(schedule.getOffsetNanos() + " " + schedule.getPath());
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,157 @@
+package com.pinterest.servicesupport.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounds how many requests run at once when they are served on virtual threads. The Tomcat thread pool
+ * no longer limits concurrency then, so under load every request would queue inside the connection pool
+ * and fail with a connection timeout after holding its memory for the whole wait. Here the excess waits
+ * briefly for a permit and is otherwise rejected with 503 before it touches the database.
+ * <p>
+ * A request that goes async, such as a {@code StreamingResponseBody} export, keeps its permit until the
+ * async work completes, times out or fails, since that is when it stops using its connection.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public static final String ACTIVE_METRIC = "http.server.requests.concurrency.active";
+
+    public static final String WAITING_METRIC = "http.server.requests.concurrency.waiting";
+
+    public static final String REJECTED_METRIC = "http.server.requests.concurrency.rejected";
+
+    private final Semaphore permits;
+
+    private final long maxWaitMillis;
+
+    private final ObjectMapper objectMapper;
+
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(int maxConcurrentRequests, long maxWaitMillis, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        // Fair, so a request that has waited longest gets the next free permit
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.maxWaitMillis = maxWaitMillis;
+        this.objectMapper = objectMapper;
+        this.rejected = Counter.builder(REJECTED_METRIC)
+                .description("Requests rejected because no concurrency permit became free in time")
+                .register(meterRegistry);
+        Gauge.builder(ACTIVE_METRIC, permits, semaphore -> maxConcurrentRequests - semaphore.availablePermits())
+                .description("Requests currently holding a concurrency permit")
+                .register(meterRegistry);
+        Gauge.builder(WAITING_METRIC, permits, Semaphore::getQueueLength)
+                .description("Requests waiting for a concurrency permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!acquire()) {
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), errorBody("Too many concurrent requests, please retry"));
+            return;
+        }
+        Runnable release = releaseOnce();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new PermitReleasingListener(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    // Health checks and metrics must keep answering while the service is saturated
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    // Helper method to build the services' ApiResponse error shape, which this shared filter cannot reference
+    private static Map<String, Object> errorBody(String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", false);
+        body.put("message", message);
+        body.put("data", null);
+        body.put("timestamp", LocalDateTime.now());
+        return body;
+    }
+
+    // Helper method to release the permit at most once, whichever of the completion callbacks fires first
+    private Runnable releaseOnce() {
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+    }
+
+    // Helper method to wait for a permit, an interrupted wait counts as not getting one
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Frees the permit of a request once its async processing is over
+    private static final class PermitReleasingListener implements AsyncListener {
+
+        private final Runnable release;
+
+        private PermitReleasingListener(Runnable release) {
+            this.release = release;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        // A new async cycle on the same request drops the listeners, so follow it into the next one
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
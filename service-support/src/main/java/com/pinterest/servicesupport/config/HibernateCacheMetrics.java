@@ -0,0 +1,71 @@
+package com.pinterest.servicesupport.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Publishes the Hibernate second-level cache regions under the standard cache meter names
+ * ({@code cache.gets}, {@code cache.puts}, {@code cache.size}), tagged by region. The counts come from
+ * the Hibernate statistics, enabled with {@code hibernate.generate_statistics}.
+ */
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+
+        Stream.concat(Arrays.stream(statistics.getSecondLevelCacheRegionNames()), Stream.of(QUERY_RESULTS_REGION))
+                .distinct()
+                .forEach(region -> bindRegion(registry, statistics, region));
+    }
+
+    // Helper method to register the meters of one region, read through on every scrape
+    private void bindRegion(MeterRegistry registry, Statistics statistics, String region) {
+        FunctionCounter.builder("cache.gets", statistics, regionCount(region, CacheRegionStatistics::getHitCount))
+                .tags("cache", region, "result", "hit")
+                .description("Second-level cache lookups that found an entry")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", statistics, regionCount(region, CacheRegionStatistics::getMissCount))
+                .tags("cache", region, "result", "miss")
+                .description("Second-level cache lookups that found no entry")
+                .register(registry);
+        FunctionCounter.builder("cache.puts", statistics, regionCount(region, CacheRegionStatistics::getPutCount))
+                .tags("cache", region)
+                .description("Entries put into the second-level cache")
+                .register(registry);
+        Gauge.builder("cache.size", statistics, regionCount(region, CacheRegionStatistics::getElementCountInMemory))
+                .tags("cache", region)
+                .description("Entries held in memory by the second-level cache region")
+                .register(registry);
+    }
+
+    // Helper method to read one count of a region, zero until the region is first used
+    private static ToDoubleFunction<Statistics> regionCount(String region, ToLongFunction<CacheRegionStatistics> count) {
+        return statistics -> {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            return regionStatistics == null ? 0 : Math.max(count.applyAsLong(regionStatistics), 0);
+        };
+    }
+}
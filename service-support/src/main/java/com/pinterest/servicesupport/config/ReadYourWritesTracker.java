@@ -0,0 +1,104 @@
+package com.pinterest.servicesupport.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers recent writes so that the reads following them are not served by a lagging replica.
+ * A committed read-write transaction pins the rest of the current request to the primary, and
+ * when the caller is identified by the {@value #USER_HEADER} header, that caller's later requests
+ * stay on the primary for the configured sticky window as well.
+ */
+public class ReadYourWritesTracker extends OncePerRequestFilter implements TransactionExecutionListener {
+
+    public static final String USER_HEADER = "X-User-Id";
+
+    // Expired entries are swept once the map grows past this size
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final long stickyWindowNanos;
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<RequestState> currentRequest = new ThreadLocal<>();
+
+    public ReadYourWritesTracker(long stickyWindowMs) {
+        this.stickyWindowNanos = TimeUnit.MILLISECONDS.toNanos(stickyWindowMs);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        currentRequest.set(new RequestState(request.getHeader(USER_HEADER)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            currentRequest.remove();
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()) {
+            return;
+        }
+
+        RequestState state = currentRequest.get();
+        if (state == null) {
+            return;
+        }
+        state.wrote = true;
+        if (state.userKey != null) {
+            if (lastWrites.size() > SWEEP_THRESHOLD) {
+                long now = System.nanoTime();
+                lastWrites.values().removeIf(writtenAt -> now - writtenAt >= stickyWindowNanos);
+            }
+            lastWrites.put(state.userKey, System.nanoTime());
+        }
+    }
+
+    // True when reads on the current thread must go to the primary to observe a recent write
+    public boolean isSticky() {
+        RequestState state = currentRequest.get();
+        if (state == null) {
+            return false;
+        }
+        if (state.wrote) {
+            return true;
+        }
+        if (state.userKey == null) {
+            return false;
+        }
+
+        Long writtenAt = lastWrites.get(state.userKey);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < stickyWindowNanos) {
+            return true;
+        }
+        lastWrites.remove(state.userKey, writtenAt);
+        return false;
+    }
+
+    private static final class RequestState {
+
+        private final String userKey;
+
+        private boolean wrote;
+
+        private RequestState(String userKey) {
+            this.userKey = userKey;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.pinterest.servicesupport.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Times every method of the service interfaces, tagged by service, method and the exception thrown, if any.
+ * Matches the {@code service} package of every service, so each one only has to register the aspect.
+ * Percentile histograms are switched on with {@code management.metrics.distribution.percentiles-histogram}.
+ */
+@Aspect
+public class ServiceMetricsAspect {
+
+    public static final String SERVICE_METRIC = "service.method";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.pinterest..service.*Service.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(SERVICE_METRIC)
+                    .description("Service method execution time")
+                    .tags("service", joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                            "method", joinPoint.getSignature().getName(),
+                            "exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
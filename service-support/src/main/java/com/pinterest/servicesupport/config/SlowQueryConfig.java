@@ -0,0 +1,57 @@
+package com.pinterest.servicesupport.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Slow-query log: times every statement on the connection pools, keeps latency histograms per statement
+ * and per repository method (attributed by the sql-budget repository tagger when it is enabled), logs
+ * statements over the threshold and serves the top ones on {@code /actuator/slowqueries}.
+ * Disable with {@code slow-query.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SlowQueryConfig {
+
+    @Bean
+    public SlowQueryRecorder slowQueryRecorder(
+            MeterRegistry meterRegistry,
+            ObjectProvider<SqlStatementCounter> sqlStatementCounter,
+            @Value("${slow-query.threshold-ms:200}") long thresholdMillis,
+            @Value("${slow-query.sample-rate:1.0}") double sampleRate) {
+        SqlStatementCounter counter = sqlStatementCounter.getIfAvailable();
+        log.info("Logging SQL statements slower than {} ms", thresholdMillis);
+        return new SlowQueryRecorder(meterRegistry,
+                () -> counter == null ? null : counter.currentRepositoryMethod(), thresholdMillis, sampleRate);
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryRecorder slowQueryRecorder) {
+        return new SlowQueryEndpoint(slowQueryRecorder);
+    }
+
+    /**
+     * Wraps each connection pool, the primary and, when configured, the replica, so every physical
+     * statement is timed exactly once.
+     */
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourceWrapper(ObjectProvider<SlowQueryRecorder> slowQueryRecorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    return new SlowQueryDataSource(dataSource, slowQueryRecorder.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.pinterest.servicesupport.config;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@code /actuator/slowqueries}: the top statements and repository methods by total time, or by
+ * {@code orderBy=count|mean|p99|max}. A DELETE clears the collected histograms.
+ */
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SlowQueryRecorder slowQueryRecorder;
+
+    public SlowQueryEndpoint(SlowQueryRecorder slowQueryRecorder) {
+        this.slowQueryRecorder = slowQueryRecorder;
+    }
+
+    @ReadOperation
+    public Map<String, Object> slowQueries(@Nullable Integer limit, @Nullable String orderBy) {
+        int top = limit == null || limit <= 0 ? DEFAULT_LIMIT : limit;
+        SlowQueryRecorder.Order order = parseOrder(orderBy);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("thresholdMs", slowQueryRecorder.getThresholdMillis());
+        report.put("orderBy", order.name().toLowerCase(Locale.ROOT));
+        report.put("statements", slowQueryRecorder.topStatements(top, order));
+        report.put("repositoryMethods", slowQueryRecorder.topRepositoryMethods(top, order));
+        return report;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        slowQueryRecorder.reset();
+    }
+
+    // Helper method to read the orderBy parameter, total time when absent
+    private static SlowQueryRecorder.Order parseOrder(String orderBy) {
+        if (orderBy == null || orderBy.isBlank()) {
+            return SlowQueryRecorder.Order.TOTAL;
+        }
+        try {
+            return SlowQueryRecorder.Order.valueOf(orderBy.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException("Unknown orderBy: " + orderBy,
+                    "orderBy must be one of total, count, mean, p99, max");
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.pinterest.servicesupport.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Latency histograms for every SQL statement the service runs, per normalized statement and per repository
+ * method, and a log of the slow ones. Normalizing replaces literals and collapses IN lists, so the same
+ * query with other values or list sizes shares one entry.
+ * <p>
+ * Statements over the threshold go to the {@code slow-query} logger, which logback-spring.xml sends through
+ * an asynchronous appender; with a sample rate below 1 only that share of them is logged, all are counted.
+ */
+@Slf4j(topic = "slow-query")
+public class SlowQueryRecorder {
+
+    public static final String QUERY_METRIC = "db.queries";
+
+    public static final String SLOW_METRIC = "db.queries.slow";
+
+    public static final String UNATTRIBUTED = "unattributed";
+
+    // Distinct statements tracked, the rest share one entry so odd dynamic SQL cannot exhaust memory
+    static final int MAX_STATEMENTS = 500;
+
+    static final String OTHER_STATEMENTS = "(other statements)";
+
+    // Raw SQL strings whose statement entry is remembered, so each is normalized once; Hibernate reuses the
+    // same string for every execution of a query. Past the limit new strings are normalized on every call
+    static final int MAX_CACHED_SQL = 2_000;
+
+    private static final long MAX_TRACKED_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, QueryStats> byStatement = new ConcurrentHashMap<>();
+
+    private final Map<String, QueryStats> byRepositoryMethod = new ConcurrentHashMap<>();
+
+    private final Map<String, QueryStats> bySql = new ConcurrentHashMap<>();
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final Supplier<String> repositoryMethod;
+
+    private final long thresholdNanos;
+
+    private final double sampleRate;
+
+    private final Counter slowStatements;
+
+    public SlowQueryRecorder(MeterRegistry meterRegistry, Supplier<String> repositoryMethod,
+                             long thresholdMillis, double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.repositoryMethod = repositoryMethod;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleRate = sampleRate;
+        this.slowStatements = Counter.builder(SLOW_METRIC)
+                .description("SQL statements slower than the slow-query threshold")
+                .register(meterRegistry);
+    }
+
+    public void record(String sql, long elapsedNanos) {
+        String method = repositoryMethod.get();
+        if (method == null) {
+            method = UNATTRIBUTED;
+        }
+
+        statsForSql(sql).record(elapsedNanos, method);
+        byRepositoryMethod.computeIfAbsent(method, QueryStats::new).record(elapsedNanos, null);
+        timers.computeIfAbsent(method, this::timer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (elapsedNanos >= thresholdNanos) {
+            slowStatements.increment();
+            if (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log.warn("{} ms in {}: {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), method,
+                        WHITESPACE.matcher(sql).replaceAll(" "));
+            }
+        }
+    }
+
+    // The statements with the highest value of the given order, slowest first
+    public List<QuerySummary> topStatements(int limit, Order order) {
+        return top(byStatement, limit, order);
+    }
+
+    // The repository methods with the highest value of the given order, slowest first
+    public List<QuerySummary> topRepositoryMethods(int limit, Order order) {
+        return top(byRepositoryMethod, limit, order);
+    }
+
+    public long getThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+    }
+
+    public void reset() {
+        bySql.clear();
+        byStatement.clear();
+        byRepositoryMethod.clear();
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?, ...)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    // Helper method to find the entry of a raw SQL string, normalizing it only the first time it is seen
+    private QueryStats statsForSql(String sql) {
+        QueryStats stats = bySql.get(sql);
+        if (stats != null) {
+            return stats;
+        }
+        stats = statsFor(normalize(sql));
+        if (bySql.size() < MAX_CACHED_SQL) {
+            bySql.put(sql, stats);
+        }
+        return stats;
+    }
+
+    // Helper method to find the entry of a statement, or the shared one once the limit is reached
+    private QueryStats statsFor(String statement) {
+        QueryStats stats = byStatement.get(statement);
+        if (stats != null) {
+            return stats;
+        }
+        String key = byStatement.size() < MAX_STATEMENTS ? statement : OTHER_STATEMENTS;
+        return byStatement.computeIfAbsent(key, QueryStats::new);
+    }
+
+    private Timer timer(String method) {
+        return Timer.builder(QUERY_METRIC)
+                .description("SQL statement execution time by repository method")
+                .tag("repository.method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static List<QuerySummary> top(Map<String, QueryStats> stats, int limit, Order order) {
+        return stats.values().stream()
+                .map(QueryStats::summary)
+                .sorted(order.comparator.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public enum Order {
+        TOTAL(Comparator.comparingDouble(QuerySummary::getTotalMs)),
+        COUNT(Comparator.comparingLong(QuerySummary::getCount)),
+        MEAN(Comparator.comparingDouble(QuerySummary::getMeanMs)),
+        P99(Comparator.comparingDouble(QuerySummary::getP99Ms)),
+        MAX(Comparator.comparingDouble(QuerySummary::getMaxMs));
+
+        private final Comparator<QuerySummary> comparator;
+
+        Order(Comparator<QuerySummary> comparator) {
+            this.comparator = comparator;
+        }
+    }
+
+    @Value
+    @Builder
+    public static class QuerySummary {
+        String name;
+        long count;
+        double totalMs;
+        double meanMs;
+        double p50Ms;
+        double p95Ms;
+        double p99Ms;
+        double maxMs;
+        Set<String> repositoryMethods;
+    }
+
+    private static final class QueryStats {
+
+        // Repository methods remembered per statement, enough to tell who runs it; empty per method
+        private static final int MAX_METHODS = 10;
+
+        private final String name;
+
+        // Microseconds, three significant digits
+        private final Histogram latency = new ConcurrentHistogram(MAX_TRACKED_MICROS, 3);
+
+        private final LongAdder totalMicros = new LongAdder();
+
+        private final Set<String> repositoryMethods = ConcurrentHashMap.newKeySet();
+
+        private QueryStats(String name) {
+            this.name = name;
+        }
+
+        private void record(long elapsedNanos, String method) {
+            long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), 1), MAX_TRACKED_MICROS);
+            latency.recordValue(micros);
+            totalMicros.add(micros);
+            if (method != null && repositoryMethods.size() < MAX_METHODS) {
+                repositoryMethods.add(method);
+            }
+        }
+
+        private QuerySummary summary() {
+            Histogram snapshot = latency.copy();
+            long count = snapshot.getTotalCount();
+            double total = totalMicros.sum() / 1000.0;
+            return QuerySummary.builder()
+                    .name(name)
+                    .count(count)
+                    .totalMs(total)
+                    .meanMs(count == 0 ? 0 : total / count)
+                    .p50Ms(snapshot.getValueAtPercentile(50) / 1000.0)
+                    .p95Ms(snapshot.getValueAtPercentile(95) / 1000.0)
+                    .p99Ms(snapshot.getValueAtPercentile(99) / 1000.0)
+                    .maxMs(snapshot.getMaxValue() / 1000.0)
+                    .repositoryMethods(Set.copyOf(repositoryMethods))
+                    .build();
+        }
+    }
+}
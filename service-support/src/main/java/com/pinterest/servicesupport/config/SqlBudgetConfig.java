@@ -0,0 +1,71 @@
+package com.pinterest.servicesupport.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Per-request SQL statement budget: counts the statements each request issues, tags them by repository
+ * method and publishes the count per endpoint. Disable with {@code sql-budget.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sql-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlBudgetConfig {
+
+    @Bean
+    public static SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    @Bean
+    public SqlBudgetFilter sqlBudgetFilter(
+            SqlStatementCounter sqlStatementCounter,
+            MeterRegistry meterRegistry,
+            @Value("${sql-budget.max-statements-per-request:20}") int maxStatementsPerRequest) {
+        return new SqlBudgetFilter(sqlStatementCounter, meterRegistry, maxStatementsPerRequest);
+    }
+
+    /**
+     * Wraps every Spring Data repository so the statements it issues are attributed to
+     * {@code RepositoryName.methodName}.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryMethodTagger(SqlStatementCounter sqlStatementCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(tagger(
+                                    sqlStatementCounter, repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Helper method to create the advice that marks statements with the repository method being called
+    private static MethodInterceptor tagger(SqlStatementCounter sqlStatementCounter, String repositoryName) {
+        return invocation -> {
+            String previous = sqlStatementCounter.enterRepositoryMethod(
+                    repositoryName + "." + invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } finally {
+                sqlStatementCounter.exitRepositoryMethod(previous);
+            }
+        };
+    }
+}
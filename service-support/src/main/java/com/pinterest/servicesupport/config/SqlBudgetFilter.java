@@ -0,0 +1,83 @@
+package com.pinterest.servicesupport.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Records how many SQL statements each endpoint issues and warns about requests that exceed the budget,
+ * listing the repository methods responsible and the most repeated statement.
+ */
+@Slf4j
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_METRIC = "http.server.requests.sql.statements";
+
+    public static final String EXCEEDED_METRIC = "http.server.requests.sql.budget.exceeded";
+
+    private final SqlStatementCounter sqlStatementCounter;
+
+    private final MeterRegistry meterRegistry;
+
+    private final int maxStatementsPerRequest;
+
+    public SqlBudgetFilter(SqlStatementCounter sqlStatementCounter, MeterRegistry meterRegistry, int maxStatementsPerRequest) {
+        this.sqlStatementCounter = sqlStatementCounter;
+        this.meterRegistry = meterRegistry;
+        this.maxStatementsPerRequest = maxStatementsPerRequest;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        sqlStatementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, sqlStatementCounter.end());
+        }
+    }
+
+    // Helper method to publish the statement count of a request and report it when over budget
+    private void record(HttpServletRequest request, SqlStatementCounter.RequestStatements statements) {
+        String method = request.getMethod();
+        String uri = uriTemplate(request);
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("SQL statements issued per request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(statements.getTotal());
+
+        if (statements.getTotal() <= maxStatementsPerRequest) {
+            return;
+        }
+
+        Counter.builder(EXCEEDED_METRIC)
+                .description("Requests that issued more SQL statements than the budget allows")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .increment();
+
+        Map.Entry<String, Integer> mostRepeated = statements.getMostRepeated().orElse(Map.entry("", 0));
+        log.warn("{} {} issued {} SQL statements, budget is {}; by source {}; most repeated ({}x): {}",
+                method, request.getRequestURI(), statements.getTotal(), maxStatementsPerRequest,
+                statements.getBySource(), mostRepeated.getValue(), mostRepeated.getKey());
+    }
+
+    // Helper method to get the matched route, so that path variables do not create a metric per id
+    private String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,105 @@
+package com.pinterest.servicesupport.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a request is being served,
+ * grouped by the repository method that issued them. Statements issued outside any repository call are
+ * lazy loads or flushes, which is where N+1 patterns show up.
+ * <p>
+ * Only the request thread is counted; work handed to other threads (search fan-out, streaming
+ * response bodies) is not attributed to the request.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    public static final String OUTSIDE_REPOSITORY = "lazy load or flush";
+
+    // Distinct statements remembered per request when looking for the most repeated one
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+
+    private final ThreadLocal<RequestStatements> currentRequest = new ThreadLocal<>();
+
+    private final ThreadLocal<String> currentRepositoryMethod = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatements statements = currentRequest.get();
+        if (statements != null) {
+            statements.record(sql, currentRepositoryMethod.get());
+        }
+        return sql;
+    }
+
+    // Start counting for the request served by the current thread
+    public void begin() {
+        currentRequest.set(new RequestStatements());
+    }
+
+    // Stop counting and return what the current request issued
+    public RequestStatements end() {
+        RequestStatements statements = currentRequest.get();
+        currentRequest.remove();
+        return statements != null ? statements : new RequestStatements();
+    }
+
+    // Attribute the following statements to a repository method, returns the previous one to restore
+    public String enterRepositoryMethod(String repositoryMethod) {
+        String previous = currentRepositoryMethod.get();
+        currentRepositoryMethod.set(repositoryMethod);
+        return previous;
+    }
+
+    public void exitRepositoryMethod(String previous) {
+        if (previous == null) {
+            currentRepositoryMethod.remove();
+        } else {
+            currentRepositoryMethod.set(previous);
+        }
+    }
+
+    // The repository method running on the current thread, in or outside a request, null if none
+    public String currentRepositoryMethod() {
+        return currentRepositoryMethod.get();
+    }
+
+    public static final class RequestStatements {
+
+        private final Map<String, Integer> bySource = new LinkedHashMap<>();
+
+        private final Map<String, Integer> bySql = new LinkedHashMap<>();
+
+        private int total;
+
+        private void record(String sql, String source) {
+            total++;
+            bySource.merge(source != null ? source : OUTSIDE_REPOSITORY, 1, Integer::sum);
+            if (bySql.size() < MAX_DISTINCT_STATEMENTS || bySql.containsKey(sql)) {
+                bySql.merge(sql, 1, Integer::sum);
+            }
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public Map<String, Integer> getBySource() {
+            return bySource;
+        }
+
+        // Distinct statements in the order they were first issued
+        public Set<String> getStatements() {
+            return bySql.keySet();
+        }
+
+        // The statement issued most often, the usual signature of an N+1 loop
+        public Optional<Map.Entry<String, Integer>> getMostRepeated() {
+            return bySql.entrySet().stream().max(Comparator.comparingInt(Map.Entry::getValue));
+        }
+    }
+}
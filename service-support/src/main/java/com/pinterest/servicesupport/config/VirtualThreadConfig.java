@@ -0,0 +1,56 @@
+package com.pinterest.servicesupport.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * Opt-in virtual thread mode, switched on with {@code spring.threads.virtual.enabled=true} on Java 21+.
+ * Spring Boot then serves requests, {@code @Async} methods and {@code @Scheduled} jobs on virtual threads;
+ * this adds what the mode needs on top: a request limiter sized from the connection pools, since threads
+ * no longer bound concurrency, and pinning diagnostics.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int primaryPoolSize,
+            @Value("${spring.datasource.replica.url:}") String replicaUrl,
+            @Value("${spring.datasource.replica.hikari.maximum-pool-size:10}") int replicaPoolSize,
+            @Value("${virtual-threads.limiter.permits-per-connection:2}") int permitsPerConnection,
+            @Value("${virtual-threads.limiter.max-wait-ms:1000}") long maxWaitMillis) {
+        // With a replica configured, read-only requests draw on its pool rather than the primary's
+        int connectionPoolSize = primaryPoolSize + (StringUtils.hasText(replicaUrl) ? replicaPoolSize : 0);
+        int maxConcurrentRequests = connectionPoolSize * permitsPerConnection;
+        log.info("Serving requests on virtual threads, at most {} at once for {} pooled connections",
+                maxConcurrentRequests, connectionPoolSize);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(maxConcurrentRequests, maxWaitMillis, objectMapper, meterRegistry));
+        // Ahead of the other filters, so a rejected request costs as little as possible
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning.threshold-ms:20}") long thresholdMillis) {
+        return new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(thresholdMillis));
+    }
+}
@@ -0,0 +1,107 @@
+package com.pinterest.servicesupport.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        concurrencyLimitFilter = new ConcurrencyLimitFilter(1, 50,
+                new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should pass requests through while permits are free")
+    void shouldPassRequestsWithinLimit() throws Exception {
+        AtomicInteger served = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = serve("/api/content/pins/1", (request, res) -> served.incrementAndGet());
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+
+        assertThat(served).hasValue(3);
+        assertThat(meterRegistry.get(ConcurrencyLimitFilter.ACTIVE_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a request with 503 when no permit frees up in time")
+    void shouldRejectRequestsOverLimit() throws Exception {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            try {
+                serve("/api/content/pins/1", (request, response) -> {
+                    holding.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        holder.start();
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse rejected = serve("/api/content/pins/2", (request, response) -> { });
+        MockHttpServletResponse health = serve("/actuator/health", (request, response) -> { });
+        release.countDown();
+        holder.join();
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).contains("\"success\":false");
+        assertThat(health.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get(ConcurrencyLimitFilter.REJECTED_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hold the permit of an async request until its async processing completes")
+    void shouldHoldPermitUntilAsyncCompletion() throws Exception {
+        MockHttpServletRequest streaming = new MockHttpServletRequest("GET", "/api/content/export");
+        streaming.setRequestURI("/api/content/export");
+        streaming.setAsyncSupported(true);
+        concurrencyLimitFilter.doFilter(streaming, new MockHttpServletResponse(),
+                (request, response) -> request.startAsync());
+
+        MockHttpServletResponse rejected = serve("/api/content/pins/1", (request, response) -> { });
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(meterRegistry.get(ConcurrencyLimitFilter.ACTIVE_METRIC).gauge().value()).isEqualTo(1);
+
+        ((MockAsyncContext) streaming.getAsyncContext()).complete();
+
+        assertThat(meterRegistry.get(ConcurrencyLimitFilter.ACTIVE_METRIC).gauge().value()).isZero();
+        assertThat(serve("/api/content/pins/1", (request, response) -> { }).getStatus()).isEqualTo(200);
+    }
+
+    // Helper method to run a request through the filter
+    private MockHttpServletResponse serve(String uri, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRequestURI(uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        concurrencyLimitFilter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,99 @@
+package com.pinterest.servicesupport.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReadWriteRoutingConfigTest {
+
+    private ReadYourWritesTracker tracker;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        // Two in-memory databases stand in for the primary and the replica; each knows its own name
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+
+        tracker = new ReadYourWritesTracker(200);
+        DataSource dataSource = new ReadWriteRoutingConfig().dataSource(primary, replica, tracker);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(tracker);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica and writes to the primary")
+    void shouldRouteByTransactionType() {
+        assertThat(readOnlyNode()).isEqualTo("replica");
+        assertThat(readWriteNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should keep a user's reads on the primary for the sticky window after a write")
+    void shouldReadYourWrites() throws Exception {
+        List<String> nodes = new ArrayList<>();
+
+        inRequest("42", () -> {
+            nodes.add(readOnlyNode());
+            readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+            nodes.add(readOnlyNode());
+        });
+        inRequest("42", () -> nodes.add(readOnlyNode()));
+        inRequest("7", () -> nodes.add(readOnlyNode()));
+        inRequest(null, () -> nodes.add(readOnlyNode()));
+
+        Thread.sleep(300);
+        inRequest("42", () -> nodes.add(readOnlyNode()));
+
+        assertThat(nodes).containsExactly("replica", "primary", "primary", "replica", "replica", "replica");
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> currentNode());
+    }
+
+    private String readWriteNode() {
+        return readWrite.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private void inRequest(String userId, Runnable work) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (userId != null) {
+            request.addHeader(ReadYourWritesTracker.USER_HEADER, userId);
+        }
+        tracker.doFilter(request, new MockHttpServletResponse(), (req, res) -> work.run());
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
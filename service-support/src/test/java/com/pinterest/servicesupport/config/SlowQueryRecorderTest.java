@@ -0,0 +1,107 @@
+package com.pinterest.servicesupport.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlowQueryRecorderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicReference<String> repositoryMethod;
+    private SlowQueryRecorder slowQueryRecorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repositoryMethod = new AtomicReference<>();
+        slowQueryRecorder = new SlowQueryRecorder(meterRegistry, repositoryMethod::get, 100, 1.0);
+    }
+
+    @Test
+    @DisplayName("Should group statements that differ only in literals and IN list size")
+    void shouldNormalizeStatements() {
+        assertThat(SlowQueryRecorder.normalize("select * from pins\n  where user_id = 42 and title = 'it''s'"))
+                .isEqualTo("select * from pins where user_id = ? and title = ?");
+        assertThat(SlowQueryRecorder.normalize("select * from pins where id in (?, ?, ?)"))
+                .isEqualTo(SlowQueryRecorder.normalize("select * from pins where id in (1,2)"))
+                .isEqualTo("select * from pins where id in (?, ...)");
+    }
+
+    @Test
+    @DisplayName("Should rank statements and repository methods and count the slow ones")
+    void shouldReportTopStatements() {
+        repositoryMethod.set("PinRepository.findByUserId");
+        slowQueryRecorder.record("select * from pins where user_id = ?", millis(5));
+        slowQueryRecorder.record("select * from pins where user_id = ?", millis(7));
+        repositoryMethod.set("BoardRepository.findByUserId");
+        slowQueryRecorder.record("select * from boards where user_id = ?", millis(150));
+        repositoryMethod.set(null);
+        slowQueryRecorder.record("update boards set title = ? where id = ?", millis(1));
+
+        List<SlowQueryRecorder.QuerySummary> byTotal = slowQueryRecorder.topStatements(2, SlowQueryRecorder.Order.TOTAL);
+        List<SlowQueryRecorder.QuerySummary> byCount = slowQueryRecorder.topStatements(1, SlowQueryRecorder.Order.COUNT);
+        List<SlowQueryRecorder.QuerySummary> methods =
+                slowQueryRecorder.topRepositoryMethods(10, SlowQueryRecorder.Order.MAX);
+
+        assertThat(byTotal).extracting(SlowQueryRecorder.QuerySummary::getName)
+                .containsExactly("select * from boards where user_id = ?", "select * from pins where user_id = ?");
+        assertThat(byCount.get(0).getCount()).isEqualTo(2);
+        assertThat(byCount.get(0).getRepositoryMethods()).containsExactly("PinRepository.findByUserId");
+        assertThat(methods).extracting(SlowQueryRecorder.QuerySummary::getName).containsExactly(
+                "BoardRepository.findByUserId", "PinRepository.findByUserId", SlowQueryRecorder.UNATTRIBUTED);
+        assertThat(meterRegistry.get(SlowQueryRecorder.SLOW_METRIC).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(SlowQueryRecorder.QUERY_METRIC)
+                .tag("repository.method", "PinRepository.findByUserId").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should forget collected statements on reset")
+    void shouldReset() {
+        slowQueryRecorder.record("select 1", millis(1));
+
+        slowQueryRecorder.reset();
+
+        assertThat(slowQueryRecorder.topStatements(10, SlowQueryRecorder.Order.TOTAL)).isEmpty();
+        assertThat(slowQueryRecorder.topRepositoryMethods(10, SlowQueryRecorder.Order.TOTAL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should share one entry between literal variants past the SQL cache limit")
+    void shouldNormalizeUncachedStatements() {
+        int variants = SlowQueryRecorder.MAX_CACHED_SQL + 10;
+        for (int i = 0; i < variants; i++) {
+            slowQueryRecorder.record("select * from pins where id = " + i, millis(1));
+        }
+
+        assertThat(slowQueryRecorder.topStatements(10, SlowQueryRecorder.Order.COUNT))
+                .singleElement()
+                .satisfies(summary -> {
+                    assertThat(summary.getName()).isEqualTo("select * from pins where id = ?");
+                    assertThat(summary.getCount()).isEqualTo(variants);
+                });
+        assertThat(meterRegistry.find(SlowQueryRecorder.QUERY_METRIC).timers()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should record cached statements into fresh entries after reset")
+    void shouldRecordCachedStatementsAfterReset() {
+        slowQueryRecorder.record("select * from pins where user_id = ?", millis(1));
+        slowQueryRecorder.reset();
+
+        slowQueryRecorder.record("select * from pins where user_id = ?", millis(1));
+
+        assertThat(slowQueryRecorder.topStatements(10, SlowQueryRecorder.Order.COUNT))
+                .extracting(SlowQueryRecorder.QuerySummary::getCount).containsExactly(1L);
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -0,0 +1,87 @@
+package com.pinterest.servicesupport.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlBudgetFilterTest {
+
+    private SqlStatementCounter sqlStatementCounter;
+    private SimpleMeterRegistry meterRegistry;
+    private SqlBudgetFilter sqlBudgetFilter;
+
+    @BeforeEach
+    void setUp() {
+        sqlStatementCounter = new SqlStatementCounter();
+        meterRegistry = new SimpleMeterRegistry();
+        sqlBudgetFilter = new SqlBudgetFilter(sqlStatementCounter, meterRegistry, 3);
+    }
+
+    @Test
+    @DisplayName("Should attribute statements to the repository method that issued them")
+    void shouldAttributeStatementsToRepositoryMethods() {
+        sqlStatementCounter.begin();
+        String previous = sqlStatementCounter.enterRepositoryMethod("BoardRepository.findByUserId");
+        sqlStatementCounter.inspect("select b from boards b where b.user_id=?");
+        sqlStatementCounter.exitRepositoryMethod(previous);
+        sqlStatementCounter.inspect("select p from pins p where p.board_id=?");
+        sqlStatementCounter.inspect("select p from pins p where p.board_id=?");
+
+        SqlStatementCounter.RequestStatements statements = sqlStatementCounter.end();
+
+        assertThat(statements.getTotal()).isEqualTo(3);
+        assertThat(statements.getBySource()).containsEntry("BoardRepository.findByUserId", 1)
+                .containsEntry(SqlStatementCounter.OUTSIDE_REPOSITORY, 2);
+        assertThat(statements.getMostRepeated()).hasValue(Map.entry("select p from pins p where p.board_id=?", 2));
+    }
+
+    @Test
+    @DisplayName("Should publish the statement count of each request per endpoint")
+    void shouldPublishStatementsPerEndpoint() throws Exception {
+        serve(3);
+
+        DistributionSummary summary = meterRegistry.get(SqlBudgetFilter.STATEMENTS_METRIC)
+                .tags("method", "GET", "uri", "/api/content/boards/user/{userId}")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.find(SqlBudgetFilter.EXCEEDED_METRIC).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should flag requests that exceed the statement budget")
+    void shouldFlagRequestsOverBudget() throws Exception {
+        serve(5);
+
+        assertThat(meterRegistry.get(SqlBudgetFilter.EXCEEDED_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should ignore statements issued outside a request")
+    void shouldIgnoreStatementsOutsideRequest() {
+        sqlStatementCounter.inspect("select 1");
+
+        assertThat(sqlStatementCounter.end().getTotal()).isZero();
+    }
+
+    // Helper method to serve a request whose handler issues the given number of statements
+    private void serve(int statementCount) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/content/boards/user/5");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/content/boards/user/{userId}");
+
+        sqlBudgetFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            for (int i = 0; i < statementCount; i++) {
+                sqlStatementCounter.inspect("select k from keywords k where k.id=?");
+            }
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.pinterest.servicesupport.querycount;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Base class for query-count regression tests. Boots the whole service against an in-memory H2 database
+ * and checks that an endpoint stays within a fixed number of SQL statements and loaded rows, so a change
+ * that brings back an N+1 pattern fails the build instead of reaching production.
+ * <p>
+ * Runs with the {@code querycount} profile, so a service switches off its own background jobs in
+ * {@code application-querycount.properties} under its test resources.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.cloud.consul.enabled=false",
+        "spring.cloud.compatibility-verifier.enabled=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@ActiveProfiles("querycount")
+@AutoConfigureMockMvc
+public abstract class QueryCountTestSupport {
+
+    // Each test seeds its own owner so tests sharing the database do not see each other's rows
+    private static final AtomicLong OWNER_IDS = new AtomicLong(1_000);
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    protected static long newOwnerId() {
+        return OWNER_IDS.incrementAndGet();
+    }
+
+    /**
+     * Performs the request with a cold second-level cache and asserts that it succeeded while issuing
+     * at most {@code maxStatements} SQL statements and loading at most {@code maxRows} entity rows.
+     */
+    protected void assertQueryBudget(RequestBuilder request, long maxStatements, long maxRows) throws Exception {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        String queries = Arrays.toString(statistics.getQueries());
+        assertThat(statistics.getPrepareStatementCount())
+                .as("SQL statements issued, queries run: %s", queries)
+                .isLessThanOrEqualTo(maxStatements);
+        assertThat(statistics.getEntityLoadCount())
+                .as("entity rows loaded, queries run: %s", queries)
+                .isLessThanOrEqualTo(maxRows);
+    }
+}